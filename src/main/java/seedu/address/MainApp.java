@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -25,6 +26,8 @@ import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.JsonKeyboardFlashCardsStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.KeyboardFlashCardsStorage;
+import seedu.address.storage.ReviewLogStorage;
+import seedu.address.storage.SegmentedReviewLogStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -58,7 +61,11 @@ public class MainApp extends Application {
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
         KeyboardFlashCardsStorage keyboardFlashCardsStorage =
                 new JsonKeyboardFlashCardsStorage(userPrefs.getKeyboardFlashCardsFilePath());
-        storage = new StorageManager(keyboardFlashCardsStorage, userPrefsStorage);
+        //@@author LeowWB
+        ReviewLogStorage reviewLogStorage =
+                new SegmentedReviewLogStorage(userPrefs.getKeyboardFlashCardsFilePath().resolveSibling("reviews"));
+        //@@author
+        storage = new StorageManager(keyboardFlashCardsStorage, userPrefsStorage, reviewLogStorage);
 
         initLogging(config);
 
@@ -91,7 +98,15 @@ public class MainApp extends Application {
             initialData = new KeyboardFlashCards();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        //@@author LeowWB
+        Model model = new ModelManager(initialData, userPrefs);
+        try {
+            model.replayReviewEvents(storage.readReviews(Instant.MIN, Instant.MAX));
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Problem while reading the review log. Will be starting without review statistics");
+        }
+        return model;
+        //@@author
     }
 
     private void initLogging(Config config) {
@@ -180,5 +195,17 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+
+        //@@author LeowWB
+        if (model.isSaveDeferred()) {
+            model.checkpointTestSession();
+            try {
+                storage.saveAddressBook(model.getKeyboardFlashCards());
+                storage.appendReviews(model.takeReviewEvents());
+            } catch (IOException e) {
+                logger.severe("Failed to save the progress of the test " + StringUtil.getDetails(e));
+            }
+        }
+        //@@author
     }
 }
@@ -0,0 +1,75 @@
+//@@author LeowWB
+
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.stream.IntStream;
+
+/**
+ * Downsamples a series of values for plotting with the Largest-Triangle-Three-Buckets algorithm, which keeps the
+ * points that contribute most to the visible shape of the line.
+ * <p>
+ * The series is taken as the points {@code (i, values[i])}. The first and last points are always kept. The points in
+ * between are split into equal buckets, one per remaining point, and from each bucket the point kept is the one that
+ * forms the largest triangle with the point kept from the bucket before it and the average of the bucket after it.
+ *
+ * @see <a href="https://skemman.is/handle/1946/15343">Downsampling Time Series for Visual Representation</a>
+ */
+public class Lttb {
+
+    public static final String MESSAGE_INVALID_RANGE = "The range to downsample must be within the series.";
+
+    /**
+     * Returns the indices, in increasing order, of at most {@code threshold} points chosen from
+     * {@code values[from]} to {@code values[to - 1]}. Every index in the range is returned if it has no more than
+     * {@code threshold} points, or if {@code threshold} is less than 3.
+     */
+    public static int[] downsample(float[] values, int from, int to, int threshold) {
+        checkArgument(0 <= from && from <= to && to <= values.length, MESSAGE_INVALID_RANGE);
+
+        int length = to - from;
+        if (threshold >= length || threshold < 3) {
+            return IntStream.range(from, to).toArray();
+        }
+
+        int[] sampled = new int[threshold];
+        int sampledCount = 0;
+        double bucketSize = (double) (length - 2) / (threshold - 2);
+        int previous = from;
+        sampled[sampledCount++] = previous;
+
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int nextStart = from + (int) ((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min(from + (int) ((bucket + 2) * bucketSize) + 1, to);
+            double nextX = 0;
+            double nextY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                nextX += i;
+                nextY += values[i];
+            }
+            nextX /= nextEnd - nextStart;
+            nextY /= nextEnd - nextStart;
+
+            int start = from + (int) (bucket * bucketSize) + 1;
+            int end = nextStart;
+            double largestArea = -1;
+            int chosen = start;
+            for (int i = start; i < end; i++) {
+                // twice the area of the triangle, which is enough to compare them
+                double area = Math.abs((previous - nextX) * (values[i] - values[previous])
+                        - (previous - i) * (nextY - values[previous]));
+                if (area > largestArea) {
+                    largestArea = area;
+                    chosen = i;
+                }
+            }
+
+            sampled[sampledCount++] = chosen;
+            previous = chosen;
+        }
+
+        sampled[sampledCount] = to - 1;
+        return sampled;
+    }
+}
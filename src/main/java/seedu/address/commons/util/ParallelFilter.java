@@ -0,0 +1,52 @@
+//@@author LeowWB
+
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * Tests a predicate on every item of an array in parallel, in chunks of {@link #CHUNK_SIZE} items.
+ * <p>
+ * Each chunk sets the bits of its own items in a shared array of words, and a chunk covers whole words, so the
+ * chunks never write to the same word and need no locking.
+ */
+public class ParallelFilter {
+
+    /** The number of items tested by one task, which is a multiple of the 64 bits in a word. */
+    public static final int CHUNK_SIZE = 1024;
+
+    private static final int BITS_PER_WORD = Long.SIZE;
+
+    /**
+     * Returns the indices of the items that pass {@code predicate}.
+     * {@code predicate} must be safe to test from several threads at once.
+     *
+     * @param isCancelled Checked before each chunk is tested.
+     * @throws CancellationException if {@code isCancelled} is true before all the chunks are tested.
+     */
+    public static <T> BitSet filter(T[] items, Predicate<? super T> predicate, BooleanSupplier isCancelled) {
+        requireAllNonNull(items, predicate, isCancelled);
+
+        long[] words = new long[(items.length + BITS_PER_WORD - 1) / BITS_PER_WORD];
+        int chunkCount = (items.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream.range(0, chunkCount).parallel().forEach(chunk -> {
+            if (isCancelled.getAsBoolean()) {
+                throw new CancellationException();
+            }
+            int from = chunk * CHUNK_SIZE;
+            int to = Math.min(items.length, from + CHUNK_SIZE);
+            for (int i = from; i < to; i++) {
+                if (predicate.test(items[i])) {
+                    words[i / BITS_PER_WORD] |= 1L << i;
+                }
+            }
+        });
+        return BitSet.valueOf(words);
+    }
+}
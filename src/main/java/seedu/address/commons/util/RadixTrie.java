@@ -0,0 +1,288 @@
+//@@author LeowWB
+
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * A compact (radix) trie of strings, each counted by the number of times it was added, that suggests the strings
+ * starting with a given prefix, most counted first.
+ * <p>
+ * A chain of nodes with a single child and no string of their own is merged into one node labelled with the whole
+ * chain, so the trie has at most two nodes for each distinct string. Every node also keeps the highest count in its
+ * subtree, so suggestions are found by expanding the most promising nodes first, instead of every string with the
+ * prefix.
+ */
+public class RadixTrie {
+
+    public static final String MESSAGE_INVALID_LIMIT = "The number of suggestions must be positive.";
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    /** Orders the strings and subtrees to visit by count, then alphabetically. */
+    private static final Comparator<Candidate> BEST_FIRST = Comparator.<Candidate>comparingInt(
+            candidate -> candidate.count).reversed().thenComparing(candidate -> candidate.path);
+
+    private final Node root = new Node("");
+    private int size = 0;
+    private int nodeCount = 1;
+
+    /**
+     * Adds one to the count of {@code key}.
+     */
+    public void add(String key) {
+        requireNonNull(key);
+        add(root, key, 0);
+    }
+
+    /**
+     * Takes one from the count of {@code key}, and returns false if it was not in the trie.
+     */
+    public boolean remove(String key) {
+        requireNonNull(key);
+        return remove(root, key, 0);
+    }
+
+    /**
+     * Returns the number of times {@code key} is in the trie.
+     */
+    public int count(String key) {
+        requireNonNull(key);
+        Node node = root;
+        int depth = 0;
+        while (depth < key.length()) {
+            int index = indexOfChild(node, key.charAt(depth));
+            if (index < 0 || !key.startsWith(node.children[index].label, depth)) {
+                return 0;
+            }
+            node = node.children[index];
+            depth += node.label.length();
+        }
+        return node.count;
+    }
+
+    /**
+     * Returns at most {@code limit} strings that start with {@code prefix}, with the most counted first and ties in
+     * alphabetical order.
+     */
+    public List<String> complete(String prefix, int limit) {
+        requireNonNull(prefix);
+        checkArgument(limit > 0, MESSAGE_INVALID_LIMIT);
+
+        // finds the node that holds the strings with the prefix, whose label may go past the prefix
+        Node node = root;
+        int depth = 0;
+        while (depth < prefix.length()) {
+            int index = indexOfChild(node, prefix.charAt(depth));
+            if (index < 0) {
+                return new ArrayList<>();
+            }
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, prefix, depth);
+            if (common < child.label.length() && depth + common < prefix.length()) {
+                return new ArrayList<>();
+            }
+            node = child;
+            depth += child.label.length();
+        }
+        String path = prefix + node.label.substring(node.label.length() - (depth - prefix.length()));
+
+        List<String> suggestions = new ArrayList<>();
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(BEST_FIRST);
+        candidates.add(new Candidate(node, path, node.maxCount, false));
+        while (!candidates.isEmpty() && suggestions.size() < limit) {
+            Candidate candidate = candidates.poll();
+            if (candidate.isString) {
+                suggestions.add(candidate.path);
+                continue;
+            }
+            if (candidate.node.count > 0) {
+                candidates.add(new Candidate(candidate.node, candidate.path, candidate.node.count, true));
+            }
+            for (Node child : candidate.node.children) {
+                candidates.add(new Candidate(child, candidate.path + child.label, child.maxCount, false));
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * Returns the number of distinct strings in the trie.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of nodes in the trie, which with the length of the strings in it decides its memory footprint.
+     */
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    private void add(Node node, String key, int depth) {
+        if (depth == key.length()) {
+            if (node.count++ == 0) {
+                size++;
+            }
+            node.updateMaxCount();
+            return;
+        }
+
+        int index = indexOfChild(node, key.charAt(depth));
+        if (index < 0) {
+            Node leaf = new Node(key.substring(depth));
+            leaf.count = 1;
+            leaf.maxCount = 1;
+            node.insertChild(leaf);
+            nodeCount++;
+            size++;
+            node.updateMaxCount();
+            return;
+        }
+
+        Node child = node.children[index];
+        int common = commonPrefixLength(child.label, key, depth);
+        if (common < child.label.length()) {
+            // splits the child where the key leaves its label
+            Node parent = new Node(child.label.substring(0, common));
+            child.label = child.label.substring(common);
+            parent.children = new Node[] {child};
+            parent.maxCount = child.maxCount;
+            node.children[index] = parent;
+            nodeCount++;
+            child = parent;
+        }
+        add(child, key, depth + common);
+        node.updateMaxCount();
+    }
+
+    private boolean remove(Node node, String key, int depth) {
+        if (depth == key.length()) {
+            if (node.count == 0) {
+                return false;
+            }
+            if (--node.count == 0) {
+                size--;
+            }
+            node.updateMaxCount();
+            return true;
+        }
+
+        int index = indexOfChild(node, key.charAt(depth));
+        if (index < 0) {
+            return false;
+        }
+        Node child = node.children[index];
+        if (!key.startsWith(child.label, depth) || !remove(child, key, depth + child.label.length())) {
+            return false;
+        }
+
+        if (child.count == 0 && child.children.length == 0) {
+            node.removeChild(index);
+            nodeCount--;
+        } else if (child.count == 0 && child.children.length == 1) {
+            // merges the child into its only child, as it no longer marks the end of a string
+            Node grandchild = child.children[0];
+            grandchild.label = child.label + grandchild.label;
+            node.children[index] = grandchild;
+            nodeCount--;
+        }
+        node.updateMaxCount();
+        return true;
+    }
+
+    /**
+     * Returns the index of the child of {@code node} whose label starts with {@code firstChar}, or a negative number
+     * if there is none.
+     */
+    private static int indexOfChild(Node node, char firstChar) {
+        int low = 0;
+        int high = node.children.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midChar = node.children[mid].label.charAt(0);
+            if (midChar < firstChar) {
+                low = mid + 1;
+            } else if (midChar > firstChar) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns the length of the longest common prefix of {@code label} and {@code key} from {@code depth}.
+     */
+    private static int commonPrefixLength(String label, String key, int depth) {
+        int length = Math.min(label.length(), key.length() - depth);
+        int common = 0;
+        while (common < length && label.charAt(common) == key.charAt(depth + common)) {
+            common++;
+        }
+        return common;
+    }
+
+    /**
+     * A node of the trie, which ends a string if its count is positive.
+     * Its children are sorted by the first character of their labels, which are all different.
+     */
+    private static class Node {
+        private String label;
+        private int count = 0;
+        private int maxCount = 0;
+        private Node[] children = NO_CHILDREN;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private void insertChild(Node child) {
+            int index = -(indexOfChild(this, child.label.charAt(0)) + 1);
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newChildren[index] = child;
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            children = newChildren;
+        }
+
+        private void removeChild(int index) {
+            Node[] newChildren = Arrays.copyOf(children, children.length - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            children = newChildren.length == 0 ? NO_CHILDREN : newChildren;
+        }
+
+        private void updateMaxCount() {
+            maxCount = count;
+            for (Node child : children) {
+                maxCount = Math.max(maxCount, child.maxCount);
+            }
+        }
+    }
+
+    /**
+     * A string, or a subtree of strings, to be suggested in order of its count.
+     */
+    private static class Candidate {
+        private final Node node;
+        private final String path;
+        private final int count;
+        private final boolean isString;
+
+        private Candidate(Node node, String path, int count, boolean isString) {
+            this.node = node;
+            this.path = path;
+            this.count = count;
+            this.isString = isString;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+//@@author LeowWB
+
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ANSWER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CATEGORY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DUEDATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXPORT_PATH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MERGE_STRATEGY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUESTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RATING;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TASK;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.RadixTrie;
+import seedu.address.logic.commands.ListCategoryCommand;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.category.Category;
+import seedu.address.model.flashcard.FlashCard;
+
+/**
+ * Suggests ways to complete the command being typed, from the command words and the categories and questions of the
+ * FlashCards in the deck.
+ * <p>
+ * The command words, categories and questions are kept in tries, which follow the changes to the deck. Categories
+ * and questions are suggested in order of the number of FlashCards that have them.
+ */
+public class Autocompleter {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final Prefix[] PREFIXES = {PREFIX_QUESTION, PREFIX_ANSWER, PREFIX_RATING, PREFIX_CATEGORY,
+        PREFIX_TASK, PREFIX_DUEDATE, PREFIX_INDEX, PREFIX_EXPORT_PATH, PREFIX_MERGE_STRATEGY};
+
+    private static final Logger logger = LogsCenter.getLogger(Autocompleter.class);
+
+    private final RadixTrie commandWords = new RadixTrie();
+    private final RadixTrie categories = new RadixTrie();
+    private final RadixTrie questions = new RadixTrie();
+
+    /**
+     * Creates an Autocompleter for the given command words, that follows the changes to {@code flashCards}.
+     */
+    public Autocompleter(Collection<String> allCommandWords, ObservableList<FlashCard> flashCards) {
+        requireAllNonNull(allCommandWords, flashCards);
+        allCommandWords.forEach(commandWords::add);
+        flashCards.forEach(this::addFlashCard);
+        flashCards.addListener((ListChangeListener<FlashCard>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(this::removeFlashCard);
+                change.getAddedSubList().forEach(this::addFlashCard);
+            }
+        });
+
+        logger.fine(String.format("Tries of %d command words, %d categories and %d questions take %d nodes",
+                commandWords.size(), categories.size(), questions.size(),
+                commandWords.nodeCount() + categories.nodeCount() + questions.nodeCount()));
+    }
+
+    /**
+     * Returns the ways to complete the end of {@code commandText}, most likely first, as whole commands.
+     * A command word, a category after {@code c>} or {@code list}, or a question after {@code q>} is completed.
+     */
+    public List<String> complete(String commandText) {
+        requireNonNull(commandText);
+
+        int argumentStart = -1;
+        Prefix lastPrefix = null;
+        for (Prefix prefix : PREFIXES) {
+            int prefixStart = commandText.lastIndexOf(" " + prefix.getPrefix());
+            if (prefixStart >= 0 && prefixStart + 1 + prefix.getPrefix().length() > argumentStart) {
+                argumentStart = prefixStart + 1 + prefix.getPrefix().length();
+                lastPrefix = prefix;
+            }
+        }
+
+        if (PREFIX_QUESTION.equals(lastPrefix)) {
+            return completeFrom(commandText, argumentStart, questions);
+        }
+        if (PREFIX_CATEGORY.equals(lastPrefix)) {
+            return completeCategory(commandText, argumentStart);
+        }
+        if (lastPrefix != null) {
+            return new ArrayList<>();
+        }
+
+        String typedText = commandText.stripLeading();
+        int lastWordStart = lastWordStart(commandText);
+        if (!typedText.isEmpty() && lastWordStart == commandText.length() - typedText.length()) {
+            return completeFrom(commandText, lastWordStart, commandWords);
+        }
+        if (typedText.startsWith(ListCategoryCommand.COMMAND_WORD + " ")) {
+            return completeCategory(commandText, lastWordStart);
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * Returns {@code commandText} with the text from {@code start} replaced by each of the strings in {@code trie}
+     * that start with that text.
+     */
+    private static List<String> completeFrom(String commandText, int start, RadixTrie trie) {
+        String prefix = commandText.substring(start);
+        String head = commandText.substring(0, start);
+        return trie.complete(prefix, MAX_SUGGESTIONS).stream()
+                .map(suggestion -> head + suggestion)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns {@code commandText} with the text from {@code start} replaced by each category that starts with that
+     * text, ignoring case.
+     */
+    private List<String> completeCategory(String commandText, int start) {
+        // categories are named in upper case
+        String upperCaseText = commandText.substring(0, start) + commandText.substring(start).toUpperCase();
+        return completeFrom(upperCaseText, start, categories);
+    }
+
+    private static int lastWordStart(String commandText) {
+        int start = commandText.length();
+        while (start > 0 && !Character.isWhitespace(commandText.charAt(start - 1))) {
+            start--;
+        }
+        return start;
+    }
+
+    private void addFlashCard(FlashCard flashCard) {
+        questions.add(flashCard.getQuestion().fullQuestion);
+        for (Category category : flashCard.getCategories()) {
+            categories.add(category.categoryName);
+        }
+    }
+
+    private void removeFlashCard(FlashCard flashCard) {
+        questions.remove(flashCard.getQuestion().fullQuestion);
+        for (Category category : flashCard.getCategories()) {
+            categories.remove(category.categoryName);
+        }
+    }
+}
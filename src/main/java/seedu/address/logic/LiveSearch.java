@@ -0,0 +1,178 @@
+//@@author LeowWB
+
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_FLASHCARDS;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import seedu.address.logic.commands.ListCategoryCommand;
+import seedu.address.logic.commands.SearchAnswerCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.SearchQuestionCommand;
+import seedu.address.model.Model;
+import seedu.address.model.category.CategoryContainsAnyKeywordsPredicate;
+import seedu.address.model.flashcard.AnswerContainsAnyKeywordsPredicate;
+import seedu.address.model.flashcard.FlashCard;
+import seedu.address.model.flashcard.QuestionContainsAnyKeywordsPredicate;
+import seedu.address.model.flashcard.QuestionOrAnswerContainsAnyKeywordsPredicate;
+
+/**
+ * Shows the FlashCards that a search or list command would show while the command is still being typed.
+ * <p>
+ * A query is only evaluated once the command text has stopped changing for {@link #DEBOUNCE_MILLIS}, and is then
+ * evaluated in the background by {@link Model#updateFilteredFlashCardListAsync(Predicate, Executor)}, so typing never
+ * waits for it. A query whose text has changed since it was typed is cancelled as soon as the text changes, even if it
+ * is already being filtered, and its result is never shown.
+ * When the query is then executed as a command, its preview is kept, so that the command does not filter again.
+ */
+public class LiveSearch {
+
+    public static final long DEBOUNCE_MILLIS = 150;
+
+    private final Model model;
+    private final ScheduledExecutorService worker;
+    private final Executor modelExecutor;
+
+    /** Counts the queries typed, so that a query can tell whether it is still the latest one. */
+    private final AtomicLong latestQuery = new AtomicLong();
+    private Future<?> pendingQuery;
+    // the query whose preview is shown, or is being filtered to be shown
+    private Predicate<FlashCard> previewedQuery;
+
+    /**
+     * Creates a LiveSearch that evaluates queries on its own background thread and shows their results by running
+     * them on {@code modelExecutor}.
+     */
+    public LiveSearch(Model model, Executor modelExecutor) {
+        this(model, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-search");
+            thread.setDaemon(true);
+            return thread;
+        }), modelExecutor);
+    }
+
+    /**
+     * Creates a LiveSearch that evaluates queries on {@code worker} and shows their results by running them on
+     * {@code modelExecutor}, which must run them on the thread that owns {@code model}.
+     */
+    public LiveSearch(Model model, ScheduledExecutorService worker, Executor modelExecutor) {
+        requireAllNonNull(model, worker, modelExecutor);
+        this.model = model;
+        this.worker = worker;
+        this.modelExecutor = modelExecutor;
+    }
+
+    /**
+     * Previews the FlashCards that {@code commandText} would show, if it is a search or list command with keywords.
+     * Otherwise, all FlashCards are shown again if a preview was being shown.
+     * Must be called on the thread that owns the model.
+     */
+    public void preview(String commandText) {
+        long query = latestQuery.incrementAndGet();
+        cancelPendingQuery();
+
+        Optional<Predicate<FlashCard>> predicate = parseQuery(commandText);
+        if (!predicate.isPresent()) {
+            hidePreview();
+            return;
+        }
+
+        pendingQuery = worker.schedule(() -> modelExecutor.execute(() -> evaluate(query, predicate.get())),
+                DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Cancels the query being previewed, if any, and shows all FlashCards again if a preview was being shown, so that
+     * the command that was typed decides what is shown.
+     * Must be called on the thread that owns the model.
+     */
+    public void cancel() {
+        latestQuery.incrementAndGet();
+        cancelPendingQuery();
+        hidePreview();
+    }
+
+    /**
+     * Stops previewing because {@code commandText} is about to be executed. If {@code commandText} is the query being
+     * previewed, its preview is kept, and the model does not filter again when the command shows the same FlashCards
+     * (see {@link Model#updateFilteredFlashCardList(Predicate)}). Otherwise, this is the same as {@link #cancel()}.
+     * Must be called on the thread that owns the model.
+     */
+    public void finish(String commandText) {
+        if (previewedQuery == null || !parseQuery(commandText).equals(Optional.of(previewedQuery))) {
+            cancel();
+            return;
+        }
+        latestQuery.incrementAndGet();
+        cancelPendingQuery();
+        previewedQuery = null;
+    }
+
+    /**
+     * Returns the predicate of the search or list command in {@code commandText}, if it has keywords.
+     */
+    static Optional<Predicate<FlashCard>> parseQuery(String commandText) {
+        String[] words = commandText.trim().split("\\s+");
+        if (words.length < 2) {
+            return Optional.empty();
+        }
+
+        List<String> keywords = Arrays.asList(words).subList(1, words.length);
+        switch (words[0]) {
+        case SearchCommand.COMMAND_WORD:
+            return Optional.of(new QuestionOrAnswerContainsAnyKeywordsPredicate(keywords));
+        case SearchQuestionCommand.COMMAND_WORD:
+            return Optional.of(new QuestionContainsAnyKeywordsPredicate(keywords));
+        case SearchAnswerCommand.COMMAND_WORD:
+            return Optional.of(new AnswerContainsAnyKeywordsPredicate(keywords));
+        case ListCategoryCommand.COMMAND_WORD:
+            return Optional.of(new CategoryContainsAnyKeywordsPredicate(keywords));
+        default:
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Starts filtering the displayed list by {@code predicate}, unless a later query was typed in the meantime.
+     */
+    private void evaluate(long query, Predicate<FlashCard> predicate) {
+        if (query != latestQuery.get()) {
+            return;
+        }
+
+        pendingQuery = null;
+        previewedQuery = predicate;
+        model.updateFilteredFlashCardListAsync(predicate, modelExecutor);
+    }
+
+    private void hidePreview() {
+        if (previewedQuery != null) {
+            previewedQuery = null;
+            model.updateFilteredFlashCardList(PREDICATE_SHOW_ALL_FLASHCARDS);
+        }
+    }
+
+    /**
+     * Cancels the query waiting to be evaluated, and the filter of the query being previewed if it is still running.
+     */
+    private void cancelPendingQuery() {
+        if (pendingQuery != null) {
+            pendingQuery.cancel(true);
+            pendingQuery = null;
+        }
+        if (previewedQuery != null) {
+            model.cancelFilter();
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
@@ -26,6 +28,23 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    //@@author LeowWB
+    /**
+     * Previews the result of the command while it is still being typed, without executing it.
+     * Only search and list commands are previewed, and only outside of tests.
+     * @param commandText The command typed by the user so far.
+     */
+    void previewCommand(String commandText);
+
+    /**
+     * Returns the ways to complete the command being typed, most likely first, as whole commands.
+     * Commands are not completed during tests.
+     * @param commandText The command typed by the user so far.
+     */
+    List<String> completeCommand(String commandText);
+
+    //@@author
+
     /**
      * Returns the KeyboardFlashCards.
      *
@@ -36,6 +55,16 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of flashcards */
     ObservableList<FlashCard> getFilteredFlashCardList();
 
+    //@@author LeowWB
+    /**
+     * Returns whether the filtered list of flashcards is being filtered in the background.
+     *
+     * @see seedu.address.model.Model#filteringProperty()
+     */
+    ReadOnlyBooleanProperty filteringProperty();
+
+    //@@author
+
 
     /** Return an unmodifiable view of the category list**/
     ObservableList<Category> getCategoryList();
@@ -2,8 +2,12 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
@@ -29,11 +33,19 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final KeyboardFlashCardsParser keyboardFlashCardsParser;
+    //@@author LeowWB
+    private final LiveSearch liveSearch;
+    private final Autocompleter autocompleter;
 
+    //@@author
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         keyboardFlashCardsParser = new KeyboardFlashCardsParser();
+        //@@author LeowWB
+        liveSearch = new LiveSearch(model, Platform::runLater);
+        autocompleter = new Autocompleter(KeyboardFlashCardsParser.COMMAND_WORDS, model.getFlashCardList());
+        //@@author
     }
 
     @Override
@@ -44,13 +56,26 @@ public class LogicManager implements Logic {
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        //@@author LeowWB
+        liveSearch.finish(commandText);
+        //@@author
 
         CommandResult commandResult;
         Command command = keyboardFlashCardsParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        //@@author LeowWB
+        if (model.isSaveDeferred()) {
+            return commandResult;
+        }
+
+        //@@author
         try {
             storage.saveAddressBook(model.getKeyboardFlashCards());
+            //@@author LeowWB
+            // logged only once the ratings they go with are saved
+            storage.appendReviews(model.takeReviewEvents());
+            //@@author
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
@@ -58,6 +83,24 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    //@@author LeowWB
+    @Override
+    public void previewCommand(String commandText) {
+        if (keyboardFlashCardsParser.isRunningFlashcardTest()) {
+            return;
+        }
+        liveSearch.preview(commandText);
+    }
+
+    @Override
+    public List<String> completeCommand(String commandText) {
+        if (keyboardFlashCardsParser.isRunningFlashcardTest()) {
+            return new ArrayList<>();
+        }
+        return autocompleter.complete(commandText);
+    }
+
+    //@@author
     @Override
     public ReadOnlyKeyboardFlashCards getAddressBook() {
         return model.getKeyboardFlashCards();
@@ -68,6 +111,14 @@ public class LogicManager implements Logic {
         return model.getFilteredFlashCardList();
     }
 
+    //@@author LeowWB
+    @Override
+    public ReadOnlyBooleanProperty filteringProperty() {
+        return model.filteringProperty();
+    }
+
+    //@@author
+
     @Override
     public ObservableList<Category> getCategoryList() {
         return model.getCategoryList();
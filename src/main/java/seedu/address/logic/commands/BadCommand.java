@@ -65,7 +65,7 @@ public class BadCommand extends Command {
         DueDate d = BadQuestions.getBadDeadline();
         Deadline deadline = new Deadline(task, d);
 
-        BadQuestions badQuestions = new BadQuestions();
+        BadQuestions badQuestions = new BadQuestions(model);
 
         try {
             model.addDeadline(deadline);
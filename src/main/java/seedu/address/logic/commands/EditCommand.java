@@ -71,7 +71,12 @@ public class EditCommand extends Command {
         }
 
         FlashCard flashCardToEdit = lastShownList.get(index.getZeroBased());
-        FlashCard editedFlashCard = createEditedFlashCard(flashCardToEdit, editFlashCardDescriptor);
+        //@@author LeowWB
+        // the rating is kept apart from the flashCard, so it has to be looked up to be carried over
+        FlashCard editedFlashCard = createEditedFlashCard(
+                model.getKeyboardFlashCards().getReviewTable().withCurrentRating(flashCardToEdit),
+                editFlashCardDescriptor);
+        //@@author
 
         if (!flashCardToEdit.isSameFlashCard(editedFlashCard) && model.hasFlashcard(editedFlashCard)) {
             throw new CommandException(MESSAGE_DUPLICATE_FLASHCARD);
@@ -96,7 +101,7 @@ public class EditCommand extends Command {
         Set<Category> updatedCategories =
                 editFlashCardDescriptor.getCategories().orElse(flashCardToEdit.getCategories());
 
-        return new FlashCard(updatedQuestion, updatedAnswer, updatedRating, updatedCategories);
+        return new FlashCard(flashCardToEdit.getId(), updatedQuestion, updatedAnswer, updatedRating, updatedCategories);
     }
 
     @Override
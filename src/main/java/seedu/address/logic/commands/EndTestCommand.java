@@ -29,6 +29,10 @@ public class EndTestCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
+        //@@author LeowWB
+        // the held back ratings must be applied before they are counted
+        model.endTestSession();
+        //@@author keiteo
         model.updatePerformance(model);
         logger.log(Level.INFO, "Updating performance");
 
@@ -13,7 +13,6 @@ public class ExitCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) {
-        model.resetPerformance(model);
         return new CommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT, false, false, true);
     }
 
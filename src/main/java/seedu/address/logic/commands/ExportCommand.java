@@ -19,6 +19,8 @@ import seedu.address.model.Model;
 import seedu.address.model.category.Category;
 import seedu.address.model.category.CategoryContainsAnyKeywordsPredicate;
 import seedu.address.model.export.ExportPath;
+import seedu.address.model.export.FlashCardPatch;
+import seedu.address.model.export.PatchExportPath;
 import seedu.address.model.flashcard.FlashCard;
 import seedu.address.model.flashcard.Rating;
 
@@ -26,6 +28,9 @@ import seedu.address.model.flashcard.Rating;
  * Exports all {@code FlashCard}s whose category matches the supplied argument keyword. Keyword matching is case
  * insensitive. FlashCards will have their questions and answers copied to a specified file. Ratings and other
  * categories are removed.
+ *
+ * Exporting to a patch file is incremental: only the FlashCards that were added, edited or removed since the previous
+ * export to the same path are written.
  */
 public class ExportCommand extends Command {
 
@@ -36,12 +41,17 @@ public class ExportCommand extends Command {
             + "Parameters: "
             + PREFIX_CATEGORY + "CATEGORY "
             + PREFIX_EXPORT_PATH + "FILE_PATH\n"
+            + "Exporting to a .patch file only exports the changes since the last export to that file.\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_CATEGORY + "CS2105 "
             + PREFIX_EXPORT_PATH + "C:\\Users\\damithc\\Documents\\CS2105_Cheat_Sheet.docx";
 
     public static final String MESSAGE_EXPORT_SUCCESS = "%d FlashCard(s) were exported! You can find your file at "
             + "the following path:\n%s";
+    public static final String MESSAGE_EXPORT_PATCH_SUCCESS = "%d new or edited and %d removed FlashCard(s) were "
+            + "exported! You can find your file at the following path:\n%s";
+    public static final String MESSAGE_EXPORT_PATCH_UNCHANGED = "No FlashCards have changed since the last export to "
+            + "the following path:\n%s";
 
     private final Category category;
     private final ExportPath exportPath;
@@ -60,6 +70,10 @@ public class ExportCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
+        if (exportPath instanceof PatchExportPath) {
+            return executeIncremental(model, (PatchExportPath) exportPath);
+        }
+
         try {
             List<FlashCard> flashCardList = getFlashCardsByCategory(model, category);
             verifyNonEmptyFlashCardList(
@@ -82,6 +96,41 @@ public class ExportCommand extends Command {
         }
     }
 
+    /**
+     * Exports only the changes made to the category since the last export to the given path. If nothing has changed,
+     * the file at the path is left untouched.
+     */
+    private CommandResult executeIncremental(Model model, PatchExportPath patchExportPath) throws CommandException {
+        FlashCardPatch patch = model.getFlashCardPatch(category, patchExportPath.getPath());
+        String absolutePath = patchExportPath.toAbsolutePathString();
+
+        if (patch.isEmpty()) {
+            verifyNonEmptyFlashCardList(
+                    getFlashCardsByCategory(model, category),
+                    "There are no FlashCards matching the specified category."
+            );
+            return new CommandResult(String.format(MESSAGE_EXPORT_PATCH_UNCHANGED, absolutePath));
+        }
+
+        try {
+            patchExportPath.exportPatch(
+                    patch.map(flashCard -> wipeTransientData(flashCard, category))
+            );
+        } catch (IOException e) {
+            throw new CommandException(Messages.MESSAGE_EXPORT_IO_EXCEPTION);
+        }
+        model.setExportWatermark(patchExportPath.getPath(), category, patch);
+
+        return new CommandResult(
+                String.format(
+                        MESSAGE_EXPORT_PATCH_SUCCESS,
+                        patch.getUpserts().size(),
+                        patch.getRemovals().size(),
+                        absolutePath
+                )
+        );
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -158,12 +207,17 @@ public class ExportCommand extends Command {
         requireAllNonNull(flashCardList, category);
 
         return flashCardList.stream().map(
-            flashCard -> new FlashCard(
-                    flashCard.getQuestion(),
-                    flashCard.getAnswer(),
-                    new Rating(Rating.NULL),
-                    Collections.singleton(category)
-            )
+            flashCard -> wipeTransientData(flashCard, category)
         ).collect(Collectors.toList());
     }
+
+    private static FlashCard wipeTransientData(FlashCard flashCard, Category category) {
+        return new FlashCard(
+                flashCard.getId(),
+                flashCard.getQuestion(),
+                flashCard.getAnswer(),
+                new Rating(Rating.NULL),
+                Collections.singleton(category)
+        );
+    }
 }
@@ -4,6 +4,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EXPORT_PATH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MERGE_STRATEGY;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,7 +13,11 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.export.ExportPath;
+import seedu.address.model.export.FlashCardPatch;
+import seedu.address.model.export.MergeStrategy;
+import seedu.address.model.export.PatchExportPath;
 import seedu.address.model.flashcard.FlashCard;
+import seedu.address.model.flashcard.MergeResult;
 
 /**
  * Imports all {@code FlashCard}s from a specified file.
@@ -21,11 +26,20 @@ public class ImportCommand extends Command {
 
     public static final String COMMAND_WORD = "import";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports your FlashCards from a file.\n"
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Imports your FlashCards from a file, or from every supported file in a directory.\n"
             + "Parameters: "
-            + PREFIX_EXPORT_PATH + "FILE_PATH\n"
+            + PREFIX_EXPORT_PATH + "FILE_OR_DIRECTORY_PATH "
+            + "[" + PREFIX_MERGE_STRATEGY + "MERGE_STRATEGY]\n"
+            + "Supported file formats: .json, .docx, .csv, .tsv, .patch\n"
+            + "Supported merge strategies: " + String.join(", ", MergeStrategy.getNames()) + "\n"
             + "Example: " + COMMAND_WORD + " "
-            + PREFIX_EXPORT_PATH + "C:\\Users\\damithc\\Documents\\CS2105_Cheat_Sheet.docx";
+            + PREFIX_EXPORT_PATH + "C:\\Users\\damithc\\Documents\\CS2105_Cheat_Sheet.docx\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_EXPORT_PATH + "C:\\Users\\damithc\\Documents\\CS2105.json "
+            + PREFIX_MERGE_STRATEGY + MergeStrategy.UNION_CATEGORIES + "\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_EXPORT_PATH + "C:\\Users\\damithc\\Documents\\CS2105_decks";
 
     public static final String MESSAGE_IMPORT_EMPTY_OPTIONAL =
             "Could not find any FlashCards to import. Are you sure you got the path correct?";
@@ -37,15 +51,33 @@ public class ImportCommand extends Command {
             "%d duplicate FlashCard(s) were not imported.";
     public static final String MESSAGE_IMPORT_ALL_DUPLICATES =
             "There are no new FlashCards to import from that file.";
+    public static final String MESSAGE_IMPORT_PATCH_SUCCESS =
+            "Patch was applied! Number of FlashCards added: %d, removed: %d";
+    public static final String MESSAGE_IMPORT_MERGE_SUCCESS =
+            "Import was merged using %s! Inserted: %d, updated: %d, unchanged: %d";
 
     private final ExportPath exportPath;
+    private final Optional<MergeStrategy> mergeStrategy;
 
     /**
      * Creates a new ImportCommand with the given ExportPath.
      * @param exportPath The ExportPath from which the FlashCards will be imported.
      */
     public ImportCommand(ExportPath exportPath) {
+        this(exportPath, Optional.empty());
+    }
+
+    /**
+     * Creates a new ImportCommand with the given ExportPath and an optional MergeStrategy. If a MergeStrategy is given,
+     * imported FlashCards that are already present are merged into the existing ones, instead of being skipped.
+     *
+     * @param exportPath The ExportPath from which the FlashCards will be imported.
+     * @param mergeStrategy The MergeStrategy used to combine FlashCards that are already present, if any.
+     */
+    public ImportCommand(ExportPath exportPath, Optional<MergeStrategy> mergeStrategy) {
+        requireNonNull(mergeStrategy);
         this.exportPath = exportPath;
+        this.mergeStrategy = mergeStrategy;
     }
 
     @Override
@@ -53,14 +85,25 @@ public class ImportCommand extends Command {
         requireNonNull(model);
 
         try {
+            if (exportPath instanceof PatchExportPath) {
+                return applyPatch(
+                        model,
+                        ((PatchExportPath) exportPath).importPatch()
+                );
+            }
+            if (mergeStrategy.isPresent()) {
+                return applyMerge(
+                        model,
+                        exportPath.importFrom(),
+                        mergeStrategy.get()
+                );
+            }
             return applyImport(
                     model,
                     exportPath.importFrom()
             );
         } catch (DataConversionException e) {
             throw new CommandException(MESSAGE_IMPORT_DATA_CONVERSION_EXCEPTION);
-        } catch (UnsupportedOperationException e) {
-            throw new CommandException(e.getMessage());
         } catch (CommandException e) {
             throw e;
         }
@@ -70,12 +113,14 @@ public class ImportCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ImportCommand // instanceof handles nulls
-                && exportPath.equals(((ImportCommand) other).exportPath)); // state check
+                && exportPath.equals(((ImportCommand) other).exportPath)
+                && mergeStrategy.equals(((ImportCommand) other).mergeStrategy)); // state check
     }
 
     /**
      * Helper function to add an imported List of {@code FlashCard}s to a {@code Model}. This imported List comes in an
-     * Optional. A CommandException will be thrown if the Optional is empty.
+     * Optional. A CommandException will be thrown if the Optional is empty. The FlashCards are added as a single batch,
+     * with any duplicates skipped.
      *
      * @param model The Model to be updated
      * @param optionalList An Optional List of {@code FlashCard}s to add to the Model.
@@ -86,21 +131,68 @@ public class ImportCommand extends Command {
         verifyOptionalFlashCardListPresent(optionalList, MESSAGE_IMPORT_EMPTY_OPTIONAL);
         requireNonNull(model);
 
-        int successCount = 0;
-        int duplicateCount = 0;
         List<FlashCard> list = optionalList.get();
+        int successCount = model.addFlashCards(list);
+        int duplicateCount = list.size() - successCount;
 
-        for (FlashCard flashCard : list) {
-            if (model.hasFlashcard(flashCard)) {
-                duplicateCount++;
-            } else {
-                model.addFlashCard(flashCard);
-                successCount++;
-            }
+        return new CommandResult(
+                formatCommandResultString(successCount, duplicateCount)
+        );
+    }
+
+    /**
+     * Helper function to merge an imported List of {@code FlashCard}s into a {@code Model}. This imported List comes in
+     * an Optional. A CommandException will be thrown if the Optional is empty. FlashCards that are already present are
+     * combined with the imported ones using the given {@code MergeStrategy}, all in a single batch.
+     *
+     * @param model The Model to be updated
+     * @param optionalList An Optional List of {@code FlashCard}s to merge into the Model.
+     * @param strategy The MergeStrategy used to combine FlashCards that are already present.
+     * @return CommandResult summarising how many FlashCards were inserted, updated and left unchanged.
+     * @throws CommandException If the Optional List turns out to be empty.
+     */
+    private CommandResult applyMerge(Model model, Optional<List<FlashCard>> optionalList, MergeStrategy strategy)
+            throws CommandException {
+        verifyOptionalFlashCardListPresent(optionalList, MESSAGE_IMPORT_EMPTY_OPTIONAL);
+        requireNonNull(model);
+
+        MergeResult result = model.mergeFlashCards(optionalList.get(), strategy);
+
+        return new CommandResult(
+                String.format(
+                        MESSAGE_IMPORT_MERGE_SUCCESS,
+                        strategy,
+                        result.getAddedCount(),
+                        result.getUpdatedCount(),
+                        result.getUnchangedCount()
+                )
+        );
+    }
+
+    /**
+     * Helper function to apply an imported {@code FlashCardPatch} to a {@code Model}. Removals are applied before
+     * additions, so that a FlashCard that was removed and then added back ends up present. If a MergeStrategy was
+     * given, upserts that are already present are merged into the existing FlashCards.
+     *
+     * @param model The Model to be updated
+     * @param optionalPatch An Optional FlashCardPatch to apply to the Model.
+     * @return CommandResult representing the operation's success.
+     * @throws CommandException If the Optional turns out to be empty.
+     */
+    private CommandResult applyPatch(Model model, Optional<FlashCardPatch> optionalPatch) throws CommandException {
+        requireNonNull(model);
+        if (optionalPatch == null || optionalPatch.isEmpty()) {
+            throw new CommandException(MESSAGE_IMPORT_EMPTY_OPTIONAL);
         }
 
+        FlashCardPatch patch = optionalPatch.get();
+        int removedCount = model.removeFlashCards(patch.getRemovals());
+        int addedCount = mergeStrategy.isPresent()
+                ? model.mergeFlashCards(patch.getUpserts(), mergeStrategy.get()).getAddedCount()
+                : model.addFlashCards(patch.getUpserts());
+
         return new CommandResult(
-                formatCommandResultString(successCount, duplicateCount)
+                String.format(MESSAGE_IMPORT_PATCH_SUCCESS, addedCount, removedCount)
         );
     }
 
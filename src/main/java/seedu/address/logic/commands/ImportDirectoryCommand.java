@@ -0,0 +1,157 @@
+//@@author LeowWB
+
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.export.DirectoryImportUtil;
+import seedu.address.model.export.DirectoryPath;
+import seedu.address.model.export.FileImportResult;
+import seedu.address.model.export.MergeStrategy;
+import seedu.address.model.flashcard.FlashCard;
+import seedu.address.model.flashcard.MergeResult;
+
+/**
+ * Imports all {@code FlashCard}s from every supported file in a specified directory.
+ * The files are read concurrently, and the FlashCards read from all of them are then added to the Model in one batch.
+ */
+public class ImportDirectoryCommand extends Command {
+
+    public static final String COMMAND_WORD = ImportCommand.COMMAND_WORD;
+
+    public static final String MESSAGE_NOT_A_DIRECTORY =
+            "%s is neither a directory nor a file with a supported extension ('.docx', '.json', '.csv', '.tsv', "
+            + "'.patch').";
+    public static final String MESSAGE_DIRECTORY_READ_ERROR =
+            "There was an error in reading the contents of the directory.";
+    public static final String MESSAGE_INTERRUPTED =
+            "The import was interrupted before all of the files could be read. Nothing was imported.";
+    public static final String MESSAGE_NO_IMPORTABLE_FILES =
+            "Could not find any files to import in that directory. Supported file formats: .json, .docx, .csv, .tsv";
+    public static final String MESSAGE_IMPORT_DIRECTORY_SUCCESS =
+            "Read %d file(s) in %d ms. Number of FlashCards imported: %d, duplicates skipped: %d\n";
+    public static final String MESSAGE_IMPORT_DIRECTORY_MERGE_SUCCESS =
+            "Read %d file(s) in %d ms. Merged using %s! Inserted: %d, updated: %d, unchanged: %d\n";
+    public static final String MESSAGE_FILE_SUCCESS = "%s: %d FlashCard(s) read in %d ms\n";
+    public static final String MESSAGE_FILE_FAILURE = "%s: skipped after %d ms. %s\n";
+
+    private final DirectoryPath directoryPath;
+    private final Optional<MergeStrategy> mergeStrategy;
+
+    /**
+     * Creates a new ImportDirectoryCommand with the given DirectoryPath and an optional MergeStrategy.
+     *
+     * @param directoryPath The DirectoryPath containing the files from which the FlashCards will be imported.
+     * @param mergeStrategy The MergeStrategy used to combine FlashCards that are already present, if any.
+     */
+    public ImportDirectoryCommand(DirectoryPath directoryPath, Optional<MergeStrategy> mergeStrategy) {
+        requireNonNull(directoryPath);
+        requireNonNull(mergeStrategy);
+        this.directoryPath = directoryPath;
+        this.mergeStrategy = mergeStrategy;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!Files.isDirectory(directoryPath.getPath())) {
+            throw new CommandException(String.format(MESSAGE_NOT_A_DIRECTORY, directoryPath));
+        }
+
+        long startTime = System.nanoTime();
+        List<FileImportResult> results = readDirectory();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+        if (results.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_IMPORTABLE_FILES);
+        }
+
+        List<FlashCard> flashCards = new ArrayList<>();
+        results.forEach(result -> flashCards.addAll(result.getFlashCards()));
+
+        String summary;
+        if (mergeStrategy.isPresent()) {
+            MergeResult mergeResult = model.mergeFlashCards(flashCards, mergeStrategy.get());
+            summary = String.format(
+                    MESSAGE_IMPORT_DIRECTORY_MERGE_SUCCESS,
+                    results.size(),
+                    elapsedMillis,
+                    mergeStrategy.get(),
+                    mergeResult.getAddedCount(),
+                    mergeResult.getUpdatedCount(),
+                    mergeResult.getUnchangedCount()
+            );
+        } else {
+            int successCount = model.addFlashCards(flashCards);
+            summary = String.format(
+                    MESSAGE_IMPORT_DIRECTORY_SUCCESS,
+                    results.size(),
+                    elapsedMillis,
+                    successCount,
+                    flashCards.size() - successCount
+            );
+        }
+
+        return new CommandResult(summary + formatFileResults(results));
+    }
+
+    /**
+     * Reads every supported file in the directory, converting any error in doing so into a CommandException.
+     */
+    private List<FileImportResult> readDirectory() throws CommandException {
+        try {
+            return DirectoryImportUtil.importFlashCardsFromDirectory(directoryPath);
+        } catch (IOException e) {
+            throw new CommandException(MESSAGE_DIRECTORY_READ_ERROR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommandException(MESSAGE_INTERRUPTED);
+        }
+    }
+
+    /**
+     * Helper function to format the per-file part of the String that will be returned in the CommandResult.
+     *
+     * @param results Outcome of reading each file in the directory
+     * @return String with one line per file, giving the number of FlashCards read and the time taken
+     */
+    private static String formatFileResults(List<FileImportResult> results) {
+        StringBuilder builder = new StringBuilder();
+        for (FileImportResult result : results) {
+            if (result.isSuccessful()) {
+                builder.append(String.format(
+                        MESSAGE_FILE_SUCCESS,
+                        result.getFileName(),
+                        result.getFlashCards().size(),
+                        result.getElapsedMillis()
+                ));
+            } else {
+                builder.append(String.format(
+                        MESSAGE_FILE_FAILURE,
+                        result.getFileName(),
+                        result.getElapsedMillis(),
+                        result.getErrorMessage().get()
+                ));
+            }
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportDirectoryCommand // instanceof handles nulls
+                && directoryPath.equals(((ImportDirectoryCommand) other).directoryPath)
+                && mergeStrategy.equals(((ImportDirectoryCommand) other).mergeStrategy)); // state check
+    }
+}
@@ -34,10 +34,10 @@ public class ListBadCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        BadQuestions badQuestions = new BadQuestions();
+        BadQuestions badQuestions = new BadQuestions(model);
 
         try {
-            String bad = badQuestions.showBadQuestionsList(date);
+            String bad = badQuestions.showBadQuestionsList(date, model);
             return new CommandResult(String.format(bad));
         } catch (NoBadFlashCardException e) {
             return new CommandResult(NO_BAD_FLASHCARDS);
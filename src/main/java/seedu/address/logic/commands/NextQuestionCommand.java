@@ -35,6 +35,10 @@ abstract class NextQuestionCommand extends Command {
             keyboardFlashCardsParser.endTestMode();
             logger.log(Level.INFO, "Enabling KeyboardFlashCardsParser to accept normal commands");
 
+            //@@author LeowWB
+            // the held back ratings must be applied before they are counted
+            model.endTestSession();
+            //@@author keiteo
             model.updatePerformance(model);
             logger.log(Level.INFO, "Updating performance");
 
@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 
 import seedu.address.logic.parser.KeyboardFlashCardsParser;
 import seedu.address.model.Model;
-import seedu.address.model.flashcard.FlashCard;
 import seedu.address.model.flashcard.Rating;
 
 //@@author keiteo
@@ -37,7 +36,9 @@ public class RateQuestionCommand extends NextQuestionCommand {
         requireNonNull(model);
 
         updateModelStatistics(model);
-        updateFlashCardRating(model);
+        //@@author LeowWB
+        model.rateTestFlashCard(rating);
+        //@@author keiteo
         return super.execute(model);
     }
 
@@ -71,23 +72,4 @@ public class RateQuestionCommand extends NextQuestionCommand {
             // should not reach this stage
         }
     }
-
-    /** Updates the rating of a flashcard. */
-    private void updateFlashCardRating(Model model) {
-        assert model != null;
-
-        FlashCard flashCardToUpdate = model.getCurrentTestFlashCard();
-        assert flashCardToUpdate != null;
-
-        model.setFlashCard(flashCardToUpdate, createUpdatedFlashCard(flashCardToUpdate));
-    }
-
-    /** Creates a new immutable flashcard with the updated rating. */
-    private FlashCard createUpdatedFlashCard(FlashCard flashCardToUpdate) {
-        assert flashCardToUpdate != null;
-
-        return new FlashCard(flashCardToUpdate.getQuestion(),
-                flashCardToUpdate.getAnswer(),
-                rating, flashCardToUpdate.getCategories());
-    }
 }
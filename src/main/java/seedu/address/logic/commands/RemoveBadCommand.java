@@ -9,7 +9,6 @@ import seedu.address.model.Model;
 import seedu.address.model.deadline.BadQuestions;
 import seedu.address.model.deadline.DueDate;
 import seedu.address.model.deadline.exceptions.DeadlineNotFoundException;
-import seedu.address.model.flashcard.FlashCard;
 import seedu.address.model.flashcard.exceptions.FlashCardNotFoundException;
 
 /**
@@ -41,13 +40,17 @@ public class RemoveBadCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        BadQuestions badQuestions = new BadQuestions();
+        BadQuestions badQuestions = new BadQuestions(model);
 
         try {
-            FlashCard flashCardToDelete = badQuestions.removeBadQuestion(date, targetIndex);
+            long idToDelete = badQuestions.removeBadQuestion(date, targetIndex);
             badQuestions.saveAsJson(badQuestions);
-            return new CommandResult(
-                    String.format(MESSAGE_DELETE_DEADLINE_SUCCESS, flashCardToDelete.getQuestion().toString()));
+            //@@author LeowWB
+            String question = model.getFlashCard(idToDelete)
+                    .map(flashCard -> flashCard.getQuestion().toString())
+                    .orElse(BadQuestions.DELETED_FLASHCARD);
+            //@@author dalsontws
+            return new CommandResult(String.format(MESSAGE_DELETE_DEADLINE_SUCCESS, question));
         } catch (DeadlineNotFoundException e1) {
             return new CommandResult(INVALID_DEADLINE);
         } catch (FlashCardNotFoundException e2) {
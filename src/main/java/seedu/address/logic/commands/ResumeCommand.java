@@ -0,0 +1,71 @@
+//@@author LeowWB
+
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.KeyboardFlashCardsParser;
+import seedu.address.model.Model;
+
+/**
+ * Resumes the test that was under way when the app was last closed, from the question that was being shown.
+ */
+public class ResumeCommand extends Command {
+
+    public static final String COMMAND_WORD = "resume";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Resumes the unfinished FlashCard test from the question you were on when the app was closed.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_RESUME_AVAILABLE = "You have an unfinished test. "
+            + "Enter " + COMMAND_WORD + " to pick up where you left off.";
+    public static final String MESSAGE_RESUME_SUCCESS = "Resuming test...";
+    public static final String MESSAGE_NO_TEST_TO_RESUME = "There is no unfinished test to resume.";
+
+    private static Logger logger = Logger.getLogger("Foo");
+
+    private final KeyboardFlashCardsParser keyboardFlashCardsParser;
+
+    public ResumeCommand(KeyboardFlashCardsParser keyboardFlashCardsParser) {
+        requireNonNull(keyboardFlashCardsParser);
+        this.keyboardFlashCardsParser = keyboardFlashCardsParser;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.hasSavedTestSession()) {
+            throw new CommandException(MESSAGE_NO_TEST_TO_RESUME);
+        }
+
+        model.resumeTestSession();
+        if (!model.hasTestFlashCard()) {
+            model.endTestSession();
+            throw new CommandException(MESSAGE_NO_TEST_TO_RESUME);
+        }
+
+        keyboardFlashCardsParser.startTestMode();
+        model.setTestFlashCard();
+        keyboardFlashCardsParser.setAwaitingAnswer(true);
+        logger.log(Level.INFO, "Resuming test mode in ModelManager and KeyboardFlashCardParser");
+
+        CommandResult result = new CommandResult(
+                MESSAGE_RESUME_SUCCESS,
+                model.getTestFlashCardPanel());
+        result.setTestMode(true, false);
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ResumeCommand // instanceof handles nulls
+                && keyboardFlashCardsParser.equals(((ResumeCommand) other).keyboardFlashCardsParser));
+    }
+}
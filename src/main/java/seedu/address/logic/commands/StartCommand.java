@@ -3,8 +3,8 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -12,12 +12,16 @@ import seedu.address.logic.parser.KeyboardFlashCardsParser;
 import seedu.address.model.Model;
 import seedu.address.model.category.CategoryContainsAnyKeywordsPredicate;
 import seedu.address.model.flashcard.FlashCard;
+import seedu.address.model.schedule.TestOrder;
+import seedu.address.model.schedule.TestSession;
 
 //@@author keiteo
 /**
  * Instantiates a StartCommand to allow users to start the flashcard test
  * by going through the cards in the specified tag(s).
  * If no tags are supplied, all FlashCards will be used.
+ * If only due cards are wanted, only the FlashCards that are due for review will be used, most overdue first.
+ * The FlashCards are tested in the order given by a {@code TestOrder}.
  */
 public class StartCommand extends Command {
 
@@ -25,10 +29,19 @@ public class StartCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Starts the FlashCard test by going through the cards in the specified deck.\n"
-            + "Parameters: tag(s). If no argument is supplied, all FlashCards will be used.\n"
-            + "Example: " + COMMAND_WORD + " physics";
+            + "Parameters: [--due] [--shuffle | --weighted] tag(s).\n"
+            + "If no tags are supplied, all FlashCards will be used.\n"
+            + "If --due is supplied, only the FlashCards that are due for review will be used.\n"
+            + "If --shuffle is supplied, the FlashCards will be tested in a random order.\n"
+            + "If --weighted is supplied, FlashCards will be drawn at random, favouring those rated as hard.\n"
+            + "Example: " + COMMAND_WORD + " physics\n"
+            + "Example: " + COMMAND_WORD + " --due physics\n"
+            + "Example: " + COMMAND_WORD + " --shuffle physics";
+
+    public static final String DUE_FLAG = "--due";
 
     public static final String MESSAGE_NO_FLASHCARDS = "No FlashCards to test!";
+    public static final String MESSAGE_NO_DUE_FLASHCARDS = "No FlashCards are due for review. Come back later!";
 
     private static final String MESSAGE_START_TEST_SUCCESS = "Starting test...";
 
@@ -38,23 +51,51 @@ public class StartCommand extends Command {
 
     private final String tagName;
 
+    private final boolean isDueOnly;
+
+    private final TestOrder testOrder;
+
     public StartCommand(KeyboardFlashCardsParser keyboardFlashCardsParser, String tagName) {
+        this(keyboardFlashCardsParser, tagName, false);
+    }
+
+    //@@author LeowWB
+    /**
+     * Creates a StartCommand that tests the FlashCards in the given tag(s), or only those among them that are due
+     * for review if {@code isDueOnly} is true.
+     */
+    public StartCommand(KeyboardFlashCardsParser keyboardFlashCardsParser, String tagName, boolean isDueOnly) {
+        this(keyboardFlashCardsParser, tagName, isDueOnly, TestOrder.DECK);
+    }
+
+    /**
+     * Creates a StartCommand that tests the FlashCards in the given tag(s), or only those among them that are due
+     * for review if {@code isDueOnly} is true, in the given {@code TestOrder}.
+     */
+    public StartCommand(KeyboardFlashCardsParser keyboardFlashCardsParser, String tagName, boolean isDueOnly,
+            TestOrder testOrder) {
         requireNonNull(keyboardFlashCardsParser);
+        requireNonNull(testOrder);
         this.keyboardFlashCardsParser = keyboardFlashCardsParser;
         this.tagName = tagName;
-        logger.log(Level.INFO, String.format("StartCommand created with the following tags: %s", tagName));
+        this.isDueOnly = isDueOnly;
+        this.testOrder = testOrder;
+        logger.log(Level.INFO, String.format("StartCommand created with the following tags: %s, due only: %s, "
+                + "order: %s", tagName, isDueOnly, testOrder));
     }
 
+    //@@author keiteo
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        List<FlashCard> testList = searchTag(model);
-        model.initializeTestModel(testList);
+        TestSession testSession = searchTag(model);
+        model.initializeTestSession(testSession);
 
         if (!model.hasTestFlashCard()) {
             logger.log(Level.WARNING, String.format("No flashcards found with the following tag(s):\n%s", tagName));
-            return new CommandResult(MESSAGE_NO_FLASHCARDS);
+            return new CommandResult(isDueOnly ? MESSAGE_NO_DUE_FLASHCARDS : MESSAGE_NO_FLASHCARDS);
         }
 
         keyboardFlashCardsParser.startTestMode();
@@ -76,22 +117,48 @@ public class StartCommand extends Command {
         return other == this // short circuit if same object
                 || (other instanceof StartCommand // instanceof handles nulls
                 && tagName.equals(((StartCommand) other).tagName)
+                && isDueOnly == ((StartCommand) other).isDueOnly
+                && testOrder == ((StartCommand) other).testOrder
                 && keyboardFlashCardsParser.equals(((StartCommand) other).keyboardFlashCardsParser)); // state check
     }
 
-    /** Searches the list of flashcard to fetch the relevant tags. */
-    private List<FlashCard> searchTag(Model model) {
+    /**
+     * Searches the list of flashcard to fetch the relevant tags.
+     * A test of the due flashcards only looks at the flashcards that are due. Any other test looks at every flashcard
+     * to find the ones in the tags before the first one is shown; it is only the flashcards themselves that are taken
+     * lazily once the test has started.
+     */
+    private TestSession searchTag(Model model) {
         assert model != null;
 
-        if (tagName.isEmpty()) {
-            return new LinkedList<>(model.getFlashCardList());
+        Predicate<FlashCard> isInTags = getTagPredicate();
+
+        if (isDueOnly) {
+            return createTestSession(model.getDueFlashCardOrdinals(isInTags));
         }
 
-        CategoryContainsAnyKeywordsPredicate predicate = getSearchTermPredicate();
         logger.log(Level.INFO, "Getting a list of flashcards to test");
-        return new LinkedList<>(model.getFilteredFlashCardListNoCommit(predicate));
+        return createTestSession(TestSession.selectOrdinals(model.getFlashCardList(), isInTags));
+    }
+
+    //@@author LeowWB
+    /**
+     * Creates a test session of the flashcards at the given ordinals, in the test order. Only the ordinals of the
+     * flashcards are kept, so that the progress of the test can be saved cheaply after every question.
+     */
+    private TestSession createTestSession(int[] ordinals) {
+        return new TestSession(testOrder, ordinals, new Random().nextLong());
+    }
+
+    /** Returns a predicate that accepts the flashcards in the relevant tags, or every flashcard if there are none. */
+    private Predicate<FlashCard> getTagPredicate() {
+        if (tagName.isEmpty()) {
+            return flashCard -> true;
+        }
+        return getSearchTermPredicate();
     }
 
+    //@@author keiteo
     /** Converts tagName to a CategoryContainsAnyKeywordsPredicate for searchTag(). */
     private CategoryContainsAnyKeywordsPredicate getSearchTermPredicate() {
         String[] tagList = tagName.split("\\s+");
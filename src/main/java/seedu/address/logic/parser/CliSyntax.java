@@ -14,5 +14,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_DUEDATE = new Prefix("d>");
     public static final Prefix PREFIX_INDEX = new Prefix("i>");
     public static final Prefix PREFIX_EXPORT_PATH = new Prefix("p>");
+    public static final Prefix PREFIX_MERGE_STRATEGY = new Prefix("m>");
 
 }
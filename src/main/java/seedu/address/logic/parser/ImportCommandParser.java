@@ -4,36 +4,55 @@ package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EXPORT_PATH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MERGE_STRATEGY;
 
+import java.util.Optional;
 import java.util.stream.Stream;
 
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.ImportDirectoryCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.export.DirectoryPath;
 import seedu.address.model.export.ExportPath;
+import seedu.address.model.export.ExportPathFactory;
+import seedu.address.model.export.MergeStrategy;
 
 /**
- * Parses input arguments and creates a new ImportCommand object
+ * Parses input arguments and creates a new ImportCommand object, or a new ImportDirectoryCommand object if the given
+ * path does not have the extension of a supported file format.
  */
-public class ImportCommandParser implements Parser<ImportCommand> {
+public class ImportCommandParser implements Parser<Command> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the ImportCommand
-     * and returns an ImportCommand object for execution.
+     * and returns an ImportCommand or ImportDirectoryCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public ImportCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_EXPORT_PATH);
+                ArgumentTokenizer.tokenize(args, PREFIX_EXPORT_PATH, PREFIX_MERGE_STRATEGY);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_EXPORT_PATH)
                 || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
         }
 
+        String path = argMultimap.getValue(PREFIX_EXPORT_PATH).get().trim();
+        Optional<MergeStrategy> mergeStrategy = Optional.empty();
+        if (argMultimap.getValue(PREFIX_MERGE_STRATEGY).isPresent()) {
+            mergeStrategy = Optional.of(ParserUtil.parseMergeStrategy(
+                    argMultimap.getValue(PREFIX_MERGE_STRATEGY).get()
+            ));
+        }
 
-        ExportPath exportPath = ParserUtil.parseExportPath(argMultimap.getValue(PREFIX_EXPORT_PATH).get());
+        if (!ExportPathFactory.isValid(path) && DirectoryPath.isValid(path)) {
+            DirectoryPath directoryPath = ParserUtil.parseDirectoryPath(path);
+            return new ImportDirectoryCommand(directoryPath, mergeStrategy);
+        }
 
-        return new ImportCommand(exportPath);
+        ExportPath exportPath = ParserUtil.parseExportPath(path);
+        return new ImportCommand(exportPath, mergeStrategy);
     }
 
     /**
@@ -4,6 +4,9 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_TEST_COMMAND;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
@@ -28,6 +31,7 @@ import seedu.address.logic.commands.ListCategoryCommand;
 import seedu.address.logic.commands.RateQuestionCommand;
 import seedu.address.logic.commands.RemoveBadCommand;
 import seedu.address.logic.commands.RemoveCommand;
+import seedu.address.logic.commands.ResumeCommand;
 import seedu.address.logic.commands.SearchAnswerCommand;
 import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.SearchQuestionCommand;
@@ -43,6 +47,21 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class KeyboardFlashCardsParser {
 
+    //@@author LeowWB
+    /**
+     * The words of the commands parsed outside of tests.
+     */
+    public static final List<String> COMMAND_WORDS = Collections.unmodifiableList(Arrays.asList(
+            AddCommand.COMMAND_WORD, EditCommand.COMMAND_WORD, DeleteCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD,
+            SearchCommand.COMMAND_WORD, ListCategoryCommand.COMMAND_WORD, SearchAnswerCommand.COMMAND_WORD,
+            SearchQuestionCommand.COMMAND_WORD, ListAllCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD,
+            HelpCommand.COMMAND_WORD, CalendarCommand.COMMAND_WORD, StatsCommand.COMMAND_WORD,
+            DeadlineCommand.COMMAND_WORD, BadCommand.COMMAND_WORD, RemoveBadCommand.COMMAND_WORD,
+            ListBadCommand.COMMAND_WORD, RemoveCommand.COMMAND_WORD, StartCommand.COMMAND_WORD,
+            ResumeCommand.COMMAND_WORD, ExportCommand.COMMAND_WORD, ImportCommand.COMMAND_WORD,
+            SetThemeCommand.COMMAND_WORD));
+
+    //@@author
     /**
      * Used for initial separation of command word and args.
      */
@@ -90,6 +109,13 @@ public class KeyboardFlashCardsParser {
         isRunningFlashcardTest = false;
     }
 
+    //@@author LeowWB
+    public boolean isRunningFlashcardTest() {
+        return isRunningFlashcardTest;
+    }
+
+    //@@author keiteo
+
     /**
      * Sets the answer status in test mode to further restrict inappropriate test commands.
      *
@@ -192,6 +218,9 @@ public class KeyboardFlashCardsParser {
         case StartCommand.COMMAND_WORD:
             return new StartCommandParser(this).parse(arguments);
 
+        case ResumeCommand.COMMAND_WORD:
+            return new ResumeCommand(this);
+
         case ExportCommand.COMMAND_WORD:
             return new ExportCommandParser().parse(arguments);
 
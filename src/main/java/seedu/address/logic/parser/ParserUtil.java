@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -12,8 +13,10 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.category.Category;
 import seedu.address.model.deadline.DueDate;
 import seedu.address.model.deadline.Task;
+import seedu.address.model.export.DirectoryPath;
 import seedu.address.model.export.ExportPath;
 import seedu.address.model.export.ExportPathFactory;
+import seedu.address.model.export.MergeStrategy;
 import seedu.address.model.flashcard.Answer;
 import seedu.address.model.flashcard.Question;
 import seedu.address.model.flashcard.Rating;
@@ -163,4 +166,34 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Parses a {@code String directoryPath} into a {@code DirectoryPath}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code directoryPath} is invalid.
+     */
+    public static DirectoryPath parseDirectoryPath(String directoryPath) throws ParseException {
+        requireNonNull(directoryPath);
+        String trimmedDirectoryPath = directoryPath.trim();
+        if (!DirectoryPath.isValid(trimmedDirectoryPath)) {
+            throw new ParseException(DirectoryPath.MESSAGE_CONSTRAINTS);
+        }
+        return new DirectoryPath(Paths.get(trimmedDirectoryPath));
+    }
+
+    /**
+     * Parses a {@code String mergeStrategy} into a {@code MergeStrategy}.
+     * Leading and trailing whitespaces will be trimmed, and letter case is ignored.
+     *
+     * @throws ParseException if the given {@code mergeStrategy} is invalid.
+     */
+    public static MergeStrategy parseMergeStrategy(String mergeStrategy) throws ParseException {
+        requireNonNull(mergeStrategy);
+        String trimmedMergeStrategy = mergeStrategy.trim().toLowerCase();
+        if (!MergeStrategy.isValid(trimmedMergeStrategy)) {
+            throw new ParseException(MergeStrategy.MESSAGE_CONSTRAINTS);
+        }
+        return MergeStrategy.fromString(trimmedMergeStrategy);
+    }
+
 }
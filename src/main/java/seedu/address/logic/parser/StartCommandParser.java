@@ -2,8 +2,12 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Optional;
+import java.util.StringJoiner;
+
 import seedu.address.logic.commands.StartCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.schedule.TestOrder;
 
 //@@author keiteo
 /**
@@ -12,6 +16,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class StartCommandParser implements Parser<StartCommand> {
 
     public static final String BAD_ARGUMENTS = "Please make sure your tags are alphanumeric!";
+    public static final String MESSAGE_CONFLICTING_ORDERS = "Please supply at most one of "
+            + TestOrder.SHUFFLE.getFlag() + " and " + TestOrder.WEIGHTED.getFlag() + "!";
 
     private final KeyboardFlashCardsParser keyboardFlashCardsParser;
 
@@ -19,17 +25,40 @@ public class StartCommandParser implements Parser<StartCommand> {
         requireNonNull(keyboardFlashCardsParser);
         this.keyboardFlashCardsParser = keyboardFlashCardsParser;
     }
+    //@@author LeowWB
     /**
      * Parses the given {@code String} of arguments in the context of the StartCommand
      * and returns a StartCommand object for execution.
      */
     public StartCommand parse(String args) throws ParseException {
+        boolean isDueOnly = false;
+        TestOrder testOrder = TestOrder.DECK;
+        StringJoiner remainingArgs = new StringJoiner(" ");
+        for (String word : args.trim().split("\\s+")) {
+            Optional<TestOrder> flaggedOrder = TestOrder.fromFlag(word);
+            if (word.equalsIgnoreCase(StartCommand.DUE_FLAG)) {
+                isDueOnly = true;
+            } else if (flaggedOrder.isEmpty()) {
+                remainingArgs.add(word);
+            } else if (testOrder == TestOrder.DECK || testOrder == flaggedOrder.get()) {
+                testOrder = flaggedOrder.get();
+            } else {
+                throw new ParseException(MESSAGE_CONFLICTING_ORDERS);
+            }
+        }
+        return parseTags(remainingArgs.toString(), isDueOnly, testOrder);
+    }
+
+    //@@author keiteo
+    /**
+     * Parses the tag arguments of the StartCommand, with any flags already taken out.
+     */
+    private StartCommand parseTags(String args, boolean isDueOnly, TestOrder testOrder) throws ParseException {
         String alphaNumericWithSpacesRegex = "^[a-zA-Z0-9\\s+]+$";
         if (!args.matches(alphaNumericWithSpacesRegex) && !args.isEmpty()) {
             throw new ParseException(BAD_ARGUMENTS);
         }
 
-        String trimmedArgs = args.trim();
-        return new StartCommand(keyboardFlashCardsParser, trimmedArgs);
+        return new StartCommand(keyboardFlashCardsParser, args.trim(), isDueOnly, testOrder);
     }
 }
@@ -2,7 +2,7 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
+import java.util.Iterator;
 
 import seedu.address.model.flashcard.FlashCard;
 import seedu.address.ui.TestFlashCardPanel;
@@ -10,36 +10,60 @@ import seedu.address.ui.TestFlashCardPanel;
 //@@author keiteo
 /**
  * Instantiates a test model to contain relevant flashcards to test users.
+ * The flashcards to test are consumed lazily, one at a time, from the given selection, and are never copied. A test
+ * still needs memory in proportion to its length, as the selection keeps the ordinal of each flashcard in an
+ * {@code int[]}, and a shuffled selection copies that array for each iteration.
  */
 public class FlashCardTestModel {
 
     private FlashCard currentFlashCard;
-    private List<FlashCard> testList;
+    private final Iterable<FlashCard> testList;
+    private Iterator<FlashCard> remainingFlashCards;
     private TestFlashCardPanel testFlashCardPanel;
 
-    public FlashCardTestModel(List<FlashCard> testList) {
+    public FlashCardTestModel(Iterable<FlashCard> testList) {
         this.testList = testList;
     }
 
     /**
-     * Checks if the test list is empty.
+     * Checks if there are no FlashCards left to test.
      */
     public boolean isEmpty() {
-        return testList.isEmpty();
+        return !getRemainingFlashCards().hasNext();
     }
 
     /**
-     * Removes a FlashCard from the head of the test list and sets it as the current FlashCard.
+     * Takes the next FlashCard to be tested and sets it as the current FlashCard.
      */
     public void setFlashcard() {
-        assert !testList.isEmpty();
-        currentFlashCard = testList.remove(0);
+        assert !isEmpty();
+        currentFlashCard = getRemainingFlashCards().next();
+    }
+
+    //@@author LeowWB
+    /**
+     * Returns the FlashCards that are yet to be tested, starting to iterate over the selection if this has not been
+     * done yet.
+     */
+    private Iterator<FlashCard> getRemainingFlashCards() {
+        if (remainingFlashCards == null) {
+            requireNonNull(testList);
+            remainingFlashCards = testList.iterator();
+        }
+        return remainingFlashCards;
     }
 
     //@@author shutingy
     private void setTestFlashCardPanel() {
         requireNonNull(currentFlashCard);
-        testFlashCardPanel = new TestFlashCardPanel(currentFlashCard);
+        //@@author LeowWB
+        // the panel is made once for each test, and shows each question in turn
+        if (testFlashCardPanel == null) {
+            testFlashCardPanel = new TestFlashCardPanel(currentFlashCard);
+        } else {
+            testFlashCardPanel.setFlashCard(currentFlashCard);
+        }
+        //@@author shutingy
     }
 
     public TestFlashCardPanel getTestFlashCardPanel() {
@@ -1,17 +1,35 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.BinaryOperator;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.category.Category;
 import seedu.address.model.category.UniqueCategoryList;
 import seedu.address.model.deadline.Deadline;
 import seedu.address.model.deadline.UniqueDeadlineList;
+import seedu.address.model.export.ExportHistory;
+import seedu.address.model.export.FlashCardPatch;
 import seedu.address.model.flashcard.FlashCard;
+import seedu.address.model.flashcard.MergeResult;
+import seedu.address.model.flashcard.Rating;
 import seedu.address.model.flashcard.UniqueFlashCardList;
+import seedu.address.model.schedule.PerformanceSeries;
+import seedu.address.model.schedule.ReviewBuffer;
+import seedu.address.model.schedule.ReviewScheduler;
+import seedu.address.model.schedule.ReviewTable;
+import seedu.address.model.schedule.TestSession;
 
 /**
  * Wraps all data at the address-book level
@@ -23,6 +41,11 @@ public class KeyboardFlashCards implements ReadOnlyKeyboardFlashCards {
     private final UniqueDeadlineList deadlines;
     private final UniqueCategoryList categories;
     private final int[] stats;
+    private ExportHistory exportHistory;
+    private ReviewScheduler reviewScheduler;
+    private ReviewTable reviewTable;
+    private TestSession testSession;
+    private PerformanceSeries performanceSeries;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -36,6 +59,10 @@ public class KeyboardFlashCards implements ReadOnlyKeyboardFlashCards {
         deadlines = new UniqueDeadlineList();
         categories = new UniqueCategoryList();
         stats = new int[3]; //good,hard,easy
+        exportHistory = new ExportHistory();
+        reviewScheduler = new ReviewScheduler();
+        reviewTable = new ReviewTable();
+        performanceSeries = new PerformanceSeries();
     }
 
     public KeyboardFlashCards() {}
@@ -46,6 +73,11 @@ public class KeyboardFlashCards implements ReadOnlyKeyboardFlashCards {
     public KeyboardFlashCards(ReadOnlyKeyboardFlashCards toBeCopied) {
         this();
         resetData(toBeCopied);
+        setExportHistory(toBeCopied.getExportHistory());
+        setReviewScheduler(toBeCopied.getReviewScheduler());
+        setReviewTable(toBeCopied.getReviewTable());
+        setTestSession(toBeCopied.getTestSession().orElse(null));
+        setPerformanceSeries(toBeCopied.getPerformanceSeries());
     }
 
     //// list overwrite operations
@@ -55,16 +87,22 @@ public class KeyboardFlashCards implements ReadOnlyKeyboardFlashCards {
      * {@code flashCards} must not contain duplicate flashCards.
      */
     public void setFlashCards(List<FlashCard> flashCards) {
+        List<FlashCard> oldFlashCards = new ArrayList<>(this.flashCards.asUnmodifiableObservableList());
         this.flashCards.setFlashCards(flashCards);
+        exportHistory.recordReplaced(oldFlashCards, flashCards);
+        reviewScheduler.setFlashCards(flashCards);
+        reviewTable.setFlashCards(flashCards);
+        testSession = null;
         //only when setFlashCards is success the set the categories
         setCategories(flashCards);
 
     }
 
     public void setCategories(List<FlashCard> flashCards) {
-        //clear the existing data
-        categories.clear();
-        flashCards.forEach(flashCard -> categories.add(flashCard.getCategories()));
+        //@@author LeowWB
+        // replaced in one go, instead of cleared and added to once for every flashCard
+        categories.setCategories(flashCards.stream().map(FlashCard::getCategories).collect(Collectors.toList()));
+        //@@author
     }
 
 
@@ -88,17 +126,113 @@ public class KeyboardFlashCards implements ReadOnlyKeyboardFlashCards {
         return flashCards.contains(flashCard);
     }
 
+    //@@author LeowWB
+    /**
+     * Returns the flashCard with the given id, if it is in the address book.
+     */
+    public Optional<FlashCard> getFlashcard(long id) {
+        return flashCards.get(id);
+    }
+
+    /**
+     * Returns true if a flashCard with the given id exists in the address book.
+     */
+    public boolean hasFlashcardId(long id) {
+        return flashCards.containsId(id);
+    }
+
+    //@@author
+
     /**
      * Adds a flashCard to the address book.
      * The flashCard must not already exist in the address book.
      */
     public void addFlashcard(FlashCard c) {
         flashCards.add(c);
+        exportHistory.recordAdded(c);
+        reviewScheduler.add(c);
+        reviewTable.add(c);
+        testSession = null;
         //update the categoryList
         addCategory(c.getCategories());
 
     }
 
+    /**
+     * Adds every flashCard in {@code toAdd} that is not already in the address book, in a single batch.
+     * Duplicates, whether of existing flashCards or within {@code toAdd} itself, are skipped.
+     *
+     * @return The flashCards that were added.
+     */
+    public List<FlashCard> addFlashcards(List<FlashCard> toAdd) {
+        requireNonNull(toAdd);
+        List<FlashCard> added = flashCards.addAllAbsent(toAdd);
+        added.forEach(flashCard -> {
+            categories.add(flashCard.getCategories());
+            exportHistory.recordAdded(flashCard);
+            reviewScheduler.add(flashCard);
+            reviewTable.add(flashCard);
+        });
+        if (!added.isEmpty()) {
+            testSession = null;
+        }
+        return added;
+    }
+
+    /**
+     * Merges every flashCard in {@code toMerge} into the address book, in a single batch. New flashCards are added,
+     * and flashCards that are already present are combined with the incoming ones using {@code merger}.
+     *
+     * @see UniqueFlashCardList#mergeAll(List, BinaryOperator)
+     */
+    public MergeResult mergeFlashcards(List<FlashCard> toMerge, BinaryOperator<FlashCard> merger) {
+        requireAllNonNull(toMerge, merger);
+        // the flashCards already present are merged with their current ratings
+        MergeResult result = flashCards.mergeAll(toMerge, (existing, incoming) ->
+                merger.apply(reviewTable.withCurrentRating(existing), incoming));
+
+        result.getAdded().forEach(flashCard -> {
+            categories.add(flashCard.getCategories());
+            exportHistory.recordAdded(flashCard);
+            reviewScheduler.add(flashCard);
+            reviewTable.add(flashCard);
+        });
+        for (int i = 0; i < result.getUpdatedCount(); i++) {
+            FlashCard target = result.getReplacedTargets().get(i);
+            FlashCard replacement = result.getReplacements().get(i);
+            categories.remove(target.getCategories());
+            categories.add(replacement.getCategories());
+            exportHistory.recordEdited(target, replacement);
+            reviewScheduler.replace(target, replacement);
+            reviewTable.replace(target, replacement);
+        }
+        if (!result.getAdded().isEmpty()) {
+            testSession = null;
+        }
+        return result;
+    }
+
+    /**
+     * Removes every flashCard in the address book that is the same as one in {@code toRemove}, in a single batch.
+     * FlashCards in {@code toRemove} that are not in the address book are ignored.
+     *
+     * @return The flashCards that were removed.
+     */
+    public List<FlashCard> removeFlashcards(List<FlashCard> toRemove) {
+        requireNonNull(toRemove);
+        List<FlashCard> removed = flashCards.removeAllSame(toRemove);
+        removed.forEach(flashCard -> {
+            categories.remove(flashCard.getCategories());
+            exportHistory.recordRemoved(flashCard);
+            reviewScheduler.remove(flashCard);
+            reviewTable.remove(flashCard);
+        });
+        if (!removed.isEmpty()) {
+            testSession = null;
+        }
+        return removed;
+    }
+
     /**
      * Replaces the given flashCard {@code target} in the list with {@code editedFlashCard}.
      * {@code target} must exist in the address book.
@@ -119,9 +253,12 @@ public class KeyboardFlashCards implements ReadOnlyKeyboardFlashCards {
 
     public void setFlashcard(FlashCard target, FlashCard editedFlashCard) {
         requireNonNull(editedFlashCard);
-        flashCards.setFlashcard(target, editedFlashCard);
-        categories.remove(target.getCategories());
+        FlashCard replaced = flashCards.setFlashcard(target, editedFlashCard);
+        categories.remove(replaced.getCategories());
         categories.add(editedFlashCard.getCategories());
+        exportHistory.recordEdited(replaced, editedFlashCard);
+        reviewScheduler.replace(replaced, editedFlashCard);
+        reviewTable.replace(replaced, editedFlashCard);
     }
 
 
@@ -130,8 +267,12 @@ public class KeyboardFlashCards implements ReadOnlyKeyboardFlashCards {
      * {@code key} must exist in the address book.
      */
     public void removeFlashCard(FlashCard key) {
-        flashCards.remove(key);
-        categories.remove(key.getCategories());
+        FlashCard removed = flashCards.remove(key);
+        categories.remove(removed.getCategories());
+        exportHistory.recordRemoved(removed);
+        reviewScheduler.remove(removed);
+        reviewTable.remove(removed);
+        testSession = null;
     }
 
     public void removeDeadline(Deadline key) {
@@ -161,17 +302,187 @@ public class KeyboardFlashCards implements ReadOnlyKeyboardFlashCards {
         return categories.asUnmodifiableObservablelist();
     }
 
+    //@@author LeowWB
+    @Override
+    public ExportHistory getExportHistory() {
+        return exportHistory;
+    }
+
+    /**
+     * Replaces the export history with a copy of {@code exportHistory}.
+     */
+    public void setExportHistory(ExportHistory exportHistory) {
+        requireNonNull(exportHistory);
+        this.exportHistory = new ExportHistory(exportHistory);
+    }
+
+    /**
+     * Returns the changes to the flashCards of the given category since the last incremental export to the given path.
+     *
+     * @see ExportHistory#getPatch(List, Category, Path)
+     */
+    public FlashCardPatch getFlashCardPatch(Category category, Path exportPath) {
+        return exportHistory.getPatch(flashCards.asUnmodifiableObservableList(), category, exportPath);
+    }
+
+    /**
+     * Records that {@code patch} was exported to the given path, with the given category.
+     */
+    public void setExportWatermark(Path exportPath, Category category, FlashCardPatch patch) {
+        exportHistory.setWatermark(exportPath, category, patch);
+    }
+
+    @Override
+    public ReviewScheduler getReviewScheduler() {
+        return reviewScheduler;
+    }
+
+    /**
+     * Replaces the review schedule with a copy of {@code reviewScheduler}.
+     */
+    public void setReviewScheduler(ReviewScheduler reviewScheduler) {
+        requireNonNull(reviewScheduler);
+        this.reviewScheduler = new ReviewScheduler(reviewScheduler);
+    }
+
+    @Override
+    public ReviewTable getReviewTable() {
+        return reviewTable;
+    }
+
+    /**
+     * Replaces the review data with a copy of {@code reviewTable}.
+     */
+    public void setReviewTable(ReviewTable reviewTable) {
+        requireNonNull(reviewTable);
+        this.reviewTable = new ReviewTable(reviewTable);
+    }
+
+    /**
+     * Rates and reschedules the given flashCard after it was reviewed on the given date with the given rating.
+     * The flashCard itself is left as it is, since its current rating is kept in the {@code ReviewTable}.
+     *
+     * @see ReviewTable#record(FlashCard, Rating, LocalDate)
+     * @see ReviewScheduler#review(FlashCard, Rating, LocalDate)
+     */
+    public void reviewFlashcard(FlashCard flashCard, Rating rating, LocalDate today) {
+        reviewTable.record(flashCard, rating, today);
+        reviewScheduler.review(flashCard, rating, today);
+    }
+
+    /**
+     * Rates and reschedules the flashCards reviewed in {@code reviews} on the given date, in the order they were
+     * reviewed. Each flashCard is found by its position in the list.
+     */
+    public void applyReviews(ReviewBuffer reviews, LocalDate today) {
+        requireAllNonNull(reviews, today);
+
+        List<FlashCard> flashCardList = flashCards.asUnmodifiableObservableList();
+        for (int i = 0; i < reviews.size(); i++) {
+            reviewFlashcard(flashCardList.get(reviews.getOrdinal(i)), reviews.getRating(i), today);
+        }
+    }
+
+    /**
+     * Returns the flashCards that are due for review on the given date, starting with the most overdue.
+     */
+    public List<FlashCard> getDueFlashCards(LocalDate today) {
+        return reviewScheduler.getDueFlashCards(today);
+    }
+
+    /**
+     * Returns the positions in the list of the flashCards that are due for review on the given date and satisfy
+     * {@code isSelected}, starting with the most overdue. Each flashCard is found by its id, so this takes O(k log k)
+     * time when k flashCards are due, however many flashCards there are.
+     */
+    public int[] getDueOrdinals(LocalDate today, Predicate<FlashCard> isSelected) {
+        requireAllNonNull(today, isSelected);
+        return reviewScheduler.getDueFlashCards(today).stream()
+                .filter(isSelected)
+                .mapToInt(flashCards::ordinalOf)
+                .filter(ordinal -> ordinal >= 0)
+                .toArray();
+    }
+
+    @Override
+    public Optional<TestSession> getTestSession() {
+        return Optional.ofNullable(testSession);
+    }
+
+    /**
+     * Saves the progress of the test that is under way, or discards it if {@code testSession} is null.
+     * The saved progress refers to flashCards by their positions in the list, so it is discarded whenever flashCards
+     * are added or removed. Replacing a flashCard (for example, to rate it) does not move any flashCards.
+     */
+    public void setTestSession(TestSession testSession) {
+        assert testSession == null || testSession.isValidFor(flashCards.asUnmodifiableObservableList().size());
+        this.testSession = testSession;
+    }
+
+    @Override
+    public PerformanceSeries getPerformanceSeries() {
+        return performanceSeries;
+    }
+
+    /**
+     * Replaces the performance history with a copy of {@code performanceSeries}.
+     */
+    public void setPerformanceSeries(PerformanceSeries performanceSeries) {
+        requireNonNull(performanceSeries);
+        this.performanceSeries = new PerformanceSeries(performanceSeries);
+    }
+
+    /**
+     * Adds the performance at the end of a test to the performance history.
+     */
+    public void addPerformance(float performance) {
+        performanceSeries.add(performance);
+    }
+
+    //@@author
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof KeyboardFlashCards // instanceof handles nulls
-                && flashCards.equals(((KeyboardFlashCards) other).flashCards));
+                && hasSameRatedFlashCards((KeyboardFlashCards) other));
     }
 
+    //@@author LeowWB
     @Override
     public int hashCode() {
-        return flashCards.hashCode();
+        int hashCode = 1;
+        for (FlashCard flashCard : flashCards) {
+            hashCode = 31 * hashCode + Objects.hash(flashCard.getQuestion(), flashCard.getAnswer(),
+                    reviewTable.getRating(flashCard), flashCard.getCategories());
+        }
+        return hashCode;
+    }
+
+    /**
+     * Returns true if both have the same flashCards in the same order, each with the same current rating. The ratings
+     * are read from the review tables, so that no flashCard has to be copied with its current rating.
+     */
+    private boolean hasSameRatedFlashCards(KeyboardFlashCards other) {
+        List<FlashCard> flashCardList = flashCards.asUnmodifiableObservableList();
+        List<FlashCard> otherFlashCardList = other.flashCards.asUnmodifiableObservableList();
+        if (flashCardList.size() != otherFlashCardList.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < flashCardList.size(); i++) {
+            FlashCard flashCard = flashCardList.get(i);
+            FlashCard otherFlashCard = otherFlashCardList.get(i);
+            if (!flashCard.getQuestion().equals(otherFlashCard.getQuestion())
+                    || !flashCard.getAnswer().equals(otherFlashCard.getAnswer())
+                    || !flashCard.getCategories().equals(otherFlashCard.getCategories())
+                    || !reviewTable.getRating(flashCard).equals(other.reviewTable.getRating(otherFlashCard))) {
+                return false;
+            }
+        }
+        return true;
     }
+    //@@author
 
     // Deadline methods
 
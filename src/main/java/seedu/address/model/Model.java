@@ -1,15 +1,27 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.category.Category;
 import seedu.address.model.deadline.Deadline;
+import seedu.address.model.export.FlashCardPatch;
+import seedu.address.model.export.MergeStrategy;
 import seedu.address.model.flashcard.FlashCard;
+import seedu.address.model.flashcard.MergeResult;
+import seedu.address.model.flashcard.Rating;
+import seedu.address.model.schedule.PerformanceSeries;
+import seedu.address.model.schedule.ReviewEvent;
+import seedu.address.model.schedule.ReviewStats;
+import seedu.address.model.schedule.StatsCounters;
+import seedu.address.model.schedule.TestSession;
 import seedu.address.ui.TestFlashCardPanel;
 
 /**
@@ -70,6 +82,14 @@ public interface Model {
      *///@@author shutingy
     boolean hasFlashcard(FlashCard flashCard);
 
+    //@@author LeowWB
+    /**
+     * Returns the flashCard with the given id, if it exists in the address book.
+     */
+    Optional<FlashCard> getFlashCard(long id);
+
+    //@@author
+
     /**
      * Deletes the given flashCard.
      * The flashCard must exist in the address book.
@@ -107,21 +127,16 @@ public interface Model {
     int[] getTestStats();
 
     /**
-     * returns an int[] of performance values.
+     * returns the performance values from test mode, which are saved with the data.
      */
-    ArrayList<Float> getPerformance();
+    PerformanceSeries getPerformance();
 
     /**
-     * updates the int[] that holds all performance values from test mode.
-     * adds a new performance value to the existing int[] that holds all performance values from test mode.
+     * updates the performance values from test mode.
+     * adds a new performance value to the end of the performance values from test mode.
      */
     void updatePerformance(Model model);
 
-    /**
-     * clears the int[] that holds all performance values from test mode.
-     */
-    void resetPerformance(Model model);
-
     /**
      * Adds the given flashCard.
      * {@code flashCard} must not already exist in the address book.
@@ -129,6 +144,32 @@ public interface Model {
     //@@author shutingy -reused
     void addFlashCard(FlashCard flashCard);
 
+    /**
+     * Adds every flashCard in {@code flashCards} that does not already exist in the address book, in one batch.
+     * Duplicates are skipped rather than rejected.
+     *
+     * @return The number of flashCards that were added.
+     */
+    //@@author LeowWB
+    int addFlashCards(List<FlashCard> flashCards);
+
+    /**
+     * Merges every flashCard in {@code flashCards} into the address book, in one batch. FlashCards that do not exist in
+     * the address book yet are added. Those that do are combined with the existing flashCard according to
+     * {@code strategy}.
+     *
+     * @return The flashCards that were added and updated, and the number that were left unchanged.
+     */
+    MergeResult mergeFlashCards(List<FlashCard> flashCards, MergeStrategy strategy);
+
+    /**
+     * Removes every flashCard in the address book that has the same identity as one in {@code flashCards}, in one
+     * batch. FlashCards that are not in the address book are ignored.
+     *
+     * @return The number of flashCards that were removed.
+     */
+    int removeFlashCards(List<FlashCard> flashCards);
+
     /**
      * Replaces the given flashCard {@code target} with {@code editedFlashCard}.
      * {@code target} must exist in the address book.
@@ -144,10 +185,39 @@ public interface Model {
 
     /**
      * Updates the filter of the filtered flashCard list to filter by the given {@code predicate}.
+     * The list is left as it is if it already shows the FlashCards of an equal predicate, such as one that was
+     * filtered by {@link #updateFilteredFlashCardListAsync(Predicate, Executor)}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredFlashCardList(Predicate<FlashCard> predicate);
 
+    //@@author LeowWB
+    /**
+     * Updates the filter of the filtered flashCard list to filter by the given {@code predicate}, which is tested in
+     * parallel in the background on a snapshot of the FlashCards. The FlashCards that pass it are then shown in one
+     * change to the filtered list, made by running it on {@code modelExecutor}, which must run it on the thread that
+     * owns the model. The filter is dropped if the filtered list is updated again before then.
+     * {@code predicate} must be safe to test from several threads at once.
+     *
+     * @return a future that is completed with whether the FlashCards were shown, once they are.
+     * @throws NullPointerException if {@code predicate} or {@code modelExecutor} is null.
+     */
+    CompletableFuture<Boolean> updateFilteredFlashCardListAsync(Predicate<FlashCard> predicate,
+            Executor modelExecutor);
+
+    /**
+     * Drops the filter started by {@link #updateFilteredFlashCardListAsync(Predicate, Executor)} that is still being
+     * run in the background, if any, so that its result is never shown. The filtered list is left as it is.
+     */
+    void cancelFilter();
+
+    /**
+     * Returns whether the filtered flashCard list is being filtered in the background.
+     */
+    ReadOnlyBooleanProperty filteringProperty();
+
+    //@@author
+
     //@@author shutingy -reused
     ObservableList<Category> getCategoryList();
 
@@ -162,13 +232,6 @@ public interface Model {
      */
     ObservableList<FlashCard> getFlashCardList();
 
-    /**
-     * Initializes the test mode model with a list of FlashCards.
-     *
-     * @param testList List of FlashCards to be tested.
-     */
-    void initializeTestModel(List<FlashCard> testList);
-
     /**
      * Checks if the list of FlashCards in the test model is fully expended.
      *
@@ -201,6 +264,98 @@ public interface Model {
      */
     FlashCard getCurrentTestFlashCard();
 
+    //@@author LeowWB
+    /**
+     * Returns the flashCards that are due for review today, starting with the most overdue.
+     * FlashCards that have never been reviewed are always due.
+     */
+    List<FlashCard> getDueFlashCards();
+
+    /**
+     * Returns the positions in the list of all flashCards of the flashCards that are due for review today and satisfy
+     * {@code isSelected}, starting with the most overdue. Only the due flashCards are looked at.
+     */
+    int[] getDueFlashCardOrdinals(Predicate<FlashCard> isSelected);
+
+    /**
+     * Rates and reschedules the given flashCard after it was reviewed today with the given rating.
+     * {@code rating} must not be {@code Rating.NULL}.
+     */
+    void reviewFlashCard(FlashCard flashCard, Rating rating);
+
+    /**
+     * Returns the number of flashCards whose current rating is {@code rating}.
+     */
+    int getRatingCount(Rating rating);
+
+    /**
+     * Rates the FlashCard being tested with {@code rating}, and reschedules it. The rating is held back, and applied
+     * together with the others at the next checkpoint of the test started with
+     * {@link #initializeTestSession(TestSession)}.
+     * {@code rating} must not be {@code Rating.NULL}.
+     */
+    void rateTestFlashCard(Rating rating);
+
+    /**
+     * Initializes the test mode model with the FlashCards of {@code testSession} that have not been rated yet.
+     * The test takes a checkpoint when its first FlashCard is taken with {@link #setTestFlashCard()}, and again after
+     * every {@code UserPrefs#getTestCheckpointInterval()} FlashCards. A checkpoint applies the ratings held back so far
+     * and saves the progress of the test, replacing any test that was saved before, so that the test can be resumed
+     * if the app is closed. The FlashCards taken since the last checkpoint are tested again when it is resumed.
+     */
+    void initializeTestSession(TestSession testSession);
+
+    /**
+     * Returns true if the progress of an unfinished test was saved, and can be resumed.
+     */
+    boolean hasSavedTestSession();
+
+    /**
+     * Initializes the test mode model with the saved unfinished test, starting from the FlashCard that was being
+     * tested when it was saved. There must be a saved test.
+     */
+    void resumeTestSession();
+
+    /**
+     * Takes a checkpoint of the test that is under way, if there is one, without waiting for the checkpoint interval.
+     */
+    void checkpointTestSession();
+
+    /**
+     * Returns true if the data has not changed since it was last saved, because a test is under way and has not
+     * taken a checkpoint since. Saving the data can be put off until the next checkpoint while this is so.
+     */
+    boolean isSaveDeferred();
+
+    /**
+     * Ends the test, applying the ratings that were held back, and discards its saved progress, so that it cannot be
+     * resumed.
+     */
+    void endTestSession();
+
+    /**
+     * Returns the reviews made since this was last called that have not been logged yet, and forgets them. The reviews
+     * made during a test are only returned once their ratings have been applied, at a checkpoint or at the end of the
+     * test.
+     */
+    List<ReviewEvent> takeReviewEvents();
+
+    /**
+     * Returns the running statistics of the reviews made, broken down by category and by day. Reviews are added to
+     * them once their ratings have been applied.
+     */
+    ReviewStats getReviewStats();
+
+    /**
+     * Adds the given reviews, read back from the review log, to the statistics without applying their ratings again.
+     */
+    void replayReviewEvents(List<ReviewEvent> reviewEvents);
+
+    /**
+     * Returns the counts shown in the statistics, which are kept up to date as the model changes.
+     */
+    StatsCounters getStatsCounters();
+
     //@@author shutingy
     void showAnswer();
 
@@ -230,4 +385,16 @@ public interface Model {
      */
     //@@author LeowWB
     ObservableList<FlashCard> getFilteredFlashCardListNoCommit(Predicate<FlashCard> predicate);
+
+    /**
+     * Returns the changes to the flashCards of {@code category} since the last incremental export to
+     * {@code exportPath}. If there was no such export, every flashCard of the category is returned as an addition.
+     */
+    FlashCardPatch getFlashCardPatch(Category category, Path exportPath);
+
+    /**
+     * Records that {@code patch} has been exported to {@code exportPath} with {@code category}, so that the next
+     * incremental export to that path only includes changes made after {@code patch}.
+     */
+    void setExportWatermark(Path exportPath, Category category, FlashCardPatch patch);
 }
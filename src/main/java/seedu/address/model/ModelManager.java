@@ -4,20 +4,47 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ParallelFilter;
 import seedu.address.model.category.Category;
 import seedu.address.model.deadline.Deadline;
+import seedu.address.model.export.FlashCardPatch;
+import seedu.address.model.export.MergeStrategy;
 import seedu.address.model.flashcard.FlashCard;
-import seedu.address.model.flashcard.RatingContainsKeywordPredicate;
+import seedu.address.model.flashcard.MergeResult;
+import seedu.address.model.flashcard.Rating;
+import seedu.address.model.schedule.PerformanceSeries;
+import seedu.address.model.schedule.ReviewBuffer;
+import seedu.address.model.schedule.ReviewEvent;
+import seedu.address.model.schedule.ReviewStats;
+import seedu.address.model.schedule.StatsCounters;
+import seedu.address.model.schedule.TestSession;
 import seedu.address.ui.TestFlashCardPanel;
 
 /**
@@ -32,8 +59,23 @@ public class ModelManager implements Model {
     private final FilteredList<Deadline> filteredDeadlines;
     private final FilteredList<Category> categoryList;
     private FlashCardTestModel flashCardTestModel;
-    private ArrayList<Float> performance;
-
+    private TestSession testSession;
+    private int takenOrdinal;
+    private final ReviewBuffer pendingReviews = new ReviewBuffer();
+    private int takenSinceCheckpoint;
+    private boolean hasNewCheckpoint;
+    private Instant testFlashCardShownAt;
+    private final List<ReviewEvent> heldReviewEvents = new ArrayList<>();
+    private final List<ReviewEvent> unloggedReviewEvents = new ArrayList<>();
+    private final ReviewStats reviewStats = new ReviewStats();
+    private final StatsCounters statsCounters = new StatsCounters();
+    /** Counts the filters started, so that a filter can tell whether it is still the latest one. */
+    private final AtomicLong latestFilter = new AtomicLong();
+    private final ReadOnlyBooleanWrapper isFiltering = new ReadOnlyBooleanWrapper(false);
+    private Predicate<FlashCard> shownPredicate = PREDICATE_SHOW_ALL_FLASHCARDS;
+    // the filter of a snapshot that is running in the background, and the one whose result is shown, if any
+    private SnapshotFilter runningSnapshotFilter;
+    private SnapshotFilter shownSnapshotFilter;
 
     /**
      * Initializes a ModelManager with the given keyboardFlashCards and userPrefs.
@@ -46,11 +88,20 @@ public class ModelManager implements Model {
 
         this.keyboardFlashCards = new KeyboardFlashCards(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        //@@author LeowWB
+        // follows the deck before the filtered list does, so that a FlashCard added since a snapshot was filtered is
+        // known to be new by the time the filtered list tests it
+        this.keyboardFlashCards.getFlashcardList().addListener((ListChangeListener<FlashCard>) change -> {
+            while (change.next()) {
+                followDeck(change);
+            }
+        });
+        //@@author
         filteredFlashCards = new FilteredList<>(this.keyboardFlashCards.getFlashcardList());
         filteredDeadlines = new FilteredList<>(this.keyboardFlashCards.getDeadlineList());
         categoryList = new FilteredList<>(this.keyboardFlashCards.getCategoryList());
-        flashCardTestModel = new FlashCardTestModel(new LinkedList<>());
-        this.performance = new ArrayList<Float>();
+        flashCardTestModel = new FlashCardTestModel(Collections.emptyList());
+        refreshStatsCounters();
     }
 
     public ModelManager() {
@@ -105,6 +156,7 @@ public class ModelManager implements Model {
     @Override
     public void setKeyboardFlashCards(ReadOnlyKeyboardFlashCards keyboardFlashCards) {
         this.keyboardFlashCards.resetData(keyboardFlashCards);
+        refreshStatsCounters();
     }
 
     @Override
@@ -118,9 +170,18 @@ public class ModelManager implements Model {
         return keyboardFlashCards.hasFlashcard(flashCard);
     }
 
+    //@@author LeowWB
+    @Override
+    public Optional<FlashCard> getFlashCard(long id) {
+        return keyboardFlashCards.getFlashcard(id);
+    }
+
+    //@@author
+
     @Override
     public void deleteFlashCard(FlashCard target) {
         keyboardFlashCards.removeFlashCard(target);
+        refreshStatsCounters();
     }
 
     //@@author shutingy
@@ -129,13 +190,47 @@ public class ModelManager implements Model {
         keyboardFlashCards.addFlashcard(flashCard);
         updateFilteredFlashCardList(PREDICATE_SHOW_ALL_FLASHCARDS);
         updateFilteredCategoryList(PREDICATE_SHOW_ALL_CATEGORIES);
+        refreshStatsCounters();
+    }
+
+    //@@author LeowWB
+    @Override
+    public int addFlashCards(List<FlashCard> flashCards) {
+        requireNonNull(flashCards);
+
+        int addedCount = keyboardFlashCards.addFlashcards(flashCards).size();
+        updateFilteredFlashCardList(PREDICATE_SHOW_ALL_FLASHCARDS);
+        updateFilteredCategoryList(PREDICATE_SHOW_ALL_CATEGORIES);
+        refreshStatsCounters();
+        return addedCount;
+    }
+
+    @Override
+    public MergeResult mergeFlashCards(List<FlashCard> flashCards, MergeStrategy strategy) {
+        requireAllNonNull(flashCards, strategy);
+
+        MergeResult result = keyboardFlashCards.mergeFlashcards(flashCards, strategy::merge);
+        updateFilteredFlashCardList(PREDICATE_SHOW_ALL_FLASHCARDS);
+        updateFilteredCategoryList(PREDICATE_SHOW_ALL_CATEGORIES);
+        refreshStatsCounters();
+        return result;
     }
 
+    @Override
+    public int removeFlashCards(List<FlashCard> flashCards) {
+        requireNonNull(flashCards);
+        int removedCount = keyboardFlashCards.removeFlashcards(flashCards).size();
+        refreshStatsCounters();
+        return removedCount;
+    }
+
+    //@@author shutingy
     @Override
     public void setFlashCard(FlashCard target, FlashCard editedFlashCard) {
         requireAllNonNull(target, editedFlashCard);
 
         keyboardFlashCards.setFlashcard(target, editedFlashCard);
+        refreshStatsCounters();
     }
 
     @Override
@@ -162,6 +257,9 @@ public class ModelManager implements Model {
         if (type == 2) {
             keyboardFlashCards.addEasy();
         }
+        //@@author LeowWB
+        refreshStatsCounters();
+        //@@author LeonardTay748
     }
 
     public int[] getTestStats() {
@@ -169,29 +267,30 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public ArrayList<Float> getPerformance() {
-        return performance;
+    public PerformanceSeries getPerformance() {
+        //@@author LeowWB
+        return keyboardFlashCards.getPerformanceSeries();
+        //@@author LeonardTay748
     }
 
     @Override
     public void updatePerformance(Model model) {
         requireNonNull(model);
-        float numGood = model.getFilteredFlashCardListNoCommit(new RatingContainsKeywordPredicate("good")).size();
-        float numHard = model.getFilteredFlashCardListNoCommit(new RatingContainsKeywordPredicate("hard")).size();
-        float numEasy = model.getFilteredFlashCardListNoCommit(new RatingContainsKeywordPredicate("easy")).size();
+        //@@author LeowWB
+        float numGood = model.getRatingCount(new Rating(Rating.GOOD));
+        float numHard = model.getRatingCount(new Rating(Rating.HARD));
+        float numEasy = model.getRatingCount(new Rating(Rating.EASY));
+        //@@author LeonardTay748
         float value;
         if ((numEasy + numGood + numHard) == 0) {
             value = 0;
         } else {
             value = ((numEasy + numGood) * 100) / (numEasy + numGood + numHard);
         }
-        performance.add(value);
-    }
-
-    @Override
-    public void resetPerformance(Model model) {
-        requireNonNull(model);
-        performance.clear();
+        //@@author LeowWB
+        keyboardFlashCards.addPerformance(value);
+        refreshStatsCounters();
+        //@@author LeonardTay748
     }
 
     @Override
@@ -220,9 +319,89 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredFlashCardList(Predicate<FlashCard> predicate) {
         requireNonNull(predicate);
+        //@@author LeowWB
+        // a filter still running in the background would otherwise replace this one when it is done
+        cancelFilter();
+        if (predicate.equals(shownPredicate)) {
+            return;
+        }
+        shownPredicate = predicate;
+        shownSnapshotFilter = null;
+        //@@author
         filteredFlashCards.setPredicate(predicate);
     }
 
+    //@@author LeowWB
+    @Override
+    public CompletableFuture<Boolean> updateFilteredFlashCardListAsync(Predicate<FlashCard> predicate,
+            Executor modelExecutor) {
+        requireAllNonNull(predicate, modelExecutor);
+        long filter = latestFilter.incrementAndGet();
+        FlashCard[] snapshot = keyboardFlashCards.getFlashcardList().toArray(new FlashCard[0]);
+        SnapshotFilter snapshotFilter = new SnapshotFilter(predicate);
+        runningSnapshotFilter = snapshotFilter;
+        isFiltering.set(true);
+
+        return CompletableFuture.supplyAsync(() ->
+                ParallelFilter.filter(snapshot, predicate, () -> filter != latestFilter.get()))
+                .handleAsync((matches, error) -> showFilterResult(filter, snapshot, matches, error,
+                        snapshotFilter), modelExecutor);
+    }
+
+    @Override
+    public void cancelFilter() {
+        latestFilter.incrementAndGet();
+        isFiltering.set(false);
+        runningSnapshotFilter = null;
+    }
+
+    /**
+     * Shows the FlashCards at the indices in {@code matches} of {@code snapshot}, if {@code filter} is still the
+     * latest filter, and returns true if they were shown.
+     * The matches are looked up by identity, so the filtered list changes once, without testing the predicate again
+     * except on the FlashCards that were added or edited since the snapshot was taken, or are added or edited later.
+     */
+    private boolean showFilterResult(long filter, FlashCard[] snapshot, BitSet matches, Throwable error,
+            SnapshotFilter snapshotFilter) {
+        if (filter != latestFilter.get()) {
+            return false;
+        }
+        isFiltering.set(false);
+        runningSnapshotFilter = null;
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            if (!(cause instanceof CancellationException)) {
+                logger.fine("Could not filter the FlashCards: " + cause);
+            }
+            return false;
+        }
+
+        snapshotFilter.pass(snapshot, matches);
+        shownSnapshotFilter = snapshotFilter;
+        filteredFlashCards.setPredicate(snapshotFilter);
+        shownPredicate = snapshotFilter.predicate;
+        return true;
+    }
+
+    /**
+     * Makes the filters of snapshots that are running or shown keep track of a change to the deck.
+     */
+    private void followDeck(ListChangeListener.Change<? extends FlashCard> change) {
+        if (runningSnapshotFilter != null) {
+            runningSnapshotFilter.follow(change);
+        }
+        if (shownSnapshotFilter != null) {
+            shownSnapshotFilter.follow(change);
+        }
+    }
+
+    @Override
+    public ReadOnlyBooleanProperty filteringProperty() {
+        return isFiltering.getReadOnlyProperty();
+    }
+
+    //@@author
+
     //=========== Filtered Deadline List Accessors =============================================================
 
     /**
@@ -247,11 +426,6 @@ public class ModelManager implements Model {
     }
 
     //=========== FlashCardTestModel ================================================================================
-    @Override
-    public void initializeTestModel(List<FlashCard> testList) {
-        flashCardTestModel = new FlashCardTestModel(testList);
-    }
-
     @Override
     public boolean hasTestFlashCard() {
         return !flashCardTestModel.isEmpty();
@@ -260,6 +434,18 @@ public class ModelManager implements Model {
     @Override
     public void setTestFlashCard() {
         flashCardTestModel.setFlashcard();
+        //@@author LeowWB
+        testFlashCardShownAt = Instant.now();
+        if (testSession != null) {
+            testSession = testSession.advance(takenOrdinal);
+            takenSinceCheckpoint++;
+            hasNewCheckpoint = false;
+            if (keyboardFlashCards.getTestSession().isEmpty()
+                    || takenSinceCheckpoint >= userPrefs.getTestCheckpointInterval()) {
+                checkpointTestSession();
+            }
+        }
+        //@@author keiteo
     }
 
     @Override
@@ -277,6 +463,180 @@ public class ModelManager implements Model {
         return flashCardTestModel.getCurrentFlashCard();
     }
 
+    //@@author LeowWB
+    @Override
+    public List<FlashCard> getDueFlashCards() {
+        return keyboardFlashCards.getDueFlashCards(LocalDate.now());
+    }
+
+    @Override
+    public int[] getDueFlashCardOrdinals(Predicate<FlashCard> isSelected) {
+        requireNonNull(isSelected);
+        return keyboardFlashCards.getDueOrdinals(LocalDate.now(), isSelected);
+    }
+
+    @Override
+    public void reviewFlashCard(FlashCard flashCard, Rating rating) {
+        requireAllNonNull(flashCard, rating);
+        keyboardFlashCards.reviewFlashcard(flashCard, rating, LocalDate.now());
+        refreshStatsCounters();
+    }
+
+    @Override
+    public int getRatingCount(Rating rating) {
+        requireNonNull(rating);
+        return keyboardFlashCards.getReviewTable().countRated(rating);
+    }
+
+    @Override
+    public void rateTestFlashCard(Rating rating) {
+        requireNonNull(rating);
+
+        FlashCard flashCardToRate = getCurrentTestFlashCard();
+        Instant ratedAt = Instant.now();
+        ReviewEvent reviewEvent = new ReviewEvent(flashCardToRate.getId(), ratedAt, rating,
+                testFlashCardShownAt == null ? Duration.ZERO : Duration.between(testFlashCardShownAt, ratedAt));
+
+        assert testSession != null : "flashcards are only rated during a test";
+        pendingReviews.add(takenOrdinal, rating);
+        // logged along with the ratings they go with
+        heldReviewEvents.add(reviewEvent);
+    }
+
+    @Override
+    public void initializeTestSession(TestSession testSession) {
+        requireNonNull(testSession);
+
+        List<FlashCard> flashCards = keyboardFlashCards.getFlashcardList();
+        PrimitiveIterator.OfInt pendingOrdinals =
+                testSession.getPendingOrdinals(flashCards, keyboardFlashCards.getReviewTable());
+        Iterator<FlashCard> pendingFlashCards = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return pendingOrdinals.hasNext();
+            }
+
+            @Override
+            public FlashCard next() {
+                takenOrdinal = pendingOrdinals.nextInt();
+                return flashCards.get(takenOrdinal);
+            }
+        };
+
+        flashCardTestModel = new FlashCardTestModel(() -> pendingFlashCards);
+        // a test without any FlashCards never starts, so there is nothing to checkpoint
+        this.testSession = pendingOrdinals.hasNext() ? testSession.beforeCurrent() : null;
+        pendingReviews.clear();
+        heldReviewEvents.clear();
+        takenSinceCheckpoint = 0;
+        hasNewCheckpoint = false;
+        keyboardFlashCards.setTestSession(null);
+    }
+
+    @Override
+    public boolean hasSavedTestSession() {
+        return keyboardFlashCards.getTestSession().isPresent();
+    }
+
+    @Override
+    public void resumeTestSession() {
+        TestSession savedTestSession = keyboardFlashCards.getTestSession()
+                .orElseThrow(() -> new IllegalStateException("There is no saved test session to resume."));
+        initializeTestSession(savedTestSession);
+    }
+
+    @Override
+    public void checkpointTestSession() {
+        if (testSession == null) {
+            return;
+        }
+
+        keyboardFlashCards.applyReviews(pendingReviews, LocalDate.now());
+        pendingReviews.clear();
+        releaseReviewEvents();
+        refreshStatsCounters();
+        keyboardFlashCards.setTestSession(testSession);
+        takenSinceCheckpoint = 0;
+        hasNewCheckpoint = true;
+    }
+
+    @Override
+    public boolean isSaveDeferred() {
+        return testSession != null && !hasNewCheckpoint;
+    }
+
+    @Override
+    public void endTestSession() {
+        keyboardFlashCards.applyReviews(pendingReviews, LocalDate.now());
+        pendingReviews.clear();
+        releaseReviewEvents();
+        refreshStatsCounters();
+        testSession = null;
+        keyboardFlashCards.setTestSession(null);
+    }
+
+    @Override
+    public List<ReviewEvent> takeReviewEvents() {
+        List<ReviewEvent> reviewEvents = new ArrayList<>(unloggedReviewEvents);
+        unloggedReviewEvents.clear();
+        return reviewEvents;
+    }
+
+    @Override
+    public ReviewStats getReviewStats() {
+        return reviewStats;
+    }
+
+    @Override
+    public StatsCounters getStatsCounters() {
+        return statsCounters;
+    }
+
+    /**
+     * Brings the stats counters up to date with the FlashCards, the ratings given in tests and the performance in
+     * them. Every count is kept up to date as it changes, so this takes constant time.
+     */
+    private void refreshStatsCounters() {
+        // in the order of the test stats: good, hard, easy
+        Rating[] ratings = {new Rating(Rating.GOOD), new Rating(Rating.HARD), new Rating(Rating.EASY)};
+        int[] testStats = keyboardFlashCards.getStats();
+        for (int i = 0; i < ratings.length; i++) {
+            statsCounters.setRatedCount(ratings[i], getRatingCount(ratings[i]));
+            statsCounters.setTestedCount(ratings[i], testStats[i]);
+        }
+        statsCounters.setTestsTaken(keyboardFlashCards.getPerformanceSeries().size());
+    }
+
+    @Override
+    public void replayReviewEvents(List<ReviewEvent> reviewEvents) {
+        requireNonNull(reviewEvents);
+        for (ReviewEvent reviewEvent : reviewEvents) {
+            reviewStats.record(reviewEvent, categoriesOf(reviewEvent));
+        }
+    }
+
+    private void releaseReviewEvents() {
+        heldReviewEvents.forEach(this::logReviewEvent);
+        heldReviewEvents.clear();
+    }
+
+    /**
+     * Adds the given review, whose rating has been applied, to the statistics and to the reviews to be logged.
+     */
+    private void logReviewEvent(ReviewEvent reviewEvent) {
+        reviewStats.record(reviewEvent, categoriesOf(reviewEvent));
+        unloggedReviewEvents.add(reviewEvent);
+    }
+
+    /**
+     * Returns the current categories of the FlashCard that was reviewed, or none if it has been deleted.
+     */
+    private Set<Category> categoriesOf(ReviewEvent reviewEvent) {
+        return keyboardFlashCards.getFlashcard(reviewEvent.getFlashCardId())
+                .map(FlashCard::getCategories)
+                .orElse(Collections.emptySet());
+    }
+
     //@@author shutingy
     @Override
     public TestFlashCardPanel getTestFlashCardPanel() {
@@ -286,6 +646,9 @@ public class ModelManager implements Model {
     @Override
     public void showAnswer() {
         flashCardTestModel.showAnswer();
+        //@@author LeowWB
+        hasNewCheckpoint = false;
+        //@@author shutingy
     }
 
     //@@author LeowWB
@@ -297,6 +660,18 @@ public class ModelManager implements Model {
         return simulatedList;
     }
 
+    @Override
+    public FlashCardPatch getFlashCardPatch(Category category, Path exportPath) {
+        requireAllNonNull(category, exportPath);
+        return keyboardFlashCards.getFlashCardPatch(category, exportPath);
+    }
+
+    @Override
+    public void setExportWatermark(Path exportPath, Category category, FlashCardPatch patch) {
+        requireAllNonNull(exportPath, category, patch);
+        keyboardFlashCards.setExportWatermark(exportPath, category, patch);
+    }
+
     //@@author shutingy
     @Override
     public ObservableList<Category> getCategoryList() {
@@ -332,4 +707,54 @@ public class ModelManager implements Model {
                 && flashCardTestModel.equals(other.flashCardTestModel);
     }
 
+    //@@author LeowWB
+    /**
+     * The result of filtering a snapshot of the deck, which tells whether a FlashCard passes the filter by looking it
+     * up instead of testing it again. Only the FlashCards that passed, and those added to the deck since the snapshot,
+     * are kept: a FlashCard added since is tested, and any other FlashCard failed the filter. FlashCards removed from
+     * the deck are forgotten, so that they are not kept alive by the filter.
+     */
+    private static class SnapshotFilter implements Predicate<FlashCard> {
+
+        private final Predicate<FlashCard> predicate;
+        private final Set<FlashCard> passed = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Set<FlashCard> addedSince = Collections.newSetFromMap(new IdentityHashMap<>());
+        // the FlashCards removed while the snapshot is being filtered, which must not pass once it is done
+        private Set<FlashCard> removedSince = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        SnapshotFilter(Predicate<FlashCard> predicate) {
+            this.predicate = predicate;
+        }
+
+        /**
+         * Lets the FlashCards at the indices in {@code matches} of {@code snapshot} pass, unless they have been removed
+         * from the deck since.
+         */
+        void pass(FlashCard[] snapshot, BitSet matches) {
+            matches.stream()
+                    .mapToObj(index -> snapshot[index])
+                    .filter(flashCard -> !removedSince.contains(flashCard))
+                    .forEach(passed::add);
+            removedSince = null;
+        }
+
+        /**
+         * Keeps track of a change to the deck made since the snapshot was taken.
+         */
+        void follow(ListChangeListener.Change<? extends FlashCard> change) {
+            for (FlashCard removed : change.getRemoved()) {
+                passed.remove(removed);
+                addedSince.remove(removed);
+                if (removedSince != null) {
+                    removedSince.add(removed);
+                }
+            }
+            addedSince.addAll(change.getAddedSubList());
+        }
+
+        @Override
+        public boolean test(FlashCard flashCard) {
+            return addedSince.contains(flashCard) ? predicate.test(flashCard) : passed.contains(flashCard);
+        }
+    }
 }
@@ -1,9 +1,16 @@
 package seedu.address.model;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.category.Category;
 import seedu.address.model.deadline.Deadline;
+import seedu.address.model.export.ExportHistory;
 import seedu.address.model.flashcard.FlashCard;
+import seedu.address.model.schedule.PerformanceSeries;
+import seedu.address.model.schedule.ReviewScheduler;
+import seedu.address.model.schedule.ReviewTable;
+import seedu.address.model.schedule.TestSession;
 
 /**
  * Unmodifiable view of an address book
@@ -26,4 +33,33 @@ public interface ReadOnlyKeyboardFlashCards {
      */
     ObservableList<Category> getCategoryList();
 
+    /**
+     * Returns the history of changes to the flashcards, as used by incremental exports.
+     * The returned history must not be modified.
+     */
+    ExportHistory getExportHistory();
+
+    /**
+     * Returns the spaced-repetition schedule of the flashcards.
+     * The returned schedule must not be modified.
+     */
+    ReviewScheduler getReviewScheduler();
+
+    /**
+     * Returns the review data of the flashcards, including their current ratings.
+     * The returned review data must not be modified.
+     */
+    ReviewTable getReviewTable();
+
+    /**
+     * Returns the progress of the test that was under way when the data was last saved, if there was one.
+     */
+    Optional<TestSession> getTestSession();
+
+    /**
+     * Returns the performance at the end of each test taken, oldest first.
+     * The returned series must not be modified.
+     */
+    PerformanceSeries getPerformanceSeries();
+
 }
@@ -13,4 +13,7 @@ public interface ReadOnlyUserPrefs {
 
     Path getKeyboardFlashCardsFilePath();
 
+    //@@author LeowWB
+    int getTestCheckpointInterval();
+
 }
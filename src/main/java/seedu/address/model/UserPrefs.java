@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,8 +14,15 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    //@@author LeowWB
+    public static final String MESSAGE_CHECKPOINT_INTERVAL_CONSTRAINTS =
+            "The test checkpoint interval must be positive.";
+    public static final int DEFAULT_TEST_CHECKPOINT_INTERVAL = 10;
+
+    //@@author
     private GuiSettings guiSettings = new GuiSettings();
     private Path keyboardFlashCardsFilePath = Paths.get("data" , "keyboardFlashCards.json");
+    private int testCheckpointInterval = DEFAULT_TEST_CHECKPOINT_INTERVAL;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +44,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setKeyboardFlashCardsFilePath(newUserPrefs.getKeyboardFlashCardsFilePath());
+        setTestCheckpointInterval(newUserPrefs.getTestCheckpointInterval());
     }
 
     public GuiSettings getGuiSettings() {
@@ -64,6 +73,22 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.keyboardFlashCardsFilePath = keyboardFlashCardsFilePath;
     }
 
+    //@@author LeowWB
+    public int getTestCheckpointInterval() {
+        return testCheckpointInterval;
+    }
+
+    /**
+     * Sets the number of FlashCards taken during a test between checkpoints, at which the ratings given so far are
+     * applied and the progress of the test is saved.
+     */
+    public void setTestCheckpointInterval(int testCheckpointInterval) {
+        checkArgument(testCheckpointInterval > 0, MESSAGE_CHECKPOINT_INTERVAL_CONSTRAINTS);
+        this.testCheckpointInterval = testCheckpointInterval;
+    }
+
+    //@@author
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -76,12 +101,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && keyboardFlashCardsFilePath.equals(o.keyboardFlashCardsFilePath);
+                && keyboardFlashCardsFilePath.equals(o.keyboardFlashCardsFilePath)
+                && testCheckpointInterval == o.testCheckpointInterval;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, keyboardFlashCardsFilePath);
+        return Objects.hash(guiSettings, keyboardFlashCardsFilePath, testCheckpointInterval);
     }
 
     @Override
@@ -89,6 +115,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + keyboardFlashCardsFilePath);
+        sb.append("\nTest checkpoint interval : " + testCheckpointInterval);
         return sb.toString();
     }
 
@@ -3,6 +3,8 @@ package seedu.address.model.category;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Category in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidCategoryName(String)}
@@ -12,6 +14,10 @@ public class Category {
     public static final String MESSAGE_CONSTRAINTS = "Categories names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    //@@author LeowWB
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    //@@author
+
     public final String categoryName;
 
     /**
@@ -29,7 +35,7 @@ public class Category {
      * Returns true if a given string is a valid category name.
      */
     public static boolean isValidCategoryName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
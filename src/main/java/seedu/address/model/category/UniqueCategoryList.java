@@ -2,8 +2,11 @@ package seedu.address.model.category;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import javafx.collections.FXCollections;
@@ -56,8 +59,17 @@ public class UniqueCategoryList implements Iterable<Category> {
      */
     public void add(Set<Category> categorySet) {
         requireNonNull(categorySet);
-        categorySet.forEach(category -> add(category));
-
+        //@@author LeowWB
+        // the new categories are added together, so that listeners see a single change
+        List<Category> added = new ArrayList<>();
+        for (Category category : categorySet) {
+            requireNonNull(category);
+            if (categoryMap.merge(category, 1, Integer::sum) == 1) {
+                added.add(category);
+            }
+        }
+        internalList.addAll(added);
+        //@@author
     }
 
     /**
@@ -75,7 +87,20 @@ public class UniqueCategoryList implements Iterable<Category> {
     }
 
     public void remove(Set<Category> categorySet) {
-        categorySet.forEach(category -> remove(category));
+        //@@author LeowWB
+        // the categories no longer used are removed together, so that listeners see a single change
+        List<Category> removed = new ArrayList<>();
+        for (Category category : categorySet) {
+            requireNonNull(category);
+            if (canRemove(category)) {
+                categoryMap.remove(category);
+                removed.add(category);
+            } else {
+                categoryMap.put(category, categoryMap.get(category) - 1);
+            }
+        }
+        internalList.removeAll(removed);
+        //@@author
     }
 
     /**
@@ -93,6 +118,27 @@ public class UniqueCategoryList implements Iterable<Category> {
         internalList.clear();
     }
 
+    //@@author LeowWB
+    /**
+     * Replaces the contents of the list with the categories in {@code categorySets}, counting each category once for
+     * every set it is in. Listeners see a single change, however many categories there are.
+     */
+    public void setCategories(Collection<Set<Category>> categorySets) {
+        requireNonNull(categorySets);
+        categoryMap.clear();
+        List<Category> distinct = new ArrayList<>();
+        for (Set<Category> categorySet : categorySets) {
+            for (Category category : categorySet) {
+                requireNonNull(category);
+                if (categoryMap.merge(category, 1, Integer::sum) == 1) {
+                    distinct.add(category);
+                }
+            }
+        }
+        internalList.setAll(distinct);
+    }
+    //@@author
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -6,18 +6,23 @@ import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.lang.reflect.Type;
+import java.io.Reader;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
 
 import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
-import com.google.gson.stream.JsonReader;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.Model;
 import seedu.address.model.deadline.exceptions.DeadlineNotFoundException;
 import seedu.address.model.flashcard.FlashCard;
@@ -31,27 +36,44 @@ import seedu.address.model.flashcard.exceptions.NoBadFlashCardException;
  * Contains a Hashmap with questions that are rated as 'bad'
  * Each Question will be tagged to a specific DueDate, which will be referred to
  * in the list of Deadlines
+ * Each bad question is kept as the id of its FlashCard, so that it follows the FlashCard when it is edited.
  */
 public class BadQuestions {
 
-    private static HashMap<String, ArrayList<FlashCard>> internalMap;
+    //@@author LeowWB
+    public static final String DELETED_FLASHCARD = "(deleted FlashCard)";
 
-    public BadQuestions() {
-        internalMap = loadFromJson();
+    private static final String FILE_PATH = "data/BadFlashCards.json";
+
+    private static final Logger logger = LogsCenter.getLogger(BadQuestions.class);
+
+    //@@author dalsontws
+    private static HashMap<String, ArrayList<Long>> internalMap;
+
+    public BadQuestions(Model model) {
+        internalMap = loadFromJson(model);
         if (internalMap == null) {
-            HashMap<String, ArrayList<FlashCard>> map = new HashMap<>();
+            HashMap<String, ArrayList<Long>> map = new HashMap<>();
             internalMap = map;
         }
     }
 
-    public HashMap<String, ArrayList<FlashCard>> getBadQuestionsMap() {
+    public HashMap<String, ArrayList<Long>> getBadQuestionsMap() {
         return internalMap;
     }
 
-    public ObservableList<FlashCard> getBadQuestionsList(DueDate d) {
+    /**
+     * Returns the bad flashcards of the given due date that still exist in {@code model}.
+     */
+    public ObservableList<FlashCard> getBadQuestionsList(DueDate d, Model model) {
         try {
-            ArrayList<FlashCard> list = internalMap.get(d.toString());
-            ObservableList<FlashCard> fullList = FXCollections.observableArrayList(list);
+            ArrayList<Long> list = internalMap.get(d.toString());
+            ObservableList<FlashCard> fullList = FXCollections.observableArrayList();
+            //@@author LeowWB
+            for (long id : list) {
+                model.getFlashCard(id).ifPresent(fullList::add);
+            }
+            //@@author dalsontws
             return fullList;
         } catch (NullPointerException e) {
             throw new NoBadFlashCardException();
@@ -59,16 +81,21 @@ public class BadQuestions {
     }
 
     /**
-     *
+     * Returns the questions of the bad flashcards of the given due date, numbered in the order they were added.
      */
-    public String showBadQuestionsList(DueDate d) {
+    public String showBadQuestionsList(DueDate d, Model model) {
         try {
-            ArrayList<FlashCard> list = internalMap.get(d.toString());
+            ArrayList<Long> list = internalMap.get(d.toString());
             StringBuilder sb = new StringBuilder();
             sb.append("For Deadline: " + d.toString() + "\n");
             int index = 1;
-            for (FlashCard f : list) {
-                sb.append(index + ". " + f.getQuestion().toString() + "\n");
+            for (long id : list) {
+                //@@author LeowWB
+                String question = model.getFlashCard(id)
+                        .map(f -> f.getQuestion().toString())
+                        .orElse(DELETED_FLASHCARD);
+                //@@author dalsontws
+                sb.append(index + ". " + question + "\n");
                 index++;
             }
             return sb.toString();
@@ -86,16 +113,16 @@ public class BadQuestions {
      */
     public void addBadQuestion(DueDate d, FlashCard f, boolean duplicateDeadline) {
         String dateStr = d.toString();
-        ArrayList<FlashCard> list = internalMap.get(dateStr);
+        ArrayList<Long> list = internalMap.get(dateStr);
         if (list == null) {
             list = new ArrayList<>();
         }
-        if (list.contains(f) && duplicateDeadline) {
+        if (list.contains(f.getId()) && duplicateDeadline) {
             throw new DuplicateFlashCardAndDeadlineException();
-        } else if (list.contains(f)) {
+        } else if (list.contains(f.getId())) {
             throw new DuplicateFlashCardException();
         }
-        list.add(f);
+        list.add(f.getId());
         internalMap.put(d.toString(), list);
     }
 
@@ -108,12 +135,13 @@ public class BadQuestions {
      *
      * @param d The duedate of bad rated flashcards
      * @param index The index of flashcard to remove
+     * @return The id of the flashcard that was removed
      */
-    public FlashCard removeBadQuestion(DueDate d, int index) {
+    public long removeBadQuestion(DueDate d, int index) {
         String dateStr = d.toString();
         try {
-            ArrayList<FlashCard> list = internalMap.get(dateStr);
-            FlashCard deleted = list.get(index);
+            ArrayList<Long> list = internalMap.get(dateStr);
+            long deleted = list.get(index);
             list.remove(index);
             internalMap.put(d.toString(), list);
             return deleted;
@@ -144,10 +172,14 @@ public class BadQuestions {
      * to test in a future date.
      */
     public void saveAsJson(BadQuestions badQuestions) {
+        writeJson(badQuestions.getBadQuestionsMap());
+    }
+
+    private static void writeJson(HashMap<String, ArrayList<Long>> map) {
         Gson gson = new Gson();
-        String json = gson.toJson(badQuestions.getBadQuestionsMap());
+        String json = gson.toJson(map);
         try {
-            FileWriter writer = new FileWriter("data/BadFlashCards.json");
+            FileWriter writer = new FileWriter(FILE_PATH);
             writer.write(json);
             writer.close();
         } catch (IOException e) {
@@ -155,23 +187,61 @@ public class BadQuestions {
         }
     }
 
+    //@@author LeowWB
     /**
-     * Load HashMap from json file that contains all flashcards that are rated 'bad'.
-     *
-     * @throws FileNotFoundException the file not found exception
+     * Load HashMap from json file that contains the ids of all flashcards that are rated 'bad'.
+     * A file written before flashcards had ids holds the flashcards themselves. Each of them is replaced by the id of
+     * the flashcard in {@code model} with the same question and answer, or dropped if there is no such flashcard, and
+     * the file is saved again in the new format.
      */
-    public HashMap<String, ArrayList<FlashCard>> loadFromJson() {
-        Gson gson = new Gson();
-        try {
-            Type type = new TypeToken<HashMap<String, ArrayList<FlashCard>>>() {
-            }.getType();
-            JsonReader reader = new JsonReader(new FileReader("data/BadFlashCards.json"));
-            HashMap<String, ArrayList<FlashCard>> data = gson.fromJson(reader, type);
-            return data;
-        } catch (IOException e) {
-            e.printStackTrace();
+    public HashMap<String, ArrayList<Long>> loadFromJson(Model model) {
+        HashMap<String, ArrayList<Long>> map = new HashMap<>();
+        boolean hasOldFlashCards = false;
+        try (Reader reader = new FileReader(FILE_PATH)) {
+            JsonObject data = JsonParser.parseReader(reader).getAsJsonObject();
+            for (Map.Entry<String, JsonElement> entry : data.entrySet()) {
+                ArrayList<Long> ids = new ArrayList<>();
+                for (JsonElement badQuestion : entry.getValue().getAsJsonArray()) {
+                    if (badQuestion.isJsonObject()) {
+                        hasOldFlashCards = true;
+                        findOldFlashCardId(badQuestion.getAsJsonObject(), model).ifPresent(ids::add);
+                    } else {
+                        ids.add(badQuestion.getAsLong());
+                    }
+                }
+                map.put(entry.getKey(), ids);
+            }
+        } catch (FileNotFoundException e) {
+            logger.info(FILE_PATH + " not found, starting with no bad questions");
+            return map;
+        } catch (IOException | RuntimeException e) {
+            // the file is in neither format, e.g. because it was edited by hand
+            logger.warning("Could not read " + FILE_PATH + ", starting with no bad questions: " + e);
+            return new HashMap<>();
+        }
+
+        if (hasOldFlashCards) {
+            logger.info("Saving " + FILE_PATH + " with flashcard ids in place of flashcards");
+            writeJson(map);
         }
-        HashMap<String, ArrayList<FlashCard>> map = new HashMap<>();
         return map;
     }
+
+    /**
+     * Returns the id of the flashcard in {@code model} with the same question and answer as the given flashcard,
+     * which was saved in the old format.
+     */
+    private static Optional<Long> findOldFlashCardId(JsonObject oldFlashCard, Model model) {
+        String question = oldFlashCard.getAsJsonObject("question").get("fullQuestion").getAsString();
+        String answer = oldFlashCard.getAsJsonObject("answer").get("fullAnswer").getAsString();
+        Optional<Long> id = model.getFlashCardList().stream()
+                .filter(flashCard -> flashCard.getQuestion().fullQuestion.equals(question)
+                        && flashCard.getAnswer().fullAnswer.equals(answer))
+                .map(FlashCard::getId)
+                .findFirst();
+        if (id.isEmpty()) {
+            logger.info("Dropping bad question that is no longer a flashcard: " + question);
+        }
+        return id;
+    }
 }
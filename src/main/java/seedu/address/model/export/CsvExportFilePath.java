@@ -0,0 +1,73 @@
+//@@author LeowWB
+
+package seedu.address.model.export;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Represents the path to a CSV or TSV export file from its immediate parent directory.
+ * Guarantees: immutable; is valid as declared in {@link #isValid(String)}
+ */
+public class CsvExportFilePath {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "CSV export file path may only consist of alphanumeric characters, spaces, and the following characters:\n"
+                    + "-_![]()\n"
+                    + "It must also end with \".csv\" or \".tsv\".";
+
+    public static final String VALIDATION_REGEX = "[\\w\\-!\\[\\]() ]+\\.[CcTt][Ss][Vv]";
+
+    private final Path path;
+
+    /**
+     * Constructs a {@code CsvExportFilePath}.
+     *
+     * @param csvExportFilePath A valid CSV export file path.
+     */
+    public CsvExportFilePath(String csvExportFilePath) {
+        requireNonNull(csvExportFilePath);
+        checkArgument(isValid(csvExportFilePath), MESSAGE_CONSTRAINTS);
+        path = Paths.get(csvExportFilePath);
+    }
+
+    /**
+     * Returns true if a given string is a valid CSV export file path.
+     */
+    public static boolean isValid(String test) {
+        requireNonNull(test);
+        return test.matches(VALIDATION_REGEX);
+    }
+
+    /**
+     * Returns true if this file path has the ".tsv" extension, i.e. its fields are separated by tabs.
+     */
+    public boolean isTabSeparated() {
+        return path.toString().toLowerCase().endsWith(".tsv");
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public String toString() {
+        return path.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CsvExportFilePath // instanceof handles nulls
+                && path.equals(((CsvExportFilePath) other).path)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return path.hashCode();
+    }
+
+}
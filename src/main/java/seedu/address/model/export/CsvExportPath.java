@@ -0,0 +1,129 @@
+//@@author LeowWB
+
+package seedu.address.model.export;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.flashcard.FlashCard;
+
+/**
+ * Represents the full path to a CSV or TSV export file, including parent directories.
+ * Guarantees: immutable; is valid as declared in {@link #isValid(String)}
+ */
+public class CsvExportPath extends ExportPath {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "CSV export file path may only consist of alphanumeric characters, spaces, and the following characters:\n"
+            + "~\\/-_!:[]()\n"
+            + "It must also end with \".csv\" or \".tsv\".";
+
+    /*
+     * The following characters are allowed (in addition to alphanumeric):
+     * ~\/-_!:[]()
+     * Space is allowed.
+     * Required to end with the String: ".csv" or ".tsv"
+     */
+    public static final String VALIDATION_REGEX = "[.~\\w\\-!:\\[\\]()/\\\\ ]+\\.[CcTt][Ss][Vv]";
+
+    private final DirectoryPath directoryPath;
+    private final CsvExportFilePath csvExportFilePath;
+
+    /**
+     * Constructs a {@code CsvExportPath}.
+     *
+     * @param csvExportPath A valid CSV export path.
+     */
+    public CsvExportPath(String csvExportPath) {
+        requireNonNull(csvExportPath);
+        checkArgument(isValid(csvExportPath), MESSAGE_CONSTRAINTS);
+        this.directoryPath = extractDirectoryPath(csvExportPath);
+        this.csvExportFilePath = extractCsvExportFilePath(csvExportPath);
+    }
+
+    /**
+     * Returns true if a given string is a valid CSV export path.
+     */
+    public static boolean isValid(String test) {
+        requireNonNull(test);
+        return test.matches(VALIDATION_REGEX);
+    }
+
+    /**
+     * Helper method to get the CSV export file path from a given String.
+     *
+     * @param csvExportPathString String representing the full path of a CSV export file
+     * @return CsvExportFilePath representing the path of the CSV export file,
+     * relative to its immediate parent directory
+     */
+    private static CsvExportFilePath extractCsvExportFilePath(String csvExportPathString) {
+        requireNonNull(csvExportPathString);
+
+        return new CsvExportFilePath(
+                ExportPath.extractFilePathNoDirectoryString(csvExportPathString)
+        );
+    }
+
+    /**
+     * Returns the character that separates fields in the file at this path - a tab for ".tsv" files, and a comma
+     * otherwise.
+     */
+    public char getDelimiter() {
+        return csvExportFilePath.isTabSeparated()
+                ? CsvTokenizer.TAB
+                : CsvTokenizer.COMMA;
+    }
+
+    @Override
+    public Path getPath() {
+        Path dirPath = directoryPath.getPath();
+        Path csvFilePath = csvExportFilePath.getPath();
+
+        return dirPath.resolve(csvFilePath);
+    }
+
+    @Override
+    public String toString() {
+        return directoryPath.toString() + File.separator + csvExportFilePath.toString();
+    }
+
+    @Override
+    public void export(List<FlashCard> list) throws IOException {
+        requireNonNull(list);
+
+        try {
+            directoryPath.createIfNotPresent();
+            CsvExportUtil.exportFlashCardsToCsv(list, this);
+        } catch (IOException e) {
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<List<FlashCard>> importFrom() throws DataConversionException {
+        return CsvImportUtil.importFlashCardsFromCsv(
+                this
+        );
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CsvExportPath // instanceof handles nulls
+                && directoryPath.equals(((CsvExportPath) other).directoryPath)
+                && csvExportFilePath.equals(((CsvExportPath) other).csvExportFilePath)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return directoryPath.hashCode() + csvExportFilePath.hashCode();
+    }
+
+}
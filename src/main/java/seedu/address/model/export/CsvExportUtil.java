@@ -0,0 +1,122 @@
+//@@author LeowWB
+
+package seedu.address.model.export;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.flashcard.FlashCard;
+
+/**
+ * Utility class that handles exporting of FlashCards to an external CSV or TSV file.
+ * Each FlashCard is written as one record, with the columns listed in {@link #HEADER}.
+ */
+public class CsvExportUtil {
+
+    public static final List<String> HEADER = Arrays.asList("question", "answer", "rating", "categories");
+
+    /** Separates the category names within the categories column. */
+    public static final String CATEGORY_SEPARATOR = " ";
+
+    private static final String LINE_SEPARATOR = "\r\n";
+    private static final char QUOTE = '"';
+
+    /**
+     * Exports a List of FlashCards to a file at the given CsvExportPath.
+     *
+     * @param cards List of FlashCards
+     * @param csvExportPath CsvExportPath to export the FlashCards to
+     * @throws IOException If an error arises in writing to the File.
+     */
+    public static void exportFlashCardsToCsv(List<FlashCard> cards, CsvExportPath csvExportPath) throws IOException {
+        requireAllNonNull(cards, csvExportPath);
+        assert cards.size() > 0;
+        assert CsvExportPath.isValid(csvExportPath.toString());
+
+        char delimiter = csvExportPath.getDelimiter();
+
+        try (BufferedWriter writer = Files.newBufferedWriter(csvExportPath.getPath(), StandardCharsets.UTF_8)) {
+            writeRecord(writer, HEADER, delimiter);
+            for (FlashCard card : cards) {
+                writeRecord(writer, toRecord(card), delimiter);
+            }
+        }
+    }
+
+    /**
+     * Converts a FlashCard into the list of fields that represents it in a CSV file.
+     */
+    static List<String> toRecord(FlashCard card) {
+        requireNonNull(card);
+
+        String categories = card.getCategories()
+                .stream()
+                .map(category -> category.categoryName)
+                .sorted()
+                .collect(Collectors.joining(CATEGORY_SEPARATOR));
+
+        return Arrays.asList(
+                card.getQuestion().fullQuestion,
+                card.getAnswer().fullAnswer,
+                card.getRating().value,
+                categories
+        );
+    }
+
+    /**
+     * Writes a single record, followed by a line separator.
+     */
+    private static void writeRecord(Writer writer, List<String> fields, char delimiter) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(delimiter);
+            }
+            writeField(writer, fields.get(i), delimiter);
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    /**
+     * Writes a single field, enclosing it in quotes only if it contains a delimiter, quote or line break, or starts or
+     * ends with whitespace, which {@link CsvTokenizer} would otherwise drop.
+     */
+    private static void writeField(Writer writer, String field, char delimiter) throws IOException {
+        if (!isQuotingRequired(field, delimiter)) {
+            writer.write(field);
+            return;
+        }
+
+        writer.write(QUOTE);
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == QUOTE) {
+                writer.write(QUOTE);
+            }
+            writer.write(c);
+        }
+        writer.write(QUOTE);
+    }
+
+    private static boolean isQuotingRequired(String field, char delimiter) {
+        if (!field.isEmpty() && (Character.isWhitespace(field.charAt(0))
+                || Character.isWhitespace(field.charAt(field.length() - 1)))) {
+            return true;
+        }
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == delimiter || c == QUOTE || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,165 @@
+//@@author LeowWB
+
+package seedu.address.model.export;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.FileUtil.isFileExists;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.category.Category;
+import seedu.address.model.flashcard.Answer;
+import seedu.address.model.flashcard.FlashCard;
+import seedu.address.model.flashcard.Question;
+import seedu.address.model.flashcard.Rating;
+
+/**
+ * Utility class that handles importing of FlashCards from an external CSV or TSV file.
+ * The columns are expected in the order given by {@link CsvExportUtil#HEADER}. Only the question and answer columns
+ * are mandatory, and the header row itself is optional.
+ * <p>
+ * A quoted field may span several lines, but questions and answers are single lines, so the line breaks in a question
+ * or answer are folded into single spaces.
+ */
+public class CsvImportUtil {
+
+    public static final String MESSAGE_MISSING_FIELDS = "Record %d must contain at least a question and an answer.";
+    public static final String MESSAGE_INVALID_RECORD = "Record %d is invalid: %s";
+
+    private static final int QUESTION_COLUMN = 0;
+    private static final int ANSWER_COLUMN = 1;
+    private static final int RATING_COLUMN = 2;
+    private static final int CATEGORIES_COLUMN = 3;
+
+    private static final Pattern LINE_BREAK = Pattern.compile("\\s*[\\r\\n]\\s*");
+    private static final Pattern LEADING_OR_TRAILING_LINE_BREAK =
+            Pattern.compile("^\\s*[\\r\\n]\\s*|\\s*[\\r\\n]\\s*$");
+
+    /**
+     * Imports a List of FlashCards from a file at the given CsvExportPath.
+     *
+     * @param csvExportPath Path of the file to import from
+     * @return Optional List of FlashCards that were imported from the given file. Empty if there is no such file.
+     * @throws DataConversionException If there is an error in reading or converting the data from the file
+     */
+    public static Optional<List<FlashCard>> importFlashCardsFromCsv(CsvExportPath csvExportPath)
+            throws DataConversionException {
+
+        requireNonNull(csvExportPath);
+        assert CsvExportPath.isValid(csvExportPath.toString());
+
+        if (!isFileExists(csvExportPath.getPath())) {
+            return Optional.empty();
+        }
+
+        try (Reader reader = Files.newBufferedReader(csvExportPath.getPath(), StandardCharsets.UTF_8)) {
+            return Optional.of(
+                    readFlashCards(
+                            new CsvTokenizer(reader, csvExportPath.getDelimiter())
+                    )
+            );
+        } catch (IOException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads every remaining record from the given tokenizer, converting each into a FlashCard. Blank lines and a
+     * leading header row are skipped.
+     */
+    static List<FlashCard> readFlashCards(CsvTokenizer tokenizer) throws IOException, IllegalValueException {
+        requireNonNull(tokenizer);
+
+        List<FlashCard> flashCards = new ArrayList<>();
+        int recordNumber = 0;
+
+        for (List<String> record = tokenizer.nextRecord(); record != null; record = tokenizer.nextRecord()) {
+            recordNumber++;
+            if (isBlank(record) || (recordNumber == 1 && isHeader(record))) {
+                continue;
+            }
+            flashCards.add(toFlashCard(record, recordNumber));
+        }
+
+        return flashCards;
+    }
+
+    /**
+     * Converts a single record into a FlashCard.
+     *
+     * @param record Fields of the record, in the order given by {@link CsvExportUtil#HEADER}
+     * @param recordNumber One-based position of the record in the file, for use in error messages
+     * @throws IllegalValueException If the record is missing fields, or any of its fields are invalid
+     */
+    private static FlashCard toFlashCard(List<String> record, int recordNumber) throws IllegalValueException {
+        if (record.size() <= ANSWER_COLUMN) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELDS, recordNumber));
+        }
+
+        String question = foldLines(record.get(QUESTION_COLUMN));
+        String answer = foldLines(record.get(ANSWER_COLUMN));
+        String rating = getOptionalField(record, RATING_COLUMN, Rating.NULL);
+        String categories = getOptionalField(record, CATEGORIES_COLUMN, "");
+
+        try {
+            return new FlashCard(
+                    new Question(question),
+                    new Answer(answer),
+                    new Rating(rating),
+                    parseCategories(categories)
+            );
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, recordNumber, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Replaces every line break in {@code field}, along with the whitespace around it, with a single space. Line
+     * breaks at the start or end of the field are removed instead.
+     */
+    private static String foldLines(String field) {
+        if (field.indexOf('\n') < 0 && field.indexOf('\r') < 0) {
+            return field;
+        }
+        String withoutOuterLineBreaks = LEADING_OR_TRAILING_LINE_BREAK.matcher(field).replaceAll("");
+        return LINE_BREAK.matcher(withoutOuterLineBreaks).replaceAll(" ");
+    }
+
+    private static String getOptionalField(List<String> record, int column, String defaultValue) {
+        if (record.size() <= column || record.get(column).isBlank()) {
+            return defaultValue;
+        }
+        return record.get(column).trim();
+    }
+
+    private static Set<Category> parseCategories(String categories) {
+        Set<Category> categorySet = new HashSet<>();
+        for (String categoryName : categories.trim().split("\\s+")) {
+            if (!categoryName.isEmpty()) {
+                categorySet.add(new Category(categoryName));
+            }
+        }
+        return categorySet;
+    }
+
+    private static boolean isBlank(List<String> record) {
+        return record.size() == 1 && record.get(0).isBlank();
+    }
+
+    private static boolean isHeader(List<String> record) {
+        return record.size() >= 2
+                && record.get(QUESTION_COLUMN).equalsIgnoreCase(CsvExportUtil.HEADER.get(QUESTION_COLUMN))
+                && record.get(ANSWER_COLUMN).equalsIgnoreCase(CsvExportUtil.HEADER.get(ANSWER_COLUMN));
+    }
+}
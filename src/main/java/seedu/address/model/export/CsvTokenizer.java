@@ -0,0 +1,169 @@
+//@@author LeowWB
+
+package seedu.address.model.export;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Streaming tokenizer for delimiter-separated files, following the quoting rules of RFC 4180.
+ * Fields may be enclosed in double quotes, in which case they may contain delimiters, line breaks, and escaped
+ * double quotes ({@code ""}). Both {@code \n} and {@code \r\n} are accepted as record terminators.
+ * Spaces and tabs around an unquoted field, or around the quotes of a quoted field, are not part of the field, so
+ * that a hand-written {@code question, answer} reads the same as {@code question,answer}.
+ *
+ * Records are read one at a time into a List that is reused between calls, so callers that need to hold on to a
+ * record must copy it.
+ */
+public class CsvTokenizer {
+
+    public static final char COMMA = ',';
+    public static final char TAB = '\t';
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "Record %d has a quoted field that is never closed.";
+    public static final String MESSAGE_MISPLACED_QUOTE = "Record %d has a stray character after a closing quote.";
+
+    private static final char QUOTE = '"';
+    private static final char CR = '\r';
+    private static final char LF = '\n';
+    private static final char SPACE = ' ';
+    private static final int END_OF_STREAM = -1;
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final char delimiter;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder field = new StringBuilder();
+    private final List<String> record = new ArrayList<>();
+
+    private int bufferLength = 0;
+    private int bufferPosition = 0;
+    private int recordCount = 0;
+    private boolean isFieldQuoted = false;
+
+    /**
+     * Constructs a {@code CsvTokenizer} that reads from the given Reader.
+     *
+     * @param reader Reader to tokenize. This class does its own buffering, so it need not be buffered.
+     * @param delimiter Character that separates fields within a record.
+     */
+    public CsvTokenizer(Reader reader, char delimiter) {
+        requireNonNull(reader);
+        assert delimiter != QUOTE && delimiter != CR && delimiter != LF;
+
+        this.reader = reader;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Reads the next record from the underlying Reader.
+     *
+     * @return List of the fields in the next record, or null if the end of the stream has been reached. The returned
+     * List is reused by subsequent calls to this method.
+     * @throws IOException If there is an error in reading from the underlying Reader.
+     * @throws IllegalValueException If the record is not correctly quoted.
+     */
+    public List<String> nextRecord() throws IOException, IllegalValueException {
+        record.clear();
+        field.setLength(0);
+        isFieldQuoted = false;
+
+        int c = read();
+        if (c == END_OF_STREAM) {
+            return null;
+        }
+
+        recordCount++;
+        boolean isQuoted = false;
+        boolean isAfterClosingQuote = false;
+
+        while (true) {
+            if (isQuoted) {
+                if (c == END_OF_STREAM) {
+                    throw new IllegalValueException(String.format(MESSAGE_UNTERMINATED_QUOTE, recordCount));
+                } else if (c != QUOTE) {
+                    field.append((char) c);
+                } else if (peek() == QUOTE) {
+                    read();
+                    field.append(QUOTE);
+                } else {
+                    isQuoted = false;
+                    isAfterClosingQuote = true;
+                }
+            } else if (c == delimiter) {
+                endField();
+                isAfterClosingQuote = false;
+            } else if (c == LF || c == END_OF_STREAM) {
+                break;
+            } else if (c == CR && peek() == LF) {
+                read();
+                break;
+            } else if (isBlank(c) && (isAfterClosingQuote || field.length() == 0)) {
+                // whitespace around the field is skipped; whitespace after an unquoted field is removed in endField
+            } else if (isAfterClosingQuote) {
+                throw new IllegalValueException(String.format(MESSAGE_MISPLACED_QUOTE, recordCount));
+            } else if (c == QUOTE && field.length() == 0) {
+                isQuoted = true;
+                isFieldQuoted = true;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+
+        endField();
+        return record;
+    }
+
+    private void endField() {
+        if (!isFieldQuoted) {
+            while (field.length() > 0 && isBlank(field.charAt(field.length() - 1))) {
+                field.setLength(field.length() - 1);
+            }
+        }
+        record.add(field.toString());
+        field.setLength(0);
+        isFieldQuoted = false;
+    }
+
+    private boolean isBlank(int c) {
+        return c != delimiter && (c == SPACE || c == TAB);
+    }
+
+    private int read() throws IOException {
+        if (!fillBufferIfExhausted()) {
+            return END_OF_STREAM;
+        }
+        return buffer[bufferPosition++];
+    }
+
+    private int peek() throws IOException {
+        if (!fillBufferIfExhausted()) {
+            return END_OF_STREAM;
+        }
+        return buffer[bufferPosition];
+    }
+
+    /**
+     * Refills the buffer from the underlying Reader if every character in it has been consumed.
+     *
+     * @return False if the end of the stream has been reached; true otherwise.
+     */
+    private boolean fillBufferIfExhausted() throws IOException {
+        while (bufferPosition >= bufferLength) {
+            bufferLength = reader.read(buffer, 0, BUFFER_SIZE);
+            bufferPosition = 0;
+            if (bufferLength == END_OF_STREAM) {
+                bufferLength = 0;
+                return false;
+            }
+        }
+        return true;
+    }
+}
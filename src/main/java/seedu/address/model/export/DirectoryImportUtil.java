@@ -0,0 +1,143 @@
+//@@author LeowWB
+
+package seedu.address.model.export;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.flashcard.FlashCard;
+
+/**
+ * Utility class that handles importing of FlashCards from every supported file in a directory.
+ *
+ * The files are read concurrently, on a pool of at most {@link #MAX_WORKER_COUNT} threads. Reading a file does not
+ * touch the Model, so the caller is free to add all of the FlashCards read to the Model in a single batch afterwards.
+ */
+public class DirectoryImportUtil {
+
+    public static final int MAX_WORKER_COUNT = 4;
+
+    public static final String MESSAGE_FILE_NOT_FOUND = "The file could not be found.";
+    public static final String MESSAGE_DATA_CONVERSION_EXCEPTION =
+            "The file could not be read. Perhaps it was corrupted?";
+
+    /**
+     * Finds every file directly within the given directory that FlashCards can be imported from, in order of file
+     * name. Files without a supported extension, and files whose names contain characters that are not allowed in
+     * an {@code ExportPath}, are ignored.
+     *
+     * Patch files are ignored as well, since the outcome of applying several patches depends on the order in which
+     * they are applied.
+     *
+     * @param directoryPath Directory to search
+     * @return List of the ExportPaths of the files found
+     * @throws IOException If there is an error in reading the contents of the directory
+     */
+    public static List<ExportPath> findImportablePaths(DirectoryPath directoryPath) throws IOException {
+        requireNonNull(directoryPath);
+
+        try (Stream<Path> files = Files.list(directoryPath.getPath())) {
+            return files
+                    .filter(Files::isRegularFile)
+                    .map(Path::toString)
+                    .filter(ExportPathFactory::isValid)
+                    .sorted()
+                    .map(ExportPathFactory::getExportPath)
+                    .filter(exportPath -> !(exportPath instanceof PatchExportPath))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Imports FlashCards from every supported file in the given directory.
+     *
+     * @param directoryPath Directory to import from
+     * @return List containing the outcome of reading each file, in the same order as
+     * {@link #findImportablePaths(DirectoryPath)}. A file that cannot be read does not stop the others from being read.
+     * @throws IOException If there is an error in reading the contents of the directory
+     * @throws InterruptedException If the current thread is interrupted while waiting for the files to be read
+     */
+    public static List<FileImportResult> importFlashCardsFromDirectory(DirectoryPath directoryPath)
+            throws IOException, InterruptedException {
+        requireNonNull(directoryPath);
+
+        List<ExportPath> exportPaths = findImportablePaths(directoryPath);
+        if (exportPaths.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        int workerCount = Math.min(
+                exportPaths.size(),
+                Math.min(MAX_WORKER_COUNT, Runtime.getRuntime().availableProcessors())
+        );
+        ExecutorService workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "directory-import");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Callable<FileImportResult>> tasks = exportPaths.stream()
+                    .map(exportPath -> (Callable<FileImportResult>) () -> importFlashCardsFromFile(exportPath))
+                    .collect(Collectors.toList());
+            List<Future<FileImportResult>> futures = workers.invokeAll(tasks);
+
+            List<FileImportResult> results = new ArrayList<>();
+            for (int i = 0; i < futures.size(); i++) {
+                results.add(getResult(futures.get(i), exportPaths.get(i)));
+            }
+            return results;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Imports FlashCards from a single file, timing how long it takes. Any error in doing so is recorded in the
+     * returned result rather than thrown.
+     */
+    static FileImportResult importFlashCardsFromFile(ExportPath exportPath) {
+        requireNonNull(exportPath);
+        long startTime = System.nanoTime();
+
+        try {
+            Optional<List<FlashCard>> flashCards = exportPath.importFrom();
+            long elapsedMillis = elapsedMillisSince(startTime);
+
+            return flashCards
+                    .map(list -> FileImportResult.success(exportPath, list, elapsedMillis))
+                    .orElseGet(() -> FileImportResult.failure(exportPath, MESSAGE_FILE_NOT_FOUND, elapsedMillis));
+        } catch (DataConversionException e) {
+            return FileImportResult.failure(
+                    exportPath, MESSAGE_DATA_CONVERSION_EXCEPTION, elapsedMillisSince(startTime));
+        }
+    }
+
+    private static FileImportResult getResult(Future<FileImportResult> future, ExportPath exportPath)
+            throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            return FileImportResult.failure(exportPath, String.valueOf(e.getCause().getMessage()), 0);
+        }
+    }
+
+    private static long elapsedMillisSince(long startTime) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    }
+}
@@ -0,0 +1,187 @@
+//@@author LeowWB
+
+package seedu.address.model.export;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.FileUtil.isFileExists;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.flashcard.Answer;
+import seedu.address.model.flashcard.FlashCard;
+import seedu.address.model.flashcard.Question;
+import seedu.address.model.flashcard.Rating;
+
+/**
+ * Utility class that handles importing of FlashCards from an external document file.
+ * Expects the layout written by {@link DocumentExportUtil}: one paragraph per FlashCard, with the question in bold,
+ * followed by the answer in plain text.
+ *
+ * The document body is read with a streaming XML parser rather than being loaded into a full document model, so
+ * memory use does not grow with the size of the document (other than for the imported FlashCards themselves).
+ */
+public class DocumentImportUtil {
+
+    public static final String MESSAGE_MISSING_DOCUMENT_BODY = "The file does not contain a document body.";
+    public static final String MESSAGE_INVALID_PARAGRAPH = "Paragraph %d is not a valid FlashCard: %s";
+
+    private static final String DOCUMENT_ENTRY_NAME = "word/document.xml";
+    private static final String WORDPROCESSINGML_NAMESPACE =
+            "http://schemas.openxmlformats.org/wordprocessingml/2006/main";
+
+    private static final String PARAGRAPH = "p";
+    private static final String RUN = "r";
+    private static final String BOLD = "b";
+    private static final String TEXT = "t";
+    private static final String TAB = "tab";
+    private static final String VALUE = "val";
+
+    private static final List<String> FALSE_VALUES = List.of("false", "0", "off");
+
+    /**
+     * Imports a List of FlashCards from a file at the given DocumentPath.
+     *
+     * @param documentPath Path of the file to import from
+     * @return Optional List of FlashCards that were imported from the given file. Empty if there is no such file.
+     * @throws DataConversionException If there is an error in reading or converting the data from the file
+     */
+    public static Optional<List<FlashCard>> importFlashCardsFromDocument(DocumentPath documentPath)
+            throws DataConversionException {
+
+        requireNonNull(documentPath);
+        assert DocumentPath.isValid(documentPath.toString());
+
+        if (!isFileExists(documentPath.getPath())) {
+            return Optional.empty();
+        }
+
+        try (ZipFile docx = new ZipFile(documentPath.getPath().toFile())) {
+            ZipEntry documentEntry = docx.getEntry(DOCUMENT_ENTRY_NAME);
+            if (documentEntry == null) {
+                throw new IllegalValueException(MESSAGE_MISSING_DOCUMENT_BODY);
+            }
+
+            try (InputStream documentXml = docx.getInputStream(documentEntry)) {
+                return Optional.of(readFlashCards(documentXml));
+            }
+        } catch (IOException | XMLStreamException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads FlashCards from the XML body of a document. Paragraphs that lack either a question or an answer
+     * (e.g. blank lines) are skipped.
+     *
+     * @param documentXml Stream containing the contents of {@code word/document.xml}
+     * @return List of the FlashCards found in the document, in order of appearance
+     */
+    static List<FlashCard> readFlashCards(InputStream documentXml) throws XMLStreamException, IllegalValueException {
+        requireNonNull(documentXml);
+
+        XMLStreamReader reader = createXmlInputFactory().createXMLStreamReader(documentXml);
+        List<FlashCard> flashCards = new ArrayList<>();
+
+        StringBuilder question = new StringBuilder();
+        StringBuilder answer = new StringBuilder();
+        boolean isInText = false;
+        boolean isBoldRun = false;
+        int paragraphNumber = 0;
+
+        try {
+            while (reader.hasNext()) {
+                int event = reader.next();
+
+                if (event == XMLStreamConstants.START_ELEMENT && isWordElement(reader)) {
+                    switch (reader.getLocalName()) {
+                    case PARAGRAPH:
+                        paragraphNumber++;
+                        question.setLength(0);
+                        answer.setLength(0);
+                        break;
+                    case RUN:
+                        isBoldRun = false;
+                        break;
+                    case BOLD:
+                        isBoldRun = isOn(reader.getAttributeValue(WORDPROCESSINGML_NAMESPACE, VALUE));
+                        break;
+                    case TEXT:
+                        isInText = true;
+                        break;
+                    case TAB:
+                        (isBoldRun ? question : answer).append('\t');
+                        break;
+                    default:
+                        break;
+                    }
+                } else if (event == XMLStreamConstants.CHARACTERS && isInText) {
+                    (isBoldRun ? question : answer).append(reader.getText());
+                } else if (event == XMLStreamConstants.END_ELEMENT && isWordElement(reader)) {
+                    if (TEXT.equals(reader.getLocalName())) {
+                        isInText = false;
+                    } else if (PARAGRAPH.equals(reader.getLocalName()) && question.length() > 0
+                            && answer.length() > 0) {
+                        flashCards.add(toFlashCard(question.toString(), answer.toString(), paragraphNumber));
+                    }
+                }
+            }
+        } finally {
+            reader.close();
+        }
+
+        return flashCards;
+    }
+
+    private static FlashCard toFlashCard(String question, String answer, int paragraphNumber)
+            throws IllegalValueException {
+        try {
+            return new FlashCard(
+                    new Question(question),
+                    new Answer(answer),
+                    new Rating(Rating.NULL),
+                    Collections.emptySet()
+            );
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(
+                    String.format(MESSAGE_INVALID_PARAGRAPH, paragraphNumber, e.getMessage()), e);
+        }
+    }
+
+    private static boolean isWordElement(XMLStreamReader reader) {
+        return WORDPROCESSINGML_NAMESPACE.equals(reader.getNamespaceURI());
+    }
+
+    /**
+     * Returns true if the given value of an on/off property (such as bold) means "on". An absent value means "on".
+     */
+    private static boolean isOn(String value) {
+        return value == null || !FALSE_VALUES.contains(value.toLowerCase());
+    }
+
+    /**
+     * Creates an XMLInputFactory that does not resolve DTDs or external entities, since imported files may come
+     * from untrusted sources.
+     */
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+}
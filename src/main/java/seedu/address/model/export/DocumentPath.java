@@ -11,6 +11,7 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.flashcard.FlashCard;
 
 /**
@@ -108,9 +109,9 @@ public class DocumentPath extends ExportPath {
     }
 
     @Override
-    public Optional<List<FlashCard>> importFrom() throws UnsupportedOperationException {
-        throw new UnsupportedOperationException(
-                "Importing from document file is not supported."
+    public Optional<List<FlashCard>> importFrom() throws DataConversionException {
+        return DocumentImportUtil.importFlashCardsFromDocument(
+                this
         );
     }
 }
@@ -0,0 +1,287 @@
+//@@author LeowWB
+
+package seedu.address.model.export;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.category.Category;
+import seedu.address.model.flashcard.FlashCard;
+import seedu.address.model.flashcard.UniqueFlashCardList;
+
+/**
+ * Tracks what has changed in a collection of {@code FlashCard}s since each incremental export, so that an incremental
+ * export only has to write the {@code FlashCard}s that were added, edited or removed since the previous one.
+ *
+ * Every change to the exportable content of a FlashCard (its question, answer or categories) stamps it with a new
+ * version number, taken from a counter that only ever increases. Ratings are never exported, so a change of rating
+ * alone does not count as a change. Each export path has a watermark: the version that was current when that path was
+ * last exported to. The FlashCards with versions above a path's watermark are exactly the ones that have changed since.
+ *
+ * Removed FlashCards are remembered (as tombstones) for as long as some watermark is older than their removal, so that
+ * their removal can be exported too.
+ */
+public class ExportHistory {
+
+    private final Map<List<Object>, Long> versions = new HashMap<>();
+    private final Map<List<Object>, VersionedFlashCard> removed = new HashMap<>();
+    private final Map<String, Watermark> watermarks = new HashMap<>();
+    private long currentVersion = 0;
+
+    public ExportHistory() {}
+
+    /**
+     * Creates an ExportHistory with the same state as {@code toBeCopied}.
+     */
+    public ExportHistory(ExportHistory toBeCopied) {
+        requireNonNull(toBeCopied);
+
+        versions.putAll(toBeCopied.versions);
+        removed.putAll(toBeCopied.removed);
+        watermarks.putAll(toBeCopied.watermarks);
+        currentVersion = toBeCopied.currentVersion;
+    }
+
+    public long getCurrentVersion() {
+        return currentVersion;
+    }
+
+    /**
+     * Returns the version of the given FlashCard, or 0 if it has not been stamped with one.
+     */
+    public long getVersion(FlashCard flashCard) {
+        requireNonNull(flashCard);
+        return versions.getOrDefault(UniqueFlashCardList.identityOf(flashCard), 0L);
+    }
+
+    /**
+     * Returns the removed FlashCards that are still being remembered, along with the versions they were removed at.
+     */
+    public List<VersionedFlashCard> getRemovedFlashCards() {
+        return new ArrayList<>(removed.values());
+    }
+
+    /**
+     * Returns the watermarks of every path that has been incrementally exported to, keyed by absolute path.
+     */
+    public Map<String, Watermark> getWatermarks() {
+        return Collections.unmodifiableMap(watermarks);
+    }
+
+    //// recording of changes
+
+    /**
+     * Records that {@code flashCard} was added.
+     */
+    public void recordAdded(FlashCard flashCard) {
+        requireNonNull(flashCard);
+        versions.put(UniqueFlashCardList.identityOf(flashCard), ++currentVersion);
+    }
+
+    /**
+     * Records that {@code flashCard} was removed.
+     */
+    public void recordRemoved(FlashCard flashCard) {
+        requireNonNull(flashCard);
+
+        versions.remove(UniqueFlashCardList.identityOf(flashCard));
+        rememberRemoved(flashCard, ++currentVersion);
+    }
+
+    /**
+     * Records that {@code target} was replaced by {@code editedFlashCard}. If only the rating has changed, nothing is
+     * recorded.
+     */
+    public void recordEdited(FlashCard target, FlashCard editedFlashCard) {
+        requireAllNonNull(target, editedFlashCard);
+
+        if (target.isSameFlashCard(editedFlashCard) && target.getCategories().equals(editedFlashCard.getCategories())) {
+            return;
+        }
+
+        versions.remove(UniqueFlashCardList.identityOf(target));
+        rememberRemoved(target, ++currentVersion);
+        versions.put(UniqueFlashCardList.identityOf(editedFlashCard), currentVersion);
+    }
+
+    /**
+     * Records that the FlashCards {@code oldFlashCards} were replaced wholesale by {@code newFlashCards}. FlashCards
+     * that appear unchanged in both lists keep their versions.
+     */
+    public void recordReplaced(List<FlashCard> oldFlashCards, List<FlashCard> newFlashCards) {
+        requireAllNonNull(oldFlashCards, newFlashCards);
+
+        Set<FlashCard> unchanged = new HashSet<>(oldFlashCards);
+        unchanged.retainAll(newFlashCards);
+
+        for (FlashCard flashCard : oldFlashCards) {
+            if (!unchanged.contains(flashCard)) {
+                recordRemoved(flashCard);
+            }
+        }
+        for (FlashCard flashCard : newFlashCards) {
+            if (!unchanged.contains(flashCard)) {
+                recordAdded(flashCard);
+            }
+        }
+    }
+
+    private void rememberRemoved(FlashCard flashCard, long version) {
+        // nothing can be exported incrementally before some path has a watermark, so there is no need to remember
+        if (watermarks.isEmpty()) {
+            return;
+        }
+
+        List<Object> identity = UniqueFlashCardList.identityOf(flashCard);
+        VersionedFlashCard previouslyRemoved = removed.get(identity);
+        if (previouslyRemoved != null) {
+            // the removal must reach every category that this FlashCard has been exported under
+            Set<Category> categories = new HashSet<>(flashCard.getCategories());
+            categories.addAll(previouslyRemoved.flashCard.getCategories());
+            flashCard = new FlashCard(flashCard.getId(),
+                    flashCard.getQuestion(), flashCard.getAnswer(), flashCard.getRating(), categories);
+        }
+        removed.put(identity, new VersionedFlashCard(flashCard, version));
+    }
+
+    //// incremental export
+
+    /**
+     * Returns the watermark of the given path, if it has been incrementally exported to before.
+     */
+    public Optional<Watermark> getWatermark(Path exportPath) {
+        requireNonNull(exportPath);
+        return Optional.ofNullable(watermarks.get(toKey(exportPath)));
+    }
+
+    /**
+     * Computes the changes to the FlashCards of the given {@code Category} since the given path was last exported to.
+     * If the path has never been exported to, or was last exported to with a different category, every FlashCard in
+     * the category is included, and no removals are.
+     *
+     * @param flashCards Every FlashCard currently present
+     * @param category Category being exported
+     * @param exportPath Path being exported to
+     * @return FlashCardPatch that brings the previous export at this path up to date
+     */
+    public FlashCardPatch getPatch(List<FlashCard> flashCards, Category category, Path exportPath) {
+        requireAllNonNull(flashCards, category, exportPath);
+
+        Optional<Watermark> watermark = getWatermark(exportPath)
+                .filter(mark -> mark.category.equals(category));
+        long fromVersion = watermark.map(mark -> mark.version).orElse(0L);
+
+        List<FlashCard> upserts = new ArrayList<>();
+        Set<List<Object>> presentIdentities = new HashSet<>();
+        for (FlashCard flashCard : flashCards) {
+            if (!flashCard.getCategories().contains(category)) {
+                continue;
+            }
+            presentIdentities.add(UniqueFlashCardList.identityOf(flashCard));
+            if (watermark.isEmpty() || getVersion(flashCard) > fromVersion) {
+                upserts.add(flashCard);
+            }
+        }
+
+        List<FlashCard> removals = new ArrayList<>();
+        if (watermark.isPresent()) {
+            for (VersionedFlashCard removedFlashCard : removed.values()) {
+                FlashCard flashCard = removedFlashCard.flashCard;
+                if (removedFlashCard.version > fromVersion
+                        && flashCard.getCategories().contains(category)
+                        && !presentIdentities.contains(UniqueFlashCardList.identityOf(flashCard))) {
+                    removals.add(flashCard);
+                }
+            }
+        }
+
+        return new FlashCardPatch(fromVersion, currentVersion, upserts, removals);
+    }
+
+    /**
+     * Records that {@code patch} was exported to the given path with the given {@code Category}, so that the next
+     * incremental export to the path starts from where {@code patch} ended.
+     */
+    public void setWatermark(Path exportPath, Category category, FlashCardPatch patch) {
+        requireAllNonNull(exportPath, category, patch);
+
+        watermarks.put(toKey(exportPath), new Watermark(category, patch.getToVersion()));
+        forgetRemovedBefore(watermarks.values().stream().mapToLong(mark -> mark.version).min().getAsLong());
+    }
+
+    /**
+     * Forgets about removals at or before the given version, since every watermark has already moved past them.
+     */
+    private void forgetRemovedBefore(long version) {
+        removed.values().removeIf(removedFlashCard -> removedFlashCard.version <= version);
+    }
+
+    //// restoring from storage
+
+    /**
+     * Restores the version of a FlashCard, as read from storage.
+     */
+    public void restoreVersion(FlashCard flashCard, long version) {
+        requireNonNull(flashCard);
+        versions.put(UniqueFlashCardList.identityOf(flashCard), version);
+        currentVersion = Math.max(currentVersion, version);
+    }
+
+    /**
+     * Restores a removed FlashCard, as read from storage.
+     */
+    public void restoreRemoved(FlashCard flashCard, long version) {
+        requireNonNull(flashCard);
+        removed.put(UniqueFlashCardList.identityOf(flashCard), new VersionedFlashCard(flashCard, version));
+        currentVersion = Math.max(currentVersion, version);
+    }
+
+    /**
+     * Restores the watermark of a path, as read from storage.
+     */
+    public void restoreWatermark(String exportPath, Category category, long version) {
+        requireAllNonNull(exportPath, category);
+        watermarks.put(exportPath, new Watermark(category, version));
+        currentVersion = Math.max(currentVersion, version);
+    }
+
+    private static String toKey(Path exportPath) {
+        return exportPath.toAbsolutePath().normalize().toString();
+    }
+
+    /**
+     * The point up to which an export path has been brought up to date, and the category it was exported with.
+     */
+    public static class Watermark {
+        public final Category category;
+        public final long version;
+
+        Watermark(Category category, long version) {
+            this.category = category;
+            this.version = version;
+        }
+    }
+
+    /**
+     * A FlashCard together with the version at which it was last changed.
+     */
+    public static class VersionedFlashCard {
+        public final FlashCard flashCard;
+        public final long version;
+
+        VersionedFlashCard(FlashCard flashCard, long version) {
+            this.flashCard = flashCard;
+            this.version = version;
+        }
+    }
+}
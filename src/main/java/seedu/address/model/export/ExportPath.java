@@ -24,8 +24,7 @@ import seedu.address.model.flashcard.FlashCard;
 public abstract class ExportPath {
     public abstract Path getPath();
     public abstract void export(List<FlashCard> list) throws IOException;
-    public abstract Optional<List<FlashCard>> importFrom()
-            throws DataConversionException, UnsupportedOperationException;
+    public abstract Optional<List<FlashCard>> importFrom() throws DataConversionException;
 
     /**
      * Helper method to get the directory path from a given String.
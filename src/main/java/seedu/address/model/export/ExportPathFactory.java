@@ -13,7 +13,18 @@ public class ExportPathFactory {
             + "File paths must consist entirely of alphanumeric characters, spaces, and the following:\n"
             + "~\\/-_!:[]()\n"
             + "It must also have one of the following extensions:\n"
-            + "'.docx', '.json'";
+            + "'.docx', '.json', '.csv', '.tsv', '.patch'";
+
+    /**
+     * Returns true if a given string matches the format of any of the ExportPaths.
+     */
+    public static boolean isValid(String test) {
+        requireNonNull(test);
+        return DocumentPath.isValid(test)
+                || JsonExportPath.isValid(test)
+                || CsvExportPath.isValid(test)
+                || PatchExportPath.isValid(test);
+    }
 
     /**
      * Creates an {@code ExportPath} from a given String.
@@ -29,6 +40,10 @@ public class ExportPathFactory {
             return new DocumentPath(exportPath);
         } else if (JsonExportPath.isValid(exportPath)) {
             return new JsonExportPath(exportPath);
+        } else if (CsvExportPath.isValid(exportPath)) {
+            return new CsvExportPath(exportPath);
+        } else if (PatchExportPath.isValid(exportPath)) {
+            return new PatchExportPath(exportPath);
         } else {
             throw new IllegalArgumentException(MESSAGE_ILLEGAL_PATH);
         }
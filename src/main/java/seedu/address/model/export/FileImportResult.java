@@ -0,0 +1,98 @@
+//@@author LeowWB
+
+package seedu.address.model.export;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.flashcard.FlashCard;
+
+/**
+ * Represents the outcome of importing {@code FlashCard}s from a single file, as part of importing a whole directory.
+ * Either the import succeeded, in which case the FlashCards read are present, or it failed, in which case the reason
+ * is present.
+ * Guarantees: immutable
+ */
+public class FileImportResult {
+
+    private final ExportPath exportPath;
+    private final List<FlashCard> flashCards;
+    private final String errorMessage;
+    private final long elapsedMillis;
+
+    private FileImportResult(ExportPath exportPath, List<FlashCard> flashCards, String errorMessage,
+                             long elapsedMillis) {
+        requireNonNull(exportPath);
+        assert (flashCards == null) != (errorMessage == null);
+        assert elapsedMillis >= 0;
+
+        this.exportPath = exportPath;
+        this.flashCards = flashCards == null ? null : Collections.unmodifiableList(flashCards);
+        this.errorMessage = errorMessage;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Creates a FileImportResult for a file that was read successfully.
+     */
+    public static FileImportResult success(ExportPath exportPath, List<FlashCard> flashCards, long elapsedMillis) {
+        requireNonNull(flashCards);
+        return new FileImportResult(exportPath, flashCards, null, elapsedMillis);
+    }
+
+    /**
+     * Creates a FileImportResult for a file that could not be read.
+     */
+    public static FileImportResult failure(ExportPath exportPath, String errorMessage, long elapsedMillis) {
+        requireNonNull(errorMessage);
+        return new FileImportResult(exportPath, null, errorMessage, elapsedMillis);
+    }
+
+    public ExportPath getExportPath() {
+        return exportPath;
+    }
+
+    public boolean isSuccessful() {
+        return flashCards != null;
+    }
+
+    /**
+     * Returns the FlashCards read from the file. Empty if the file could not be read.
+     */
+    public List<FlashCard> getFlashCards() {
+        return flashCards == null ? Collections.emptyList() : flashCards;
+    }
+
+    public Optional<String> getErrorMessage() {
+        return Optional.ofNullable(errorMessage);
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Returns the name of the file, without its parent directories.
+     */
+    public String getFileName() {
+        return exportPath.getPath().getFileName().toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FileImportResult // instanceof handles nulls
+                && exportPath.equals(((FileImportResult) other).exportPath)
+                && getFlashCards().equals(((FileImportResult) other).getFlashCards())
+                && getErrorMessage().equals(((FileImportResult) other).getErrorMessage())
+                && elapsedMillis == ((FileImportResult) other).elapsedMillis); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return exportPath.hashCode() + getFlashCards().hashCode();
+    }
+}
@@ -0,0 +1,103 @@
+//@@author LeowWB
+
+package seedu.address.model.export;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import seedu.address.model.flashcard.FlashCard;
+
+/**
+ * Represents the changes made to a collection of {@code FlashCard}s between two versions, as written by an incremental
+ * export. Applying a patch adds the FlashCards in {@link #getUpserts()} that are not yet present, and removes those
+ * matching the FlashCards in {@link #getRemovals()}. Applying the same patch twice has the same effect as applying it
+ * once.
+ * Guarantees: immutable
+ */
+public class FlashCardPatch {
+
+    private final long fromVersion;
+    private final long toVersion;
+    private final List<FlashCard> upserts;
+    private final List<FlashCard> removals;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public FlashCardPatch(long fromVersion, long toVersion, List<FlashCard> upserts, List<FlashCard> removals) {
+        requireAllNonNull(upserts, removals);
+        assert fromVersion <= toVersion;
+
+        this.fromVersion = fromVersion;
+        this.toVersion = toVersion;
+        this.upserts = Collections.unmodifiableList(new ArrayList<>(upserts));
+        this.removals = Collections.unmodifiableList(new ArrayList<>(removals));
+    }
+
+    public long getFromVersion() {
+        return fromVersion;
+    }
+
+    public long getToVersion() {
+        return toVersion;
+    }
+
+    /**
+     * Returns the FlashCards that were added or edited.
+     */
+    public List<FlashCard> getUpserts() {
+        return upserts;
+    }
+
+    /**
+     * Returns the FlashCards that were removed. Only their identities (question and answer) are significant.
+     */
+    public List<FlashCard> getRemovals() {
+        return removals;
+    }
+
+    /**
+     * Returns true if this patch makes no changes.
+     */
+    public boolean isEmpty() {
+        return upserts.isEmpty() && removals.isEmpty();
+    }
+
+    /**
+     * Returns a copy of this patch with {@code mapper} applied to every FlashCard in it.
+     */
+    public FlashCardPatch map(UnaryOperator<FlashCard> mapper) {
+        return new FlashCardPatch(
+                fromVersion,
+                toVersion,
+                upserts.stream().map(mapper).collect(Collectors.toList()),
+                removals.stream().map(mapper).collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FlashCardPatch // instanceof handles nulls
+                && fromVersion == ((FlashCardPatch) other).fromVersion
+                && toVersion == ((FlashCardPatch) other).toVersion
+                && upserts.equals(((FlashCardPatch) other).upserts)
+                && removals.equals(((FlashCardPatch) other).removals)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return upserts.hashCode() + removals.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Patch from version %d to %d: %d upsert(s), %d removal(s)",
+                fromVersion, toVersion, upserts.size(), removals.size());
+    }
+}
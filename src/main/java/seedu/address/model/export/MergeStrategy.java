@@ -0,0 +1,120 @@
+//@@author LeowWB
+
+package seedu.address.model.export;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.category.Category;
+import seedu.address.model.flashcard.FlashCard;
+import seedu.address.model.flashcard.Rating;
+
+/**
+ * Decides how an imported {@code FlashCard} is combined with a FlashCard of the same identity that is already present.
+ * Only the rating and categories can differ between the two, since their questions and answers are the same.
+ */
+public enum MergeStrategy {
+    /** Leaves the existing FlashCard as it is. */
+    KEEP_LOCAL("keep-local"),
+
+    /** Takes the rating and categories of the imported FlashCard. */
+    TAKE_REMOTE("take-remote"),
+
+    /** Keeps the existing rating, and adds the categories of the imported FlashCard. */
+    UNION_CATEGORIES("union-categories"),
+
+    /** Keeps the existing categories, and takes whichever rating is better. */
+    MAX_RATING("max-rating");
+
+    public static final String MESSAGE_CONSTRAINTS = "Merge strategy must be one of the following: "
+            + String.join(", ", getNames());
+
+    /** Ratings from worst to best. A FlashCard without a rating is considered the worst. */
+    private static final List<String> RATING_ORDER = Arrays.asList(Rating.NULL, Rating.HARD, Rating.GOOD, Rating.EASY);
+
+    private final String name;
+
+    MergeStrategy(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the names of every merge strategy, as accepted by {@link #fromString(String)}.
+     */
+    public static List<String> getNames() {
+        return Arrays.stream(values()).map(MergeStrategy::toString).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns true if a given string is the name of a merge strategy.
+     */
+    public static boolean isValid(String test) {
+        requireNonNull(test);
+        return Arrays.stream(values()).anyMatch(strategy -> strategy.name.equals(test));
+    }
+
+    /**
+     * Returns the merge strategy with the given name.
+     *
+     * @throws IllegalArgumentException if there is no such strategy.
+     */
+    public static MergeStrategy fromString(String name) {
+        requireNonNull(name);
+        return Arrays.stream(values())
+                .filter(strategy -> strategy.name.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(MESSAGE_CONSTRAINTS));
+    }
+
+    /**
+     * Combines an existing FlashCard with an imported FlashCard of the same identity.
+     *
+     * @param local FlashCard that is already present
+     * @param remote FlashCard that is being imported
+     * @return The FlashCard that should take the place of {@code local}. This is {@code local} itself if nothing
+     * changes.
+     */
+    public FlashCard merge(FlashCard local, FlashCard remote) {
+        requireAllNonNull(local, remote);
+        assert local.isSameFlashCard(remote);
+
+        switch (this) {
+        case TAKE_REMOTE:
+            return withRatingAndCategories(local, remote.getRating(), remote.getCategories());
+        case UNION_CATEGORIES:
+            Set<Category> categories = new HashSet<>(local.getCategories());
+            categories.addAll(remote.getCategories());
+            return withRatingAndCategories(local, local.getRating(), categories);
+        case MAX_RATING:
+            Rating betterRating = rankOf(remote.getRating()) > rankOf(local.getRating())
+                    ? remote.getRating()
+                    : local.getRating();
+            return withRatingAndCategories(local, betterRating, local.getCategories());
+        case KEEP_LOCAL:
+        default:
+            return local;
+        }
+    }
+
+    private static FlashCard withRatingAndCategories(FlashCard local, Rating rating, Set<Category> categories) {
+        if (local.getRating().equals(rating) && local.getCategories().equals(categories)) {
+            return local;
+        }
+        return new FlashCard(local.getId(), local.getQuestion(), local.getAnswer(), rating, categories);
+    }
+
+    private static int rankOf(Rating rating) {
+        return RATING_ORDER.indexOf(rating.value);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,67 @@
+//@@author LeowWB
+
+package seedu.address.model.export;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Represents the path to a patch export file from its immediate parent directory.
+ * Guarantees: immutable; is valid as declared in {@link #isValid(String)}
+ */
+public class PatchExportFilePath {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Patch export file path may only consist of alphanumeric characters, spaces, and the following "
+                    + "characters:\n"
+                    + "-_![]()\n"
+                    + "It must also end with \".patch\".";
+
+    public static final String VALIDATION_REGEX = "[\\w\\-!\\[\\]() ]+\\.[Pp][Aa][Tt][Cc][Hh]";
+
+    private final Path path;
+
+    /**
+     * Constructs a {@code PatchExportFilePath}.
+     *
+     * @param patchExportFilePath A valid patch export file path.
+     */
+    public PatchExportFilePath(String patchExportFilePath) {
+        requireNonNull(patchExportFilePath);
+        checkArgument(isValid(patchExportFilePath), MESSAGE_CONSTRAINTS);
+        path = Paths.get(patchExportFilePath);
+    }
+
+    /**
+     * Returns true if a given string is a valid patch export file path.
+     */
+    public static boolean isValid(String test) {
+        requireNonNull(test);
+        return test.matches(VALIDATION_REGEX);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public String toString() {
+        return path.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PatchExportFilePath // instanceof handles nulls
+                && path.equals(((PatchExportFilePath) other).path)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return path.hashCode();
+    }
+
+}
@@ -0,0 +1,149 @@
+//@@author LeowWB
+
+package seedu.address.model.export;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.flashcard.FlashCard;
+
+/**
+ * Represents the full path to a patch export file, including parent directories. A patch file holds the changes made
+ * to a category since the previous export to the same path, rather than the whole category.
+ * Guarantees: immutable; is valid as declared in {@link #isValid(String)}
+ */
+public class PatchExportPath extends ExportPath {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Patch export file path may only consist of alphanumeric characters, spaces, and the following "
+            + "characters:\n"
+            + "~\\/-_!:[]()\n"
+            + "It must also end with \".patch\".";
+
+    /*
+     * The following characters are allowed (in addition to alphanumeric):
+     * ~\/-_!:[]()
+     * Space is allowed.
+     * Required to end with the String: ".patch"
+     */
+    public static final String VALIDATION_REGEX = "[.~\\w\\-!:\\[\\]()/\\\\ ]+\\.[Pp][Aa][Tt][Cc][Hh]";
+
+    private final DirectoryPath directoryPath;
+    private final PatchExportFilePath patchExportFilePath;
+
+    /**
+     * Constructs a {@code PatchExportPath}.
+     *
+     * @param patchExportPath A valid patch export path.
+     */
+    public PatchExportPath(String patchExportPath) {
+        requireNonNull(patchExportPath);
+        checkArgument(isValid(patchExportPath), MESSAGE_CONSTRAINTS);
+        this.directoryPath = extractDirectoryPath(patchExportPath);
+        this.patchExportFilePath = extractPatchExportFilePath(patchExportPath);
+    }
+
+    /**
+     * Returns true if a given string is a valid patch export path.
+     */
+    public static boolean isValid(String test) {
+        requireNonNull(test);
+        return test.matches(VALIDATION_REGEX);
+    }
+
+    /**
+     * Helper method to get the patch export file path from a given String.
+     *
+     * @param patchExportPathString String representing the full path of a patch export file
+     * @return PatchExportFilePath representing the path of the patch export file,
+     * relative to its immediate parent directory
+     */
+    private static PatchExportFilePath extractPatchExportFilePath(String patchExportPathString) {
+        requireNonNull(patchExportPathString);
+
+        return new PatchExportFilePath(
+                ExportPath.extractFilePathNoDirectoryString(patchExportPathString)
+        );
+    }
+
+    @Override
+    public Path getPath() {
+        Path dirPath = directoryPath.getPath();
+        Path patchFilePath = patchExportFilePath.getPath();
+
+        return dirPath.resolve(patchFilePath);
+    }
+
+    @Override
+    public String toString() {
+        return directoryPath.toString() + File.separator + patchExportFilePath.toString();
+    }
+
+    /**
+     * Exports the given FlashCards as a patch that adds all of them.
+     */
+    @Override
+    public void export(List<FlashCard> list) throws IOException {
+        requireNonNull(list);
+
+        exportPatch(
+                new FlashCardPatch(0, 0, list, Collections.emptyList())
+        );
+    }
+
+    /**
+     * Exports the given FlashCardPatch to the file at this path, replacing any patch that is already there.
+     */
+    public void exportPatch(FlashCardPatch patch) throws IOException {
+        requireNonNull(patch);
+
+        try {
+            directoryPath.createIfNotPresent();
+            PatchExportUtil.exportFlashCardPatch(patch, this);
+        } catch (IOException e) {
+            throw e;
+        }
+    }
+
+    /**
+     * Imports only the added or edited FlashCards of the patch at this path. Use {@link #importPatch()} to also obtain
+     * the removed FlashCards.
+     */
+    @Override
+    public Optional<List<FlashCard>> importFrom() throws DataConversionException {
+        return importPatch().map(FlashCardPatch::getUpserts);
+    }
+
+    /**
+     * Imports the FlashCardPatch from the file at this path.
+     *
+     * @return Optional FlashCardPatch. Empty if there is no such file.
+     */
+    public Optional<FlashCardPatch> importPatch() throws DataConversionException {
+        return PatchImportUtil.importFlashCardPatch(
+                this
+        );
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PatchExportPath // instanceof handles nulls
+                && directoryPath.equals(((PatchExportPath) other).directoryPath)
+                && patchExportFilePath.equals(((PatchExportPath) other).patchExportFilePath)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return directoryPath.hashCode() + patchExportFilePath.hashCode();
+    }
+
+}
@@ -0,0 +1,34 @@
+//@@author LeowWB
+
+package seedu.address.model.export;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+
+import seedu.address.storage.JsonFlashCardPatchStorage;
+
+/**
+ * Utility class that handles exporting of FlashCardPatches to an external patch file.
+ */
+public class PatchExportUtil {
+
+    /**
+     * Exports a FlashCardPatch to a file at the given PatchExportPath.
+     *
+     * @param patch FlashCardPatch to export
+     * @param patchExportPath PatchExportPath to export the FlashCardPatch to
+     * @throws IOException If an error arises in writing to the File.
+     */
+    public static void exportFlashCardPatch(FlashCardPatch patch, PatchExportPath patchExportPath)
+            throws IOException {
+        requireAllNonNull(patch, patchExportPath);
+        assert PatchExportPath.isValid(patchExportPath.toString());
+
+        JsonFlashCardPatchStorage patchStorage = new JsonFlashCardPatchStorage(
+                patchExportPath.getPath()
+        );
+
+        patchStorage.saveFlashCardPatch(patch);
+    }
+}
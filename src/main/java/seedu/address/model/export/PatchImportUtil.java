@@ -0,0 +1,36 @@
+//@@author LeowWB
+
+package seedu.address.model.export;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.storage.JsonFlashCardPatchStorage;
+
+/**
+ * Utility class that handles importing of FlashCardPatches from an external patch file.
+ */
+public class PatchImportUtil {
+
+    /**
+     * Imports a FlashCardPatch from a file at the given PatchExportPath.
+     *
+     * @param patchExportPath Path of the file to import from
+     * @return Optional FlashCardPatch that was imported from the given file. Empty if there is no such file.
+     * @throws DataConversionException If there is an error in reading or converting the data from the file
+     */
+    public static Optional<FlashCardPatch> importFlashCardPatch(PatchExportPath patchExportPath)
+            throws DataConversionException {
+
+        requireNonNull(patchExportPath);
+        assert PatchExportPath.isValid(patchExportPath.toString());
+
+        JsonFlashCardPatchStorage patchStorage = new JsonFlashCardPatchStorage(
+                patchExportPath.getPath()
+        );
+
+        return patchStorage.readFlashCardPatch();
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.flashcard;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a FlashCard's answer in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAnswer(String)}
@@ -13,6 +15,10 @@ public class Answer {
     public static final String MESSAGE_CONSTRAINTS =
             "Answer can take any values, and it should not be blank";
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    //@@author LeowWB
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    //@@author
+
     public final String fullAnswer;
 
     /**
@@ -30,7 +36,7 @@ public class Answer {
      * Returns true if a given string is a valid answer.
      */
     public static boolean isValidAnswer(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -6,6 +6,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
 import seedu.address.model.category.Category;
 
@@ -15,6 +16,11 @@ import seedu.address.model.category.Category;
  */
 public class FlashCard {
 
+    //@@author LeowWB
+    // Stable id, kept across edits and restarts
+    private final long id;
+
+    //@@author
     // Identity fields
     private final Question question;
     private final Answer answer;
@@ -27,13 +33,41 @@ public class FlashCard {
      * Every field must be present and not null.
      */
     public FlashCard(Question question, Answer answer, Rating rating, Set<Category> categories) {
+        this(newId(), question, answer, rating, categories);
+    }
+
+    //@@author LeowWB
+    /**
+     * Creates a FlashCard with the given id, such as the id of the FlashCard it was edited from.
+     * Every other field must be present and not null.
+     */
+    public FlashCard(long id, Question question, Answer answer, Rating rating, Set<Category> categories) {
         requireAllNonNull(question, answer, rating, categories);
+        this.id = id;
         this.question = question;
         this.answer = answer;
         this.rating = rating;
         this.categories.addAll(categories);
     }
 
+    /**
+     * Returns a new id for a FlashCard. Ids are random 64-bit numbers rather than a running count, so that FlashCards
+     * created on different computers can be brought together without their ids clashing.
+     */
+    public static long newId() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    /**
+     * Returns the id of this FlashCard, which stays the same when it is edited, saved or reviewed.
+     * The id is not part of either notion of equality below, so that a copy of a FlashCard made elsewhere still matches
+     * it by its content.
+     */
+    public long getId() {
+        return id;
+    }
+
+    //@@author
     public Question getQuestion() {
         return question;
     }
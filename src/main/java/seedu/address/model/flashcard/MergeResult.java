@@ -0,0 +1,76 @@
+//@@author LeowWB
+
+package seedu.address.model.flashcard;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents the outcome of merging a batch of flashCards into a {@code UniqueFlashCardList}.
+ * Guarantees: immutable
+ */
+public class MergeResult {
+
+    private final List<FlashCard> added;
+    private final List<FlashCard> replacedTargets;
+    private final List<FlashCard> replacements;
+    private final int unchangedCount;
+
+    /**
+     * Every field must be present and not null. {@code replacedTargets} and {@code replacements} must be of the same
+     * size, with the flashCard at each index of {@code replacedTargets} having been replaced by the flashCard at the
+     * same index of {@code replacements}.
+     */
+    public MergeResult(List<FlashCard> added, List<FlashCard> replacedTargets, List<FlashCard> replacements,
+                       int unchangedCount) {
+        requireAllNonNull(added, replacedTargets, replacements);
+        assert replacedTargets.size() == replacements.size();
+        assert unchangedCount >= 0;
+
+        this.added = Collections.unmodifiableList(added);
+        this.replacedTargets = Collections.unmodifiableList(replacedTargets);
+        this.replacements = Collections.unmodifiableList(replacements);
+        this.unchangedCount = unchangedCount;
+    }
+
+    public List<FlashCard> getAdded() {
+        return added;
+    }
+
+    public List<FlashCard> getReplacedTargets() {
+        return replacedTargets;
+    }
+
+    public List<FlashCard> getReplacements() {
+        return replacements;
+    }
+
+    public int getAddedCount() {
+        return added.size();
+    }
+
+    public int getUpdatedCount() {
+        return replacements.size();
+    }
+
+    public int getUnchangedCount() {
+        return unchangedCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof MergeResult // instanceof handles nulls
+                && added.equals(((MergeResult) other).added)
+                && replacedTargets.equals(((MergeResult) other).replacedTargets)
+                && replacements.equals(((MergeResult) other).replacements)
+                && unchangedCount == ((MergeResult) other).unchangedCount); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return added.hashCode() + replacements.hashCode() + unchangedCount;
+    }
+}
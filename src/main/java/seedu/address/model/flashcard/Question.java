@@ -3,6 +3,8 @@ package seedu.address.model.flashcard;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a FlashCard's Question in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidQuestion(String)}
@@ -18,6 +20,10 @@ public class Question {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    //@@author LeowWB
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    //@@author
+
     public final String fullQuestion;
 
     /**
@@ -35,7 +41,7 @@ public class Question {
      * Returns true if a given string is a valid question.
      */
     public static boolean isValidQuestion(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
@@ -38,7 +38,7 @@ public class Rating {
      * Returns true if a given string is a valid rating.
      */
     public static boolean isValidRating(String test) {
-        return test.matches(GOOD) || test.matches(EASY) || test.matches(HARD) || test.matches(NULL);
+        return test.equals(GOOD) || test.equals(EASY) || test.equals(HARD) || test.equals(NULL);
     }
 
     @Override
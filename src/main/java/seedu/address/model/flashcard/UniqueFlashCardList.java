@@ -3,8 +3,17 @@ package seedu.address.model.flashcard;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BinaryOperator;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +29,9 @@ import seedu.address.model.flashcard.exceptions.FlashCardNotFoundException;
  * However, the removal of a flashCard uses FlashCard#equals(Object) so
  * as to ensure that the flashCard with exactly the same fields will be removed.
  *
+ * The ids of the flash cards in the list are unique as well, and the position of each flash card is kept by its id,
+ * so that a flash card can be found by its id in constant time.
+ *
  * Supports a minimal set of list operations.
  *
  * @see FlashCard#isSameFlashCard(FlashCard)
@@ -29,6 +41,9 @@ public class UniqueFlashCardList implements Iterable<FlashCard> {
     private final ObservableList<FlashCard> internalList = FXCollections.observableArrayList();
     private final ObservableList<FlashCard> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    //@@author LeowWB
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    //@@author
 
     /**
      * Returns true if the list contains an equivalent flashCard as the given argument.
@@ -38,52 +53,209 @@ public class UniqueFlashCardList implements Iterable<FlashCard> {
         return internalList.stream().anyMatch(toCheck::isSameFlashCard);
     }
 
+    //@@author LeowWB
+    /**
+     * Returns true if the list contains a flashCard with the given id.
+     */
+    public boolean containsId(long id) {
+        return slotsById.containsKey(id);
+    }
+
+    /**
+     * Returns the flashCard with the given id, if it is in the list.
+     */
+    public Optional<FlashCard> get(long id) {
+        Integer slot = slotsById.get(id);
+        return slot == null ? Optional.empty() : Optional.of(internalList.get(slot));
+    }
+
+    /**
+     * Returns the position of {@code flashCard} in the list, or -1 if it is not in the list. The flashCard is only
+     * looked for by its id, so this takes constant time, however long the list is.
+     */
+    public int ordinalOf(FlashCard flashCard) {
+        requireNonNull(flashCard);
+        Integer slot = slotsById.get(flashCard.getId());
+        return slot != null && internalList.get(slot).equals(flashCard) ? slot : -1;
+    }
+
+    //@@author
     /**
      * Adds a flashCard to the list.
-     * The flashCard must not already exist in the list.
+     * The flashCard must not already exist in the list, and its id must not be taken.
      */
     public void add(FlashCard toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || containsId(toAdd.getId())) {
             throw new DuplicateFlashCardException();
         }
         internalList.add(toAdd);
+        slotsById.put(toAdd.getId(), internalList.size() - 1);
+    }
+
+    /**
+     * Adds every flashCard in {@code toAdd} that is not yet in the list, as a single change to the list.
+     * FlashCards that are the same as one already in the list, or one earlier in {@code toAdd}, are skipped.
+     * A flashCard whose id is already taken is added with a new id.
+     *
+     * @return The flashCards that were added, in their original order, as they are in the list.
+     */
+    public List<FlashCard> addAllAbsent(List<FlashCard> toAdd) {
+        requireAllNonNull(toAdd);
+
+        Set<List<Object>> identities = new HashSet<>();
+        internalList.forEach(flashCard -> identities.add(identityOf(flashCard)));
+
+        Set<Long> ids = new HashSet<>(slotsById.keySet());
+        List<FlashCard> added = new ArrayList<>();
+        for (FlashCard flashCard : toAdd) {
+            if (identities.add(identityOf(flashCard))) {
+                added.add(withUnusedId(flashCard, ids));
+            }
+        }
+
+        internalList.addAll(added);
+        indexSlotsFrom(internalList.size() - added.size());
+        return added;
+    }
+
+    /**
+     * Merges every flashCard in {@code toMerge} into the list, as a single change to the list. FlashCards that are not
+     * yet in the list are added. Each flashCard that is the same as one already in the list is combined with it using
+     * {@code merger}, which is given the flashCard in the list followed by the incoming flashCard, and must return a
+     * flashCard that is the same as both. A merged flashCard keeps the id of the flashCard in the list, and an added
+     * flashCard whose id is already taken is added with a new id.
+     *
+     * @return The flashCards that were added and replaced, and the number of flashCards in the list that were matched
+     * by an incoming flashCard but left unchanged.
+     */
+    public MergeResult mergeAll(List<FlashCard> toMerge, BinaryOperator<FlashCard> merger) {
+        requireAllNonNull(toMerge, merger);
+
+        int originalSize = internalList.size();
+        List<FlashCard> merged = new ArrayList<>(internalList);
+        Map<List<Object>, Integer> indexByIdentity = new HashMap<>();
+        for (int i = 0; i < originalSize; i++) {
+            indexByIdentity.put(identityOf(merged.get(i)), i);
+        }
+
+        Set<Long> ids = new HashSet<>(slotsById.keySet());
+        Set<Integer> matchedIndices = new TreeSet<>();
+        for (FlashCard flashCard : toMerge) {
+            Integer index = indexByIdentity.putIfAbsent(identityOf(flashCard), merged.size());
+            if (index == null) {
+                merged.add(withUnusedId(flashCard, ids));
+                continue;
+            }
+
+            FlashCard existing = merged.get(index);
+            FlashCard mergedFlashCard = merger.apply(existing, flashCard);
+            assert mergedFlashCard.isSameFlashCard(flashCard);
+            merged.set(index, withId(mergedFlashCard, existing.getId()));
+            if (index < originalSize) {
+                matchedIndices.add(index);
+            }
+        }
+
+        List<FlashCard> replacedTargets = new ArrayList<>();
+        List<FlashCard> replacements = new ArrayList<>();
+        for (int index : matchedIndices) {
+            if (!internalList.get(index).equals(merged.get(index))) {
+                replacedTargets.add(internalList.get(index));
+                replacements.add(merged.get(index));
+            }
+        }
+        List<FlashCard> added = new ArrayList<>(merged.subList(originalSize, merged.size()));
+
+        if (!replacements.isEmpty()) {
+            internalList.setAll(merged);
+        } else if (!added.isEmpty()) {
+            internalList.addAll(added);
+        }
+        indexSlotsFrom(originalSize);
+
+        return new MergeResult(added, replacedTargets, replacements, matchedIndices.size() - replacements.size());
+    }
+
+    /**
+     * Removes every flashCard in the list that is the same as one in {@code toRemove}, as a single change to the list.
+     * FlashCards in {@code toRemove} that have no counterpart in the list are ignored.
+     *
+     * @return The flashCards that were removed, in the order they appeared in the list.
+     */
+    public List<FlashCard> removeAllSame(List<FlashCard> toRemove) {
+        requireAllNonNull(toRemove);
+
+        Set<List<Object>> identities = new HashSet<>();
+        toRemove.forEach(flashCard -> identities.add(identityOf(flashCard)));
+
+        List<FlashCard> removed = new ArrayList<>();
+        for (FlashCard flashCard : internalList) {
+            if (identities.contains(identityOf(flashCard))) {
+                removed.add(flashCard);
+            }
+        }
+
+        if (!removed.isEmpty()) {
+            internalList.removeAll(new HashSet<>(removed));
+            rebuildSlots();
+        }
+        return removed;
     }
 
     /**
      * Replaces the flashCard {@code target} in the list with {@code editedFlashCard}.
      * {@code target} must exist in the list.
-     * The flashCard identity of {@code editedFlashCard} must not be the same as another existing flashCard in the list.
+     * The flashCard identity of {@code editedFlashCard} must not be the same as another existing flashCard in the list,
+     * and neither may its id.
+     *
+     * @return The flashCard that was replaced, as it was in the list.
      */
-    public void setFlashcard(FlashCard target, FlashCard editedFlashCard) {
+    public FlashCard setFlashcard(FlashCard target, FlashCard editedFlashCard) {
         requireAllNonNull(target, editedFlashCard);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new FlashCardNotFoundException();
         }
 
+        FlashCard replaced = internalList.get(index);
         if (!target.isSameFlashCard(editedFlashCard) && contains(editedFlashCard)) {
             throw new DuplicateFlashCardException();
         }
+        if (editedFlashCard.getId() != replaced.getId() && containsId(editedFlashCard.getId())) {
+            throw new DuplicateFlashCardException();
+        }
 
         internalList.set(index, editedFlashCard);
+        slotsById.remove(replaced.getId());
+        slotsById.put(editedFlashCard.getId(), index);
+        return replaced;
     }
 
     /**
      * Removes the equivalent flashCard from the list.
      * The flashCard must exist in the list.
+     *
+     * @return The flashCard that was removed, as it was in the list.
      */
-    public void remove(FlashCard toRemove) {
+    public FlashCard remove(FlashCard toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new FlashCardNotFoundException();
         }
+
+        FlashCard removed = internalList.remove(index);
+        slotsById.remove(removed.getId());
+        indexSlotsFrom(index);
+        return removed;
     }
 
     public void setFlashCards(UniqueFlashCardList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildSlots();
     }
 
     /**
@@ -97,6 +269,7 @@ public class UniqueFlashCardList implements Iterable<FlashCard> {
         }
 
         internalList.setAll(flashCards);
+        rebuildSlots();
     }
 
     /**
@@ -124,16 +297,72 @@ public class UniqueFlashCardList implements Iterable<FlashCard> {
     }
 
     /**
-     * Returns true if {@code flashCards} contains only unique flashCards.
+     * Returns true if {@code flashCards} contains only unique flashCards, with unique ids.
      */
     private boolean flashCardsAreUnique(List<FlashCard> flashCards) {
-        for (int i = 0; i < flashCards.size() - 1; i++) {
-            for (int j = i + 1; j < flashCards.size(); j++) {
-                if (flashCards.get(i).isSameFlashCard(flashCards.get(j))) {
-                    return false;
-                }
+        Set<List<Object>> identities = new HashSet<>();
+        Set<Long> ids = new HashSet<>();
+        for (FlashCard flashCard : flashCards) {
+            if (!identities.add(identityOf(flashCard)) || !ids.add(flashCard.getId())) {
+                return false;
             }
         }
         return true;
     }
+
+    //@@author LeowWB
+    /**
+     * Returns the position of {@code flashCard} in the list, or -1 if it is not in the list. The flashCard is found by
+     * its id, unless it is a copy made elsewhere with another id, in which case it is looked for by its fields.
+     */
+    private int indexOf(FlashCard flashCard) {
+        Integer slot = slotsById.get(flashCard.getId());
+        if (slot != null && internalList.get(slot).equals(flashCard)) {
+            return slot;
+        }
+        return internalList.indexOf(flashCard);
+    }
+
+    /**
+     * Updates the positions kept for the flashCards from {@code start} to the end of the list.
+     */
+    private void indexSlotsFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            slotsById.put(internalList.get(i).getId(), i);
+        }
+    }
+
+    private void rebuildSlots() {
+        slotsById.clear();
+        indexSlotsFrom(0);
+    }
+
+    /**
+     * Returns {@code flashCard}, or a copy of it with a new id if its id is in {@code takenIds}. The id that is
+     * returned is added to {@code takenIds}.
+     */
+    private static FlashCard withUnusedId(FlashCard flashCard, Set<Long> takenIds) {
+        FlashCard result = flashCard;
+        while (!takenIds.add(result.getId())) {
+            result = withId(flashCard, FlashCard.newId());
+        }
+        return result;
+    }
+
+    private static FlashCard withId(FlashCard flashCard, long id) {
+        if (flashCard.getId() == id) {
+            return flashCard;
+        }
+        return new FlashCard(id, flashCard.getQuestion(), flashCard.getAnswer(), flashCard.getRating(),
+                flashCard.getCategories());
+    }
+
+    //@@author
+
+    /**
+     * Returns a hashable key such that two flashCards have equal keys iff {@code FlashCard#isSameFlashCard} holds.
+     */
+    public static List<Object> identityOf(FlashCard flashCard) {
+        return Arrays.asList(flashCard.getQuestion(), flashCard.getAnswer());
+    }
 }
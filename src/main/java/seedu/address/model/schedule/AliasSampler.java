@@ -0,0 +1,114 @@
+//@@author LeowWB
+
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Random;
+
+/**
+ * Draws indices at random, with each index drawn in proportion to its weight, using Vose's alias method.
+ * Building the sampler takes time linear in the number of weights; every draw after that takes constant time, and
+ * allocates nothing. The sampler holds no source of randomness of its own, so the same sampler can be shared by
+ * several sequences of draws.
+ *
+ * The weights are spread over one column per index, each of height 1. Column {@code i} is made up of a part of
+ * height {@code probabilities[i]} that belongs to index {@code i} itself, and a part that belongs to
+ * {@code aliases[i]}. A draw picks a column uniformly, then picks one of its two parts.
+ */
+public class AliasSampler {
+
+    public static final String MESSAGE_CONSTRAINTS = "Weights must not be negative, and at least one must be positive.";
+
+    private final double[] probabilities;
+    private final int[] aliases;
+
+    /**
+     * Constructs an {@code AliasSampler} that draws indices into {@code weights}.
+     *
+     * @param weights Relative weight of each index. None may be negative, and at least one must be positive.
+     */
+    public AliasSampler(double[] weights) {
+        requireNonNull(weights);
+        checkArgument(isValidWeights(weights), MESSAGE_CONSTRAINTS);
+
+        int size = weights.length;
+        this.probabilities = new double[size];
+        this.aliases = new int[size];
+
+        double totalWeight = 0;
+        for (double weight : weights) {
+            totalWeight += weight;
+        }
+
+        // worklists of the columns that are under and over height 1, kept as stacks in primitive arrays
+        int[] small = new int[size];
+        int[] large = new int[size];
+        int smallCount = 0;
+        int largeCount = 0;
+
+        double[] scaled = new double[size];
+        for (int i = 0; i < size; i++) {
+            scaled[i] = weights[i] * size / totalWeight;
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        // fill up each short column with the excess of a tall one
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+
+            probabilities[less] = scaled[less];
+            aliases[less] = more;
+
+            scaled[more] = (scaled[more] + scaled[less]) - 1;
+            if (scaled[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+
+        // whatever is left is (up to rounding error) exactly of height 1
+        while (largeCount > 0) {
+            probabilities[large[--largeCount]] = 1;
+        }
+        while (smallCount > 0) {
+            probabilities[small[--smallCount]] = 1;
+        }
+    }
+
+    /**
+     * Returns true if the given weights can be sampled from.
+     */
+    public static boolean isValidWeights(double[] weights) {
+        boolean hasPositiveWeight = false;
+        for (double weight : weights) {
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                return false;
+            }
+            hasPositiveWeight |= weight > 0;
+        }
+        return hasPositiveWeight;
+    }
+
+    /**
+     * Returns the number of indices that can be drawn.
+     */
+    public int size() {
+        return probabilities.length;
+    }
+
+    /**
+     * Draws an index using {@code random}, with probability proportional to its weight.
+     */
+    public int sample(Random random) {
+        int column = random.nextInt(probabilities.length);
+        return random.nextDouble() < probabilities[column] ? column : aliases[column];
+    }
+}
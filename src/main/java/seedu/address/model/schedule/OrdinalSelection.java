@@ -0,0 +1,50 @@
+//@@author LeowWB
+
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+import seedu.address.model.flashcard.FlashCard;
+
+/**
+ * A sequence of FlashCards from a list, identified by their ordinals (positions) in the list.
+ * The sequence can be iterated over either as FlashCards, or as the primitive ordinals themselves.
+ */
+public abstract class OrdinalSelection implements Iterable<FlashCard> {
+
+    protected final List<FlashCard> flashCards;
+
+    /**
+     * Constructs an {@code OrdinalSelection} of FlashCards from {@code flashCards}.
+     * The list must not be structurally modified while the selection is in use.
+     */
+    protected OrdinalSelection(List<FlashCard> flashCards) {
+        requireNonNull(flashCards);
+        this.flashCards = flashCards;
+    }
+
+    /**
+     * Returns an iterator over the ordinals of the FlashCards in this selection.
+     */
+    public abstract PrimitiveIterator.OfInt ordinalIterator();
+
+    @Override
+    public Iterator<FlashCard> iterator() {
+        PrimitiveIterator.OfInt ordinalIterator = ordinalIterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return ordinalIterator.hasNext();
+            }
+
+            @Override
+            public FlashCard next() {
+                return flashCards.get(ordinalIterator.nextInt());
+            }
+        };
+    }
+}
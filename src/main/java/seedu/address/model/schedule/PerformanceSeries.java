@@ -0,0 +1,106 @@
+//@@author LeowWB
+
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+
+import seedu.address.commons.util.Lttb;
+
+/**
+ * The performance, as a percentage of FlashCards rated good or easy, at the end of each test taken, oldest first.
+ * The values are kept in a primitive array, and can be downsampled to a fixed number of points for charts.
+ */
+public class PerformanceSeries {
+
+    public static final String MESSAGE_CONSTRAINTS = "Performance must be a percentage from 0 to 100.";
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private float[] values = new float[INITIAL_CAPACITY];
+    private int size = 0;
+
+    public PerformanceSeries() {}
+
+    /**
+     * Creates a PerformanceSeries with the same values as {@code toBeCopied}.
+     */
+    public PerformanceSeries(PerformanceSeries toBeCopied) {
+        requireNonNull(toBeCopied);
+        values = Arrays.copyOf(toBeCopied.values, Math.max(toBeCopied.size, INITIAL_CAPACITY));
+        size = toBeCopied.size;
+    }
+
+    /**
+     * Returns true if the given value is a valid performance.
+     */
+    public static boolean isValidPerformance(float value) {
+        return value >= 0 && value <= 100;
+    }
+
+    /**
+     * Adds the performance at the end of a test to the end of the series.
+     */
+    public void add(float value) {
+        checkArgument(isValidPerformance(value), MESSAGE_CONSTRAINTS);
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        values[size++] = value;
+    }
+
+    /**
+     * Returns the performance at the end of the test at {@code index}, counting from 0.
+     */
+    public float get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return values[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the indices, in increasing order, of at most {@code maxPoints} tests from {@code from} to {@code to},
+     * exclusive, chosen to keep the shape of the series when plotted.
+     *
+     * @see Lttb#downsample(float[], int, int, int)
+     */
+    public int[] downsample(int from, int to, int maxPoints) {
+        checkArgument(to <= size, Lttb.MESSAGE_INVALID_RANGE);
+        return Lttb.downsample(values, from, to, maxPoints);
+    }
+
+    /**
+     * Returns a copy of the values in the series.
+     */
+    public float[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PerformanceSeries // instanceof handles nulls
+                && Arrays.equals(toArray(), ((PerformanceSeries) other).toArray()));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Performance in %d tests", size);
+    }
+}
@@ -0,0 +1,86 @@
+//@@author LeowWB
+
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+
+import seedu.address.model.flashcard.Rating;
+
+/**
+ * Holds the ratings given during a test until they are applied to the FlashCards, so that rating a FlashCard does not
+ * have to look it up, re-file its categories and save every FlashCard each time.
+ *
+ * Each review is kept as the ordinal (position in the list of all FlashCards) of the rated FlashCard and its rating,
+ * in parallel arrays that grow as needed, so adding a review takes amortized constant time however many FlashCards
+ * there are. Reviews are kept in the order they were given, since the same FlashCard may be rated more than once.
+ */
+public class ReviewBuffer {
+
+    public static final String MESSAGE_CONSTRAINTS = "Ordinals must not be negative, and ratings must not be null.";
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] ordinals = new int[INITIAL_CAPACITY];
+    private Rating[] ratings = new Rating[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Adds a review of the FlashCard at {@code ordinal} with the given rating.
+     */
+    public void add(int ordinal, Rating rating) {
+        requireNonNull(rating);
+        checkArgument(ordinal >= 0, MESSAGE_CONSTRAINTS);
+        assert !rating.value.equals(Rating.NULL);
+
+        if (size == ordinals.length) {
+            ordinals = Arrays.copyOf(ordinals, size * 2);
+            ratings = Arrays.copyOf(ratings, size * 2);
+        }
+        ordinals[size] = ordinal;
+        ratings[size] = rating;
+        size++;
+    }
+
+    /**
+     * Returns the number of reviews being held.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the ordinal of the FlashCard rated by the review at {@code index}, counting from the earliest review.
+     */
+    public int getOrdinal(int index) {
+        assert index >= 0 && index < size;
+        return ordinals[index];
+    }
+
+    /**
+     * Returns the rating given by the review at {@code index}, counting from the earliest review.
+     */
+    public Rating getRating(int index) {
+        assert index >= 0 && index < size;
+        return ratings[index];
+    }
+
+    /**
+     * Removes every review, keeping the space allocated for them.
+     */
+    public void clear() {
+        Arrays.fill(ratings, 0, size, null);
+        size = 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d pending review(s)", size);
+    }
+}
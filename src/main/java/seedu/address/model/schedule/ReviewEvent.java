@@ -0,0 +1,90 @@
+//@@author LeowWB
+
+package seedu.address.model.schedule;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+import seedu.address.model.flashcard.Rating;
+
+/**
+ * Records that a {@code FlashCard} was reviewed: which FlashCard it was (by its id), when it was rated, the rating it
+ * was given, and how long it was shown before it was rated.
+ * Guarantees: immutable; the rating is not {@code Rating.NULL} and the response time is not negative.
+ */
+public class ReviewEvent {
+
+    public static final String MESSAGE_CONSTRAINTS = "A review must have a rating, and its response time must not be "
+            + "negative.";
+
+    private final long flashCardId;
+    private final Instant reviewedAt;
+    private final Rating rating;
+    private final Duration responseTime;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public ReviewEvent(long flashCardId, Instant reviewedAt, Rating rating, Duration responseTime) {
+        requireAllNonNull(reviewedAt, rating, responseTime);
+        checkArgument(isValidReviewEvent(rating, responseTime), MESSAGE_CONSTRAINTS);
+        this.flashCardId = flashCardId;
+        this.reviewedAt = reviewedAt;
+        this.rating = rating;
+        this.responseTime = responseTime;
+    }
+
+    /**
+     * Returns true if the given rating and response time make up a valid review.
+     */
+    public static boolean isValidReviewEvent(Rating rating, Duration responseTime) {
+        return !rating.value.equals(Rating.NULL) && !responseTime.isNegative();
+    }
+
+    public long getFlashCardId() {
+        return flashCardId;
+    }
+
+    public Instant getReviewedAt() {
+        return reviewedAt;
+    }
+
+    public Rating getRating() {
+        return rating;
+    }
+
+    public Duration getResponseTime() {
+        return responseTime;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ReviewEvent)) {
+            return false;
+        }
+
+        ReviewEvent otherEvent = (ReviewEvent) other;
+        return flashCardId == otherEvent.flashCardId
+                && reviewedAt.equals(otherEvent.reviewedAt)
+                && rating.equals(otherEvent.rating)
+                && responseTime.equals(otherEvent.responseTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(flashCardId, reviewedAt, rating, responseTime);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FlashCard %d rated %s at %s after %d ms", flashCardId, rating, reviewedAt,
+                responseTime.toMillis());
+    }
+}
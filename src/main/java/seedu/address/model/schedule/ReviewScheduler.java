@@ -0,0 +1,300 @@
+//@@author LeowWB
+
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import seedu.address.model.flashcard.FlashCard;
+import seedu.address.model.flashcard.Rating;
+import seedu.address.model.flashcard.UniqueFlashCardList;
+
+/**
+ * Keeps track of when each {@code FlashCard} is next due for review.
+ *
+ * The FlashCards are kept in a binary min-heap ordered by due date, and every FlashCard knows its own position in the
+ * heap. Reviewing a FlashCard therefore only moves that FlashCard within the heap, in O(log n), and the FlashCards
+ * that are due can be found without looking at any that are not.
+ *
+ * FlashCards are identified by their question and answer, so a FlashCard keeps its state when its rating or
+ * categories change.
+ */
+public class ReviewScheduler {
+
+    private final List<Entry> heap = new ArrayList<>();
+    private final Map<List<Object>, Entry> entries = new HashMap<>();
+
+    public ReviewScheduler() {}
+
+    /**
+     * Creates a ReviewScheduler with the same state as {@code toBeCopied}.
+     */
+    public ReviewScheduler(ReviewScheduler toBeCopied) {
+        requireNonNull(toBeCopied);
+        for (Entry entry : toBeCopied.heap) {
+            Entry copy = new Entry(entry.flashCard, entry.reviewState, entry.heapIndex);
+            heap.add(copy);
+            entries.put(UniqueFlashCardList.identityOf(copy.flashCard), copy);
+        }
+    }
+
+    /**
+     * Returns the number of FlashCards being scheduled.
+     */
+    public int size() {
+        return heap.size();
+    }
+
+    /**
+     * Returns true if the given FlashCard is being scheduled.
+     */
+    public boolean contains(FlashCard flashCard) {
+        requireNonNull(flashCard);
+        return entries.containsKey(UniqueFlashCardList.identityOf(flashCard));
+    }
+
+    /**
+     * Returns the review state of the given FlashCard. A FlashCard that is not being scheduled is treated as new.
+     */
+    public ReviewState getReviewState(FlashCard flashCard) {
+        requireNonNull(flashCard);
+        Entry entry = entries.get(UniqueFlashCardList.identityOf(flashCard));
+        return entry == null ? ReviewState.newCard() : entry.reviewState;
+    }
+
+    //// keeping in sync with the FlashCards
+
+    /**
+     * Starts scheduling the given FlashCard, which has never been reviewed.
+     */
+    public void add(FlashCard flashCard) {
+        add(flashCard, ReviewState.newCard());
+    }
+
+    /**
+     * Starts scheduling the given FlashCard with the given review state, replacing any state it already had.
+     */
+    public void add(FlashCard flashCard, ReviewState reviewState) {
+        requireAllNonNull(flashCard, reviewState);
+
+        Entry existing = entries.get(UniqueFlashCardList.identityOf(flashCard));
+        if (existing != null) {
+            existing.flashCard = flashCard;
+            update(existing, reviewState);
+            return;
+        }
+
+        Entry entry = new Entry(flashCard, reviewState, heap.size());
+        heap.add(entry);
+        entries.put(UniqueFlashCardList.identityOf(flashCard), entry);
+        siftUp(entry.heapIndex);
+    }
+
+    /**
+     * Stops scheduling the given FlashCard. Does nothing if it is not being scheduled.
+     */
+    public void remove(FlashCard flashCard) {
+        requireNonNull(flashCard);
+
+        Entry entry = entries.remove(UniqueFlashCardList.identityOf(flashCard));
+        if (entry == null) {
+            return;
+        }
+
+        int index = entry.heapIndex;
+        Entry last = heap.remove(heap.size() - 1);
+        if (last != entry) {
+            place(last, index);
+            siftDown(index);
+            siftUp(last.heapIndex);
+        }
+    }
+
+    /**
+     * Records that {@code target} was replaced by {@code editedFlashCard}. The edited FlashCard keeps the review state
+     * of {@code target}, since editing a FlashCard does not change how well it is known.
+     */
+    public void replace(FlashCard target, FlashCard editedFlashCard) {
+        requireAllNonNull(target, editedFlashCard);
+
+        Entry entry = entries.remove(UniqueFlashCardList.identityOf(target));
+        if (entry == null) {
+            add(editedFlashCard);
+            return;
+        }
+
+        entry.flashCard = editedFlashCard;
+        Entry displaced = entries.put(UniqueFlashCardList.identityOf(editedFlashCard), entry);
+        assert displaced == null || displaced == entry;
+    }
+
+    /**
+     * Replaces the FlashCards being scheduled with {@code flashCards}. FlashCards that were already being scheduled
+     * keep their review states, and the rest are scheduled as new.
+     */
+    public void setFlashCards(List<FlashCard> flashCards) {
+        requireNonNull(flashCards);
+
+        Map<List<Object>, Entry> oldEntries = new HashMap<>(entries);
+        heap.clear();
+        entries.clear();
+        for (FlashCard flashCard : flashCards) {
+            Entry oldEntry = oldEntries.get(UniqueFlashCardList.identityOf(flashCard));
+            Entry entry = new Entry(
+                    flashCard, oldEntry == null ? ReviewState.newCard() : oldEntry.reviewState, heap.size());
+            heap.add(entry);
+            entries.put(UniqueFlashCardList.identityOf(flashCard), entry);
+        }
+
+        // heapify bottom-up, which takes linear time
+        for (int i = heap.size() / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    //// scheduling
+
+    /**
+     * Reviews the given FlashCard on the given date with the given rating, and reschedules it accordingly.
+     *
+     * @return The new review state of the FlashCard.
+     * @see ReviewState#review(Rating, LocalDate)
+     */
+    public ReviewState review(FlashCard flashCard, Rating rating, LocalDate today) {
+        requireAllNonNull(flashCard, rating, today);
+
+        Entry entry = entries.get(UniqueFlashCardList.identityOf(flashCard));
+        if (entry == null) {
+            add(flashCard);
+            entry = entries.get(UniqueFlashCardList.identityOf(flashCard));
+        }
+
+        update(entry, entry.reviewState.review(rating, today));
+        return entry.reviewState;
+    }
+
+    /**
+     * Returns the FlashCards that are due for review on the given date, starting with the most overdue. FlashCards
+     * that have never been reviewed are always due, and come first.
+     *
+     * Only the due FlashCards and their children in the heap are looked at, so this takes O(k log k) time when k
+     * FlashCards are due, however many are being scheduled.
+     */
+    public List<FlashCard> getDueFlashCards(LocalDate today) {
+        requireNonNull(today);
+
+        List<FlashCard> due = new ArrayList<>();
+        PriorityQueue<Entry> frontier =
+                new PriorityQueue<>(Comparator.comparing(entry -> entry.reviewState.getDueDate()));
+        if (!heap.isEmpty()) {
+            frontier.add(heap.get(0));
+        }
+
+        while (!frontier.isEmpty() && frontier.peek().reviewState.isDue(today)) {
+            Entry entry = frontier.poll();
+            due.add(entry.flashCard);
+
+            int left = 2 * entry.heapIndex + 1;
+            if (left < heap.size()) {
+                frontier.add(heap.get(left));
+            }
+            if (left + 1 < heap.size()) {
+                frontier.add(heap.get(left + 1));
+            }
+        }
+        return due;
+    }
+
+    //// heap maintenance
+
+    private void update(Entry entry, ReviewState reviewState) {
+        entry.reviewState = reviewState;
+        siftUp(entry.heapIndex);
+        siftDown(entry.heapIndex);
+    }
+
+    private void siftUp(int index) {
+        Entry entry = heap.get(index);
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (!isBefore(entry, heap.get(parent))) {
+                break;
+            }
+            place(heap.get(parent), index);
+            index = parent;
+        }
+        place(entry, index);
+    }
+
+    private void siftDown(int index) {
+        Entry entry = heap.get(index);
+        int size = heap.size();
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && isBefore(heap.get(child + 1), heap.get(child))) {
+                child++;
+            }
+            if (!isBefore(heap.get(child), entry)) {
+                break;
+            }
+            place(heap.get(child), index);
+            index = child;
+        }
+        place(entry, index);
+    }
+
+    private void place(Entry entry, int index) {
+        heap.set(index, entry);
+        entry.heapIndex = index;
+    }
+
+    private static boolean isBefore(Entry first, Entry second) {
+        return first.reviewState.getDueDate().isBefore(second.reviewState.getDueDate());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ReviewScheduler)) {
+            return false;
+        }
+
+        ReviewScheduler otherScheduler = (ReviewScheduler) other;
+        return entries.size() == otherScheduler.entries.size()
+                && entries.values().stream().allMatch(entry -> otherScheduler.contains(entry.flashCard)
+                        && entry.reviewState.equals(otherScheduler.getReviewState(entry.flashCard)));
+    }
+
+    @Override
+    public int hashCode() {
+        return entries.keySet().hashCode();
+    }
+
+    /**
+     * A FlashCard in the heap, along with its review state and its position in the heap.
+     */
+    private static class Entry {
+        private FlashCard flashCard;
+        private ReviewState reviewState;
+        private int heapIndex;
+
+        Entry(FlashCard flashCard, ReviewState reviewState, int heapIndex) {
+            this.flashCard = flashCard;
+            this.reviewState = reviewState;
+            this.heapIndex = heapIndex;
+        }
+    }
+}
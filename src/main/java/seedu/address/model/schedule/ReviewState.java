@@ -0,0 +1,179 @@
+//@@author LeowWB
+
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import seedu.address.model.flashcard.Rating;
+
+/**
+ * Represents the spaced-repetition state of a {@code FlashCard}, following the SM-2 algorithm: how easy the FlashCard
+ * is (its ease factor), how many days to wait between reviews, how many times in a row it has been recalled, and the
+ * date on which it is next due for review.
+ * Guarantees: immutable; is valid as declared in {@link #isValidReviewState(double, int, int)}
+ */
+public class ReviewState {
+
+    public static final String MESSAGE_CONSTRAINTS = "Ease factor must be at least " + ReviewState.MIN_EASE_FACTOR
+            + ", and the interval and number of repetitions must not be negative.";
+
+    public static final double MIN_EASE_FACTOR = 1.3;
+    public static final double INITIAL_EASE_FACTOR = 2.5;
+
+    /** Due date of a FlashCard that has never been reviewed. It is due before any FlashCard that has been. */
+    public static final LocalDate NEW_CARD_DUE_DATE = LocalDate.MIN;
+
+    private static final int FIRST_INTERVAL = 1;
+    private static final int SECOND_INTERVAL = 6;
+
+    /** Lowest quality of response (on the SM-2 scale of 0 to 5) that counts as having recalled the FlashCard. */
+    private static final int MIN_PASSING_QUALITY = 3;
+
+    private final double easeFactor;
+    private final int interval;
+    private final int repetitions;
+    private final LocalDate dueDate;
+
+    /**
+     * Constructs a {@code ReviewState}.
+     *
+     * @param easeFactor Multiplier applied to the interval after each successful review.
+     * @param interval Number of days between the previous review and the due date.
+     * @param repetitions Number of successful reviews in a row.
+     * @param dueDate Date on which the FlashCard is next due for review.
+     */
+    public ReviewState(double easeFactor, int interval, int repetitions, LocalDate dueDate) {
+        requireNonNull(dueDate);
+        checkArgument(isValidReviewState(easeFactor, interval, repetitions), MESSAGE_CONSTRAINTS);
+
+        this.easeFactor = easeFactor;
+        this.interval = interval;
+        this.repetitions = repetitions;
+        this.dueDate = dueDate;
+    }
+
+    /**
+     * Returns the state of a FlashCard that has never been reviewed.
+     */
+    public static ReviewState newCard() {
+        return new ReviewState(INITIAL_EASE_FACTOR, 0, 0, NEW_CARD_DUE_DATE);
+    }
+
+    /**
+     * Returns true if the given values make up a valid review state.
+     */
+    public static boolean isValidReviewState(double easeFactor, int interval, int repetitions) {
+        return easeFactor >= MIN_EASE_FACTOR && interval >= 0 && repetitions >= 0;
+    }
+
+    public double getEaseFactor() {
+        return easeFactor;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public int getRepetitions() {
+        return repetitions;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    /**
+     * Returns true if the FlashCard has never been reviewed.
+     */
+    public boolean isNew() {
+        return dueDate.equals(NEW_CARD_DUE_DATE);
+    }
+
+    /**
+     * Returns true if the FlashCard is due for review on the given date.
+     */
+    public boolean isDue(LocalDate today) {
+        requireNonNull(today);
+        return !dueDate.isAfter(today);
+    }
+
+    /**
+     * Returns the state that follows from reviewing the FlashCard on the given date with the given rating.
+     *
+     * A {@code hard} rating counts as failing to recall the FlashCard: it is due again the next day, and its
+     * repetitions start over, as in SM-2. {@code good} and {@code easy} count as recalling it, and lengthen its
+     * interval by the ease factor; {@code easy} also makes the FlashCard easier from then on.
+     *
+     * @param rating Rating given during the review. Must not be {@link Rating#NULL}.
+     * @param today Date of the review
+     * @return The new review state
+     */
+    public ReviewState review(Rating rating, LocalDate today) {
+        requireAllNonNull(rating, today);
+
+        int quality = qualityOf(rating);
+        if (quality < MIN_PASSING_QUALITY) {
+            return new ReviewState(easeFactor, FIRST_INTERVAL, 0, today.plusDays(FIRST_INTERVAL));
+        }
+
+        int newInterval;
+        if (repetitions == 0) {
+            newInterval = FIRST_INTERVAL;
+        } else if (repetitions == 1) {
+            newInterval = SECOND_INTERVAL;
+        } else {
+            newInterval = (int) Math.round(interval * easeFactor);
+        }
+
+        int distanceFromPerfect = 5 - quality;
+        double newEaseFactor = Math.max(
+                MIN_EASE_FACTOR,
+                easeFactor + 0.1 - distanceFromPerfect * (0.08 + distanceFromPerfect * 0.02)
+        );
+
+        return new ReviewState(newEaseFactor, newInterval, repetitions + 1, today.plusDays(newInterval));
+    }
+
+    /**
+     * Converts a rating into a quality of response on the SM-2 scale of 0 to 5.
+     */
+    private static int qualityOf(Rating rating) {
+        switch (rating.value) {
+        case Rating.EASY:
+            return 5;
+        case Rating.GOOD:
+            return 4;
+        case Rating.HARD:
+            return 2;
+        default:
+            throw new IllegalArgumentException(Rating.MESSAGE_CONSTRAINTS);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return isNew()
+                ? "New"
+                : String.format("Due %s (interval: %d days, ease: %.2f)", dueDate, interval, easeFactor);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ReviewState // instanceof handles nulls
+                && easeFactor == ((ReviewState) other).easeFactor
+                && interval == ((ReviewState) other).interval
+                && repetitions == ((ReviewState) other).repetitions
+                && dueDate.equals(((ReviewState) other).dueDate)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(easeFactor, interval, repetitions, dueDate);
+    }
+}
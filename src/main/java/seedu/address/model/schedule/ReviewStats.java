@@ -0,0 +1,244 @@
+//@@author LeowWB
+
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.category.Category;
+import seedu.address.model.deadline.Deadline;
+import seedu.address.model.flashcard.Rating;
+
+/**
+ * Keeps running totals of the ratings given in reviews, so that statistics can be broken down by category or by date
+ * without going through the FlashCards or the review log.
+ *
+ * The totals are kept per category, in a primitive array of counters indexed by rating, and per day, in one primitive
+ * array of daily counts for each rating. Recording a review only adds to the totals it falls in, without boxing.
+ */
+public class ReviewStats {
+
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The last day must not be before the first day.";
+
+    private static final int INITIAL_DAYS = 64;
+
+    private enum Level { GOOD, HARD, EASY }
+
+    private final ZoneId zone;
+    private final int[] totals = new int[Level.values().length];
+    private final Map<Category, int[]> categoryTotals = new HashMap<>();
+    private final EnumMap<Level, int[]> dailyCounts = new EnumMap<>(Level.class);
+    private long firstDay;
+    private boolean hasDays = false;
+
+    public ReviewStats() {
+        this(ZoneId.systemDefault());
+    }
+
+    /**
+     * Creates an empty ReviewStats that puts each review on its date in the given time zone.
+     */
+    public ReviewStats(ZoneId zone) {
+        requireNonNull(zone);
+        this.zone = zone;
+        for (Level level : Level.values()) {
+            dailyCounts.put(level, new int[INITIAL_DAYS]);
+        }
+    }
+
+    /**
+     * Adds the given review to the totals, under each of the given categories of the FlashCard that was reviewed.
+     */
+    public void record(ReviewEvent review, Set<Category> categories) {
+        requireAllNonNull(review, categories);
+
+        Level level = levelOf(review.getRating());
+        assert level != null;
+        totals[level.ordinal()]++;
+        for (Category category : categories) {
+            categoryTotals.computeIfAbsent(category, unused -> new int[Level.values().length])[level.ordinal()]++;
+        }
+        int dayIndex = dayIndex(review.getReviewedAt().atZone(zone).toLocalDate().toEpochDay());
+        dailyCounts.get(level)[dayIndex]++;
+    }
+
+    /**
+     * Returns the categories that have been reviewed.
+     */
+    public Set<Category> getCategories() {
+        return Collections.unmodifiableSet(categoryTotals.keySet());
+    }
+
+    //// counts
+
+    /**
+     * Returns the number of reviews that gave the given rating.
+     */
+    public int countReviews(Rating rating) {
+        Level level = levelOf(rating);
+        return level == null ? 0 : totals[level.ordinal()];
+    }
+
+    /**
+     * Returns the number of reviews of FlashCards in the given category that gave the given rating.
+     */
+    public int countReviews(Category category, Rating rating) {
+        requireNonNull(category);
+        Level level = levelOf(rating);
+        int[] counts = categoryTotals.get(category);
+        return level == null || counts == null ? 0 : counts[level.ordinal()];
+    }
+
+    /**
+     * Returns the number of reviews from {@code from} to {@code to}, both inclusive, that gave the given rating.
+     */
+    public int countReviews(Rating rating, LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        Level level = levelOf(rating);
+        if (level == null || !hasDays) {
+            return 0;
+        }
+
+        int[] counts = dailyCounts.get(level);
+        long start = Math.max(from.toEpochDay(), firstDay);
+        long end = Math.min(to.toEpochDay(), firstDay + counts.length - 1);
+        int count = 0;
+        for (long day = start; day <= end; day++) {
+            count += counts[(int) (day - firstDay)];
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of reviews on each day from {@code from} to {@code to}, both inclusive, in order.
+     */
+    public int[] countDailyReviews(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        checkArgument(!to.isBefore(from), MESSAGE_INVALID_DATE_RANGE);
+
+        int[] counts = new int[(int) (to.toEpochDay() - from.toEpochDay() + 1)];
+        if (!hasDays) {
+            return counts;
+        }
+        long start = Math.max(from.toEpochDay(), firstDay);
+        long end = Math.min(to.toEpochDay(), firstDay + dailyCounts.get(Level.GOOD).length - 1);
+        for (int[] levelCounts : dailyCounts.values()) {
+            for (long day = start; day <= end; day++) {
+                counts[(int) (day - from.toEpochDay())] += levelCounts[(int) (day - firstDay)];
+            }
+        }
+        return counts;
+    }
+
+    //// accuracy
+
+    /**
+     * Returns the percentage of all reviews that were rated good or easy, or 0 if there have been none.
+     */
+    public float getAccuracy() {
+        return accuracyOf(totals[Level.GOOD.ordinal()], totals[Level.HARD.ordinal()], totals[Level.EASY.ordinal()]);
+    }
+
+    /**
+     * Returns the percentage of the reviews of FlashCards in the given category that were rated good or easy, or 0
+     * if there have been none.
+     */
+    public float getAccuracy(Category category) {
+        requireNonNull(category);
+        return accuracyOf(countReviews(category, new Rating(Rating.GOOD)),
+                countReviews(category, new Rating(Rating.HARD)), countReviews(category, new Rating(Rating.EASY)));
+    }
+
+    /**
+     * Returns the percentage of the reviews from {@code from} to {@code to}, both inclusive, that were rated good or
+     * easy, or 0 if there were none.
+     */
+    public float getAccuracy(LocalDate from, LocalDate to) {
+        return accuracyOf(countReviews(new Rating(Rating.GOOD), from, to),
+                countReviews(new Rating(Rating.HARD), from, to), countReviews(new Rating(Rating.EASY), from, to));
+    }
+
+    /**
+     * Returns the percentage of the reviews in the week, from Monday to Sunday, of the given date that were rated good
+     * or easy, or 0 if there were none.
+     */
+    public float getWeeklyAccuracy(LocalDate date) {
+        requireNonNull(date);
+        LocalDate monday = date.minusDays(date.getDayOfWeek().getValue() - DayOfWeek.MONDAY.getValue());
+        return getAccuracy(monday, monday.plusDays(6));
+    }
+
+    /**
+     * Returns the percentage of the reviews in the {@code days} days up to and including the due date of the given
+     * deadline that were rated good or easy, or 0 if there were none.
+     */
+    public float getAccuracyBefore(Deadline deadline, int days) {
+        requireNonNull(deadline);
+        LocalDate dueDate = deadline.getDueDate().getLocalDate();
+        return getAccuracy(dueDate.minusDays(days - 1), dueDate);
+    }
+
+    private static float accuracyOf(int good, int hard, int easy) {
+        int total = good + hard + easy;
+        return total == 0 ? 0 : ((float) (good + easy) * 100) / total;
+    }
+
+    //// daily buckets
+
+    /**
+     * Returns the index of the given epoch day in the daily counts, growing them to take it in if needed.
+     */
+    private int dayIndex(long day) {
+        if (!hasDays) {
+            firstDay = day;
+            hasDays = true;
+        }
+
+        int length = dailyCounts.get(Level.GOOD).length;
+        if (day < firstDay) {
+            int shift = (int) Math.max(firstDay - day, length);
+            for (Level level : Level.values()) {
+                int[] grown = new int[length + shift];
+                System.arraycopy(dailyCounts.get(level), 0, grown, shift, length);
+                dailyCounts.put(level, grown);
+            }
+            firstDay -= shift;
+        } else if (day - firstDay >= length) {
+            int newLength = (int) Math.max(day - firstDay + 1, (long) length * 2);
+            for (Level level : Level.values()) {
+                dailyCounts.put(level, Arrays.copyOf(dailyCounts.get(level), newLength));
+            }
+        }
+        return (int) (day - firstDay);
+    }
+
+    private static Level levelOf(Rating rating) {
+        requireNonNull(rating);
+        switch (rating.value) {
+        case Rating.GOOD:
+            return Level.GOOD;
+        case Rating.HARD:
+            return Level.HARD;
+        case Rating.EASY:
+            return Level.EASY;
+        default:
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d reviews in %d categories", Arrays.stream(totals).sum(), categoryTotals.size());
+    }
+}
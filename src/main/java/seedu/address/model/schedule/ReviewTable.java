@@ -0,0 +1,339 @@
+//@@author LeowWB
+
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.flashcard.FlashCard;
+import seedu.address.model.flashcard.Rating;
+
+/**
+ * Keeps the review data of each {@code FlashCard} that changes whenever it is reviewed: its current rating, how many
+ * times it has been reviewed, and when it was last reviewed. This keeps {@code FlashCard}s themselves to their content,
+ * so that reviewing one does not have to create a new FlashCard and replace it in the list.
+ *
+ * Each FlashCard has a row, found by its id, and the review data is kept in one primitive column per field, so that
+ * recording a review only writes to the columns. Rows are kept packed: removing a FlashCard
+ * moves the last row into its place. The number of FlashCards with each rating is kept up to date as ratings change.
+ *
+ * A FlashCard that joins the table takes the rating it was created with. From then on, the rating in the table is the
+ * current rating of the FlashCard, and the rating the FlashCard was created with no longer matters.
+ */
+public class ReviewTable {
+
+    public static final String MESSAGE_CONSTRAINTS = "The number of reviews must not be negative, and a FlashCard "
+            + "that has been reviewed must have a date on which it was last reviewed.";
+
+    private static final Rating[] RATINGS = {
+        new Rating(Rating.NULL), new Rating(Rating.GOOD), new Rating(Rating.HARD), new Rating(Rating.EASY)
+    };
+    private static final long NEVER_REVIEWED = Long.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<Long, Integer> rows = new HashMap<>();
+    private final int[] ratingCounts = new int[RATINGS.length];
+    private FlashCard[] flashCards = new FlashCard[INITIAL_CAPACITY];
+    private byte[] ratingCodes = new byte[INITIAL_CAPACITY];
+    private int[] reviewCounts = new int[INITIAL_CAPACITY];
+    private long[] lastReviewedDays = new long[INITIAL_CAPACITY];
+    private int size = 0;
+
+    public ReviewTable() {}
+
+    /**
+     * Creates a ReviewTable with the same state as {@code toBeCopied}.
+     */
+    public ReviewTable(ReviewTable toBeCopied) {
+        requireNonNull(toBeCopied);
+
+        rows.putAll(toBeCopied.rows);
+        System.arraycopy(toBeCopied.ratingCounts, 0, ratingCounts, 0, ratingCounts.length);
+        flashCards = toBeCopied.flashCards.clone();
+        ratingCodes = toBeCopied.ratingCodes.clone();
+        reviewCounts = toBeCopied.reviewCounts.clone();
+        lastReviewedDays = toBeCopied.lastReviewedDays.clone();
+        size = toBeCopied.size;
+    }
+
+    /**
+     * Returns true if the given values make up valid review data.
+     */
+    public static boolean isValidReviewData(int reviewCount, Optional<LocalDate> lastReviewed) {
+        return reviewCount >= 0 && (reviewCount == 0 || lastReviewed.isPresent());
+    }
+
+    /**
+     * Returns the number of FlashCards in the table.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the given FlashCard is in the table.
+     */
+    public boolean contains(FlashCard flashCard) {
+        requireNonNull(flashCard);
+        return rows.containsKey(flashCard.getId());
+    }
+
+    /**
+     * Returns the current rating of the given FlashCard. A FlashCard that is not in the table has the rating it was
+     * created with.
+     */
+    public Rating getRating(FlashCard flashCard) {
+        requireNonNull(flashCard);
+        Integer row = rows.get(flashCard.getId());
+        return row == null ? flashCard.getRating() : RATINGS[ratingCodes[row]];
+    }
+
+    /**
+     * Returns the number of times the given FlashCard has been reviewed.
+     */
+    public int getReviewCount(FlashCard flashCard) {
+        requireNonNull(flashCard);
+        Integer row = rows.get(flashCard.getId());
+        return row == null ? 0 : reviewCounts[row];
+    }
+
+    /**
+     * Returns the date on which the given FlashCard was last reviewed, if it has ever been reviewed.
+     */
+    public Optional<LocalDate> getLastReviewed(FlashCard flashCard) {
+        requireNonNull(flashCard);
+        Integer row = rows.get(flashCard.getId());
+        return row == null || lastReviewedDays[row] == NEVER_REVIEWED
+                ? Optional.empty()
+                : Optional.of(LocalDate.ofEpochDay(lastReviewedDays[row]));
+    }
+
+    /**
+     * Returns the number of FlashCards whose current rating is {@code rating}.
+     */
+    public int countRated(Rating rating) {
+        requireNonNull(rating);
+        return ratingCounts[codeOf(rating)];
+    }
+
+    /**
+     * Returns the given FlashCard with its current rating. The FlashCard itself is returned if its rating is current.
+     */
+    public FlashCard withCurrentRating(FlashCard flashCard) {
+        Rating rating = getRating(flashCard);
+        if (flashCard.getRating().equals(rating)) {
+            return flashCard;
+        }
+        return new FlashCard(flashCard.getId(), flashCard.getQuestion(), flashCard.getAnswer(), rating,
+                flashCard.getCategories());
+    }
+
+    //// keeping in sync with the FlashCards
+
+    /**
+     * Adds the given FlashCard to the table, with the rating it was created with. If it is already in the table, only
+     * its rating is replaced.
+     */
+    public void add(FlashCard flashCard) {
+        requireNonNull(flashCard);
+
+        Integer existing = rows.get(flashCard.getId());
+        if (existing != null) {
+            flashCards[existing] = flashCard;
+            setRatingCode(existing, codeOf(flashCard.getRating()));
+            return;
+        }
+
+        ensureCapacity(size + 1);
+        flashCards[size] = flashCard;
+        ratingCodes[size] = codeOf(flashCard.getRating());
+        reviewCounts[size] = 0;
+        lastReviewedDays[size] = NEVER_REVIEWED;
+        ratingCounts[ratingCodes[size]]++;
+        rows.put(flashCard.getId(), size);
+        size++;
+    }
+
+    /**
+     * Removes the given FlashCard from the table. Does nothing if it is not in the table.
+     */
+    public void remove(FlashCard flashCard) {
+        requireNonNull(flashCard);
+
+        Integer row = rows.remove(flashCard.getId());
+        if (row == null) {
+            return;
+        }
+
+        ratingCounts[ratingCodes[row]]--;
+        int last = size - 1;
+        if (row != last) {
+            flashCards[row] = flashCards[last];
+            ratingCodes[row] = ratingCodes[last];
+            reviewCounts[row] = reviewCounts[last];
+            lastReviewedDays[row] = lastReviewedDays[last];
+            rows.put(flashCards[row].getId(), row);
+        }
+        flashCards[last] = null;
+        size--;
+    }
+
+    /**
+     * Records that {@code target} was replaced by {@code editedFlashCard}. The edited FlashCard keeps the review
+     * history of {@code target}, and takes the rating it was created with.
+     */
+    public void replace(FlashCard target, FlashCard editedFlashCard) {
+        requireAllNonNull(target, editedFlashCard);
+
+        Integer row = rows.remove(target.getId());
+        if (row == null) {
+            add(editedFlashCard);
+            return;
+        }
+
+        flashCards[row] = editedFlashCard;
+        setRatingCode(row, codeOf(editedFlashCard.getRating()));
+        Integer displaced = rows.put(editedFlashCard.getId(), row);
+        assert displaced == null || displaced.equals(row);
+    }
+
+    /**
+     * Replaces the FlashCards in the table with {@code flashCards}. FlashCards that were already in the table keep
+     * their review history, and those that are unchanged also keep their current ratings. The rest take the ratings
+     * they were created with.
+     */
+    public void setFlashCards(List<FlashCard> flashCards) {
+        requireNonNull(flashCards);
+
+        ReviewTable old = new ReviewTable(this);
+        clear();
+        for (FlashCard flashCard : flashCards) {
+            add(flashCard);
+            Integer oldRow = old.rows.get(flashCard.getId());
+            if (oldRow == null) {
+                continue;
+            }
+
+            int row = size - 1;
+            reviewCounts[row] = old.reviewCounts[oldRow];
+            lastReviewedDays[row] = old.lastReviewedDays[oldRow];
+            if (flashCard.equals(old.flashCards[oldRow])) {
+                setRatingCode(row, old.ratingCodes[oldRow]);
+            }
+        }
+    }
+
+    private void clear() {
+        rows.clear();
+        Arrays.fill(ratingCounts, 0);
+        Arrays.fill(flashCards, 0, size, null);
+        size = 0;
+    }
+
+    //// reviewing
+
+    /**
+     * Records that the given FlashCard was reviewed on the given date with the given rating, which becomes its current
+     * rating. A FlashCard that is not in the table is added first.
+     */
+    public void record(FlashCard flashCard, Rating rating, LocalDate today) {
+        requireAllNonNull(flashCard, rating, today);
+
+        Integer row = rows.get(flashCard.getId());
+        if (row == null) {
+            add(flashCard);
+            row = size - 1;
+        }
+
+        setRatingCode(row, codeOf(rating));
+        reviewCounts[row]++;
+        lastReviewedDays[row] = today.toEpochDay();
+    }
+
+    /**
+     * Restores the review history of a FlashCard in the table, as read from storage.
+     */
+    public void restore(FlashCard flashCard, int reviewCount, Optional<LocalDate> lastReviewed) {
+        requireAllNonNull(flashCard, lastReviewed);
+        checkArgument(isValidReviewData(reviewCount, lastReviewed), MESSAGE_CONSTRAINTS);
+
+        Integer row = rows.get(flashCard.getId());
+        assert row != null;
+        reviewCounts[row] = reviewCount;
+        lastReviewedDays[row] = lastReviewed.map(LocalDate::toEpochDay).orElse(NEVER_REVIEWED);
+    }
+
+    private void setRatingCode(int row, byte ratingCode) {
+        ratingCounts[ratingCodes[row]]--;
+        ratingCodes[row] = ratingCode;
+        ratingCounts[ratingCode]++;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= flashCards.length) {
+            return;
+        }
+        int newLength = Math.max(capacity, flashCards.length * 2);
+        flashCards = Arrays.copyOf(flashCards, newLength);
+        ratingCodes = Arrays.copyOf(ratingCodes, newLength);
+        reviewCounts = Arrays.copyOf(reviewCounts, newLength);
+        lastReviewedDays = Arrays.copyOf(lastReviewedDays, newLength);
+    }
+
+    private static byte codeOf(Rating rating) {
+        switch (rating.value) {
+        case Rating.GOOD:
+            return 1;
+        case Rating.HARD:
+            return 2;
+        case Rating.EASY:
+            return 3;
+        default:
+            return 0;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ReviewTable)) {
+            return false;
+        }
+
+        ReviewTable otherTable = (ReviewTable) other;
+        if (size != otherTable.size) {
+            return false;
+        }
+        for (Map.Entry<Long, Integer> entry : rows.entrySet()) {
+            Integer otherRow = otherTable.rows.get(entry.getKey());
+            int row = entry.getValue();
+            if (otherRow == null
+                    || ratingCodes[row] != otherTable.ratingCodes[otherRow]
+                    || reviewCounts[row] != otherTable.reviewCounts[otherRow]
+                    || lastReviewedDays[row] != otherTable.lastReviewedDays[otherRow]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return rows.keySet().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Review data of %d FlashCards", size);
+    }
+}
@@ -0,0 +1,66 @@
+//@@author LeowWB
+
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import seedu.address.model.flashcard.FlashCard;
+
+/**
+ * A random ordering of some of the FlashCards in a list, each appearing exactly once.
+ * The FlashCards are identified by their ordinals (positions) in the list, and it is these primitive ordinals that are
+ * shuffled, not the FlashCards themselves.
+ *
+ * The shuffle is a Fisher-Yates shuffle that is performed lazily: each FlashCard taken from an iterator performs one
+ * more step of the shuffle, so no work is done for the FlashCards that are never reached. Each iterator shuffles with
+ * a {@code Random} seeded with the same seed, so every iterator gives the same order.
+ */
+public class ShuffledSelection extends OrdinalSelection {
+
+    private final int[] ordinals;
+    private final long seed;
+
+    /**
+     * Constructs a {@code ShuffledSelection} of the FlashCards at the given ordinals of {@code flashCards}.
+     * Neither the list nor the ordinals may be modified while the selection is in use.
+     */
+    public ShuffledSelection(List<FlashCard> flashCards, int[] ordinals, long seed) {
+        super(flashCards);
+        requireNonNull(ordinals);
+        this.ordinals = ordinals;
+        this.seed = seed;
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt ordinalIterator() {
+        return new PrimitiveIterator.OfInt() {
+            private final Random random = new Random(seed);
+            private final int[] unvisited = ordinals.clone();
+            private int unvisitedCount = unvisited.length;
+
+            @Override
+            public boolean hasNext() {
+                return unvisitedCount > 0;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                // move a uniformly chosen unvisited ordinal to the end of the unvisited region, and visit it
+                int chosen = random.nextInt(unvisitedCount);
+                int ordinal = unvisited[chosen];
+                unvisited[chosen] = unvisited[--unvisitedCount];
+                unvisited[unvisitedCount] = ordinal;
+                return ordinal;
+            }
+        };
+    }
+}
@@ -0,0 +1,93 @@
+//@@author LeowWB
+
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import seedu.address.model.flashcard.Rating;
+
+/**
+ * The aggregate counts shown in the statistics, as observable values that the charts can be bound to.
+ * Setting a count to the value it already has does not notify any listeners, so the counts can be refreshed after
+ * every change to the model without redrawing anything that did not change.
+ */
+public class StatsCounters {
+
+    public static final String MESSAGE_UNCOUNTED_RATING = "Only good, hard and easy ratings are counted.";
+
+    private static final String[] COUNTED_RATINGS = {Rating.GOOD, Rating.HARD, Rating.EASY};
+
+    private final ReadOnlyIntegerWrapper[] ratedCounts = new ReadOnlyIntegerWrapper[COUNTED_RATINGS.length];
+    private final ReadOnlyIntegerWrapper[] testedCounts = new ReadOnlyIntegerWrapper[COUNTED_RATINGS.length];
+    private final ReadOnlyIntegerWrapper testsTaken = new ReadOnlyIntegerWrapper();
+
+    public StatsCounters() {
+        for (int i = 0; i < COUNTED_RATINGS.length; i++) {
+            ratedCounts[i] = new ReadOnlyIntegerWrapper();
+            testedCounts[i] = new ReadOnlyIntegerWrapper();
+        }
+    }
+
+    /**
+     * Returns the number of FlashCards currently given the given rating.
+     */
+    public ReadOnlyIntegerProperty ratedCountProperty(Rating rating) {
+        return ratedCounts[checkedIndexOf(rating)].getReadOnlyProperty();
+    }
+
+    /**
+     * Returns the number of questions given the given rating in tests.
+     */
+    public ReadOnlyIntegerProperty testedCountProperty(Rating rating) {
+        return testedCounts[checkedIndexOf(rating)].getReadOnlyProperty();
+    }
+
+    /**
+     * Returns the number of tests whose performance has been recorded.
+     */
+    public ReadOnlyIntegerProperty testsTakenProperty() {
+        return testsTaken.getReadOnlyProperty();
+    }
+
+    /**
+     * Sets the number of FlashCards currently given the given rating.
+     */
+    public void setRatedCount(Rating rating, int count) {
+        ratedCounts[checkedIndexOf(rating)].set(count);
+    }
+
+    /**
+     * Sets the number of questions given the given rating in tests.
+     */
+    public void setTestedCount(Rating rating, int count) {
+        testedCounts[checkedIndexOf(rating)].set(count);
+    }
+
+    public void setTestsTaken(int count) {
+        testsTaken.set(count);
+    }
+
+    private static int checkedIndexOf(Rating rating) {
+        int index = indexOf(rating);
+        checkArgument(index >= 0, MESSAGE_UNCOUNTED_RATING);
+        return index;
+    }
+
+    private static int indexOf(Rating rating) {
+        requireNonNull(rating);
+        for (int i = 0; i < COUNTED_RATINGS.length; i++) {
+            if (COUNTED_RATINGS[i].equals(rating.value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Counts from %d tests", testsTaken.get());
+    }
+}
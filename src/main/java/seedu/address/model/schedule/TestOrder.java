@@ -0,0 +1,93 @@
+//@@author LeowWB
+
+package seedu.address.model.schedule;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+
+import seedu.address.model.flashcard.FlashCard;
+import seedu.address.model.flashcard.Rating;
+
+/**
+ * The order in which the FlashCards of a test are presented.
+ */
+public enum TestOrder {
+    /** The order in which the FlashCards appear in the deck. */
+    DECK(""),
+    /** A random order, in which each FlashCard appears once. */
+    SHUFFLE("--shuffle"),
+    /** A random order that favours the FlashCards that were rated as harder. See {@link #weightOf(Rating)}. */
+    WEIGHTED("--weighted");
+
+    private static final double HARD_WEIGHT = 3;
+    private static final double GOOD_WEIGHT = 2;
+    private static final double EASY_WEIGHT = 1;
+
+    private final String flag;
+
+    TestOrder(String flag) {
+        this.flag = flag;
+    }
+
+    public String getFlag() {
+        return flag;
+    }
+
+    /**
+     * Returns the TestOrder that is requested with the given flag, if there is one.
+     */
+    public static Optional<TestOrder> fromFlag(String flag) {
+        for (TestOrder testOrder : values()) {
+            if (testOrder != DECK && testOrder.flag.equalsIgnoreCase(flag)) {
+                return Optional.of(testOrder);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Arranges the FlashCards at the given ordinals of {@code flashCards} into this order. Nothing is copied, and the
+     * FlashCards are only arranged as they are taken. Random orders are determined by {@code seed}, so arranging the
+     * same ordinals with the same seed always gives the same order. A {@code WEIGHTED} order is weighted by the
+     * current ratings in {@code reviewTable}.
+     * Neither the list nor the ordinals may be modified while the arrangement is in use.
+     */
+    public OrdinalSelection arrange(List<FlashCard> flashCards, int[] ordinals, long seed, ReviewTable reviewTable) {
+        requireAllNonNull(flashCards, ordinals, reviewTable);
+
+        switch (this) {
+        case SHUFFLE:
+            return new ShuffledSelection(flashCards, ordinals, seed);
+        case WEIGHTED:
+            return new WeightedSelection(flashCards, ordinals,
+                    flashCard -> weightOf(reviewTable.getRating(flashCard)), seed);
+        default:
+            return new OrdinalSelection(flashCards) {
+                @Override
+                public PrimitiveIterator.OfInt ordinalIterator() {
+                    return IntStream.of(ordinals).iterator();
+                }
+            };
+        }
+    }
+
+    /**
+     * Returns how heavily a FlashCard with the given rating is favoured in a {@code WEIGHTED} test: hard FlashCards
+     * more than good ones, and good ones more than easy ones. FlashCards that have not been rated are weighted like
+     * good ones.
+     */
+    static double weightOf(Rating rating) {
+        switch (rating.value) {
+        case Rating.HARD:
+            return HARD_WEIGHT;
+        case Rating.EASY:
+            return EASY_WEIGHT;
+        default:
+            return GOOD_WEIGHT;
+        }
+    }
+}
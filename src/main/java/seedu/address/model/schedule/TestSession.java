@@ -0,0 +1,197 @@
+//@@author LeowWB
+
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import seedu.address.model.flashcard.FlashCard;
+
+/**
+ * Represents the progress of a test, compactly enough to be saved after every question: the ordinals (positions in the
+ * list of all FlashCards) of the FlashCards being tested, the {@code TestOrder} they are tested in and the seed of
+ * that order, a cursor counting how many FlashCards have been taken so far, and the ordinal of the FlashCard being
+ * tested. No FlashCards are copied.
+ *
+ * Since the order is determined by the ordinals and the seed alone, a test can be picked up where it left off by
+ * arranging the ordinals again and skipping the FlashCards before the cursor, without selecting the FlashCards again.
+ * (A {@code WEIGHTED} test is weighted by the ratings at the time it is picked up, so the FlashCards drawn after that
+ * may differ from the ones that would have been drawn, but there are as many of them.)
+ * Guarantees: immutable; is valid as declared in {@link #isValidTestSession(int[], int, int)}
+ */
+public class TestSession {
+
+    public static final String MESSAGE_CONSTRAINTS = "Ordinals must not be negative, the cursor must be between 0 "
+            + "and the number of ordinals, and there cannot be a current ordinal if the cursor is 0.";
+
+    /** Current ordinal of a test that has not taken any FlashCards yet. */
+    public static final int NO_CURRENT_ORDINAL = -1;
+
+    private final TestOrder testOrder;
+    private final int[] ordinals;
+    private final long seed;
+    private final int cursor;
+    private final int currentOrdinal;
+
+    /**
+     * Constructs a {@code TestSession} of the FlashCards at the given ordinals that has not started yet.
+     * The ordinals are not copied, and must not be modified afterwards.
+     */
+    public TestSession(TestOrder testOrder, int[] ordinals, long seed) {
+        this(testOrder, ordinals, seed, 0, NO_CURRENT_ORDINAL);
+    }
+
+    /**
+     * Every field must be present and not null. The ordinals are not copied, and must not be modified afterwards.
+     */
+    public TestSession(TestOrder testOrder, int[] ordinals, long seed, int cursor, int currentOrdinal) {
+        requireAllNonNull(testOrder, ordinals);
+        checkArgument(isValidTestSession(ordinals, cursor, currentOrdinal), MESSAGE_CONSTRAINTS);
+
+        this.testOrder = testOrder;
+        this.ordinals = ordinals;
+        this.seed = seed;
+        this.cursor = cursor;
+        this.currentOrdinal = currentOrdinal;
+    }
+
+    /**
+     * Returns true if the given ordinals, cursor and current ordinal make up a valid test session.
+     */
+    public static boolean isValidTestSession(int[] ordinals, int cursor, int currentOrdinal) {
+        boolean hasCurrentOrdinal = currentOrdinal != NO_CURRENT_ORDINAL;
+        return cursor >= 0 && cursor <= ordinals.length
+                && (!hasCurrentOrdinal || cursor > 0) && currentOrdinal >= NO_CURRENT_ORDINAL
+                && IntStream.of(ordinals).allMatch(ordinal -> ordinal >= 0);
+    }
+
+    /**
+     * Returns the ordinals of the FlashCards in {@code flashCards} that satisfy {@code isSelected}, in ascending order.
+     * Every FlashCard is tested, so this takes O(n) time for a list of n FlashCards, however few are selected.
+     */
+    public static int[] selectOrdinals(List<FlashCard> flashCards, Predicate<FlashCard> isSelected) {
+        requireAllNonNull(flashCards, isSelected);
+        return IntStream.range(0, flashCards.size())
+                .filter(ordinal -> isSelected.test(flashCards.get(ordinal)))
+                .toArray();
+    }
+
+    public TestOrder getTestOrder() {
+        return testOrder;
+    }
+
+    /**
+     * Returns a copy of the ordinals of the FlashCards being tested.
+     */
+    public int[] getOrdinals() {
+        return ordinals.clone();
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of FlashCards that have been taken from the test so far, including the one being tested.
+     */
+    public int getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Returns the ordinal of the FlashCard being tested, or {@link #NO_CURRENT_ORDINAL} if none has been taken yet.
+     */
+    public int getCurrentOrdinal() {
+        return currentOrdinal;
+    }
+
+    /**
+     * Returns a TestSession that has gone on to test the FlashCard at {@code takenOrdinal}.
+     */
+    public TestSession advance(int takenOrdinal) {
+        return new TestSession(testOrder, ordinals, seed, cursor + 1, takenOrdinal);
+    }
+
+    /**
+     * Returns this TestSession as it was just before the FlashCard being tested was taken. If no FlashCard has been
+     * taken yet, returns this TestSession.
+     */
+    public TestSession beforeCurrent() {
+        if (currentOrdinal == NO_CURRENT_ORDINAL) {
+            return this;
+        }
+        return new TestSession(testOrder, ordinals, seed, cursor - 1, NO_CURRENT_ORDINAL);
+    }
+
+    /**
+     * Returns true if every ordinal is a position in a list of the given size.
+     */
+    public boolean isValidFor(int flashCardCount) {
+        return currentOrdinal < flashCardCount && IntStream.of(ordinals).allMatch(ordinal -> ordinal < flashCardCount);
+    }
+
+    /**
+     * Returns the ordinals in {@code flashCards} of the FlashCards that have not been rated yet, in the order they
+     * will be tested: the FlashCard being tested, if there is one, followed by the FlashCards yet to be taken.
+     * The list must be the one the ordinals were taken from, and must not be structurally modified while the
+     * returned iterator is in use. {@code reviewTable} holds the current ratings of the FlashCards.
+     */
+    public PrimitiveIterator.OfInt getPendingOrdinals(List<FlashCard> flashCards, ReviewTable reviewTable) {
+        requireAllNonNull(flashCards, reviewTable);
+        assert isValidFor(flashCards.size());
+
+        PrimitiveIterator.OfInt untaken = testOrder.arrange(flashCards, ordinals, seed, reviewTable).ordinalIterator();
+        for (int i = 0; i < cursor; i++) {
+            untaken.nextInt();
+        }
+        if (currentOrdinal == NO_CURRENT_ORDINAL) {
+            return untaken;
+        }
+        return new PrimitiveIterator.OfInt() {
+            private boolean isCurrentPending = true;
+
+            @Override
+            public boolean hasNext() {
+                return isCurrentPending || untaken.hasNext();
+            }
+
+            @Override
+            public int nextInt() {
+                if (isCurrentPending) {
+                    isCurrentPending = false;
+                    return currentOrdinal;
+                }
+                return untaken.nextInt();
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TestSession // instanceof handles nulls
+                && testOrder == ((TestSession) other).testOrder
+                && Arrays.equals(ordinals, ((TestSession) other).ordinals)
+                && seed == ((TestSession) other).seed
+                && cursor == ((TestSession) other).cursor
+                && currentOrdinal == ((TestSession) other).currentOrdinal); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(testOrder, Arrays.hashCode(ordinals), seed, cursor, currentOrdinal);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s test of %d FlashCards, at %d", testOrder, ordinals.length, cursor);
+    }
+}
@@ -0,0 +1,77 @@
+//@@author LeowWB
+
+package seedu.address.model.schedule;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+
+import seedu.address.model.flashcard.FlashCard;
+
+/**
+ * A random sequence drawn from some of the FlashCards in a list, in which each FlashCard is drawn in proportion to its
+ * weight. FlashCards are drawn with replacement, so a heavily weighted FlashCard may come up more than once, and a
+ * lightly weighted one not at all. The sequence is as long as the number of FlashCards it is drawn from.
+ *
+ * The weights are only looked at once, when the selection is created. Each draw then takes constant time. Each
+ * iterator draws with a {@code Random} seeded with the same seed, so every iterator gives the same sequence.
+ */
+public class WeightedSelection extends OrdinalSelection {
+
+    private final int[] ordinals;
+    private final AliasSampler sampler;
+    private final long seed;
+
+    /**
+     * Constructs a {@code WeightedSelection} of the FlashCards at the given ordinals of {@code flashCards}.
+     * Neither the list nor the ordinals may be modified while the selection is in use.
+     *
+     * @param weightOf Weight of a FlashCard. Must not be negative, and must be positive for at least one FlashCard
+     *         if there are any.
+     */
+    public WeightedSelection(List<FlashCard> flashCards, int[] ordinals, ToDoubleFunction<FlashCard> weightOf,
+            long seed) {
+        super(flashCards);
+        requireAllNonNull(ordinals, weightOf);
+        this.ordinals = ordinals;
+        this.seed = seed;
+
+        if (ordinals.length == 0) {
+            this.sampler = null;
+            return;
+        }
+
+        double[] weights = new double[ordinals.length];
+        for (int i = 0; i < ordinals.length; i++) {
+            weights[i] = weightOf.applyAsDouble(flashCards.get(ordinals[i]));
+        }
+        this.sampler = new AliasSampler(weights);
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt ordinalIterator() {
+        return new PrimitiveIterator.OfInt() {
+            private final Random random = new Random(seed);
+            private int remainingDraws = ordinals.length;
+
+            @Override
+            public boolean hasNext() {
+                return remainingDraws > 0;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                remainingDraws--;
+                return ordinals[sampler.sample(random)];
+            }
+        };
+    }
+}
@@ -0,0 +1,68 @@
+//@@author LeowWB
+
+package seedu.address.storage;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.category.Category;
+import seedu.address.model.export.ExportHistory;
+import seedu.address.model.export.ExportHistory.Watermark;
+
+/**
+ * Jackson-friendly version of an export path's {@link Watermark}.
+ */
+class JsonAdaptedExportWatermark {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Export watermark's %s field is missing!";
+
+    private final String path;
+    private final String category;
+    private final Long version;
+
+    /**
+     * Constructs a {@code JsonAdaptedExportWatermark} with the given watermark details.
+     */
+    @JsonCreator
+    public JsonAdaptedExportWatermark(@JsonProperty("path") String path,
+                                      @JsonProperty("category") String category,
+                                      @JsonProperty("version") Long version) {
+        this.path = path;
+        this.category = category;
+        this.version = version;
+    }
+
+    /**
+     * Converts a given path and its {@code Watermark} into this class for Jackson use.
+     */
+    public JsonAdaptedExportWatermark(Map.Entry<String, Watermark> source) {
+        path = source.getKey();
+        category = source.getValue().category.categoryName;
+        version = source.getValue().version;
+    }
+
+    /**
+     * Restores this watermark into the given {@code ExportHistory}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted watermark.
+     */
+    public void restoreInto(ExportHistory exportHistory) throws IllegalValueException {
+        if (path == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "path"));
+        }
+        if (category == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "category"));
+        }
+        if (!Category.isValidCategoryName(category)) {
+            throw new IllegalValueException(Category.MESSAGE_CONSTRAINTS);
+        }
+        if (version == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "version"));
+        }
+
+        exportHistory.restoreWatermark(path, new Category(category), version);
+    }
+}
@@ -1,12 +1,16 @@
 package seedu.address.storage;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -15,6 +19,7 @@ import seedu.address.model.flashcard.Answer;
 import seedu.address.model.flashcard.FlashCard;
 import seedu.address.model.flashcard.Question;
 import seedu.address.model.flashcard.Rating;
+import seedu.address.model.schedule.ReviewState;
 
 
 /**
@@ -23,38 +28,137 @@ import seedu.address.model.flashcard.Rating;
 class JsonAdaptedFlashcard {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "FlashCard's %s field is missing!";
+    public static final String MESSAGE_INVALID_LAST_REVIEWED =
+            "FlashCard's last reviewed date must be in the format yyyy-MM-dd";
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long id;
     private final String question;
     private final String answer;
     private final String rating;
     private final List<JsonAdaptedCategory> categories = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long version;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final JsonAdaptedReviewState schedule;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer reviewCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String lastReviewed;
 
     /**
      * Constructs a {@code JsonAdaptedFlashcard} with the given flashCard details.
      */
     @JsonCreator
-    public JsonAdaptedFlashcard(@JsonProperty("question") String question,
+    public JsonAdaptedFlashcard(@JsonProperty("id") Long id,
+                                @JsonProperty("question") String question,
                                 @JsonProperty("answer") String answer,
                                 @JsonProperty("rating") String rating,
-                                @JsonProperty("categories") List<JsonAdaptedCategory> categories) {
+                                @JsonProperty("categories") List<JsonAdaptedCategory> categories,
+                                @JsonProperty("version") Long version,
+                                @JsonProperty("schedule") JsonAdaptedReviewState schedule,
+                                @JsonProperty("reviewCount") Integer reviewCount,
+                                @JsonProperty("lastReviewed") String lastReviewed) {
+        this.id = id;
         this.question = question;
         this.answer = answer;
         this.rating = rating;
         if (categories != null) {
             this.categories.addAll(categories);
         }
+        this.version = version;
+        this.schedule = schedule;
+        this.reviewCount = reviewCount;
+        this.lastReviewed = lastReviewed;
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedFlashcard} with the given flashCard details, without an id, version or schedule.
+     */
+    public JsonAdaptedFlashcard(String question, String answer, String rating, List<JsonAdaptedCategory> categories) {
+        this(null, question, answer, rating, categories, null, null, null, null);
     }
 
     /**
      * Converts a given {@code FlashCard} into this class for Jackson use.
      */
     public JsonAdaptedFlashcard(FlashCard source) {
+        this(source, null, null);
+    }
+
+    /**
+     * Converts a given {@code FlashCard} into this class for Jackson use, together with the version at which it was
+     * last changed.
+     */
+    public JsonAdaptedFlashcard(FlashCard source, Long version) {
+        this(source, version, null);
+    }
+
+    /**
+     * Converts a given {@code FlashCard} into this class for Jackson use, together with the version at which it was
+     * last changed and its review state. The review state is left out if the flashCard has never been reviewed.
+     */
+    public JsonAdaptedFlashcard(FlashCard source, Long version, ReviewState reviewState) {
+        this(source, version, reviewState, 0, Optional.empty());
+    }
+
+    /**
+     * Converts a given {@code FlashCard} into this class for Jackson use, together with the version at which it was
+     * last changed, its review state, the number of times it has been reviewed, and when it was last reviewed.
+     * The review state and history are left out if the flashCard has never been reviewed.
+     */
+    public JsonAdaptedFlashcard(FlashCard source, Long version, ReviewState reviewState, int reviewCount,
+            Optional<LocalDate> lastReviewed) {
+        id = source.getId();
         question = source.getQuestion().fullQuestion;
         answer = source.getAnswer().fullAnswer;
         rating = source.getRating().value;
         categories.addAll(source.getCategories().stream()
                 .map(JsonAdaptedCategory::new)
                 .collect(Collectors.toList()));
+        this.version = version;
+        this.schedule = reviewState == null || reviewState.isNew() ? null : new JsonAdaptedReviewState(reviewState);
+        this.reviewCount = reviewCount == 0 ? null : reviewCount;
+        this.lastReviewed = lastReviewed.map(LocalDate::toString).orElse(null);
+    }
+
+    /**
+     * Returns the version at which this flashCard was last changed, or 0 if none was recorded.
+     */
+    public long getVersion() {
+        return version == null ? 0 : version;
+    }
+
+    /**
+     * Returns the review state of this flashCard, if it has ever been reviewed.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted review state.
+     */
+    public Optional<ReviewState> getReviewState() throws IllegalValueException {
+        return schedule == null ? Optional.empty() : Optional.of(schedule.toModelType());
+    }
+
+    /**
+     * Returns the number of times this flashCard has been reviewed.
+     */
+    public int getReviewCount() {
+        return reviewCount == null ? 0 : reviewCount;
+    }
+
+    /**
+     * Returns the date on which this flashCard was last reviewed, if it has ever been reviewed.
+     *
+     * @throws IllegalValueException if the date is not in the expected format.
+     */
+    public Optional<LocalDate> getLastReviewed() throws IllegalValueException {
+        if (lastReviewed == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(LocalDate.parse(lastReviewed));
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_LAST_REVIEWED, e);
+        }
     }
 
     /**
@@ -95,7 +199,9 @@ class JsonAdaptedFlashcard {
         final Rating modelRating = new Rating(rating);
 
         final Set<Category> modelCategories = new HashSet<>(flashCardCategories);
-        return new FlashCard(modelQuestion, modelAnswer, modelRating, modelCategories);
+        // absent from data files written before flashCards had ids
+        final long modelId = id == null ? FlashCard.newId() : id;
+        return new FlashCard(modelId, modelQuestion, modelAnswer, modelRating, modelCategories);
     }
 
 }
@@ -0,0 +1,82 @@
+//@@author LeowWB
+
+package seedu.address.storage;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.schedule.ReviewState;
+
+/**
+ * Jackson-friendly version of {@link ReviewState}.
+ */
+class JsonAdaptedReviewState {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Review schedule's %s field is missing!";
+    public static final String MESSAGE_INVALID_DUE_DATE = "Review schedule's due date must be in the format yyyy-MM-dd";
+
+    private final Double easeFactor;
+    private final Integer interval;
+    private final Integer repetitions;
+    private final String due;
+
+    /**
+     * Constructs a {@code JsonAdaptedReviewState} with the given review state details.
+     */
+    @JsonCreator
+    public JsonAdaptedReviewState(@JsonProperty("easeFactor") Double easeFactor,
+                                  @JsonProperty("interval") Integer interval,
+                                  @JsonProperty("repetitions") Integer repetitions,
+                                  @JsonProperty("due") String due) {
+        this.easeFactor = easeFactor;
+        this.interval = interval;
+        this.repetitions = repetitions;
+        this.due = due;
+    }
+
+    /**
+     * Converts a given {@code ReviewState} into this class for Jackson use.
+     */
+    public JsonAdaptedReviewState(ReviewState source) {
+        easeFactor = source.getEaseFactor();
+        interval = source.getInterval();
+        repetitions = source.getRepetitions();
+        due = source.getDueDate().toString();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted review state into the model's {@code ReviewState} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted review state.
+     */
+    public ReviewState toModelType() throws IllegalValueException {
+        if (easeFactor == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "easeFactor"));
+        }
+        if (interval == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "interval"));
+        }
+        if (repetitions == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "repetitions"));
+        }
+        if (due == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "due"));
+        }
+        if (!ReviewState.isValidReviewState(easeFactor, interval, repetitions)) {
+            throw new IllegalValueException(ReviewState.MESSAGE_CONSTRAINTS);
+        }
+
+        final LocalDate modelDueDate;
+        try {
+            modelDueDate = LocalDate.parse(due);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_DUE_DATE, e);
+        }
+
+        return new ReviewState(easeFactor, interval, repetitions, modelDueDate);
+    }
+}
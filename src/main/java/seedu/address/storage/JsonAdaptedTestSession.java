@@ -0,0 +1,93 @@
+//@@author LeowWB
+
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.schedule.TestOrder;
+import seedu.address.model.schedule.TestSession;
+
+/**
+ * Jackson-friendly version of {@link TestSession}.
+ */
+class JsonAdaptedTestSession {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Test session's %s field is missing!";
+    public static final String MESSAGE_INVALID_ORDER = "Test session's order is not a known test order.";
+    public static final String MESSAGE_INVALID_ORDINAL = "Test session refers to a FlashCard that does not exist.";
+
+    private final String order;
+    private final int[] ordinals;
+    private final Long seed;
+    private final Integer cursor;
+    private final Integer current;
+
+    /**
+     * Constructs a {@code JsonAdaptedTestSession} with the given test session details.
+     */
+    @JsonCreator
+    public JsonAdaptedTestSession(@JsonProperty("order") String order,
+                                  @JsonProperty("ordinals") int[] ordinals,
+                                  @JsonProperty("seed") Long seed,
+                                  @JsonProperty("cursor") Integer cursor,
+                                  @JsonProperty("current") Integer current) {
+        this.order = order;
+        this.ordinals = ordinals;
+        this.seed = seed;
+        this.cursor = cursor;
+        this.current = current;
+    }
+
+    /**
+     * Converts a given {@code TestSession} into this class for Jackson use.
+     */
+    public JsonAdaptedTestSession(TestSession source) {
+        order = source.getTestOrder().name();
+        ordinals = source.getOrdinals();
+        seed = source.getSeed();
+        cursor = source.getCursor();
+        current = source.getCurrentOrdinal();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted test session into the model's {@code TestSession} object.
+     *
+     * @param flashCardCount Number of FlashCards that the ordinals of the test session refer to.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted test session.
+     */
+    public TestSession toModelType(int flashCardCount) throws IllegalValueException {
+        if (order == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "order"));
+        }
+        if (ordinals == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "ordinals"));
+        }
+        if (seed == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "seed"));
+        }
+        if (cursor == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "cursor"));
+        }
+        if (current == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "current"));
+        }
+
+        final TestOrder modelTestOrder;
+        try {
+            modelTestOrder = TestOrder.valueOf(order);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_ORDER, e);
+        }
+
+        if (!TestSession.isValidTestSession(ordinals, cursor, current)) {
+            throw new IllegalValueException(TestSession.MESSAGE_CONSTRAINTS);
+        }
+        TestSession testSession = new TestSession(modelTestOrder, ordinals.clone(), seed, cursor, current);
+        if (!testSession.isValidFor(flashCardCount)) {
+            throw new IllegalValueException(MESSAGE_INVALID_ORDINAL);
+        }
+        return testSession;
+    }
+}
@@ -0,0 +1,69 @@
+//@@author LeowWB
+
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.export.FlashCardPatch;
+
+/**
+ * A class to access a FlashCardPatch stored as a json file on the hard disk.
+ */
+public class JsonFlashCardPatchStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonFlashCardPatchStorage.class);
+
+    private Path filePath;
+
+    public JsonFlashCardPatchStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getFlashCardPatchFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the FlashCardPatch stored in the file, or an empty Optional if the file does not exist.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<FlashCardPatch> readFlashCardPatch() throws DataConversionException {
+        requireNonNull(filePath);
+
+        Optional<JsonSerializableFlashCardPatch> jsonPatch = JsonUtil.readJsonFile(
+                filePath, JsonSerializableFlashCardPatch.class);
+        if (!jsonPatch.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(jsonPatch.get().toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Saves the given FlashCardPatch to the file, replacing its contents.
+     */
+    public void saveFlashCardPatch(FlashCardPatch patch) throws IOException {
+        requireNonNull(patch);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableFlashCardPatch(patch), filePath);
+    }
+
+}
@@ -0,0 +1,76 @@
+//@@author LeowWB
+
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.export.FlashCardPatch;
+import seedu.address.model.flashcard.FlashCard;
+
+/**
+ * An Immutable FlashCardPatch that is serializable to JSON format.
+ */
+@JsonRootName(value = "patch")
+class JsonSerializableFlashCardPatch {
+
+    public static final String MESSAGE_INVALID_VERSIONS = "Patch ends at an earlier version than it starts at.";
+
+    private final long fromVersion;
+    private final long toVersion;
+    private final List<JsonAdaptedFlashcard> upserts = new ArrayList<>();
+    private final List<JsonAdaptedFlashcard> removals = new ArrayList<>();
+
+    @JsonCreator
+    public JsonSerializableFlashCardPatch(@JsonProperty("fromVersion") long fromVersion,
+                                          @JsonProperty("toVersion") long toVersion,
+                                          @JsonProperty("upserts") List<JsonAdaptedFlashcard> upserts,
+                                          @JsonProperty("removals") List<JsonAdaptedFlashcard> removals) {
+        this.fromVersion = fromVersion;
+        this.toVersion = toVersion;
+        if (upserts != null) {
+            this.upserts.addAll(upserts);
+        }
+        if (removals != null) {
+            this.removals.addAll(removals);
+        }
+    }
+
+    /**
+     * Converts a given {@code FlashCardPatch} into this class for Jackson use.
+     */
+    public JsonSerializableFlashCardPatch(FlashCardPatch source) {
+        fromVersion = source.getFromVersion();
+        toVersion = source.getToVersion();
+        upserts.addAll(source.getUpserts().stream().map(JsonAdaptedFlashcard::new).collect(Collectors.toList()));
+        removals.addAll(source.getRemovals().stream().map(JsonAdaptedFlashcard::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts this patch into the model's {@code FlashCardPatch} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public FlashCardPatch toModelType() throws IllegalValueException {
+        if (fromVersion > toVersion) {
+            throw new IllegalValueException(MESSAGE_INVALID_VERSIONS);
+        }
+
+        return new FlashCardPatch(fromVersion, toVersion, toModelType(upserts), toModelType(removals));
+    }
+
+    private static List<FlashCard> toModelType(List<JsonAdaptedFlashcard> jsonAdaptedFlashcards)
+            throws IllegalValueException {
+        List<FlashCard> flashCards = new ArrayList<>();
+        for (JsonAdaptedFlashcard jsonAdaptedFlashcard : jsonAdaptedFlashcards) {
+            flashCards.add(jsonAdaptedFlashcard.toModelType());
+        }
+        return flashCards;
+    }
+}
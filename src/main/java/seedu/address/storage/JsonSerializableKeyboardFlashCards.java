@@ -1,10 +1,13 @@
 package seedu.address.storage;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
@@ -12,7 +15,12 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.KeyboardFlashCards;
 import seedu.address.model.ReadOnlyKeyboardFlashCards;
 import seedu.address.model.deadline.Deadline;
+import seedu.address.model.export.ExportHistory;
 import seedu.address.model.flashcard.FlashCard;
+import seedu.address.model.schedule.PerformanceSeries;
+import seedu.address.model.schedule.ReviewScheduler;
+import seedu.address.model.schedule.ReviewState;
+import seedu.address.model.schedule.ReviewTable;
 
 /**
  * An Immutable KeyboardFlashCards that is serializable to JSON format.
@@ -21,16 +29,40 @@ import seedu.address.model.flashcard.FlashCard;
 class JsonSerializableKeyboardFlashCards {
 
     public static final String MESSAGE_DUPLICATE_FLASHCARD = "Flashcards list contains duplicate flashCard(s).";
+    public static final String MESSAGE_DUPLICATE_FLASHCARD_ID = "Flashcards list contains flashCards with the same id.";
     public static final String MESSAGE_DUPLICATE_DEADLINE = "Deadlines list contains duplicate Deadline(s).";
 
     private final List<JsonAdaptedFlashcard> flashcards = new ArrayList<>();
     private final List<JsonAdaptedDeadline> deadlines = new ArrayList<>();
+    private final List<JsonAdaptedFlashcard> removedFlashcards = new ArrayList<>();
+    private final List<JsonAdaptedExportWatermark> exportWatermarks = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final JsonAdaptedTestSession testSession;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<Float> performance = new ArrayList<>();
 
     @JsonCreator
     public JsonSerializableKeyboardFlashCards(@JsonProperty("flashcards") List<JsonAdaptedFlashcard> flashcards,
-                                              @JsonProperty("deadlines") List<JsonAdaptedDeadline> deadlines) {
+            @JsonProperty("deadlines") List<JsonAdaptedDeadline> deadlines,
+            @JsonProperty("removedFlashcards") List<JsonAdaptedFlashcard> removedFlashcards,
+            @JsonProperty("exportWatermarks") List<JsonAdaptedExportWatermark> exportWatermarks,
+            @JsonProperty("testSession") JsonAdaptedTestSession testSession,
+            @JsonProperty("performance") List<Float> performance) {
         this.flashcards.addAll(flashcards);
         this.deadlines.addAll(deadlines);
+        // absent from data files written before incremental exports were supported
+        if (removedFlashcards != null) {
+            this.removedFlashcards.addAll(removedFlashcards);
+        }
+        if (exportWatermarks != null) {
+            this.exportWatermarks.addAll(exportWatermarks);
+        }
+        // absent unless a test was under way when this was saved
+        this.testSession = testSession;
+        // absent from data files written before the performance history was saved
+        if (performance != null) {
+            this.performance.addAll(performance);
+        }
     }
 
     /**
@@ -39,16 +71,40 @@ class JsonSerializableKeyboardFlashCards {
      * @param source future changes to this will not affect the created {@code JsonSerializableKeyboardFlashCards}.
      */
     public JsonSerializableKeyboardFlashCards(ReadOnlyKeyboardFlashCards source) {
+        ExportHistory exportHistory = source.getExportHistory();
+        ReviewScheduler reviewScheduler = source.getReviewScheduler();
+        ReviewTable reviewTable = source.getReviewTable();
+
         flashcards.addAll(
                 source.getFlashcardList()
                         .stream()
-                        .map(JsonAdaptedFlashcard::new)
+                        .map(flashCard -> new JsonAdaptedFlashcard(
+                                reviewTable.withCurrentRating(flashCard),
+                                exportHistory.getVersion(flashCard),
+                                reviewScheduler.getReviewState(flashCard),
+                                reviewTable.getReviewCount(flashCard),
+                                reviewTable.getLastReviewed(flashCard)))
                         .collect(Collectors.toList()));
         deadlines.addAll(
                 source.getDeadlineList()
                 .stream()
                 .map(JsonAdaptedDeadline::new)
                 .collect(Collectors.toList()));
+        removedFlashcards.addAll(
+                exportHistory.getRemovedFlashCards()
+                .stream()
+                .map(removed -> new JsonAdaptedFlashcard(removed.flashCard, removed.version))
+                .collect(Collectors.toList()));
+        exportWatermarks.addAll(
+                exportHistory.getWatermarks()
+                .entrySet()
+                .stream()
+                .map(JsonAdaptedExportWatermark::new)
+                .collect(Collectors.toList()));
+        testSession = source.getTestSession().map(JsonAdaptedTestSession::new).orElse(null);
+        for (float value : source.getPerformanceSeries().toArray()) {
+            performance.add(value);
+        }
     }
 
 
@@ -59,12 +115,40 @@ class JsonSerializableKeyboardFlashCards {
      */
     public KeyboardFlashCards toModelType() throws IllegalValueException {
         KeyboardFlashCards keyboardFlashCards = new KeyboardFlashCards();
+        ExportHistory exportHistory = new ExportHistory();
+        ReviewScheduler reviewScheduler = new ReviewScheduler();
+        ReviewTable reviewTable = new ReviewTable();
         for (JsonAdaptedFlashcard jsonAdaptedFlashcard : flashcards) {
             FlashCard flashCard = jsonAdaptedFlashcard.toModelType();
             if (keyboardFlashCards.hasFlashcard(flashCard)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_FLASHCARD);
             }
+            if (keyboardFlashCards.hasFlashcardId(flashCard.getId())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_FLASHCARD_ID);
+            }
             keyboardFlashCards.addFlashcard(flashCard);
+            exportHistory.restoreVersion(flashCard, jsonAdaptedFlashcard.getVersion());
+            reviewScheduler.add(flashCard, jsonAdaptedFlashcard.getReviewState().orElseGet(ReviewState::newCard));
+            reviewTable.add(flashCard);
+            restoreReviewHistory(reviewTable, flashCard, jsonAdaptedFlashcard);
+        }
+
+        for (JsonAdaptedFlashcard jsonAdaptedFlashcard : removedFlashcards) {
+            exportHistory.restoreRemoved(jsonAdaptedFlashcard.toModelType(), jsonAdaptedFlashcard.getVersion());
+        }
+
+        for (JsonAdaptedExportWatermark jsonAdaptedExportWatermark : exportWatermarks) {
+            jsonAdaptedExportWatermark.restoreInto(exportHistory);
+        }
+        keyboardFlashCards.setExportHistory(exportHistory);
+        keyboardFlashCards.setReviewScheduler(reviewScheduler);
+        keyboardFlashCards.setReviewTable(reviewTable);
+
+        for (Float value : performance) {
+            if (value == null || !PerformanceSeries.isValidPerformance(value)) {
+                throw new IllegalValueException(PerformanceSeries.MESSAGE_CONSTRAINTS);
+            }
+            keyboardFlashCards.addPerformance(value);
         }
 
         for (JsonAdaptedDeadline jsonAdaptedDeadline : deadlines) {
@@ -74,6 +158,21 @@ class JsonSerializableKeyboardFlashCards {
             }
             keyboardFlashCards.addDeadline(deadline);
         }
+
+        // restored last, since adding the flashcards above discards any test session
+        if (testSession != null) {
+            keyboardFlashCards.setTestSession(testSession.toModelType(flashcards.size()));
+        }
         return keyboardFlashCards;
     }
+
+    private static void restoreReviewHistory(ReviewTable reviewTable, FlashCard flashCard,
+            JsonAdaptedFlashcard jsonAdaptedFlashcard) throws IllegalValueException {
+        int reviewCount = jsonAdaptedFlashcard.getReviewCount();
+        Optional<LocalDate> lastReviewed = jsonAdaptedFlashcard.getLastReviewed();
+        if (!ReviewTable.isValidReviewData(reviewCount, lastReviewed)) {
+            throw new IllegalValueException(ReviewTable.MESSAGE_CONSTRAINTS);
+        }
+        reviewTable.restore(flashCard, reviewCount, lastReviewed);
+    }
 }
@@ -0,0 +1,44 @@
+//@@author LeowWB
+
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.schedule.ReviewEvent;
+
+/**
+ * Represents an append-only storage for the {@link ReviewEvent}s of every test taken.
+ */
+public interface ReviewLogStorage {
+
+    /**
+     * Returns the path of the directory the reviews are kept in.
+     */
+    Path getReviewLogDirectoryPath();
+
+    /**
+     * Appends the given reviews, in order, to the end of the log.
+     * @param reviews cannot be null.
+     * @throws IOException if there was any problem writing to the log.
+     */
+    void appendReviews(List<ReviewEvent> reviews) throws IOException;
+
+    /**
+     * Returns every review of the FlashCard with the given id, oldest first.
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    List<ReviewEvent> readReviews(long flashCardId) throws DataConversionException, IOException;
+
+    /**
+     * Returns every review made from {@code from} to {@code to}, both inclusive, oldest first.
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    List<ReviewEvent> readReviews(Instant from, Instant to) throws DataConversionException, IOException;
+
+}
@@ -0,0 +1,466 @@
+//@@author LeowWB
+
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.flashcard.Rating;
+import seedu.address.model.schedule.ReviewEvent;
+
+/**
+ * A {@code ReviewLogStorage} that appends reviews to a directory of segment files in a compact binary encoding.
+ * <p>
+ * Each segment is named {@code reviews-<sequence number>-<epoch millis of its first review>.log} and holds the reviews
+ * made from then until the next segment was started, so a query for a range of time only reads the segments that
+ * overlap it. Once a segment grows past the maximum size, the next review starts a new one, and the ids of the
+ * FlashCards reviewed in the old one are written beside it in a {@code .idx} file, so a query for one FlashCard only
+ * reads the segments in which it was reviewed.
+ * <p>
+ * A segment starts with a short header, followed by one record per review, made up of three unsigned varints:
+ * <ol>
+ *     <li>the milliseconds since the previous review in the segment, or since the segment was started;</li>
+ *     <li>the rating in the low two bits and, above them, 0 for a FlashCard not yet reviewed in the segment, whose
+ *     8-byte id follows, or {@code k} for the {@code k}th FlashCard reviewed in it;</li>
+ *     <li>the response time in milliseconds.</li>
+ * </ol>
+ * Times are kept to the millisecond, and a review is never recorded as earlier than the one appended before it.
+ */
+public class SegmentedReviewLogStorage implements ReviewLogStorage {
+
+    public static final long DEFAULT_MAX_SEGMENT_SIZE = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedReviewLogStorage.class);
+
+    private static final byte[] HEADER = {'K', 'F', 'R', 'L', 1};
+    private static final Pattern SEGMENT_FILE_NAME = Pattern.compile("reviews-(\\d+)-(-?\\d+)\\.log");
+    private static final String[] RATINGS = {null, Rating.GOOD, Rating.HARD, Rating.EASY};
+
+    private final Path directory;
+    private final long maxSegmentSize;
+
+    // read from the directory on first use; the last segment is the one being appended to
+    private List<Segment> segments;
+    private Map<Long, Integer> openReferences;
+    private long openLastMillis;
+    private long openSize;
+
+    public SegmentedReviewLogStorage(Path directory) {
+        this(directory, DEFAULT_MAX_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a {@code SegmentedReviewLogStorage} that starts a new segment once the last one reaches
+     * {@code maxSegmentSize} bytes.
+     */
+    public SegmentedReviewLogStorage(Path directory, long maxSegmentSize) {
+        requireNonNull(directory);
+        this.directory = directory;
+        this.maxSegmentSize = maxSegmentSize;
+    }
+
+    @Override
+    public Path getReviewLogDirectoryPath() {
+        return directory;
+    }
+
+    @Override
+    public void appendReviews(List<ReviewEvent> reviews) throws IOException {
+        requireNonNull(reviews);
+        if (reviews.isEmpty()) {
+            return;
+        }
+
+        try {
+            loadSegments();
+            ByteArrayOutputStream pending = new ByteArrayOutputStream();
+            for (ReviewEvent review : reviews) {
+                long millis = segments.isEmpty()
+                        ? review.getReviewedAt().toEpochMilli()
+                        : Math.max(review.getReviewedAt().toEpochMilli(), openLastMillis);
+                if (segments.isEmpty() || openSize + pending.size() >= maxSegmentSize) {
+                    flush(pending);
+                    startSegment(millis);
+                }
+                encode(review, millis, pending);
+            }
+            flush(pending);
+        } catch (DataConversionException e) {
+            throw new IOException("Cannot append to review log in " + directory, e);
+        } catch (IOException e) {
+            // what was written is recovered from the files on next use
+            segments = null;
+            throw e;
+        }
+    }
+
+    @Override
+    public List<ReviewEvent> readReviews(long flashCardId) throws DataConversionException, IOException {
+        loadSegments();
+        List<ReviewEvent> reviews = new ArrayList<>();
+        for (Segment segment : segments) {
+            Set<Long> reviewedIds = isOpen(segment) ? openReferences.keySet() : getReviewedIds(segment);
+            if (!reviewedIds.contains(flashCardId)) {
+                continue;
+            }
+            for (ReviewEvent review : read(segment).reviews) {
+                if (review.getFlashCardId() == flashCardId) {
+                    reviews.add(review);
+                }
+            }
+        }
+        return reviews;
+    }
+
+    @Override
+    public List<ReviewEvent> readReviews(Instant from, Instant to) throws DataConversionException, IOException {
+        requireNonNull(from);
+        requireNonNull(to);
+        loadSegments();
+        List<ReviewEvent> reviews = new ArrayList<>();
+        for (int i = 0; i < segments.size(); i++) {
+            boolean startsAfterRange = Instant.ofEpochMilli(segments.get(i).baseMillis).isAfter(to);
+            boolean endsBeforeRange = i + 1 < segments.size()
+                    && Instant.ofEpochMilli(segments.get(i + 1).baseMillis).isBefore(from);
+            if (startsAfterRange) {
+                break;
+            }
+            if (endsBeforeRange) {
+                continue;
+            }
+            for (ReviewEvent review : read(segments.get(i)).reviews) {
+                Instant reviewedAt = review.getReviewedAt();
+                if (!reviewedAt.isBefore(from) && !reviewedAt.isAfter(to)) {
+                    reviews.add(review);
+                }
+            }
+        }
+        return reviews;
+    }
+
+    // ================ Segments ==============================
+
+    /**
+     * Lists the segments in the directory, if not done already, and recovers the last one for appending, cutting
+     * off any review that was only partly written to it.
+     */
+    private void loadSegments() throws DataConversionException, IOException {
+        if (segments != null) {
+            return;
+        }
+
+        List<Segment> found = new ArrayList<>();
+        if (Files.isDirectory(directory)) {
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.collect(Collectors.toList())) {
+                    Matcher matcher = SEGMENT_FILE_NAME.matcher(file.getFileName().toString());
+                    if (matcher.matches()) {
+                        found.add(new Segment(Long.parseLong(matcher.group(1)), Long.parseLong(matcher.group(2)),
+                                file));
+                    }
+                }
+            } catch (NumberFormatException e) {
+                throw new DataConversionException(e);
+            }
+        }
+        found.sort(Comparator.comparingLong(segment -> segment.sequenceNumber));
+
+        openReferences = new HashMap<>();
+        openSize = 0;
+        openLastMillis = 0;
+        if (!found.isEmpty()) {
+            Segment open = found.get(found.size() - 1);
+            byte[] bytes = Files.readAllBytes(open.path);
+            DecodedSegment decoded = decode(open, bytes);
+            if (decoded.length < bytes.length) {
+                logger.warning("Discarding " + (bytes.length - decoded.length) + " bytes of partly written reviews at"
+                        + " the end of " + open.path);
+                recover(open, decoded.length);
+            }
+            for (int i = 0; i < decoded.reviewedIds.size(); i++) {
+                openReferences.put(decoded.reviewedIds.get(i), i + 1);
+            }
+            openSize = Math.max(decoded.length, HEADER.length);
+            openLastMillis = decoded.lastMillis;
+        }
+        segments = found;
+    }
+
+    private void recover(Segment segment, int length) throws IOException {
+        if (length < HEADER.length) {
+            Files.write(segment.path, HEADER);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(segment.path, StandardOpenOption.WRITE)) {
+            channel.truncate(length);
+        }
+    }
+
+    private boolean isOpen(Segment segment) {
+        return segment == segments.get(segments.size() - 1);
+    }
+
+    /**
+     * Seals the segment being appended to, if any, and starts a new one whose first review is at {@code baseMillis}.
+     */
+    private void startSegment(long baseMillis) throws IOException {
+        long sequenceNumber = 0;
+        if (!segments.isEmpty()) {
+            Segment sealed = segments.get(segments.size() - 1);
+            sealed.reviewedIds = new HashSet<>(openReferences.keySet());
+            writeIndex(sealed);
+            sequenceNumber = sealed.sequenceNumber + 1;
+        }
+
+        Files.createDirectories(directory);
+        Segment segment = new Segment(sequenceNumber, baseMillis,
+                directory.resolve("reviews-" + sequenceNumber + "-" + baseMillis + ".log"));
+        Files.write(segment.path, HEADER);
+        segments.add(segment);
+        openReferences = new HashMap<>();
+        openSize = HEADER.length;
+        openLastMillis = baseMillis;
+    }
+
+    private void flush(ByteArrayOutputStream pending) throws IOException {
+        if (pending.size() == 0) {
+            return;
+        }
+        Files.write(segments.get(segments.size() - 1).path, pending.toByteArray(), StandardOpenOption.APPEND);
+        openSize += pending.size();
+        pending.reset();
+    }
+
+    private DecodedSegment read(Segment segment) throws DataConversionException, IOException {
+        byte[] bytes = Files.readAllBytes(segment.path);
+        DecodedSegment decoded = decode(segment, bytes);
+        if (decoded.length < bytes.length) {
+            throw corrupt(segment.path, "it ends partway through a review");
+        }
+        return decoded;
+    }
+
+    // ================ Indexes of sealed segments ==============================
+
+    /**
+     * Returns the ids of the FlashCards reviewed in the given sealed segment, from its index if it has one.
+     */
+    private Set<Long> getReviewedIds(Segment segment) throws DataConversionException, IOException {
+        if (segment.reviewedIds != null) {
+            return segment.reviewedIds;
+        }
+
+        Path indexPath = segment.getIndexPath();
+        if (Files.exists(indexPath)) {
+            ByteReader reader = new ByteReader(Files.readAllBytes(indexPath), 0);
+            long count = reader.readVarint();
+            Set<Long> reviewedIds = new HashSet<>();
+            while (count > 0 && reader.hasRemaining(Long.BYTES)) {
+                reviewedIds.add(reader.readLong());
+                count--;
+            }
+            if (count == 0 && !reader.hasRemaining(1)) {
+                segment.reviewedIds = reviewedIds;
+                return reviewedIds;
+            }
+            logger.warning("Rebuilding unreadable index " + indexPath);
+        }
+
+        segment.reviewedIds = new HashSet<>(read(segment).reviewedIds);
+        writeIndex(segment);
+        return segment.reviewedIds;
+    }
+
+    private void writeIndex(Segment segment) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeVarint(out, segment.reviewedIds.size());
+        for (long id : segment.reviewedIds) {
+            writeLong(out, id);
+        }
+        Files.write(segment.getIndexPath(), out.toByteArray());
+    }
+
+    // ================ Encoding ==============================
+
+    private void encode(ReviewEvent review, long millis, ByteArrayOutputStream out) {
+        long id = review.getFlashCardId();
+        int ratingCode = Arrays.asList(RATINGS).indexOf(review.getRating().value);
+
+        writeVarint(out, millis - openLastMillis);
+        Integer reference = openReferences.get(id);
+        if (reference == null) {
+            writeVarint(out, ratingCode);
+            writeLong(out, id);
+            openReferences.put(id, openReferences.size() + 1);
+        } else {
+            writeVarint(out, ((long) reference << 2) | ratingCode);
+        }
+        writeVarint(out, review.getResponseTime().toMillis());
+        openLastMillis = millis;
+    }
+
+    /**
+     * Decodes every whole review in the given segment. Decoding stops at the first review that was only partly
+     * written, and {@code length} of the result is where that review starts.
+     */
+    private static DecodedSegment decode(Segment segment, byte[] bytes) throws DataConversionException {
+        DecodedSegment decoded = new DecodedSegment(segment.baseMillis);
+        if (bytes.length < HEADER.length) {
+            return decoded;
+        }
+        if (!Arrays.equals(Arrays.copyOf(bytes, HEADER.length), HEADER)) {
+            throw corrupt(segment.path, "it does not start with a review log header");
+        }
+
+        ByteReader reader = new ByteReader(bytes, HEADER.length);
+        decoded.length = HEADER.length;
+        while (reader.hasRemaining(1)) {
+            long delta = reader.readVarint();
+            long head = reader.readVarint();
+            if (delta < 0 || head < 0) {
+                break;
+            }
+            int ratingCode = (int) (head & 3);
+            long reference = head >>> 2;
+            if (ratingCode == 0 || reference > decoded.reviewedIds.size()) {
+                throw corrupt(segment.path, "it has a review with an unknown rating or FlashCard");
+            }
+            if (reference == 0 && !reader.hasRemaining(Long.BYTES)) {
+                break;
+            }
+            long id = reference == 0 ? reader.readLong() : decoded.reviewedIds.get((int) reference - 1);
+            long responseMillis = reader.readVarint();
+            if (responseMillis < 0) {
+                break;
+            }
+
+            if (reference == 0) {
+                decoded.reviewedIds.add(id);
+            }
+            decoded.lastMillis += delta;
+            decoded.reviews.add(new ReviewEvent(id, Instant.ofEpochMilli(decoded.lastMillis),
+                    new Rating(RATINGS[ratingCode]), Duration.ofMillis(responseMillis)));
+            decoded.length = reader.position;
+        }
+        return decoded;
+    }
+
+    private static DataConversionException corrupt(Path path, String reason) {
+        return new DataConversionException(new IllegalValueException("Cannot read " + path + ": " + reason));
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        assert value >= 0;
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static void writeLong(ByteArrayOutputStream out, long value) {
+        for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            out.write((int) (value >>> shift) & 0xFF);
+        }
+    }
+
+    /**
+     * Reads varints and longs from an array of bytes.
+     */
+    private static class ByteReader {
+        private final byte[] bytes;
+        private int position;
+
+        ByteReader(byte[] bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        boolean hasRemaining(int count) {
+            return bytes.length - position >= count;
+        }
+
+        /**
+         * Returns the next varint, or -1 if the bytes run out before it ends.
+         */
+        long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE && position < bytes.length; shift += 7) {
+                byte b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            return -1;
+        }
+
+        long readLong() {
+            long value = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                value = (value << Byte.SIZE) | (bytes[position++] & 0xFF);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * A segment file, and the ids of the FlashCards reviewed in it once it has been sealed.
+     */
+    private static class Segment {
+        private final long sequenceNumber;
+        private final long baseMillis;
+        private final Path path;
+        private Set<Long> reviewedIds;
+
+        Segment(long sequenceNumber, long baseMillis, Path path) {
+            this.sequenceNumber = sequenceNumber;
+            this.baseMillis = baseMillis;
+            this.path = path;
+        }
+
+        Path getIndexPath() {
+            String fileName = path.getFileName().toString();
+            return path.resolveSibling(fileName.substring(0, fileName.length() - ".log".length()) + ".idx");
+        }
+    }
+
+    /**
+     * The reviews in a segment, the ids of the FlashCards reviewed in it in order of their first review, the time of
+     * its last review, and the number of bytes that were decoded.
+     */
+    private static class DecodedSegment {
+        private final List<ReviewEvent> reviews = new ArrayList<>();
+        private final List<Long> reviewedIds = new ArrayList<>();
+        private long lastMillis;
+        private int length;
+
+        DecodedSegment(long baseMillis) {
+            lastMillis = baseMillis;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -10,6 +12,7 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyKeyboardFlashCards;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.schedule.ReviewEvent;
 
 /**
  * Manages storage of KeyboardFlashCards data in local storage.
@@ -19,12 +22,15 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private KeyboardFlashCardsStorage keyboardFlashCardsStorage;
     private UserPrefsStorage userPrefsStorage;
+    private ReviewLogStorage reviewLogStorage;
 
 
-    public StorageManager(KeyboardFlashCardsStorage keyboardFlashCardsStorage, UserPrefsStorage userPrefsStorage) {
+    public StorageManager(KeyboardFlashCardsStorage keyboardFlashCardsStorage, UserPrefsStorage userPrefsStorage,
+            ReviewLogStorage reviewLogStorage) {
         super();
         this.keyboardFlashCardsStorage = keyboardFlashCardsStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.reviewLogStorage = reviewLogStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -75,4 +81,28 @@ public class StorageManager implements Storage {
         keyboardFlashCardsStorage.saveAddressBook(addressBook, filePath);
     }
 
+    //@@author LeowWB
+    // ================ Review log methods ==============================
+
+    @Override
+    public Path getReviewLogDirectoryPath() {
+        return reviewLogStorage.getReviewLogDirectoryPath();
+    }
+
+    @Override
+    public void appendReviews(List<ReviewEvent> reviews) throws IOException {
+        logger.fine("Attempting to append " + reviews.size() + " reviews to: " + getReviewLogDirectoryPath());
+        reviewLogStorage.appendReviews(reviews);
+    }
+
+    @Override
+    public List<ReviewEvent> readReviews(long flashCardId) throws DataConversionException, IOException {
+        return reviewLogStorage.readReviews(flashCardId);
+    }
+
+    @Override
+    public List<ReviewEvent> readReviews(Instant from, Instant to) throws DataConversionException, IOException {
+        return reviewLogStorage.readReviews(from, to);
+    }
+
 }
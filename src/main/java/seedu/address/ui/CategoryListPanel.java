@@ -24,13 +24,19 @@ public class CategoryListPanel extends UiPart<Region> {
 
     public CategoryListPanel(ObservableList<Category> categoryList) {
         super(FXML);
-        categoryListView.setItems(categoryList);
+        //@@author LeowWB
+        categoryListView.setItems(new PulseCoalescedList<>(categoryList).asUnmodifiableObservableList());
+        //@@author
         categoryListView.setCellFactory(listview -> new CategoryListViewCell());
     }
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Category} using a {@code Category}.
      */
     class CategoryListViewCell extends ListCell<Category> {
+        //@@author LeowWB
+        private CategoryPanel categoryPanel;
+
+        //@@author
         @Override
         protected void updateItem(Category category, boolean empty) {
             super.updateItem(category, empty);
@@ -39,7 +45,14 @@ public class CategoryListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new CategoryPanel(category, getIndex() + 1).getRoot());
+                //@@author LeowWB
+                if (categoryPanel == null) {
+                    categoryPanel = new CategoryPanel(category, getIndex() + 1);
+                } else {
+                    categoryPanel.setCategory(category, getIndex() + 1);
+                }
+                setGraphic(categoryPanel.getRoot());
+                //@@author
             }
         }
     }
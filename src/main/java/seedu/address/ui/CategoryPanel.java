@@ -12,7 +12,7 @@ public class CategoryPanel extends UiPart<Region> {
 
     private static final String FXML = "CategoryListCard.fxml";
 
-    public final Category category;
+    private Category category;
 
     @FXML
     private Label categoryFx;
@@ -20,10 +20,22 @@ public class CategoryPanel extends UiPart<Region> {
 
     public CategoryPanel(Category category, int displayedIndex) {
         super(FXML);
+        setCategory(category, displayedIndex);
+    }
+
+    //@@author LeowWB
+    public Category getCategory() {
+        return category;
+    }
+
+    /**
+     * Shows the given Category in this panel, in place of the one shown before.
+     */
+    public void setCategory(Category category, int displayedIndex) {
         this.category = category;
         categoryFx.setText(category.categoryName);
-
     }
+    //@@author
 
     @Override
     public boolean equals(Object other) {
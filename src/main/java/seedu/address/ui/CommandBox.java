@@ -1,8 +1,13 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -17,17 +22,63 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    //@@author LeowWB
+    private final CommandPreviewer commandPreviewer;
+    private final CommandCompleter commandCompleter;
+    private List<String> suggestions = new ArrayList<>();
+    private int suggestionIndex = 0;
 
+    //@@author
     @FXML
     private TextField commandTextField;
 
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandPreviewer commandPreviewer,
+            CommandCompleter commandCompleter) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        //@@author LeowWB
+        this.commandPreviewer = commandPreviewer;
+        this.commandCompleter = commandCompleter;
+        //@@author
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        //@@author LeowWB
+        // previews the command as it is typed, which returns at once as the preview is made in the background.
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> commandPreviewer.preview(newText));
+        // Tab would otherwise move the focus out of the command box.
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB) {
+                event.consume();
+                handleTabPressed();
+            }
+        });
+        //@@author
+    }
+
+    //@@author LeowWB
+    /**
+     * Completes the command being typed with the most likely suggestion, or replaces the suggestion that was just
+     * completed with the next one.
+     */
+    private void handleTabPressed() {
+        String commandText = commandTextField.getText();
+        if (!suggestions.isEmpty() && commandText.equals(suggestions.get(suggestionIndex))) {
+            suggestionIndex = (suggestionIndex + 1) % suggestions.size();
+        } else {
+            suggestions = commandCompleter.complete(commandText);
+            if (suggestions.isEmpty()) {
+                return;
+            }
+            // skips a suggestion that is already typed out in full
+            suggestionIndex = suggestions.size() > 1 && suggestions.get(0).equals(commandText) ? 1 : 0;
+        }
+
+        commandTextField.setText(suggestions.get(suggestionIndex));
+        commandTextField.end();
     }
 
+    //@@author
+
     /**
      * Handles the Enter button pressed event.
      */
@@ -74,4 +125,31 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    //@@author LeowWB
+    /**
+     * Represents a function that can preview commands as they are typed.
+     */
+    @FunctionalInterface
+    public interface CommandPreviewer {
+        /**
+         * Previews the command typed so far, without waiting for the preview to be made.
+         *
+         * @see seedu.address.logic.Logic#previewCommand(String)
+         */
+        void preview(String commandText);
+    }
+
+    /**
+     * Represents a function that can suggest ways to complete commands.
+     */
+    @FunctionalInterface
+    public interface CommandCompleter {
+        /**
+         * Returns the ways to complete the command typed so far, most likely first.
+         *
+         * @see seedu.address.logic.Logic#completeCommand(String)
+         */
+        List<String> complete(String commandText);
+    }
+
 }
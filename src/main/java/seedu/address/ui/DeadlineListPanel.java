@@ -23,7 +23,9 @@ public class DeadlineListPanel extends UiPart<Region> {
 
     public DeadlineListPanel(ObservableList<Deadline> deadlineList) {
         super(FXML);
-        deadlineListView.setItems(deadlineList);
+        //@@author LeowWB
+        deadlineListView.setItems(new PulseCoalescedList<>(deadlineList).asUnmodifiableObservableList());
+        //@@author dalsontws
         deadlineListView.setCellFactory(listView -> new DeadlineListViewCell());
     }
 
@@ -31,6 +33,10 @@ public class DeadlineListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code FlashCard} using a {@code DeadlinePanel}.
      */
     class DeadlineListViewCell extends ListCell<Deadline> {
+        //@@author LeowWB
+        private DeadlinePanel deadlinePanel;
+
+        //@@author dalsontws
         @Override
         protected void updateItem(Deadline deadline, boolean empty) {
             super.updateItem(deadline, empty);
@@ -39,7 +45,14 @@ public class DeadlineListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new DeadlinePanel(deadline, getIndex() + 1).getRoot());
+                //@@author LeowWB
+                if (deadlinePanel == null) {
+                    deadlinePanel = new DeadlinePanel(deadline, getIndex() + 1);
+                } else {
+                    deadlinePanel.setDeadline(deadline, getIndex() + 1);
+                }
+                setGraphic(deadlinePanel.getRoot());
+                //@@author dalsontws
             }
         }
     }
@@ -16,7 +16,7 @@ public class DeadlinePanel extends UiPart<Region> {
 
     private static final String FXML = "DeadlineListCard.fxml";
 
-    public final Deadline deadline;
+    private Deadline deadline;
 
     @FXML
     private HBox deadlineCardPane;
@@ -27,18 +27,17 @@ public class DeadlinePanel extends UiPart<Region> {
     @FXML
     private Label dueDate;
 
+    private final Text deadlineText = new Text();
+
     public DeadlinePanel(Deadline deadline, int displayedIndex) {
         super(FXML);
-        this.deadline = deadline;
-        id.setText(displayedIndex + ". ");
-        Text deadlineText = new Text (deadline.getTask().toString());
         deadlineText.setId("deadlinetext");
         task.getChildren().add(deadlineText);
+        setDeadline(deadline, displayedIndex);
         //TODO: use date to colour code each deadline
         //LocalDate today = LocalDate.now();
         //deadline.getDueDate();
 
-        dueDate.setText("Due Date: " + deadline.getDueDate().toString());
         /*todo
         if (false) {
             deadlineText.setFill(Paint.valueOf("red"));
@@ -47,6 +46,22 @@ public class DeadlinePanel extends UiPart<Region> {
 
     }
 
+    //@@author LeowWB
+    public Deadline getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * Shows the given Deadline in this panel, in place of the one shown before.
+     */
+    public void setDeadline(Deadline deadline, int displayedIndex) {
+        this.deadline = deadline;
+        id.setText(displayedIndex + ". ");
+        deadlineText.setText(deadline.getTask().toString());
+        dueDate.setText("Due Date: " + deadline.getDueDate().toString());
+    }
+    //@@author dalsontws
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -22,14 +22,21 @@ public class FlashCardListPanel extends UiPart<Region> {
 
     public FlashCardListPanel(ObservableList<FlashCard> flashCardList) {
         super(FXML);
-        flashCardListView.setItems(flashCardList);
+        //@@author LeowWB
+        flashCardListView.setItems(new PulseCoalescedList<>(flashCardList).asUnmodifiableObservableList());
+        //@@author
         flashCardListView.setCellFactory(listView -> new FlashCardListViewCell());
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code FlashCard} using a {@code FlashCardPanel}.
+     * The cell creates its panel once and rebinds it to each FlashCard it is reused for.
      */
     class FlashCardListViewCell extends ListCell<FlashCard> {
+        //@@author LeowWB
+        private FlashCardPanel flashCardPanel;
+
+        //@@author
         @Override
         protected void updateItem(FlashCard flashCard, boolean empty) {
             super.updateItem(flashCard, empty);
@@ -38,7 +45,14 @@ public class FlashCardListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new FlashCardPanel(flashCard, getIndex() + 1).getRoot());
+                //@@author LeowWB
+                if (flashCardPanel == null) {
+                    flashCardPanel = new FlashCardPanel(flashCard, getIndex() + 1);
+                } else {
+                    flashCardPanel.setFlashCard(flashCard, getIndex() + 1);
+                }
+                setGraphic(flashCardPanel.getRoot());
+                //@@author
             }
         }
     }
@@ -1,8 +1,11 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
@@ -16,7 +19,7 @@ public class FlashCardPanel extends UiPart<Region> {
 
     private static final String FXML = "FlashCardListCard.fxml";
 
-    public final FlashCard flashCard;
+    private FlashCard flashCard;
 
     @FXML
     private HBox cardPane;
@@ -31,14 +34,41 @@ public class FlashCardPanel extends UiPart<Region> {
 
     public FlashCardPanel(FlashCard flashCard, int displayedIndex) {
         super(FXML);
+        setFlashCard(flashCard, displayedIndex);
+    }
+
+    //@@author LeowWB
+    public FlashCard getFlashCard() {
+        return flashCard;
+    }
+
+    /**
+     * Shows the given FlashCard in this panel, in place of the one shown before.
+     * The labels for the categories are reused, so that a list cell can rebind its panel without building new nodes.
+     */
+    public void setFlashCard(FlashCard flashCard, int displayedIndex) {
         this.flashCard = flashCard;
         id.setText(displayedIndex + ". ");
         question.setText(flashCard.getQuestion().fullQuestion);
         answer.setText("Answer: " + flashCard.getAnswer().fullAnswer);
-        flashCard.getCategories().stream()
-                .sorted(Comparator.comparing(category -> category.categoryName))
-                .forEach(category -> categories.getChildren().add(new Label(category.categoryName)));
+
+        List<String> categoryNames = flashCard.getCategories().stream()
+                .map(category -> category.categoryName)
+                .sorted()
+                .collect(Collectors.toList());
+        ObservableList<Node> labels = categories.getChildren();
+        if (labels.size() > categoryNames.size()) {
+            labels.remove(categoryNames.size(), labels.size());
+        }
+        for (int i = 0; i < categoryNames.size(); i++) {
+            if (i < labels.size()) {
+                ((Label) labels.get(i)).setText(categoryNames.get(i));
+            } else {
+                labels.add(new Label(categoryNames.get(i)));
+            }
+        }
     }
+    //@@author
 
     @Override
     public boolean equals(Object other) {
@@ -1,7 +1,6 @@
 //@@author LeonardTay748
 package seedu.address.ui;
 
-import java.io.InputStream;
 import java.util.logging.Logger;
 
 import javafx.fxml.FXML;
@@ -22,9 +21,14 @@ public class HelpWindow extends UiPart<Stage> {
 
     private static final Logger logger = LogsCenter.getLogger(HelpWindow.class);
     private static final String FXML = "HelpWindow.fxml";
-    private static final Stage stage = new Stage();
-    private static final InputStream x = Main.class.getResourceAsStream("/images/Commands.png");
-    private final Image image = new Image(x, 867, 1601, true, false);
+    //@@author LeowWB
+    private static final String COMMANDS_IMAGE = "/images/Commands.png";
+
+    // decoded on a background thread, so that creating the window does not wait for the image
+    private final Image image = new Image(Main.class.getResource(COMMANDS_IMAGE).toExternalForm(),
+            867, 1601, true, false, true);
+    private boolean isSceneBuilt = false;
+    //@@author LeonardTay748
 
     @FXML
     private ImageView imageView;
@@ -35,7 +39,7 @@ public class HelpWindow extends UiPart<Stage> {
      * @param root Stage to use as the root of the HelpWindow.
      */
     public HelpWindow(Stage root) {
-        super(FXML, stage);
+        super(FXML, root);
     }
 
     /**
@@ -65,6 +69,21 @@ public class HelpWindow extends UiPart<Stage> {
      */
     public void show() {
         logger.fine("Showing help page about the application.");
+        //@@author LeowWB
+        if (!isSceneBuilt) {
+            buildScene();
+        }
+        //@@author LeonardTay748
+
+        getRoot().show();
+        getRoot().centerOnScreen();
+    }
+
+    //@@author LeowWB
+    /**
+     * Puts the image of the commands in a scrollable scene, the first time the window is shown.
+     */
+    private void buildScene() {
         imageView.setImage(image);
 
         FlowPane root = new FlowPane(Orientation.HORIZONTAL);
@@ -72,12 +91,11 @@ public class HelpWindow extends UiPart<Stage> {
         ScrollPane sp = new ScrollPane();
         sp.setContent(root);
         Scene scene = new Scene(sp, 550, 400);
-        stage.setScene(scene);
-
-        getRoot().show();
-        getRoot().centerOnScreen();
+        getRoot().setScene(scene);
+        isSceneBuilt = true;
     }
 
+    //@@author LeonardTay748
     /**
      * Returns true if the help window is currently being shown.
      */
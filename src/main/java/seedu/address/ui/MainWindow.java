@@ -16,6 +16,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ResumeCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.ui.calendar.CalendarWindow;
@@ -74,15 +75,34 @@ public class MainWindow extends UiPart<Stage> {
         setWindowDefaultSize(logic.getGuiSettings());
         setStyleSheet(logic.getGuiSettings());
         setAccelerators();
-
-        helpWindow = new HelpWindow();
-        statsWindow = new StatsWindow();
     }
 
     public Stage getPrimaryStage() {
         return primaryStage;
     }
 
+    //@@author LeowWB
+    /**
+     * Returns the help window, creating it the first time it is needed instead of at startup.
+     */
+    private HelpWindow getHelpWindow() {
+        if (helpWindow == null) {
+            helpWindow = new HelpWindow();
+        }
+        return helpWindow;
+    }
+
+    /**
+     * Returns the stats window, creating it the first time it is needed instead of at startup.
+     */
+    private StatsWindow getStatsWindow() {
+        if (statsWindow == null) {
+            statsWindow = new StatsWindow();
+        }
+        return statsWindow;
+    }
+    //@@author
+
     private void setAccelerators() {
         setAccelerator(helpMenuItem, KeyCombination.valueOf("F1"));
     }
@@ -132,11 +152,18 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        //@@author LeowWB
+        if (logic.getAddressBook().getTestSession().isPresent()) {
+            resultDisplay.setFeedbackToUser(ResumeCommand.MESSAGE_RESUME_AVAILABLE);
+        }
+        //@@author
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getKeyboardFlashCardsFilePath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getKeyboardFlashCardsFilePath(),
+                logic.filteringProperty());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::previewCommand,
+                logic::completeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -169,7 +196,12 @@ public class MainWindow extends UiPart<Stage> {
      */
     public void updateScene(TestFlashCardPanel testFlashCardPanel) {
         requireNonNull(testFlashCardPanel);
-        flashcardListPanelPlaceholder.getChildren().add(testFlashCardPanel.getRoot());
+        //@@author LeowWB
+        // the same panel is reused for every question in a test, so it is only added for the first one
+        if (!flashcardListPanelPlaceholder.getChildren().contains(testFlashCardPanel.getRoot())) {
+            flashcardListPanelPlaceholder.getChildren().add(testFlashCardPanel.getRoot());
+        }
+        //@@author shutingy
     }
     //@@ author shutingy
 
@@ -188,7 +220,7 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleHelp() {
-        if (!helpWindow.isShowing()) {
+        if (!getHelpWindow().isShowing()) {
             helpWindow.show();
         } else {
             helpWindow.focus();
@@ -200,7 +232,7 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleStats() {
-        if (!statsWindow.isShowing()) {
+        if (!getStatsWindow().isShowing()) {
             statsWindow.show(logic.getModel());
         } else {
             statsWindow.focus();
@@ -220,11 +252,26 @@ public class MainWindow extends UiPart<Stage> {
                 (int) primaryStage.getX(), (int) primaryStage.getY(),
                  stylesheet);
         logic.setGuiSettings(guiSettings);
-        helpWindow.hide();
-        statsWindow.hide();
+        //@@author LeowWB
+        hideSecondaryWindows();
+        //@@author
         primaryStage.hide();
     }
 
+    //@@author LeowWB
+    /**
+     * Hides the secondary windows that have been created.
+     */
+    private void hideSecondaryWindows() {
+        if (helpWindow != null) {
+            helpWindow.hide();
+        }
+        if (statsWindow != null) {
+            statsWindow.hide();
+        }
+    }
+
+    //@@author
     public FlashCardListPanel getFlashCardListPanel() {
         return flashCardListPanel;
     }
@@ -245,7 +292,11 @@ public class MainWindow extends UiPart<Stage> {
             }
 
             if (!(commandResult.isShowStats())) {
-                statsWindow.hide();
+                //@@author LeowWB
+                if (statsWindow != null) {
+                    statsWindow.hide();
+                }
+                //@@author
             } else {
                 handleStats();
             }
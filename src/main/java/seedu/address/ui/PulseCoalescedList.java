@@ -0,0 +1,120 @@
+//@@author LeowWB
+
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.animation.AnimationTimer;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of a list from the model for a {@code ListView} to show, which takes in the changes to the model's list at
+ * most once per JavaFX pulse.
+ * <p>
+ * A bulk operation on the model, such as a reset or an import, can change its list many times while a command runs.
+ * Each of those changes is seen by the copy only as a request to update it on the next pulse, when it takes in all of
+ * them as one change, so the {@code ListView} lays out its cells once instead of once for every change.
+ * <p>
+ * Most commands make a single change, such as adding or editing one item. Such a change is replayed on the copy as it
+ * is, so that the {@code ListView} keeps its selection and focus and only updates the cells in the changed range.
+ */
+public class PulseCoalescedList<T> {
+
+    private final ObservableList<T> source;
+    private final ObservableList<T> internalList = FXCollections.observableArrayList();
+    private final ObservableList<T> internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+    private final AnimationTimer nextPulse = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            stop();
+            isUpdateScheduled = false;
+            if (pendingChangeCount == 1 && !onlyPendingChange.wasPermutated) {
+                replay(onlyPendingChange);
+            } else {
+                // a permutation is only ever made right after another change, e.g. sorting the deadlines after one
+                // is added, so it does not need replaying on its own
+                internalList.setAll(source);
+            }
+            pendingChangeCount = 0;
+            onlyPendingChange = null;
+        }
+    };
+    private boolean isUpdateScheduled = false;
+    private int pendingChangeCount = 0;
+    // the change made to the source since the last pulse, if exactly one change was made
+    private PendingChange onlyPendingChange;
+
+    /**
+     * Creates a copy of {@code source} that follows its changes.
+     * The changes to {@code source} must be made on the JavaFX Application Thread.
+     */
+    public PulseCoalescedList(ObservableList<T> source) {
+        requireNonNull(source);
+        this.source = source;
+        internalList.setAll(source);
+        source.addListener((ListChangeListener<T>) change -> {
+            while (change.next()) {
+                pendingChangeCount++;
+                onlyPendingChange = pendingChangeCount == 1 ? new PendingChange(change) : null;
+            }
+            scheduleUpdate();
+        });
+    }
+
+    /**
+     * Returns the copy as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<T> asUnmodifiableObservableList() {
+        return internalUnmodifiableList;
+    }
+
+    private void scheduleUpdate() {
+        if (!isUpdateScheduled) {
+            isUpdateScheduled = true;
+            nextPulse.start();
+        }
+    }
+
+    /**
+     * Makes the given change to the copy. The change must be the only one made to the source since the copy was last
+     * updated, so the source holds the copy's items with only that change made.
+     */
+    private void replay(PendingChange change) {
+        if (change.wasUpdated) {
+            // setting the same items tells the ListView to update their cells
+            for (int i = change.from; i < change.to; i++) {
+                internalList.set(i, source.get(i));
+            }
+        } else if (change.removedSize == 1 && change.to - change.from == 1) {
+            internalList.set(change.from, source.get(change.from));
+        } else {
+            if (change.removedSize > 0) {
+                internalList.remove(change.from, change.from + change.removedSize);
+            }
+            if (change.to > change.from) {
+                internalList.addAll(change.from, source.subList(change.from, change.to));
+            }
+        }
+    }
+
+    /**
+     * The range and kind of a change to the source, which are kept after the {@code Change} itself stops being valid.
+     */
+    private static class PendingChange {
+        private final int from;
+        private final int to;
+        private final int removedSize;
+        private final boolean wasPermutated;
+        private final boolean wasUpdated;
+
+        PendingChange(ListChangeListener.Change<?> change) {
+            from = change.getFrom();
+            to = change.getTo();
+            removedSize = change.getRemovedSize();
+            wasPermutated = change.wasPermutated();
+            wasUpdated = change.wasUpdated();
+        }
+    }
+}
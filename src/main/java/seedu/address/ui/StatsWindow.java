@@ -3,11 +3,13 @@ package seedu.address.ui;
 
 import static java.util.Objects.requireNonNull;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
+import javafx.beans.binding.Bindings;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.geometry.Orientation;
 import javafx.scene.Node;
 import javafx.scene.Scene;
@@ -17,11 +19,15 @@ import javafx.scene.chart.LineChart;
 import javafx.scene.chart.NumberAxis;
 import javafx.scene.chart.XYChart;
 import javafx.scene.control.ScrollPane;
+import javafx.scene.input.ScrollEvent;
 import javafx.scene.layout.FlowPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.Model;
-import seedu.address.model.flashcard.RatingContainsKeywordPredicate;
+import seedu.address.model.flashcard.Rating;
+import seedu.address.model.schedule.PerformanceSeries;
+import seedu.address.model.schedule.StatsCounters;
+import seedu.address.ui.calendar.ReviewHeatmap;
 
 /**
  * Displays Statistics as Bar Chart
@@ -30,18 +36,26 @@ public class StatsWindow extends UiPart<Stage> {
 
     private static final Logger logger = LogsCenter.getLogger(StatsWindow.class);
     private static final String FXML = "StatsWindow.fxml";
-    private static final Stage stage = new Stage();
 
     private static final String GOOD = "good";
     private static final String HARD = "hard";
     private static final String EASY = "easy";
 
+    //@@author LeowWB
+    private static final int MAX_CHART_POINTS = 500;
+    private static final int MIN_ZOOMED_TESTS = 10;
+    private static final int X_AXIS_TICKS = 10;
+
+    private final ReviewHeatmap reviewHeatmap = new ReviewHeatmap();
+    private boolean isBuilt = false;
+    //@@author LeonardTay748
+
 
     /**
      * Creates a new StatsWindow.
      */
     public StatsWindow() {
-        super(FXML, stage);
+        super(FXML, new Stage());
     }
 
     /**
@@ -51,13 +65,21 @@ public class StatsWindow extends UiPart<Stage> {
         logger.fine("Showing stats page about the application.");
         requireNonNull(model);
 
-        buildStatsWindow(model);
+        //@@author LeowWB
+        if (!isBuilt) {
+            buildStatsWindow(model);
+        }
+        // the reviews are not observable, so the heatmap is redrawn each time the window is shown
+        reviewHeatmap.update(LocalDate.now(), model.getReviewStats(),
+                model.getKeyboardFlashCards().getDeadlineList());
+        //@@author LeonardTay748
         getRoot().show();
         getRoot().centerOnScreen();
     }
 
     /**
      * Scene Builder.
+     * The charts are built once, and are bound to the stats counters of the model so that they update in place.
      */
     public void buildStatsWindow(Model model) {
         final CategoryAxis xAxisA = new CategoryAxis();
@@ -71,40 +93,48 @@ public class StatsWindow extends UiPart<Stage> {
         final BarChart<String, Number> bc2 = new BarChart<>(xAxisB, yAxisB);
         final LineChart<Number, Number> lc = new LineChart<>(xAxisC, yAxisC);
 
-        int numGood = model.getFilteredFlashCardListNoCommit(new RatingContainsKeywordPredicate(GOOD)).size();
-        int numHard = model.getFilteredFlashCardListNoCommit(new RatingContainsKeywordPredicate(HARD)).size();
-        int numEasy = model.getFilteredFlashCardListNoCommit(new RatingContainsKeywordPredicate(EASY)).size();
-
-        int[] stats = model.getTestStats();
-        ArrayList<Float> perform = model.getPerformance();
-
-        int upperBoundA = findUpperBound(numGood, numHard, numEasy);
-        int upperBoundB = findUpperBound(stats[0], stats[1], stats[2]);
+        //@@author LeowWB
+        StatsCounters counters = model.getStatsCounters();
+        ReadOnlyIntegerProperty numGood = counters.ratedCountProperty(new Rating(GOOD));
+        ReadOnlyIntegerProperty numHard = counters.ratedCountProperty(new Rating(HARD));
+        ReadOnlyIntegerProperty numEasy = counters.ratedCountProperty(new Rating(EASY));
+        ReadOnlyIntegerProperty testGood = counters.testedCountProperty(new Rating(GOOD));
+        ReadOnlyIntegerProperty testHard = counters.testedCountProperty(new Rating(HARD));
+        ReadOnlyIntegerProperty testEasy = counters.testedCountProperty(new Rating(EASY));
+        PerformanceSeries perform = model.getPerformance();
+        //@@author LeonardTay748
+
+        int upperBoundA = findUpperBound(numGood.get(), numHard.get(), numEasy.get());
+        int upperBoundB = findUpperBound(testGood.get(), testHard.get(), testEasy.get());
         initialize(bc1, bc2, lc, xAxisA, xAxisB, xAxisC, yAxisA,
                 yAxisB, yAxisC, upperBoundA, upperBoundB, perform.size());
 
-        XYChart.Series seriesA = new XYChart.Series();
-        seriesA.getData().add(new XYChart.Data(GOOD, numGood));
-        seriesA.getData().add(new XYChart.Data(HARD, numHard));
-        seriesA.getData().add(new XYChart.Data(EASY, numEasy));
-
-        XYChart.Series seriesB = new XYChart.Series();
-        seriesB.getData().add(new XYChart.Data(GOOD, stats[0]));
-        seriesB.getData().add(new XYChart.Data(HARD, stats[1]));
-        seriesB.getData().add(new XYChart.Data(EASY, stats[2]));
-
-        XYChart.Series seriesC = new XYChart.Series();
-        if (perform.size() == 0) {
-            seriesC.getData().add(new XYChart.Data(0, 0));
-        } else {
-            for (int i = 0; i < perform.size(); i++) {
-                BigDecimal bd = new BigDecimal(perform.get(i).floatValue()).setScale(2, RoundingMode.HALF_UP);
-                seriesC.getData().add(new XYChart.Data(i + 1, bd.floatValue()));
-            }
-        }
-
-        bc1.getData().addAll(seriesA);
-        bc2.getData().addAll(seriesB);
+        //@@author LeowWB
+        bindUpperBound(yAxisA, numGood, numHard, numEasy);
+        bindUpperBound(yAxisB, testGood, testHard, testEasy);
+        //@@author LeonardTay748
+
+        XYChart.Series<String, Number> seriesA = new XYChart.Series<>();
+        seriesA.getData().add(boundData(GOOD, numGood));
+        seriesA.getData().add(boundData(HARD, numHard));
+        seriesA.getData().add(boundData(EASY, numEasy));
+
+        XYChart.Series<String, Number> seriesB = new XYChart.Series<>();
+        seriesB.getData().add(boundData(GOOD, testGood));
+        seriesB.getData().add(boundData(HARD, testHard));
+        seriesB.getData().add(boundData(EASY, testEasy));
+
+        //@@author LeowWB
+        XYChart.Series<Number, Number> seriesC = new XYChart.Series<>();
+        plotPerformance(seriesC, xAxisC, perform, 0, perform.size());
+        // the performance is only added to at the end of a test, so the whole chart is replotted then
+        counters.testsTakenProperty().addListener((observable, oldCount, newCount) ->
+                plotPerformance(seriesC, xAxisC, model.getPerformance(), 0, newCount.intValue()));
+        lc.setOnScroll(event -> zoomPerformance(event, seriesC, xAxisC, model.getPerformance()));
+        //@@author LeonardTay748
+
+        bc1.getData().add(seriesA);
+        bc2.getData().add(seriesB);
         lc.getData().add(seriesC);
 
         removeLegend(bc1, bc2, lc);
@@ -112,14 +142,83 @@ public class StatsWindow extends UiPart<Stage> {
 
         FlowPane root = new FlowPane(Orientation.HORIZONTAL);
         root.getChildren().addAll(bc1, bc2, lc);
+        //@@author LeowWB
+        root.getChildren().add(reviewHeatmap.getView());
+        //@@author LeonardTay748
         ScrollPane sp = new ScrollPane();
         sp.setContent(root);
         Scene scene = new Scene(sp, 550, 500);
-        stage.setTitle("STATISTICS");
-        stage.setScene(scene);
+        getRoot().setTitle("STATISTICS");
+        getRoot().setScene(scene);
+        //@@author LeowWB
+        isBuilt = true;
+        //@@author LeonardTay748
+    }
+
+    //@@author LeowWB
+    /**
+     * Returns a bar for the given rating whose height follows {@code count}.
+     */
+    private static XYChart.Data<String, Number> boundData(String rating, ReadOnlyIntegerProperty count) {
+        XYChart.Data<String, Number> data = new XYChart.Data<>(rating, count.get());
+        data.YValueProperty().bind(count);
+        return data;
+    }
+
+    /**
+     * Keeps the upper bound of {@code axis} at the largest of the given counts.
+     */
+    private void bindUpperBound(NumberAxis axis, ReadOnlyIntegerProperty one, ReadOnlyIntegerProperty two,
+                                ReadOnlyIntegerProperty three) {
+        axis.upperBoundProperty().bind(Bindings.createIntegerBinding(() ->
+                findUpperBound(one.get(), two.get(), three.get()), one, two, three));
+    }
+
+    //@@author LeowWB
+    /**
+     * Plots the performance in the tests from {@code from} to {@code to}, exclusive, downsampled to at most
+     * {@code MAX_CHART_POINTS} points, and fits the x-axis to them.
+     */
+    private void plotPerformance(XYChart.Series<Number, Number> series, NumberAxis xAxis, PerformanceSeries perform,
+                                 int from, int to) {
+        List<XYChart.Data<Number, Number>> points = new ArrayList<>();
+        if (perform.isEmpty()) {
+            points.add(new XYChart.Data<>(0, 0));
+        } else {
+            for (int i : perform.downsample(from, to, MAX_CHART_POINTS)) {
+                points.add(new XYChart.Data<>(i + 1, Math.round(perform.get(i) * 100) / 100f));
+            }
+        }
+        series.getData().setAll(points);
+
+        xAxis.setLowerBound(from);
+        xAxis.setUpperBound(to);
+        xAxis.setTickUnit(Math.max(1, (to - from) / X_AXIS_TICKS));
+    }
+
+    /**
+     * Zooms the performance chart in or out around the test under the mouse, and plots the tests then in view.
+     */
+    private void zoomPerformance(ScrollEvent event, XYChart.Series<Number, Number> series, NumberAxis xAxis,
+                                 PerformanceSeries perform) {
+        int from = (int) xAxis.getLowerBound();
+        int to = (int) xAxis.getUpperBound();
+        if (perform.isEmpty() || event.getDeltaY() == 0 || to <= from) {
+            return;
+        }
 
+        double scale = event.getDeltaY() > 0 ? 0.5 : 2;
+        int width = (int) Math.max(Math.min(MIN_ZOOMED_TESTS, perform.size()),
+                Math.min(perform.size(), Math.round((to - from) * scale)));
+        double focus = xAxis.getValueForDisplay(xAxis.sceneToLocal(event.getSceneX(), event.getSceneY()).getX())
+                .doubleValue();
+        int newFrom = (int) Math.round(focus - (focus - from) * width / (to - from));
+        newFrom = Math.max(0, Math.min(newFrom, perform.size() - width));
+        plotPerformance(series, xAxis, perform, newFrom, newFrom + width);
+        event.consume();
     }
 
+    //@@author LeonardTay748
     /**
      * Removes the legend from bar charts since they are not required.
      */
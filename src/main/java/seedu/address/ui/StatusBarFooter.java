@@ -3,6 +3,8 @@ package seedu.address.ui;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.beans.binding.Bindings;
+import javafx.beans.value.ObservableBooleanValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
@@ -12,15 +14,25 @@ import javafx.scene.layout.Region;
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    //@@author LeowWB
+    public static final String FILTERING_STATUS = "Filtering...";
+
+    //@@author
     private static final String FXML = "StatusBarFooter.fxml";
 
     @FXML
     private Label saveLocationStatus;
+    //@@author LeowWB
+    @FXML
+    private Label filteringStatus;
 
-
-    public StatusBarFooter(Path saveLocation) {
+    //@@author
+    public StatusBarFooter(Path saveLocation, ObservableBooleanValue isFiltering) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        //@@author LeowWB
+        filteringStatus.textProperty().bind(Bindings.when(isFiltering).then(FILTERING_STATUS).otherwise(""));
+        //@@author
     }
 
 }
@@ -32,10 +32,20 @@ public class TestFlashCardPanel extends UiPart<Region> {
 
     public TestFlashCardPanel(FlashCard flashCard) {
         super(FXML);
+        setFlashCard(flashCard);
+    }
+
+    //@@author LeowWB
+    /**
+     * Shows the question of the given FlashCard in this panel, in place of the one shown before, with its answer
+     * hidden.
+     */
+    public void setFlashCard(FlashCard flashCard) {
         testanswer.setText(flashCard.getAnswer().fullAnswer);
         testquestion.setText(flashCard.getQuestion().fullQuestion);
         setAnswerInvisible();
     }
+    //@@author
 
     public void setAnswerInvisible() {
         answerBox.setVisible(false);
@@ -38,9 +38,15 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
+            //@@author LeowWB
+            long startTime = System.nanoTime();
+            //@@author
             mainWindow = new MainWindow(primaryStage, logic);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
+            //@@author LeowWB
+            logger.info(String.format("Main window built in %d ms", (System.nanoTime() - startTime) / 1_000_000));
+            //@@author
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
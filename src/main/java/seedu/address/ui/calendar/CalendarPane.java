@@ -5,15 +5,26 @@ package seedu.address.ui.calendar;
 import java.time.LocalDate;
 
 import javafx.scene.Node;
+import javafx.scene.control.Label;
 import javafx.scene.layout.AnchorPane;
+import javafx.scene.text.Text;
 
 /**
  * Create an Calendar anchor pane that can store additional data.
  */
 public class CalendarPane extends AnchorPane {
 
+    //@@author LeowWB
+    private static final String DEADLINE_MARKER = "\t•Deadline";
+
+    //@@author dalsontws
     // Date associated with this pane
     private LocalDate date;
+    //@@author LeowWB
+    // made once, and updated whenever the pane is moved to another date
+    private final Text dayText = new Text();
+    private final Label deadlineLabel = new Label(DEADLINE_MARKER);
+    //@@author dalsontws
 
     /**
      * Create a anchor pane node. Date is not assigned in the constructor.
@@ -21,6 +32,14 @@ public class CalendarPane extends AnchorPane {
      */
     public CalendarPane(Node... children) {
         super(children);
+        //@@author LeowWB
+        setTopAnchor(dayText, 5.0);
+        setLeftAnchor(dayText, 5.0);
+        setTopAnchor(deadlineLabel, 8.0);
+        setLeftAnchor(deadlineLabel, 2.0);
+        deadlineLabel.setVisible(false);
+        getChildren().addAll(dayText, deadlineLabel);
+        //@@author dalsontws
         // Add action handler for mouse clicked
         this.setOnMouseClicked(e -> System.out.println("This pane's date is: " + date));
 
@@ -33,6 +52,16 @@ public class CalendarPane extends AnchorPane {
     public void setDate(LocalDate date) {
         this.date = date;
     }
+
+    //@@author LeowWB
+    /**
+     * Shows the given date in this pane, marked if any deadlines are due on it.
+     */
+    public void showDate(LocalDate date, int deadlineCount) {
+        setDate(date);
+        dayText.setText(String.valueOf(date.getDayOfMonth()));
+        deadlineLabel.setVisible(deadlineCount > 0);
+    }
 }
 
 
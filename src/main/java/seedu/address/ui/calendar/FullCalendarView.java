@@ -2,15 +2,17 @@
 
 package seedu.address.ui.calendar;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.WeakListChangeListener;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
-import javafx.scene.control.Label;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
@@ -26,12 +28,28 @@ import seedu.address.model.deadline.Deadline;
  */
 public class FullCalendarView {
 
-    private ArrayList<CalendarPane> allCalendarDays = new ArrayList<>(35);
+    //@@author LeowWB
+    private static final int CALENDAR_DAYS = 35;
+
+    //@@author dalsontws
+    private ArrayList<CalendarPane> allCalendarDays = new ArrayList<>(CALENDAR_DAYS);
     private VBox view;
     private Text calendarTitle;
     private YearMonth currentYearMonth;
     private Logic logic;
     private Model model;
+    //@@author LeowWB
+    // the number of deadlines due on each date, rebuilt only after the deadlines change
+    private final Map<LocalDate, Integer> deadlineCounts = new HashMap<>();
+    // the number of deadlines due on each day shown, for the month shown and the months next to it
+    private final Map<YearMonth, int[]> monthDeadlineCounts = new HashMap<>();
+    private boolean isDeadlineCountsStale = true;
+    // held here because the model only holds it weakly, so that a closed calendar can be garbage collected
+    private final ListChangeListener<Deadline> deadlineListener = change -> {
+        isDeadlineCountsStale = true;
+        monthDeadlineCounts.clear();
+    };
+    //@@author dalsontws
 
     /**
      * Create a calendar view
@@ -40,6 +58,9 @@ public class FullCalendarView {
     public FullCalendarView(YearMonth yearMonth, Model model) {
         this.model = model;
         currentYearMonth = yearMonth;
+        //@@author LeowWB
+        model.getFilteredDeadlineList().addListener(new WeakListChangeListener<>(deadlineListener));
+        //@@author dalsontws
         // Create the calendar grid pane
         GridPane calendar = new GridPane();
         calendar.setPrefSize(600, 400);
@@ -86,42 +107,66 @@ public class FullCalendarView {
      * @param yearMonth year and month of month to render
      */
     public void populateCalendar(YearMonth yearMonth) {
-        // Get the date we want to start with on the calendar
-        LocalDate calendarDate = LocalDate.of(yearMonth.getYear(), yearMonth.getMonthValue(), 1);
-        // Dial back the day until it is SUNDAY (unless the month starts on a sunday)
-        while (!calendarDate.getDayOfWeek().toString().equals("SUNDAY")) {
-            calendarDate = calendarDate.minusDays(1);
+        //@@author LeowWB
+        LocalDate calendarDate = firstShownDate(yearMonth);
+        int[] counts = getMonthDeadlineCounts(yearMonth);
+        for (int i = 0; i < allCalendarDays.size(); i++) {
+            allCalendarDays.get(i).showDate(calendarDate, counts[i]);
+            calendarDate = calendarDate.plusDays(1);
         }
+        //@@author dalsontws
+        // Change the title of the calendar
+        calendarTitle.setText(yearMonth.getMonth().toString() + " " + String.valueOf(yearMonth.getYear()));
+        //@@author LeowWB
+        prefetchAdjacentMonths(yearMonth);
+        //@@author dalsontws
+    }
 
-        for (CalendarPane ap : allCalendarDays) {
-            if (ap.getChildren().size() != 0) {
-                ap.getChildren().remove(0);
-            }
-            Text txt = new Text(String.valueOf(calendarDate.getDayOfMonth()));
-            ap.setDate(calendarDate);
-
-            ap.setTopAnchor(txt, 5.0);
-            ap.setLeftAnchor(txt, 5.0);
-            ap.getChildren().add(txt);
+    //@@author LeowWB
+    /**
+     * Returns the Sunday on or before the first day of the given month, which is the first date shown for it.
+     */
+    private static LocalDate firstShownDate(YearMonth yearMonth) {
+        LocalDate firstDay = yearMonth.atDay(1);
+        return firstDay.minusDays(firstDay.getDayOfWeek().getValue() % DayOfWeek.SUNDAY.getValue());
+    }
 
-            List<Deadline> deadlineList = model.getFilteredDeadlineList();
-            Iterator<Deadline> itr = deadlineList.iterator();
-            while (itr.hasNext()) {
-                Deadline d = itr.next();
-                if (calendarDate.equals(d.getDueDate().getLocalDate())) {
-                    String task = "\t•Deadline";
-                    Label taskText = new Label(task);
-                    ap.setTopAnchor(taskText, 8.0);
-                    ap.setLeftAnchor(taskText, 2.0);
-                    ap.getChildren().add(taskText);
-                }
+    /**
+     * Returns the number of deadlines due on each day shown for the given month, in the order they are shown.
+     */
+    private int[] getMonthDeadlineCounts(YearMonth yearMonth) {
+        if (isDeadlineCountsStale) {
+            deadlineCounts.clear();
+            for (Deadline deadline : model.getFilteredDeadlineList()) {
+                deadlineCounts.merge(deadline.getDueDate().getLocalDate(), 1, Integer::sum);
             }
-            calendarDate = calendarDate.plusDays(1);
+            isDeadlineCountsStale = false;
         }
-        // Change the title of the calendar
-        calendarTitle.setText(yearMonth.getMonth().toString() + " " + String.valueOf(yearMonth.getYear()));
+
+        return monthDeadlineCounts.computeIfAbsent(yearMonth, unused -> {
+            int[] counts = new int[CALENDAR_DAYS];
+            LocalDate date = firstShownDate(yearMonth);
+            for (int i = 0; i < CALENDAR_DAYS; i++) {
+                counts[i] = deadlineCounts.getOrDefault(date, 0);
+                date = date.plusDays(1);
+            }
+            return counts;
+        });
+    }
+
+    /**
+     * Works out the deadlines to show for the months before and after the given month, so that moving to either of
+     * them only needs to update the panes, and forgets the months further away.
+     */
+    private void prefetchAdjacentMonths(YearMonth yearMonth) {
+        monthDeadlineCounts.keySet().removeIf(month ->
+                !month.equals(yearMonth) && !month.equals(yearMonth.minusMonths(1))
+                && !month.equals(yearMonth.plusMonths(1)));
+        getMonthDeadlineCounts(yearMonth.minusMonths(1));
+        getMonthDeadlineCounts(yearMonth.plusMonths(1));
     }
 
+    //@@author dalsontws
     /**
      * Move the month back by one. Repopulate the calendar with the correct dates.
      */
@@ -0,0 +1,128 @@
+//@@author LeowWB
+
+package seedu.address.ui.calendar;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import seedu.address.model.deadline.Deadline;
+import seedu.address.model.schedule.ReviewStats;
+
+/**
+ * A heatmap of the number of reviews made on each day of the last year, with the days that deadlines are due on
+ * outlined. Each week is a column, from Sunday at the top to Saturday at the bottom.
+ * <p>
+ * The whole year is drawn on a single {@code Canvas} from an array of daily counts, instead of from a node per day,
+ * and the day under the mouse is found from its position in the grid.
+ */
+public class ReviewHeatmap {
+
+    public static final int WEEKS_SHOWN = 53;
+    public static final int DAYS_SHOWN = WEEKS_SHOWN * 7;
+
+    private static final double CELL_SIZE = 10;
+    private static final double CELL_SPACING = 12;
+    private static final Color NO_REVIEWS_COLOUR = Color.web("#3c3c3c");
+    private static final Color[] REVIEWS_COLOURS = {
+        Color.web("#0e4429"), Color.web("#006d32"), Color.web("#26a641"), Color.web("#39d353")
+    };
+    private static final Color DEADLINE_COLOUR = Color.web("#ff5252");
+
+    private final Canvas canvas = new Canvas(WEEKS_SHOWN * CELL_SPACING, 7 * CELL_SPACING);
+    private final Label details = new Label();
+    private final VBox view = new VBox(canvas, details);
+
+    private LocalDate firstDate;
+    private int daysDrawn;
+    private int[] reviewCounts = new int[DAYS_SHOWN];
+    private final int[] deadlineCounts = new int[DAYS_SHOWN];
+
+    /**
+     * Creates an empty heatmap, which is drawn by {@link #update(LocalDate, ReviewStats, List)}.
+     */
+    public ReviewHeatmap() {
+        canvas.setOnMouseMoved(event -> showDetails(event.getX(), event.getY()));
+        canvas.setOnMouseExited(event -> details.setText(""));
+    }
+
+    public VBox getView() {
+        return view;
+    }
+
+    /**
+     * Redraws the heatmap for the year up to and including {@code lastDate}, with the reviews counted in
+     * {@code reviewStats} and the given deadlines.
+     */
+    public void update(LocalDate lastDate, ReviewStats reviewStats, List<Deadline> deadlines) {
+        requireAllNonNull(lastDate, reviewStats, deadlines);
+
+        // the first column starts on a Sunday, and the last one holds lastDate
+        LocalDate lastSunday = lastDate.minusDays(lastDate.getDayOfWeek().getValue() % DayOfWeek.SUNDAY.getValue());
+        firstDate = lastSunday.minusWeeks(WEEKS_SHOWN - 1);
+        daysDrawn = (int) ChronoUnit.DAYS.between(firstDate, lastDate) + 1;
+
+        reviewCounts = reviewStats.countDailyReviews(firstDate, firstDate.plusDays(DAYS_SHOWN - 1));
+        Arrays.fill(deadlineCounts, 0);
+        for (Deadline deadline : deadlines) {
+            long day = ChronoUnit.DAYS.between(firstDate, deadline.getDueDate().getLocalDate());
+            if (day >= 0 && day < daysDrawn) {
+                deadlineCounts[(int) day]++;
+            }
+        }
+
+        draw();
+    }
+
+    /**
+     * Draws a square for every day shown, shaded by its number of reviews relative to the busiest day.
+     */
+    private void draw() {
+        GraphicsContext graphics = canvas.getGraphicsContext2D();
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+
+        int maxReviews = 0;
+        for (int day = 0; day < daysDrawn; day++) {
+            maxReviews = Math.max(maxReviews, reviewCounts[day]);
+        }
+
+        graphics.setStroke(DEADLINE_COLOUR);
+        for (int day = 0; day < daysDrawn; day++) {
+            double x = (day / 7) * CELL_SPACING;
+            double y = (day % 7) * CELL_SPACING;
+            int reviews = reviewCounts[day];
+            graphics.setFill(reviews == 0
+                    ? NO_REVIEWS_COLOUR
+                    : REVIEWS_COLOURS[(int) ((long) (reviews - 1) * REVIEWS_COLOURS.length / maxReviews)]);
+            graphics.fillRect(x, y, CELL_SIZE, CELL_SIZE);
+            if (deadlineCounts[day] > 0) {
+                graphics.strokeRect(x + 0.5, y + 0.5, CELL_SIZE - 1, CELL_SIZE - 1);
+            }
+        }
+    }
+
+    /**
+     * Shows the reviews and deadlines of the day at the given point on the canvas, if there is one.
+     */
+    private void showDetails(double x, double y) {
+        int week = (int) (x / CELL_SPACING);
+        int dayOfWeek = (int) (y / CELL_SPACING);
+        int day = week * 7 + dayOfWeek;
+        if (firstDate == null || x < 0 || y < 0 || dayOfWeek >= 7 || day >= daysDrawn) {
+            details.setText("");
+            return;
+        }
+
+        details.setText(String.format("%s: %d reviews, %d deadlines", firstDate.plusDays(day), reviewCounts[day],
+                deadlineCounts[day]));
+    }
+}
@@ -0,0 +1,71 @@
+//@@author LeowWB
+
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class LttbTest {
+
+    @Test
+    public void downsample_invalidRange_throwsIllegalArgumentException() {
+        float[] values = new float[10];
+        assertThrows(IllegalArgumentException.class, () -> Lttb.downsample(values, -1, 5, 3));
+        assertThrows(IllegalArgumentException.class, () -> Lttb.downsample(values, 6, 5, 3));
+        assertThrows(IllegalArgumentException.class, () -> Lttb.downsample(values, 0, 11, 3));
+    }
+
+    @Test
+    public void downsample_fewerPointsThanThreshold_allIndices() {
+        float[] values = {1, 2, 3, 4, 5};
+        assertArrayEquals(new int[] {1, 2, 3}, Lttb.downsample(values, 1, 4, 3));
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4}, Lttb.downsample(values, 0, 5, 2));
+        assertArrayEquals(new int[0], Lttb.downsample(values, 2, 2, 3));
+    }
+
+    @Test
+    public void downsample_manyPoints_keepsEndsAndThresholdPoints() {
+        float[] values = new float[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (float) Math.sin(i / 100.0) * 50 + 50;
+        }
+
+        int[] sampled = Lttb.downsample(values, 0, values.length, 500);
+        assertEquals(500, sampled.length);
+        assertEquals(0, sampled[0]);
+        assertEquals(values.length - 1, sampled[sampled.length - 1]);
+        for (int i = 1; i < sampled.length; i++) {
+            assertTrue(sampled[i - 1] < sampled[i]);
+        }
+    }
+
+    @Test
+    public void downsample_spike_spikeKept() {
+        float[] values = new float[1000];
+        values[457] = 100;
+
+        int[] sampled = Lttb.downsample(values, 0, values.length, 20);
+        boolean hasSpike = false;
+        for (int index : sampled) {
+            hasSpike |= index == 457;
+        }
+        assertTrue(hasSpike);
+    }
+
+    @Test
+    public void downsample_subRange_indicesWithinRange() {
+        float[] values = new float[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 7;
+        }
+
+        int[] sampled = Lttb.downsample(values, 200, 400, 50);
+        assertEquals(50, sampled.length);
+        assertEquals(200, sampled[0]);
+        assertEquals(399, sampled[sampled.length - 1]);
+    }
+}
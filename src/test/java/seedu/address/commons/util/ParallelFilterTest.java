@@ -0,0 +1,40 @@
+//@@author LeowWB
+
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+import java.util.concurrent.CancellationException;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class ParallelFilterTest {
+
+    @Test
+    public void filter_severalChunks_indicesOfMatchingItems() {
+        int size = ParallelFilter.CHUNK_SIZE * 3 + 100;
+        Integer[] items = IntStream.range(0, size).boxed().toArray(Integer[]::new);
+
+        BitSet matches = ParallelFilter.filter(items, item -> item % 3 == 0, () -> false);
+
+        BitSet expected = new BitSet();
+        for (int i = 0; i < size; i += 3) {
+            expected.set(i);
+        }
+        assertEquals(expected, matches);
+    }
+
+    @Test
+    public void filter_noItems_noIndices() {
+        assertEquals(new BitSet(), ParallelFilter.filter(new Integer[0], item -> true, () -> false));
+    }
+
+    @Test
+    public void filter_cancelled_throwsCancellationException() {
+        Integer[] items = {1, 2, 3};
+        assertThrows(CancellationException.class, () -> ParallelFilter.filter(items, item -> true, () -> true));
+    }
+}
@@ -0,0 +1,84 @@
+//@@author LeowWB
+
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class RadixTrieTest {
+
+    private final RadixTrie trie = new RadixTrie();
+
+    @Test
+    public void add_sharedPrefixes_nodesSplitAndCounted() {
+        trie.add("search");
+        trie.add("searchqn");
+        trie.add("sea");
+        trie.add("stats");
+        trie.add("search");
+
+        assertEquals(4, trie.size());
+        assertEquals(2, trie.count("search"));
+        assertEquals(1, trie.count("sea"));
+        assertEquals(0, trie.count("se"));
+        assertEquals(0, trie.count("searchans"));
+        // root, "s", "ea", "rch", "qn" and "tats"
+        assertEquals(6, trie.nodeCount());
+    }
+
+    @Test
+    public void remove_lastCount_nodesMergedBack() {
+        trie.add("search");
+        trie.add("searchqn");
+        trie.add("stats");
+
+        assertTrue(trie.remove("search"));
+        assertFalse(trie.remove("search"));
+        assertFalse(trie.remove("sea"));
+        assertEquals(0, trie.count("search"));
+        assertEquals(1, trie.count("searchqn"));
+        // root, "s", "earchqn" and "tats"
+        assertEquals(4, trie.nodeCount());
+
+        assertTrue(trie.remove("searchqn"));
+        assertTrue(trie.remove("stats"));
+        assertEquals(0, trie.size());
+        assertEquals(1, trie.nodeCount());
+    }
+
+    @Test
+    public void complete_prefix_mostCountedFirstThenAlphabetical() {
+        trie.add("searchqn");
+        trie.add("searchans");
+        trie.add("search");
+        trie.add("start");
+        trie.add("searchans");
+
+        assertEquals(Arrays.asList("searchans", "search", "searchqn"), trie.complete("sea", 10));
+        assertEquals(Arrays.asList("searchans", "search"), trie.complete("se", 2));
+        assertEquals(Arrays.asList("searchans", "search", "searchqn", "start"), trie.complete("", 10));
+        assertEquals(Collections.singletonList("searchqn"), trie.complete("searchq", 10));
+        assertEquals(Collections.singletonList("start"), trie.complete("start", 10));
+    }
+
+    @Test
+    public void complete_noStringWithPrefix_returnsEmptyList() {
+        trie.add("search");
+
+        assertEquals(Collections.emptyList(), trie.complete("seat", 10));
+        assertEquals(Collections.emptyList(), trie.complete("searches", 10));
+        assertEquals(Collections.emptyList(), trie.complete("list", 10));
+    }
+
+    @Test
+    public void complete_nonPositiveLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> trie.complete("", 0));
+    }
+}
@@ -0,0 +1,88 @@
+//@@author LeowWB
+
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.category.Category;
+import seedu.address.model.flashcard.Answer;
+import seedu.address.model.flashcard.FlashCard;
+import seedu.address.model.flashcard.Question;
+import seedu.address.model.flashcard.Rating;
+
+/**
+ * Measures the tries of an {@code Autocompleter} for a large generated deck: the approximate heap they take on top of
+ * the deck itself, and how long a completion takes. Run with {@code gradlew benchmark}; the number of FlashCards can
+ * be changed with {@code -Dbenchmark.rows=N}.
+ * <p>
+ * The heap is measured as the difference in used memory after garbage collection, so it is only a rough figure.
+ */
+@Tag("benchmark")
+public class AutocompleterBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 200_000);
+    private static final int COMPLETIONS = 10_000;
+    private static final Duration MAX_COMPLETION_TIME = Duration.ofMillis(1);
+    private static final int CATEGORY_COUNT = 100;
+    private static final String[] TOPICS = {"protocol", "throughput", "delay", "router", "packet", "switch"};
+
+    @Test
+    public void complete_generatedDeck_fastAndCompact() {
+        ObservableList<FlashCard> flashCards = FXCollections.observableArrayList(generateFlashCards(ROWS));
+
+        long usedBefore = usedMemoryAfterGc();
+        long buildStart = System.nanoTime();
+        Autocompleter autocompleter = new Autocompleter(List.of("add", "delete", "edit", "find", "list", "start"),
+                flashCards);
+        Duration buildTime = Duration.ofNanos(System.nanoTime() - buildStart);
+        long trieBytes = usedMemoryAfterGc() - usedBefore;
+
+        Random random = new Random(0);
+        long completionStart = System.nanoTime();
+        int suggestionCount = 0;
+        for (int i = 0; i < COMPLETIONS; i++) {
+            String topic = TOPICS[random.nextInt(TOPICS.length)];
+            String typed = "find q>" + topic.substring(0, 1 + random.nextInt(topic.length()));
+            suggestionCount += autocompleter.complete(typed).size();
+        }
+        Duration completionTime = Duration.ofNanos((System.nanoTime() - completionStart) / COMPLETIONS);
+        assertEquals(COMPLETIONS * Autocompleter.MAX_SUGGESTIONS, suggestionCount);
+
+        System.out.printf("Autocompleter tries: %d FlashCards built in %d ms, about %d KB (%d bytes each)%n",
+                ROWS, buildTime.toMillis(), trieBytes / 1024, trieBytes / ROWS);
+        System.out.printf("Autocompleter completion: %.1f us on average%n", completionTime.toNanos() / 1000.0);
+        assertTrue(completionTime.compareTo(MAX_COMPLETION_TIME) < 0,
+                "A completion took " + completionTime.toNanos() / 1000 + " us");
+    }
+
+    private static long usedMemoryAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static List<FlashCard> generateFlashCards(int count) {
+        FlashCard[] flashCards = new FlashCard[count];
+        for (int i = 0; i < count; i++) {
+            flashCards[i] = new FlashCard(
+                    new Question(TOPICS[i % TOPICS.length] + " question number " + i),
+                    new Answer("Answer " + i),
+                    new Rating(Rating.GOOD),
+                    Collections.singleton(new Category("category" + i % CATEGORY_COUNT)));
+        }
+        return List.of(flashCards);
+    }
+}
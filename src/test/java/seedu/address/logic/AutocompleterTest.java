@@ -0,0 +1,70 @@
+//@@author LeowWB
+
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.flashcard.FlashCard;
+import seedu.address.testutil.FlashCardBuilder;
+
+public class AutocompleterTest {
+
+    private static final FlashCard DELAY = new FlashCardBuilder().withQuestion("What is end-to-end delay?")
+            .withCatgeories("networking", "cs2105").build();
+    private static final FlashCard THROUGHPUT = new FlashCardBuilder().withQuestion("What is throughput?")
+            .withCatgeories("cs2105").build();
+    private static final FlashCard WWII = new FlashCardBuilder().withQuestion("When is WWII?")
+            .withCatgeories("history").build();
+
+    private final ObservableList<FlashCard> flashCards = FXCollections.observableArrayList(DELAY, THROUGHPUT, WWII);
+    private final Autocompleter autocompleter = new Autocompleter(
+            Arrays.asList("add", "deadline", "delete", "edit", "list", "listall", "listbad", "search", "searchans",
+                    "searchqn"), flashCards);
+
+    @Test
+    public void complete_commandWordPrefix_commandWordsAlphabetically() {
+        assertEquals(Arrays.asList("search", "searchans", "searchqn"), autocompleter.complete("sea"));
+        assertEquals(Arrays.asList("list", "listall", "listbad"), autocompleter.complete("li"));
+        assertEquals(Collections.emptyList(), autocompleter.complete("xyz"));
+    }
+
+    @Test
+    public void complete_categoryPrefix_mostUsedCategoriesFirst() {
+        assertEquals(Arrays.asList("list CS2105", "list HISTORY", "list NETWORKING"),
+                autocompleter.complete("list "));
+        assertEquals(Collections.singletonList("list cs2105 NETWORKING"), autocompleter.complete("list cs2105 n"));
+        assertEquals(Collections.singletonList("add q>x a>y c>HISTORY"), autocompleter.complete("add q>x a>y c>h"));
+    }
+
+    @Test
+    public void complete_questionPrefix_wholeQuestions() {
+        assertEquals(Arrays.asList("edit 1 q>What is end-to-end delay?", "edit 1 q>What is throughput?"),
+                autocompleter.complete("edit 1 q>What is "));
+        assertEquals(Collections.emptyList(), autocompleter.complete("edit 1 q>What is a>"));
+    }
+
+    @Test
+    public void complete_flashCardsChanged_suggestionsFollow() {
+        flashCards.remove(WWII);
+        flashCards.add(new FlashCardBuilder().withQuestion("Who won WWII?").withCatgeories("war").build());
+
+        assertEquals(Collections.emptyList(), autocompleter.complete("edit 1 q>When"));
+        assertEquals(Collections.singletonList("edit 1 q>Who won WWII?"), autocompleter.complete("edit 1 q>Who"));
+        assertEquals(Collections.singletonList("list WAR"), autocompleter.complete("list w"));
+        assertEquals(Collections.emptyList(), autocompleter.complete("list h"));
+    }
+
+    @Test
+    public void complete_otherCommandArguments_noSuggestions() {
+        assertEquals(Collections.emptyList(), autocompleter.complete(""));
+        assertEquals(Collections.emptyList(), autocompleter.complete("delete 1"));
+        assertEquals(Collections.emptyList(), autocompleter.complete("deadline t>rev"));
+    }
+}
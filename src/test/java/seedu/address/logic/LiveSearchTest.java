@@ -0,0 +1,182 @@
+//@@author LeowWB
+
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalFlashCards.PROTOCOL;
+import static seedu.address.testutil.TypicalFlashCards.SOURCE_DELAY;
+import static seedu.address.testutil.TypicalFlashCards.THROUGHPUT;
+import static seedu.address.testutil.TypicalFlashCards.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.category.CategoryContainsAnyKeywordsPredicate;
+import seedu.address.model.flashcard.QuestionOrAnswerContainsAnyKeywordsPredicate;
+
+public class LiveSearchTest {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final ScheduledExecutorService worker = Executors.newSingleThreadScheduledExecutor();
+    // stands in for the JavaFX Application Thread, which is this thread once it runs what was handed over
+    private final BlockingQueue<Runnable> modelThread = new LinkedBlockingQueue<>();
+    private final LiveSearch liveSearch = new LiveSearch(model, worker, modelThread::add);
+
+    @AfterEach
+    public void tearDown() {
+        worker.shutdownNow();
+    }
+
+    @Test
+    public void parseQuery_searchOrListWithKeywords_returnsPredicate() {
+        assertEquals(Optional.of(new QuestionOrAnswerContainsAnyKeywordsPredicate(Arrays.asList("a", "b"))),
+                LiveSearch.parseQuery("  search a   b "));
+        assertEquals(Optional.of(new CategoryContainsAnyKeywordsPredicate(Collections.singletonList("cs2105"))),
+                LiveSearch.parseQuery("list cs2105"));
+    }
+
+    @Test
+    public void parseQuery_noKeywordsOrOtherCommand_returnsEmpty() {
+        assertFalse(LiveSearch.parseQuery("").isPresent());
+        assertFalse(LiveSearch.parseQuery("search ").isPresent());
+        assertFalse(LiveSearch.parseQuery("delete 1").isPresent());
+    }
+
+    @Test
+    public void preview_searchCommand_showsMatchesOnModelThread() throws Exception {
+        liveSearch.preview("search sources protocol throughput");
+        assertEquals(model.getFlashCardList(), model.getFilteredFlashCardList());
+
+        // starts filtering once the text stops changing, then shows the matches once they are found
+        runOnModelThread();
+        assertTrue(model.filteringProperty().get());
+        runOnModelThread();
+        assertFalse(model.filteringProperty().get());
+        assertEquals(Arrays.asList(SOURCE_DELAY, THROUGHPUT, PROTOCOL), model.getFilteredFlashCardList());
+    }
+
+    @Test
+    public void preview_textChangedWhileDebouncing_onlyLatestShown() throws Exception {
+        liveSearch.preview("search protocol");
+        liveSearch.preview("search throughput");
+
+        runOnModelThread();
+        runOnModelThread();
+        assertEquals(Collections.singletonList(THROUGHPUT), model.getFilteredFlashCardList());
+        assertNull(modelThread.poll(LiveSearch.DEBOUNCE_MILLIS * 2, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void preview_textChangedBeforeFilterStarted_filterNotStarted() throws Exception {
+        liveSearch.preview("search protocol");
+        Runnable staleQuery = modelThread.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+        liveSearch.preview("search ");
+        staleQuery.run();
+        assertFalse(model.filteringProperty().get());
+        assertNull(modelThread.poll(LiveSearch.DEBOUNCE_MILLIS * 2, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void preview_textChangedBeforeResultShown_resultDiscarded() throws Exception {
+        liveSearch.preview("search protocol");
+        runOnModelThread();
+        Runnable staleResult = modelThread.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+        liveSearch.preview("search ");
+        staleResult.run();
+        assertEquals(model.getFlashCardList(), model.getFilteredFlashCardList());
+    }
+
+    @Test
+    public void preview_queryTypedWhileFiltering_earlierResultNeverShown() throws Exception {
+        liveSearch.preview("search protocol");
+        runOnModelThread();
+        // the earlier filter is held up until the next query has been typed
+        Runnable earlierResult = modelThread.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+        liveSearch.preview("search throughput");
+        assertFalse(model.filteringProperty().get());
+        earlierResult.run();
+        assertEquals(model.getFlashCardList(), model.getFilteredFlashCardList());
+
+        runOnModelThread();
+        runOnModelThread();
+        assertEquals(Collections.singletonList(THROUGHPUT), model.getFilteredFlashCardList());
+    }
+
+    @Test
+    public void preview_invalidCategory_nothingShown() throws Exception {
+        liveSearch.preview("list cs2105!");
+        runOnModelThread();
+        runOnModelThread();
+        assertFalse(model.filteringProperty().get());
+        assertEquals(model.getFlashCardList(), model.getFilteredFlashCardList());
+    }
+
+    @Test
+    public void preview_notQueryAfterPreviewShown_showsAllFlashCards() throws Exception {
+        liveSearch.preview("search protocol");
+        runOnModelThread();
+        runOnModelThread();
+
+        liveSearch.preview("search");
+        assertEquals(model.getFlashCardList(), model.getFilteredFlashCardList());
+    }
+
+    @Test
+    public void cancel_previewShown_showsAllFlashCards() throws Exception {
+        liveSearch.preview("search protocol");
+        runOnModelThread();
+        runOnModelThread();
+
+        liveSearch.cancel();
+        assertEquals(model.getFlashCardList(), model.getFilteredFlashCardList());
+    }
+
+    @Test
+    public void finish_previewedQuery_previewKept() throws Exception {
+        liveSearch.preview("search protocol");
+        runOnModelThread();
+        runOnModelThread();
+
+        liveSearch.finish("search  protocol ");
+        assertEquals(Collections.singletonList(PROTOCOL), model.getFilteredFlashCardList());
+        liveSearch.preview("");
+        assertEquals(Collections.singletonList(PROTOCOL), model.getFilteredFlashCardList());
+    }
+
+    @Test
+    public void finish_otherCommand_showsAllFlashCards() throws Exception {
+        liveSearch.preview("search protocol");
+        runOnModelThread();
+        runOnModelThread();
+
+        liveSearch.finish("search throughput");
+        assertEquals(model.getFlashCardList(), model.getFilteredFlashCardList());
+    }
+
+    /**
+     * Waits for something to be handed over to the model's thread, and runs it.
+     */
+    private void runOnModelThread() throws InterruptedException {
+        modelThread.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS).run();
+    }
+}
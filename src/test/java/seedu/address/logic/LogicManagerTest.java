@@ -27,6 +27,7 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.flashcard.FlashCard;
 import seedu.address.storage.JsonKeyboardFlashCardsStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SegmentedReviewLogStorage;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.FlashCardBuilder;
 
@@ -44,7 +45,8 @@ public class LogicManagerTest {
         JsonKeyboardFlashCardsStorage addressBookStorage =
                 new JsonKeyboardFlashCardsStorage(temporaryFolder.resolve("keyboardFlashCards.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage,
+                new SegmentedReviewLogStorage(temporaryFolder.resolve("reviews")));
         logic = new LogicManager(model, storage);
     }
 
@@ -74,7 +76,8 @@ public class LogicManagerTest {
                         temporaryFolder.resolve("ioExceptionKeyboardFlashCards.json"));
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage,
+                new SegmentedReviewLogStorage(temporaryFolder.resolve("reviews")));
         logic = new LogicManager(model, storage);
 
         // Execute add command
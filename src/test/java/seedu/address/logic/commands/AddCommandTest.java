@@ -10,10 +10,14 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -23,7 +27,16 @@ import seedu.address.model.ReadOnlyKeyboardFlashCards;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.category.Category;
 import seedu.address.model.deadline.Deadline;
+import seedu.address.model.export.FlashCardPatch;
+import seedu.address.model.export.MergeStrategy;
 import seedu.address.model.flashcard.FlashCard;
+import seedu.address.model.flashcard.MergeResult;
+import seedu.address.model.flashcard.Rating;
+import seedu.address.model.schedule.PerformanceSeries;
+import seedu.address.model.schedule.ReviewEvent;
+import seedu.address.model.schedule.ReviewStats;
+import seedu.address.model.schedule.StatsCounters;
+import seedu.address.model.schedule.TestSession;
 import seedu.address.testutil.FlashCardBuilder;
 import seedu.address.ui.TestFlashCardPanel;
 
@@ -163,6 +176,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int addFlashCards(List<FlashCard> flashCards) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public MergeResult mergeFlashCards(List<FlashCard> flashCards, MergeStrategy strategy) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int removeFlashCards(List<FlashCard> flashCards) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setKeyboardFlashCards(ReadOnlyKeyboardFlashCards newData) {
             throw new AssertionError("This method should not be called.");
@@ -178,6 +206,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<FlashCard> getFlashCard(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteFlashCard(FlashCard target) {
             throw new AssertionError("This method should not be called.");
@@ -213,6 +246,23 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        //@@author LeowWB
+        @Override
+        public CompletableFuture<Boolean> updateFilteredFlashCardListAsync(Predicate<FlashCard> predicate,
+                Executor modelExecutor) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void cancelFilter() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyBooleanProperty filteringProperty() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         //@@author shutingy
         @Override
         public ObservableList<Category> getCategoryList() {
@@ -249,7 +299,7 @@ public class AddCommandTest {
         }
 
         @Override
-        public ArrayList<Float> getPerformance() {
+        public PerformanceSeries getPerformance() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -258,17 +308,7 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
-        @Override
-        public void resetPerformance(Model model) {
-            throw new AssertionError("This method should not be called.");
-        }
-
         //@@author keiteo-reused
-        @Override
-        public void initializeTestModel(List<FlashCard> testList) {
-            throw new AssertionError("This method should not be called.");
-        }
-
         @Override
         public boolean hasTestFlashCard() {
             throw new AssertionError("This method should not be called.");
@@ -304,6 +344,81 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<FlashCard> getDueFlashCards() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int[] getDueFlashCardOrdinals(Predicate<FlashCard> isSelected) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void reviewFlashCard(FlashCard flashCard, Rating rating) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getRatingCount(Rating rating) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rateTestFlashCard(Rating rating) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void initializeTestSession(TestSession testSession) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasSavedTestSession() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void resumeTestSession() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void checkpointTestSession() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isSaveDeferred() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endTestSession() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<ReviewEvent> takeReviewEvents() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReviewStats getReviewStats() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void replayReviewEvents(List<ReviewEvent> reviewEvents) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public StatsCounters getStatsCounters() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void showAnswer() {
             throw new AssertionError("This method should not be called.");
@@ -313,6 +428,16 @@ public class AddCommandTest {
         public ObservableList<FlashCard> getFilteredFlashCardListNoCommit(Predicate<FlashCard> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public FlashCardPatch getFlashCardPatch(Category category, Path exportPath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setExportWatermark(Path exportPath, Category category, FlashCardPatch patch) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     //@@author
@@ -39,6 +39,7 @@ public class CommandTestUtil {
     public static final String VALID_DOCUMENT_PATH_1 = "cheat_sheet.docx";
     public static final String VALID_DOCUMENT_PATH_2 = "cs2105.docx";
     public static final String VALID_JSON_EXPORT_PATH_1 = "flashcards.json";
+    public static final String VALID_PATCH_EXPORT_PATH_1 = "flashcards.patch";
 
     public static final String QUESTION_DESC_1 =
             " " + PREFIX_QUESTION + VALID_QUESTION_1;
@@ -9,11 +9,13 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_CATEGORY_LOCATI
 import static seedu.address.logic.commands.CommandTestUtil.VALID_DOCUMENT_PATH_1;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_DOCUMENT_PATH_2;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_JSON_EXPORT_PATH_1;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PATCH_EXPORT_PATH_1;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.ExportTestUtil.deleteFileIfExists;
 import static seedu.address.testutil.ExportTestUtil.isFilePresent;
 import static seedu.address.testutil.TypicalFlashCards.NUS;
+import static seedu.address.testutil.TypicalFlashCards.WWII;
 import static seedu.address.testutil.TypicalFlashCards.getTypicalAddressBook;
 
 import org.junit.jupiter.api.Test;
@@ -25,6 +27,7 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.category.Category;
 import seedu.address.model.export.DocumentPath;
 import seedu.address.model.export.JsonExportPath;
+import seedu.address.model.export.PatchExportPath;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code SearchCommand}.
@@ -36,6 +39,7 @@ public class ExportCommandTest {
     private DocumentPath secondDocumentPath = new DocumentPath(VALID_DOCUMENT_PATH_2);
     private DocumentPath thirdDocumentPath = new DocumentPath(VALID_DOCUMENT_PATH_2);
     private JsonExportPath firstJsonExportPath = new JsonExportPath(VALID_JSON_EXPORT_PATH_1);
+    private PatchExportPath firstPatchExportPath = new PatchExportPath(VALID_PATCH_EXPORT_PATH_1);
     private Category firstCategory = new Category(VALID_CATEGORY_HISTORY);
     private Category secondCategory = new Category(VALID_CATEGORY_LOCATION);
     private Category thirdCategory = new Category(VALID_CATEGORY_LOCATION);
@@ -45,6 +49,7 @@ public class ExportCommandTest {
     private ExportCommand thirdCommand = new ExportCommand(thirdCategory, thirdDocumentPath);
     private ExportCommand fourthCommand = new ExportCommand(firstCategory, secondDocumentPath);
     private ExportCommand fifthCommand = new ExportCommand(secondCategory, firstJsonExportPath);
+    private ExportCommand sixthCommand = new ExportCommand(secondCategory, firstPatchExportPath);
 
     @Test
     public void equals() {
@@ -98,6 +103,26 @@ public class ExportCommandTest {
         deleteFileIfExists(firstJsonExportPath);
     }
 
+    @Test
+    public void execute_validInputPatch_onlyChangesExported() {
+        model.addFlashCard(NUS);
+        String absolutePath = firstPatchExportPath.toAbsolutePathString();
+
+        deleteFileIfExists(firstPatchExportPath);
+        assertCommandSuccess(sixthCommand, model,
+                String.format(ExportCommand.MESSAGE_EXPORT_PATCH_SUCCESS, 1, 0, absolutePath), model);
+        assertTrue(isFilePresent(firstPatchExportPath));
+
+        assertCommandSuccess(sixthCommand, model,
+                String.format(ExportCommand.MESSAGE_EXPORT_PATCH_UNCHANGED, absolutePath), model);
+
+        model.addFlashCard(WWII);
+        model.deleteFlashCard(NUS);
+        assertCommandSuccess(sixthCommand, model,
+                String.format(ExportCommand.MESSAGE_EXPORT_PATCH_SUCCESS, 1, 1, absolutePath), model);
+        deleteFileIfExists(firstPatchExportPath);
+    }
+
     @Test
     public void execute_nonExistentCategory_exceptionThrown() {
         assertThrows(
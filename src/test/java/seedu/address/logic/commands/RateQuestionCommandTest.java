@@ -1,7 +1,8 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import org.junit.jupiter.api.Test;
@@ -13,7 +14,8 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.flashcard.FlashCard;
 import seedu.address.model.flashcard.Rating;
-import seedu.address.model.flashcard.exceptions.FlashCardNotFoundException;
+import seedu.address.model.schedule.TestOrder;
+import seedu.address.model.schedule.TestSession;
 import seedu.address.testutil.FlashCardTestListBuilder;
 
 //@@author keiteo
@@ -21,16 +23,6 @@ public class RateQuestionCommandTest {
 
     private KeyboardFlashCardsParser keyboardFlashCardsParser = new KeyboardFlashCardsParser();
 
-    @Test
-    public void execute_flashCardDoesNotExist_exceptionThrown() {
-        String[] ratings = {"good", "hard", "easy"};
-        for (String rate : ratings) {
-            Model model = initModel(new ModelManager());
-            Command cmd = new RateQuestionCommand(keyboardFlashCardsParser, new Rating(rate));
-            assertThrows(FlashCardNotFoundException.class, () -> cmd.execute(model));
-        }
-    }
-
     @Test
     public void execute_goodRatingFlashCardExists_success() {
         KeyboardFlashCards keyboardFlashCards = new KeyboardFlashCards();
@@ -46,9 +38,25 @@ public class RateQuestionCommandTest {
         }
     }
 
-    /** Loads the model with a prebuilt list of test FlashCards. */
+    //@@author LeowWB
+    @Test
+    public void execute_flashCardExists_rescheduled() throws Exception {
+        KeyboardFlashCards keyboardFlashCards = new KeyboardFlashCards();
+        FlashCard fc = new FlashCardTestListBuilder().buildOne().get(0);
+        keyboardFlashCards.addFlashcard(fc);
+        Model model = initModel(new ModelManager(keyboardFlashCards, new UserPrefs()));
+        assertTrue(model.getDueFlashCards().contains(fc));
+
+        new RateQuestionCommand(keyboardFlashCardsParser, new Rating("good")).execute(model);
+
+        assertTrue(model.getDueFlashCards().isEmpty());
+        assertFalse(model.getFlashCardList().isEmpty());
+    }
+
+    //@@author keiteo
+    /** Starts a test of the only FlashCard in the model. */
     private Model initModel(Model model) {
-        model.initializeTestModel(new FlashCardTestListBuilder().buildOne());
+        model.initializeTestSession(new TestSession(TestOrder.DECK, new int[] {0}, 0));
         model.setTestFlashCard();
         return model;
     }
@@ -4,12 +4,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static seedu.address.testutil.TypicalFlashCards.getTypicalAddressBook;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.parser.KeyboardFlashCardsParser;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.flashcard.FlashCard;
+import seedu.address.model.flashcard.Rating;
 
 //@@author keiteo
 public class StartCommandTest {
@@ -40,6 +44,19 @@ public class StartCommandTest {
         }
     }
 
+    //@@author LeowWB
+    @Test
+    public void execute_noDueFlashCards_success() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        for (FlashCard flashCard : model.getFlashCardList()) {
+            model.reviewFlashCard(flashCard, new Rating(Rating.GOOD));
+        }
+
+        CommandResult result = new StartCommand(keyboardFlashCardsParser, "", true).execute(model);
+        assertEquals(StartCommand.MESSAGE_NO_DUE_FLASHCARDS, result.getFeedbackToUser());
+    }
+
+    //@@author keiteo
     @Test
     public void equals() {
         // assertTrue/False is used instead of assertEquals/NotEquals to specifically test equals()
@@ -71,6 +88,9 @@ public class StartCommandTest {
         assertFalse(tag.equals(noTag));
         assertFalse(tag.equals(anotherTag));
 
+        // different due only -> returns false
+        assertFalse(noTag.equals(new StartCommand(keyboardFlashCardsParser, "", true)));
+
         // different abp object
         Command diffAbp = new StartCommand(new KeyboardFlashCardsParser(), "");
         assertFalse(noTag.equals(diffAbp));
@@ -25,6 +25,7 @@ import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListAllCommand;
 import seedu.address.logic.commands.ListCategoryCommand;
 import seedu.address.logic.commands.RateQuestionCommand;
+import seedu.address.logic.commands.ResumeCommand;
 import seedu.address.logic.commands.SearchAnswerCommand;
 import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.SearchQuestionCommand;
@@ -36,6 +37,7 @@ import seedu.address.model.flashcard.FlashCard;
 import seedu.address.model.flashcard.QuestionContainsAnyKeywordsPredicate;
 import seedu.address.model.flashcard.QuestionOrAnswerContainsAnyKeywordsPredicate;
 import seedu.address.model.flashcard.Rating;
+import seedu.address.model.schedule.TestOrder;
 import seedu.address.testutil.EditFlashCardDescriptorBuilder;
 import seedu.address.testutil.FlashCardBuilder;
 import seedu.address.testutil.FlashCardUtil;
@@ -146,6 +148,35 @@ public class KeyboardFlashCardsParserTest {
         assertEquals(new StartCommand(parser, ""), command);
     }
 
+    //@@author LeowWB
+    @Test
+    public void parseCommand_startWithOrder_success() throws Exception {
+        assertEquals(new StartCommand(parser, "physics", false, TestOrder.SHUFFLE),
+                parser.parseCommand("start --shuffle physics"));
+        assertEquals(new StartCommand(parser, "physics", true, TestOrder.WEIGHTED),
+                parser.parseCommand("start --due physics --weighted"));
+        assertEquals(new StartCommand(parser, "", false, TestOrder.SHUFFLE),
+                parser.parseCommand("start --shuffle --shuffle"));
+    }
+
+    @Test
+    public void parseCommand_startCategoryNamedDue_notDueOnly() throws Exception {
+        assertEquals(new StartCommand(parser, "due", false, TestOrder.DECK), parser.parseCommand("start due"));
+        assertEquals(new StartCommand(parser, "due", true, TestOrder.DECK), parser.parseCommand("start --due due"));
+    }
+
+    @Test
+    public void parseCommand_resume() throws Exception {
+        assertEquals(new ResumeCommand(parser), parser.parseCommand(ResumeCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_startWithConflictingOrders_throwsParseException() {
+        assertThrows(ParseException.class, StartCommandParser.MESSAGE_CONFLICTING_ORDERS, () ->
+                parser.parseCommand("start --shuffle --weighted"));
+    }
+
+    //@@author keiteo
     @Test
     public void parseCommand_startAlreadyInTestMode_throwsParseException() {
         parser.startTestMode();
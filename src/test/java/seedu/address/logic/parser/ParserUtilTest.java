@@ -6,6 +6,7 @@ import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_FLASHCARD;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -15,6 +16,8 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.category.Category;
+import seedu.address.model.export.DirectoryPath;
+import seedu.address.model.export.MergeStrategy;
 import seedu.address.model.flashcard.Answer;
 import seedu.address.model.flashcard.Question;
 import seedu.address.model.flashcard.Rating;
@@ -197,4 +200,32 @@ public class ParserUtilTest {
 
         assertEquals(expectedCategorySet, actualCategorySet);
     }
+
+    //@@author LeowWB
+    @Test
+    public void parseDirectoryPath_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseDirectoryPath("decks?"));
+    }
+
+    @Test
+    public void parseDirectoryPath_validValueWithWhitespace_returnsTrimmedDirectoryPath() throws Exception {
+        DirectoryPath expectedDirectoryPath = new DirectoryPath(Paths.get("decks/cs2105"));
+        assertEquals(expectedDirectoryPath, ParserUtil.parseDirectoryPath(WHITESPACE + "decks/cs2105" + WHITESPACE));
+    }
+
+    @Test
+    public void parseMergeStrategy_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParserUtil.parseMergeStrategy(null));
+    }
+
+    @Test
+    public void parseMergeStrategy_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseMergeStrategy("newest-wins"));
+    }
+
+    @Test
+    public void parseMergeStrategy_validValueWithWhitespaceAndCase_returnsMergeStrategy() throws Exception {
+        assertEquals(MergeStrategy.UNION_CATEGORIES, ParserUtil.parseMergeStrategy("union-categories"));
+        assertEquals(MergeStrategy.MAX_RATING, ParserUtil.parseMergeStrategy(WHITESPACE + "Max-Rating" + WHITESPACE));
+    }
 }
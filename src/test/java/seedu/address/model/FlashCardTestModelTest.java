@@ -4,8 +4,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -44,4 +46,30 @@ public class FlashCardTestModelTest {
 
         assertTrue(flashCardTestModel.equals(anotherFlashCardTestModel));
     }
+
+    //@@author LeowWB
+    @Test
+    public void setFlashcard_lazySelection_onlyConsumesTestedFlashCards() {
+        AtomicInteger consumedCount = new AtomicInteger();
+        Iterable<FlashCard> countingSelection = () -> new Iterator<>() {
+            private final Iterator<FlashCard> iterator = testList.iterator();
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public FlashCard next() {
+                consumedCount.incrementAndGet();
+                return iterator.next();
+            }
+        };
+
+        flashCardTestModel = new FlashCardTestModel(countingSelection);
+        assertEquals(0, consumedCount.get());
+
+        flashCardTestModel.setFlashcard();
+        assertEquals(1, consumedCount.get());
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -9,10 +10,13 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalFlashCards.STORE_AND_FORWARD;
 import static seedu.address.testutil.TypicalFlashCards.getTypicalAddressBook;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -20,8 +24,14 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.category.Category;
 import seedu.address.model.deadline.Deadline;
+import seedu.address.model.export.ExportHistory;
 import seedu.address.model.flashcard.FlashCard;
+import seedu.address.model.flashcard.Rating;
 import seedu.address.model.flashcard.exceptions.DuplicateFlashCardException;
+import seedu.address.model.schedule.PerformanceSeries;
+import seedu.address.model.schedule.ReviewScheduler;
+import seedu.address.model.schedule.ReviewTable;
+import seedu.address.model.schedule.TestSession;
 import seedu.address.testutil.FlashCardBuilder;
 
 public class KeyboardFlashCardsTest {
@@ -91,6 +101,21 @@ public class KeyboardFlashCardsTest {
         assertThrows(UnsupportedOperationException.class, () -> keyboardFlashCards.getFlashcardList().remove(0));
     }
 
+    //@@author LeowWB
+    @Test
+    public void getDueOrdinals_someReviewed_ordinalsOfSelectedDueFlashCards() {
+        LocalDate today = LocalDate.of(2019, 11, 1);
+        keyboardFlashCards.resetData(getTypicalAddressBook());
+        List<FlashCard> flashCards = keyboardFlashCards.getFlashcardList();
+        keyboardFlashCards.reviewFlashcard(flashCards.get(0), new Rating(Rating.GOOD), today);
+
+        int[] dueOrdinals = keyboardFlashCards.getDueOrdinals(today, flashCard -> flashCard != flashCards.get(1));
+
+        Arrays.sort(dueOrdinals);
+        assertArrayEquals(IntStream.range(2, flashCards.size()).toArray(), dueOrdinals);
+    }
+    //@@author
+
     /**
      * A stub ReadOnlyKeyboardFlashCards whose flashCards list can violate interface constraints.
      */
@@ -115,6 +140,31 @@ public class KeyboardFlashCardsTest {
         public ObservableList<Category> getCategoryList() {
             return null;
         }
+
+        @Override
+        public ExportHistory getExportHistory() {
+            return new ExportHistory();
+        }
+
+        @Override
+        public ReviewScheduler getReviewScheduler() {
+            return new ReviewScheduler();
+        }
+
+        @Override
+        public ReviewTable getReviewTable() {
+            return new ReviewTable();
+        }
+
+        @Override
+        public Optional<TestSession> getTestSession() {
+            return Optional.empty();
+        }
+
+        @Override
+        public PerformanceSeries getPerformanceSeries() {
+            return new PerformanceSeries();
+        }
     }
 
 }
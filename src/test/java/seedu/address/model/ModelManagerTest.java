@@ -2,25 +2,47 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_FLASHCARDS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalFlashCards.DELAY;
 import static seedu.address.testutil.TypicalFlashCards.PROTOCOL;
 import static seedu.address.testutil.TypicalFlashCards.STORE_AND_FORWARD;
+import static seedu.address.testutil.TypicalFlashCards.THROUGHPUT;
+import static seedu.address.testutil.TypicalFlashCards.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.category.Category;
 import seedu.address.model.flashcard.FlashCard;
 import seedu.address.model.flashcard.QuestionContainsAnyKeywordsPredicate;
+import seedu.address.model.flashcard.Rating;
+import seedu.address.model.schedule.ReviewEvent;
+import seedu.address.model.schedule.StatsCounters;
+import seedu.address.model.schedule.TestOrder;
+import seedu.address.model.schedule.TestSession;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.FlashCardBuilder;
 import seedu.address.testutil.FlashCardTestListBuilder;
 
 public class ModelManagerTest {
@@ -140,22 +162,21 @@ public class ModelManagerTest {
     @Test
     public void hasTestFlashCard_containsFlashCards_returnTrue() {
         List<FlashCard> testList = new FlashCardTestListBuilder().build();
-        modelManager.initializeTestModel(testList);
+        initializeTestOf(testList);
         assertTrue(modelManager.hasTestFlashCard());
     }
 
     @Test
     public void hasTestFlashCard_noFlashCards_returnFalse() {
         List<FlashCard> testList = new LinkedList<>();
-        modelManager.initializeTestModel(testList);
+        initializeTestOf(testList);
         assertFalse(modelManager.hasTestFlashCard());
     }
 
     @Test
-    public void hasTestFlashCard_nullList_nullPointerException() {
-        modelManager.initializeTestModel(null);
+    public void initializeTestSession_null_nullPointerException() {
         assertThrows(NullPointerException.class, () -> {
-            modelManager.hasTestFlashCard();
+            modelManager.initializeTestSession(null);
         });
     }
 
@@ -163,7 +184,7 @@ public class ModelManagerTest {
     public void getTestQuestion_containsFlashCards_success() {
         List<FlashCard> testList = new FlashCardTestListBuilder().build();
         List<FlashCard> dummyList = new FlashCardTestListBuilder().build();
-        modelManager.initializeTestModel(testList);
+        initializeTestOf(testList);
         for (FlashCard fc : dummyList) {
             String qn = fc.getQuestion().toString();
             modelManager.setTestFlashCard();
@@ -175,11 +196,306 @@ public class ModelManagerTest {
     public void getTestAnswer_containsFlashCards_success() {
         List<FlashCard> testList = new FlashCardTestListBuilder().build();
         List<FlashCard> dummyList = new FlashCardTestListBuilder().build();
-        modelManager.initializeTestModel(testList);
+        initializeTestOf(testList);
         for (FlashCard fc : dummyList) {
             String qn = fc.getAnswer().toString();
             modelManager.setTestFlashCard();
             assertEquals(qn, modelManager.getTestAnswer());
         }
     }
+
+    //@@author LeowWB
+    @Test
+    public void setTestFlashCard_testSession_progressSaved() {
+        modelManager = new ModelManager(getTypicalAddressBook(), checkpointEvery(1));
+        modelManager.initializeTestSession(new TestSession(TestOrder.DECK, new int[] {2, 0, 1}, 0));
+        assertFalse(modelManager.hasSavedTestSession());
+
+        modelManager.setTestFlashCard();
+        modelManager.setTestFlashCard();
+        assertTrue(modelManager.hasSavedTestSession());
+        assertEquals(Optional.of(new TestSession(TestOrder.DECK, new int[] {2, 0, 1}, 0, 2, 0)),
+                modelManager.getKeyboardFlashCards().getTestSession());
+
+        modelManager.endTestSession();
+        assertFalse(modelManager.hasSavedTestSession());
+    }
+
+    @Test
+    public void resumeTestSession_savedTestSession_resumesAtCurrentFlashCard() {
+        ModelManager testedModelManager = new ModelManager(getTypicalAddressBook(), checkpointEvery(1));
+        testedModelManager.initializeTestSession(new TestSession(TestOrder.SHUFFLE, new int[] {0, 1, 2, 3}, 7));
+        testedModelManager.setTestFlashCard();
+        testedModelManager.setTestFlashCard();
+        FlashCard current = testedModelManager.getCurrentTestFlashCard();
+        testedModelManager.setTestFlashCard();
+        FlashCard next = testedModelManager.getCurrentTestFlashCard();
+
+        // as if the app were closed while the second flashcard was being tested
+        testedModelManager = new ModelManager(getTypicalAddressBook(), checkpointEvery(1));
+        testedModelManager.initializeTestSession(new TestSession(TestOrder.SHUFFLE, new int[] {0, 1, 2, 3}, 7));
+        testedModelManager.setTestFlashCard();
+        testedModelManager.setTestFlashCard();
+        modelManager = new ModelManager(testedModelManager.getKeyboardFlashCards(), new UserPrefs());
+
+        assertTrue(modelManager.hasSavedTestSession());
+        modelManager.resumeTestSession();
+        modelManager.setTestFlashCard();
+        assertEquals(current, modelManager.getCurrentTestFlashCard());
+        modelManager.setTestFlashCard();
+        assertEquals(next, modelManager.getCurrentTestFlashCard());
+    }
+
+    @Test
+    public void addFlashCard_savedTestSession_testSessionDiscarded() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.initializeTestSession(new TestSession(TestOrder.DECK, new int[] {0, 1}, 0));
+        modelManager.setTestFlashCard();
+
+        modelManager.addFlashCard(new FlashCardBuilder().withQuestion("A brand new question").build());
+        assertFalse(modelManager.hasSavedTestSession());
+    }
+
+    @Test
+    public void rateTestFlashCard_testSession_ratingsHeldUntilCheckpoint() {
+        modelManager = new ModelManager(getTypicalAddressBook(), checkpointEvery(3));
+        modelManager.initializeTestSession(new TestSession(TestOrder.DECK, new int[] {0, 1, 2, 3}, 0));
+        modelManager.setTestFlashCard();
+        assertFalse(modelManager.isSaveDeferred());
+
+        modelManager.rateTestFlashCard(new Rating(Rating.HARD));
+        modelManager.setTestFlashCard();
+        modelManager.rateTestFlashCard(new Rating(Rating.EASY));
+        modelManager.setTestFlashCard();
+        assertTrue(modelManager.isSaveDeferred());
+        assertEquals(getTypicalAddressBook(), modelManager.getKeyboardFlashCards());
+        assertEquals(Optional.of(new TestSession(TestOrder.DECK, new int[] {0, 1, 2, 3}, 0, 1, 0)),
+                modelManager.getKeyboardFlashCards().getTestSession());
+
+        modelManager.rateTestFlashCard(new Rating(Rating.GOOD));
+        modelManager.setTestFlashCard();
+        assertFalse(modelManager.isSaveDeferred());
+        assertEquals(Rating.HARD, currentRatingOf(0));
+        assertEquals(Rating.EASY, currentRatingOf(1));
+        assertEquals(Rating.GOOD, currentRatingOf(2));
+        assertFalse(modelManager.getDueFlashCards().contains(modelManager.getFlashCardList().get(0)));
+        assertEquals(Optional.of(new TestSession(TestOrder.DECK, new int[] {0, 1, 2, 3}, 0, 4, 3)),
+                modelManager.getKeyboardFlashCards().getTestSession());
+    }
+
+    @Test
+    public void endTestSession_heldRatings_applied() {
+        modelManager = new ModelManager(getTypicalAddressBook(), checkpointEvery(10));
+        modelManager.initializeTestSession(new TestSession(TestOrder.DECK, new int[] {1, 0}, 0));
+        modelManager.setTestFlashCard();
+        modelManager.rateTestFlashCard(new Rating(Rating.HARD));
+        modelManager.setTestFlashCard();
+        modelManager.rateTestFlashCard(new Rating(Rating.EASY));
+        assertTrue(modelManager.isSaveDeferred());
+
+        modelManager.endTestSession();
+        assertFalse(modelManager.isSaveDeferred());
+        assertFalse(modelManager.hasSavedTestSession());
+        assertEquals(Rating.HARD, currentRatingOf(1));
+        assertEquals(Rating.EASY, currentRatingOf(0));
+    }
+
+    @Test
+    public void takeReviewEvents_testSession_heldUntilRatingsApplied() {
+        modelManager = new ModelManager(getTypicalAddressBook(), checkpointEvery(10));
+        modelManager.initializeTestSession(new TestSession(TestOrder.DECK, new int[] {1, 0}, 0));
+        modelManager.setTestFlashCard();
+        modelManager.rateTestFlashCard(new Rating(Rating.HARD));
+        assertEquals(Collections.emptyList(), modelManager.takeReviewEvents());
+        assertEquals(0, modelManager.getReviewStats().countReviews(new Rating(Rating.HARD)));
+
+        modelManager.checkpointTestSession();
+        assertEquals(1, modelManager.getReviewStats().countReviews(new Rating(Rating.HARD)));
+        List<ReviewEvent> reviewEvents = modelManager.takeReviewEvents();
+        assertEquals(1, reviewEvents.size());
+        assertEquals(modelManager.getFlashCardList().get(1).getId(), reviewEvents.get(0).getFlashCardId());
+        assertEquals(new Rating(Rating.HARD), reviewEvents.get(0).getRating());
+        assertEquals(Collections.emptyList(), modelManager.takeReviewEvents());
+
+        modelManager.setTestFlashCard();
+        modelManager.rateTestFlashCard(new Rating(Rating.EASY));
+        modelManager.endTestSession();
+        reviewEvents = modelManager.takeReviewEvents();
+        assertEquals(1, reviewEvents.size());
+        assertEquals(modelManager.getFlashCardList().get(0).getId(), reviewEvents.get(0).getFlashCardId());
+        assertEquals(new Rating(Rating.EASY), reviewEvents.get(0).getRating());
+    }
+
+    @Test
+    public void replayReviewEvents_loggedReviews_addedToStatsOnly() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        FlashCard flashCard = modelManager.getFlashCardList().get(0);
+        modelManager.replayReviewEvents(Arrays.asList(
+                new ReviewEvent(flashCard.getId(), Instant.now(), new Rating(Rating.EASY), Duration.ZERO),
+                new ReviewEvent(FlashCard.newId(), Instant.now(), new Rating(Rating.HARD), Duration.ZERO)));
+
+        assertEquals(1, modelManager.getReviewStats().countReviews(new Rating(Rating.EASY)));
+        assertEquals(1, modelManager.getReviewStats().countReviews(new Rating(Rating.HARD)));
+        for (Category category : flashCard.getCategories()) {
+            assertEquals(100, modelManager.getReviewStats().getAccuracy(category), 0.001);
+        }
+        assertEquals(Collections.emptyList(), modelManager.takeReviewEvents());
+        assertEquals(getTypicalAddressBook(), modelManager.getKeyboardFlashCards());
+    }
+
+    @Test
+    public void getStatsCounters_modelChanged_countsUpdatedInPlace() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        StatsCounters counters = modelManager.getStatsCounters();
+        Rating easy = new Rating(Rating.EASY);
+        Rating hard = new Rating(Rating.HARD);
+        ReadOnlyIntegerProperty ratedEasy = counters.ratedCountProperty(easy);
+        int[] changes = new int[1];
+        ratedEasy.addListener((observable, oldCount, newCount) -> changes[0]++);
+
+        modelManager.reviewFlashCard(modelManager.getFlashCardList().get(0), easy);
+        assertEquals(modelManager.getRatingCount(easy), ratedEasy.get());
+        assertEquals(1, changes[0]);
+
+        // other counts changing does not notify the listeners of this one
+        modelManager.editStats(1);
+        modelManager.updatePerformance(modelManager);
+        assertEquals(1, counters.testedCountProperty(hard).get());
+        assertEquals(1, counters.testsTakenProperty().get());
+        assertEquals(1, changes[0]);
+
+        modelManager.setKeyboardFlashCards(new KeyboardFlashCards());
+        assertEquals(0, ratedEasy.get());
+        assertSame(ratedEasy, modelManager.getStatsCounters().ratedCountProperty(easy));
+    }
+
+    @Test
+    public void initializeTestSession_noFlashCards_saveNotDeferred() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.initializeTestSession(new TestSession(TestOrder.DECK, new int[0], 0));
+        assertFalse(modelManager.hasTestFlashCard());
+        assertFalse(modelManager.isSaveDeferred());
+    }
+
+    @Test
+    public void updateFilteredFlashCardListAsync_predicate_matchesShownOnModelThread() throws Exception {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        BlockingQueue<Runnable> modelThread = new LinkedBlockingQueue<>();
+        CompletableFuture<Boolean> isShown = modelManager.updateFilteredFlashCardListAsync(
+                new QuestionContainsAnyKeywordsPredicate(Collections.singletonList("protocol")), modelThread::add);
+        assertTrue(modelManager.filteringProperty().get());
+        assertEquals(modelManager.getFlashCardList(), modelManager.getFilteredFlashCardList());
+
+        modelThread.poll(5, TimeUnit.SECONDS).run();
+        assertTrue(isShown.get());
+        assertFalse(modelManager.filteringProperty().get());
+        assertEquals(Collections.singletonList(PROTOCOL), modelManager.getFilteredFlashCardList());
+    }
+
+    @Test
+    public void updateFilteredFlashCardListAsync_filteredAgainBeforeShown_resultDropped() throws Exception {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        BlockingQueue<Runnable> modelThread = new LinkedBlockingQueue<>();
+        CompletableFuture<Boolean> isShown = modelManager.updateFilteredFlashCardListAsync(
+                new QuestionContainsAnyKeywordsPredicate(Collections.singletonList("protocol")), modelThread::add);
+        modelManager.updateFilteredFlashCardList(PREDICATE_SHOW_ALL_FLASHCARDS);
+        assertFalse(modelManager.filteringProperty().get());
+
+        modelThread.poll(5, TimeUnit.SECONDS).run();
+        assertFalse(isShown.get());
+        assertEquals(modelManager.getFlashCardList(), modelManager.getFilteredFlashCardList());
+    }
+
+    @Test
+    public void updateFilteredFlashCardListAsync_flashCardEditedWhileFiltering_editedFlashCardTested()
+            throws Exception {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        BlockingQueue<Runnable> modelThread = new LinkedBlockingQueue<>();
+        modelManager.updateFilteredFlashCardListAsync(
+                new QuestionContainsAnyKeywordsPredicate(Collections.singletonList("protocol")), modelThread::add);
+        FlashCard edited = new FlashCardBuilder(THROUGHPUT).withQuestion("Throughput of a protocol").build();
+        modelManager.setFlashCard(THROUGHPUT, edited);
+
+        modelThread.poll(5, TimeUnit.SECONDS).run();
+        assertEquals(Arrays.asList(edited, PROTOCOL), modelManager.getFilteredFlashCardList());
+    }
+
+    @Test
+    public void updateFilteredFlashCardList_predicateAlreadyShownAsync_notTestedAgain() throws Exception {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        BlockingQueue<Runnable> modelThread = new LinkedBlockingQueue<>();
+        AtomicInteger testCount = new AtomicInteger();
+        Predicate<FlashCard> predicate = flashCard -> {
+            testCount.incrementAndGet();
+            return flashCard.equals(PROTOCOL);
+        };
+        modelManager.updateFilteredFlashCardListAsync(predicate, modelThread::add);
+        modelThread.poll(5, TimeUnit.SECONDS).run();
+        int testCountWhenShown = testCount.get();
+
+        modelManager.updateFilteredFlashCardList(predicate);
+        assertEquals(testCountWhenShown, testCount.get());
+        assertEquals(Collections.singletonList(PROTOCOL), modelManager.getFilteredFlashCardList());
+    }
+
+    @Test
+    public void updateFilteredFlashCardListAsync_flashCardEditedAfterShown_editedFlashCardTested() throws Exception {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        BlockingQueue<Runnable> modelThread = new LinkedBlockingQueue<>();
+        modelManager.updateFilteredFlashCardListAsync(
+                new QuestionContainsAnyKeywordsPredicate(Collections.singletonList("protocol")), modelThread::add);
+        modelThread.poll(5, TimeUnit.SECONDS).run();
+
+        FlashCard edited = new FlashCardBuilder(THROUGHPUT).withQuestion("Throughput of a protocol").build();
+        modelManager.setFlashCard(THROUGHPUT, edited);
+        assertEquals(Arrays.asList(edited, PROTOCOL), modelManager.getFilteredFlashCardList());
+    }
+
+    @Test
+    public void cancelFilter_filterRunning_resultDropped() throws Exception {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        BlockingQueue<Runnable> modelThread = new LinkedBlockingQueue<>();
+        CompletableFuture<Boolean> isShown = modelManager.updateFilteredFlashCardListAsync(
+                new QuestionContainsAnyKeywordsPredicate(Collections.singletonList("protocol")), modelThread::add);
+        modelManager.cancelFilter();
+        assertFalse(modelManager.filteringProperty().get());
+
+        modelThread.poll(5, TimeUnit.SECONDS).run();
+        assertFalse(isShown.get());
+        assertEquals(modelManager.getFlashCardList(), modelManager.getFilteredFlashCardList());
+    }
+
+    @Test
+    public void updateFilteredFlashCardListAsync_matchDeletedWhileFiltering_notShown() throws Exception {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        BlockingQueue<Runnable> modelThread = new LinkedBlockingQueue<>();
+        modelManager.updateFilteredFlashCardListAsync(
+                new QuestionContainsAnyKeywordsPredicate(Collections.singletonList("protocol")), modelThread::add);
+        modelManager.deleteFlashCard(PROTOCOL);
+
+        modelThread.poll(5, TimeUnit.SECONDS).run();
+        assertEquals(Collections.emptyList(), modelManager.getFilteredFlashCardList());
+    }
+
+    /** Returns the current rating of the flashCard at {@code ordinal} in the model. */
+    private String currentRatingOf(int ordinal) {
+        FlashCard flashCard = modelManager.getFlashCardList().get(ordinal);
+        return modelManager.getKeyboardFlashCards().getReviewTable().getRating(flashCard).value;
+    }
+
+    /** Returns UserPrefs that make tests take a checkpoint after every {@code interval} FlashCards. */
+    private static UserPrefs checkpointEvery(int interval) {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setTestCheckpointInterval(interval);
+        return userPrefs;
+    }
+
+    /** Makes {@code modelManager} hold the given flashCards, and starts a test of all of them in deck order. */
+    private void initializeTestOf(List<FlashCard> flashCards) {
+        KeyboardFlashCards keyboardFlashCards = new KeyboardFlashCards();
+        keyboardFlashCards.setFlashCards(flashCards);
+        modelManager = new ModelManager(keyboardFlashCards, new UserPrefs());
+        modelManager.initializeTestSession(
+                new TestSession(TestOrder.DECK, IntStream.range(0, flashCards.size()).toArray(), 0));
+    }
 }
@@ -18,4 +18,12 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setKeyboardFlashCardsFilePath(null));
     }
 
+    //@@author LeowWB
+    @Test
+    public void setTestCheckpointInterval_nonPositiveInterval_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setTestCheckpointInterval(0));
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setTestCheckpointInterval(-1));
+    }
+
 }
@@ -0,0 +1,65 @@
+//@@author LeowWB
+
+package seedu.address.model.category;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class UniqueCategoryListTest {
+
+    private static final Category CS2103 = new Category("cs2103");
+    private static final Category CS2101 = new Category("cs2101");
+    private static final Category CS2100 = new Category("cs2100");
+
+    private final UniqueCategoryList uniqueCategoryList = new UniqueCategoryList();
+
+    @Test
+    public void setCategories_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueCategoryList.setCategories(null));
+    }
+
+    @Test
+    public void setCategories_manyFlashCards_singleChange() {
+        uniqueCategoryList.add(CS2100);
+        int[] changes = new int[1];
+        uniqueCategoryList.asUnmodifiableObservablelist()
+                .addListener((ListChangeListener<Category>) change -> changes[0]++);
+
+        uniqueCategoryList.setCategories(Arrays.asList(Set.of(CS2103), Set.of(CS2103, CS2101), Set.of(CS2101)));
+        assertEquals(1, changes[0]);
+        assertEquals(2, uniqueCategoryList.asUnmodifiableObservablelist().size());
+
+        // each category is counted once for every set it was in
+        uniqueCategoryList.remove(Set.of(CS2103, CS2101));
+        assertEquals(2, uniqueCategoryList.asUnmodifiableObservablelist().size());
+        uniqueCategoryList.remove(Set.of(CS2103));
+        assertEquals(Collections.singletonList(CS2101), Arrays.asList(
+                uniqueCategoryList.asUnmodifiableObservablelist().toArray()));
+    }
+
+    @Test
+    public void add_setOfNewCategories_singleChange() {
+        uniqueCategoryList.add(CS2100);
+        int[] changes = new int[1];
+        uniqueCategoryList.asUnmodifiableObservablelist()
+                .addListener((ListChangeListener<Category>) change -> changes[0]++);
+
+        uniqueCategoryList.add(Set.of(CS2100, CS2101, CS2103));
+        assertEquals(1, changes[0]);
+        assertEquals(3, uniqueCategoryList.asUnmodifiableObservablelist().size());
+
+        // CS2100 is still used once more, so only the others are removed
+        uniqueCategoryList.remove(Set.of(CS2100, CS2101, CS2103));
+        assertEquals(2, changes[0]);
+        assertEquals(Collections.singletonList(CS2100), Arrays.asList(
+                uniqueCategoryList.asUnmodifiableObservablelist().toArray()));
+    }
+}
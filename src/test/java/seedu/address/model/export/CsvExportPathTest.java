@@ -0,0 +1,61 @@
+//@@author LeowWB
+
+package seedu.address.model.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvExportPathTest {
+
+    @Test
+    public void csvExportPath_invalidPath_throwsException() {
+        String[] invalidCsvExportPathStrings = {
+            "directory/cs2105",
+            "cs2105.txt",
+            "cs2105.csvv",
+            "cs.2105.csv",
+            "cs|2105.tsv",
+            "*cs2105*.csv",
+            "cs2105.json",
+            ""
+        };
+
+        for (String invalidCsvExportPathString : invalidCsvExportPathStrings) {
+            assertThrows(
+                    IllegalArgumentException.class, ()
+                    -> new CsvExportPath(
+                        invalidCsvExportPathString
+                    )
+            );
+        }
+    }
+
+    @Test
+    public void csvExportPath_validPath_success() {
+        String[] validCsvExportPathStrings = {
+            "cs_2105.csv",
+            "cs-2105.tsv",
+            "directory/cs2105.csv",
+            "cS2105.CsV",
+            "../cs2105.tsv",
+            "~/Desktop/[CS2105] exported flashcards.csv"
+        };
+
+        for (String validCsvExportPathString : validCsvExportPathStrings) {
+            try {
+                new CsvExportPath(validCsvExportPathString);
+            } catch (IllegalArgumentException e) {
+                fail("Valid CSV export path was not recognized as being valid: " + validCsvExportPathString);
+            }
+        }
+    }
+
+    @Test
+    public void getDelimiter_byExtension_success() {
+        assertEquals(CsvTokenizer.COMMA, new CsvExportPath("cs2105.csv").getDelimiter());
+        assertEquals(CsvTokenizer.TAB, new CsvExportPath("cs2105.TSV").getDelimiter());
+    }
+}
@@ -0,0 +1,90 @@
+//@@author LeowWB
+
+package seedu.address.model.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.KeyboardFlashCards;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.category.Category;
+import seedu.address.model.flashcard.Answer;
+import seedu.address.model.flashcard.FlashCard;
+import seedu.address.model.flashcard.Question;
+import seedu.address.model.flashcard.Rating;
+import seedu.address.storage.JsonKeyboardFlashCardsStorage;
+
+/**
+ * Times loading a large generated deck from a CSV file, through the same bulk add as the import command, against
+ * loading a deck from the JSON data file. Run with {@code gradlew benchmark}; the number of rows can be changed with
+ * {@code -Dbenchmark.rows=N}.
+ * <p>
+ * Loading the JSON data file checks each FlashCard for duplicates against every FlashCard loaded before it, which takes
+ * quadratic time, so it is timed on a smaller deck of at most {@code -Dbenchmark.jsonRows=N} rows.
+ */
+@Tag("benchmark")
+public class CsvImportBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final int JSON_ROWS = Math.min(ROWS, Integer.getInteger("benchmark.jsonRows", 20_000));
+    private static final Duration MAX_CSV_IMPORT_TIME = Duration.ofSeconds(10);
+    private static final int CATEGORY_COUNT = 100;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void importFlashCardsFromCsv_generatedDeck_loadsWithinLimit() throws Exception {
+        List<FlashCard> flashCards = generateFlashCards(ROWS);
+        CsvExportPath csvPath = new CsvExportPath(testFolder.resolve("deck.csv").toString());
+        csvPath.export(flashCards);
+        KeyboardFlashCards deck = new KeyboardFlashCards();
+        deck.addFlashcards(flashCards.subList(0, JSON_ROWS));
+        JsonKeyboardFlashCardsStorage jsonStorage = new JsonKeyboardFlashCardsStorage(testFolder.resolve("deck.json"));
+        jsonStorage.saveAddressBook(deck);
+        flashCards = null;
+        deck = null;
+
+        long csvStart = System.nanoTime();
+        Model csvModel = new ModelManager();
+        csvModel.addFlashCards(csvPath.importFrom().get());
+        Duration csvTime = Duration.ofNanos(System.nanoTime() - csvStart);
+        assertEquals(ROWS, csvModel.getFlashCardList().size());
+        csvModel = null;
+
+        long jsonStart = System.nanoTime();
+        Model jsonModel = new ModelManager(jsonStorage.readKeyboardFlashCards().get(), new UserPrefs());
+        Duration jsonTime = Duration.ofNanos(System.nanoTime() - jsonStart);
+        assertEquals(JSON_ROWS, jsonModel.getFlashCardList().size());
+
+        System.out.printf("CSV import: %d FlashCards in %d ms (%.2f us each)%n",
+                ROWS, csvTime.toMillis(), csvTime.toNanos() / 1000.0 / ROWS);
+        System.out.printf("JSON data file: %d FlashCards in %d ms (%.2f us each)%n",
+                JSON_ROWS, jsonTime.toMillis(), jsonTime.toNanos() / 1000.0 / JSON_ROWS);
+        assertTrue(csvTime.compareTo(MAX_CSV_IMPORT_TIME) < 0, "CSV import took " + csvTime.toMillis() + " ms");
+    }
+
+    private static List<FlashCard> generateFlashCards(int count) {
+        List<FlashCard> flashCards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            flashCards.add(new FlashCard(
+                    new Question("What is the answer to question number " + i + "?"),
+                    new Answer("The answer, which has a comma, is " + i),
+                    new Rating(Rating.GOOD),
+                    Collections.singleton(new Category("category" + i % CATEGORY_COUNT))));
+        }
+        return flashCards;
+    }
+}
@@ -0,0 +1,119 @@
+//@@author LeowWB
+
+package seedu.address.model.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.ExportTestUtil.deleteFileIfExists;
+import static seedu.address.testutil.ExportTestUtil.isFilePresent;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.flashcard.FlashCard;
+import seedu.address.testutil.FlashCardBuilder;
+import seedu.address.testutil.TypicalExportPaths;
+import seedu.address.testutil.TypicalFlashCards;
+
+public class CsvImportUtilTest {
+
+    @Test
+    public void importFlashCardsFromCsv_valid_success() {
+        List<List<FlashCard>> listsToTest = Arrays.asList(
+                TypicalFlashCards.getSingletonFlashCardList(),
+                TypicalFlashCards.getTypicalFlashCards()
+        );
+
+        for (List<FlashCard> list : listsToTest) {
+            tryImportFrom(list, TypicalExportPaths.CS2105_CSV);
+            tryImportFrom(list, TypicalExportPaths.CS2105_TSV);
+        }
+    }
+
+    @Test
+    public void importFlashCardsFromCsv_missingFile_returnsEmptyOptional() throws DataConversionException {
+        CsvExportPath path = TypicalExportPaths.CS2105_CSV;
+        deleteFileIfExists(path);
+
+        assertTrue(CsvImportUtil.importFlashCardsFromCsv(path).isEmpty());
+    }
+
+    @Test
+    public void readFlashCards_noHeaderAndOptionalColumnsOmitted_success() throws Exception {
+        String csv = "What is 1 + 1?,2\n\nCapital of France,Paris,easy,geography europe\n";
+        List<FlashCard> expected = Arrays.asList(
+                new FlashCardBuilder().withQuestion("What is 1 + 1?").withAnswer("2").withRating("null").build(),
+                new FlashCardBuilder().withQuestion("Capital of France").withAnswer("Paris").withRating("easy")
+                        .withCatgeories("geography", "europe").build()
+        );
+
+        assertEquals(expected, readFlashCards(csv));
+    }
+
+    @Test
+    public void readFlashCards_multiLineQuotedFields_linesFolded() throws Exception {
+        String csv = "\"What are the\r\n  two kinds of delay?\",\"\nqueueing\nand transmission\n\"\n";
+        List<FlashCard> expected = Arrays.asList(new FlashCardBuilder().withQuestion("What are the two kinds of delay?")
+                .withAnswer("queueing and transmission").withRating("null").build());
+
+        assertEquals(expected, readFlashCards(csv));
+    }
+
+    @Test
+    public void readFlashCards_spaceAfterDelimiter_fieldsTrimmed() throws Exception {
+        String csv = "What is X, an answer , good\n";
+        List<FlashCard> expected = Arrays.asList(new FlashCardBuilder().withQuestion("What is X")
+                .withAnswer("an answer").withRating("good").build());
+
+        assertEquals(expected, readFlashCards(csv));
+    }
+
+    @Test
+    public void readFlashCards_missingAnswer_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> readFlashCards("question,answer\nlonely question\n"));
+    }
+
+    @Test
+    public void readFlashCards_invalidRating_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> readFlashCards("q,a,terrible\n"));
+    }
+
+    private static List<FlashCard> readFlashCards(String csv) throws IOException, IllegalValueException {
+        return CsvImportUtil.readFlashCards(new CsvTokenizer(new StringReader(csv), CsvTokenizer.COMMA));
+    }
+
+    /**
+     * Helper function to attempt an import from a specific CsvExportPath. Will first export the {@code FlashCard}s to
+     * that path, before importing them back in. Verifies the import works as expected.
+     *
+     * @param list List of {@code FlashCard}s to test the import function with.
+     * @param path CsvExportPath to export to and import from.
+     */
+    private void tryImportFrom(List<FlashCard> list, CsvExportPath path) {
+        deleteFileIfExists(path);
+
+        try {
+            CsvExportUtil.exportFlashCardsToCsv(list, path);
+            Optional<List<FlashCard>> optionalList = CsvImportUtil.importFlashCardsFromCsv(path);
+
+            assertTrue(optionalList.isPresent());
+            assertEquals(list, optionalList.get());
+            assertTrue(isFilePresent(path));
+        } catch (IOException e) {
+            fail("IOException when importing from csv");
+        } catch (DataConversionException e) {
+            fail("DataConversionException when importing from csv");
+        }
+
+        deleteFileIfExists(path);
+    }
+}
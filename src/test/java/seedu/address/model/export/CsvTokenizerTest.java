@@ -0,0 +1,85 @@
+//@@author LeowWB
+
+package seedu.address.model.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class CsvTokenizerTest {
+
+    @Test
+    public void nextRecord_unquotedFields_success() throws Exception {
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader("a,b,c\nd,,f\n"), CsvTokenizer.COMMA);
+
+        assertEquals(Arrays.asList("a", "b", "c"), copyOf(tokenizer.nextRecord()));
+        assertEquals(Arrays.asList("d", "", "f"), copyOf(tokenizer.nextRecord()));
+        assertNull(tokenizer.nextRecord());
+    }
+
+    @Test
+    public void nextRecord_quotedFields_success() throws Exception {
+        String csv = "\"a,b\",\"say \"\"hi\"\"\",\"line one\r\nline two\"\r\nlast";
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(csv), CsvTokenizer.COMMA);
+
+        assertEquals(Arrays.asList("a,b", "say \"hi\"", "line one\r\nline two"), copyOf(tokenizer.nextRecord()));
+        assertEquals(Arrays.asList("last"), copyOf(tokenizer.nextRecord()));
+        assertNull(tokenizer.nextRecord());
+    }
+
+    @Test
+    public void nextRecord_tabDelimiter_success() throws Exception {
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader("a,b\tc\n"), CsvTokenizer.TAB);
+
+        assertEquals(Arrays.asList("a,b", "c"), copyOf(tokenizer.nextRecord()));
+        assertNull(tokenizer.nextRecord());
+    }
+
+    @Test
+    public void nextRecord_fieldLongerThanBuffer_success() throws Exception {
+        StringBuilder longField = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            longField.append(i % 10);
+        }
+        String csv = "\"" + longField + "\",x";
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(csv), CsvTokenizer.COMMA);
+
+        assertEquals(Arrays.asList(longField.toString(), "x"), copyOf(tokenizer.nextRecord()));
+    }
+
+    @Test
+    public void nextRecord_whitespaceAroundFields_whitespaceSkipped() throws Exception {
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(" a , b c\t, \" d \" ,\n"), CsvTokenizer.COMMA);
+
+        assertEquals(Arrays.asList("a", "b c", " d ", ""), copyOf(tokenizer.nextRecord()));
+        assertNull(tokenizer.nextRecord());
+    }
+
+    @Test
+    public void nextRecord_unterminatedQuote_throwsIllegalValueException() {
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader("\"abc,def\n"), CsvTokenizer.COMMA);
+        assertThrows(IllegalValueException.class, tokenizer::nextRecord);
+    }
+
+    @Test
+    public void nextRecord_characterAfterClosingQuote_throwsIllegalValueException() {
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader("\"abc\"def,ghi\n"), CsvTokenizer.COMMA);
+        assertThrows(IllegalValueException.class, tokenizer::nextRecord);
+    }
+
+    /**
+     * Copies a record, since the tokenizer reuses the same List between records.
+     */
+    private static List<String> copyOf(List<String> record) {
+        return new ArrayList<>(record);
+    }
+}
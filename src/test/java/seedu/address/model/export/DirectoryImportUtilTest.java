@@ -0,0 +1,69 @@
+//@@author LeowWB
+
+package seedu.address.model.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalFlashCards.getSingletonFlashCardList;
+import static seedu.address.testutil.TypicalFlashCards.getTypicalFlashCards;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DirectoryImportUtilTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void findImportablePaths_mixedFiles_onlySupportedFilesFoundInOrder() throws Exception {
+        Files.writeString(testFolder.resolve("b.csv"), "q,a\n");
+        Files.writeString(testFolder.resolve("a.json"), "{}");
+        Files.writeString(testFolder.resolve("notes.txt"), "not a deck");
+        Files.writeString(testFolder.resolve("changes.patch"), "{}");
+        Files.createDirectory(testFolder.resolve("nested.json"));
+
+        List<ExportPath> expected = Arrays.asList(
+                ExportPathFactory.getExportPath(testFolder.resolve("a.json").toString()),
+                ExportPathFactory.getExportPath(testFolder.resolve("b.csv").toString())
+        );
+
+        assertEquals(expected, DirectoryImportUtil.findImportablePaths(new DirectoryPath(testFolder)));
+    }
+
+    @Test
+    public void importFlashCardsFromDirectory_emptyDirectory_returnsEmptyList() throws Exception {
+        assertTrue(DirectoryImportUtil.importFlashCardsFromDirectory(new DirectoryPath(testFolder)).isEmpty());
+    }
+
+    @Test
+    public void importFlashCardsFromDirectory_validAndCorruptedFiles_readsEachFileSeparately() throws Exception {
+        ExportPathFactory.getExportPath(testFolder.resolve("a.json").toString()).export(getTypicalFlashCards());
+        ExportPathFactory.getExportPath(testFolder.resolve("b.tsv").toString()).export(getSingletonFlashCardList());
+        Files.writeString(testFolder.resolve("c.csv"), "\"never closed,answer\n");
+
+        List<FileImportResult> results =
+                DirectoryImportUtil.importFlashCardsFromDirectory(new DirectoryPath(testFolder));
+
+        assertEquals(3, results.size());
+
+        assertTrue(results.get(0).isSuccessful());
+        assertEquals("a.json", results.get(0).getFileName());
+        assertEquals(getTypicalFlashCards(), results.get(0).getFlashCards());
+
+        assertTrue(results.get(1).isSuccessful());
+        assertEquals(getSingletonFlashCardList(), results.get(1).getFlashCards());
+
+        assertFalse(results.get(2).isSuccessful());
+        assertTrue(results.get(2).getFlashCards().isEmpty());
+        assertEquals(Optional.of(DirectoryImportUtil.MESSAGE_DATA_CONVERSION_EXCEPTION),
+                results.get(2).getErrorMessage());
+    }
+}
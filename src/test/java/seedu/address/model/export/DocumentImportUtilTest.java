@@ -0,0 +1,106 @@
+//@@author LeowWB
+
+package seedu.address.model.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static seedu.address.testutil.ExportTestUtil.deleteFileIfExists;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.flashcard.FlashCard;
+import seedu.address.model.flashcard.Rating;
+import seedu.address.testutil.FlashCardBuilder;
+import seedu.address.testutil.TypicalExportPaths;
+import seedu.address.testutil.TypicalFlashCards;
+
+public class DocumentImportUtilTest {
+
+    private static final String DOCUMENT_XML_FORMAT = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+            + "<w:document xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\">"
+            + "<w:body>%s</w:body></w:document>";
+
+    @Test
+    public void importFlashCardsFromDocument_exportedDocument_success() {
+        List<List<FlashCard>> listsToTest = Arrays.asList(
+                TypicalFlashCards.getSingletonFlashCardList(),
+                TypicalFlashCards.getTypicalFlashCards()
+        );
+
+        for (List<FlashCard> list : listsToTest) {
+            tryImportFrom(list);
+        }
+    }
+
+    @Test
+    public void importFlashCardsFromDocument_missingFile_returnsEmptyOptional() throws DataConversionException {
+        DocumentPath path = TypicalExportPaths.CHEATSHEET_DOCX;
+        deleteFileIfExists(path);
+
+        assertTrue(DocumentImportUtil.importFlashCardsFromDocument(path).isEmpty());
+    }
+
+    @Test
+    public void readFlashCards_boldQuestionPlainAnswer_success() throws Exception {
+        String body = "<w:p><w:r><w:rPr><w:b/></w:rPr><w:t>What is TCP?</w:t></w:r>"
+                + "<w:r><w:cr/></w:r>"
+                + "<w:r><w:rPr><w:b w:val=\"false\"/></w:rPr><w:t xml:space=\"preserve\">A transport </w:t></w:r>"
+                + "<w:r><w:t>protocol</w:t></w:r></w:p>"
+                + "<w:p></w:p>"
+                + "<w:p><w:r><w:t>Paragraph without a question</w:t></w:r></w:p>";
+
+        List<FlashCard> expected = Collections.singletonList(
+                new FlashCardBuilder().withQuestion("What is TCP?").withAnswer("A transport protocol").build());
+
+        assertEquals(expected, readFlashCards(body));
+    }
+
+    private static List<FlashCard> readFlashCards(String body) throws Exception {
+        String documentXml = String.format(DOCUMENT_XML_FORMAT, body);
+        return DocumentImportUtil.readFlashCards(
+                new ByteArrayInputStream(documentXml.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Helper function to export the given {@code FlashCard}s to a document, then import them back in. Only the
+     * question and answer of each FlashCard are expected to survive the round trip.
+     *
+     * @param list List of {@code FlashCard}s to test the import function with.
+     */
+    private void tryImportFrom(List<FlashCard> list) {
+        DocumentPath path = TypicalExportPaths.CHEATSHEET_DOCX;
+        deleteFileIfExists(path);
+
+        List<FlashCard> expected = list.stream()
+                .map(flashCard -> new FlashCardBuilder(flashCard)
+                        .withRating(Rating.NULL)
+                        .withCatgeories()
+                        .build())
+                .collect(Collectors.toList());
+
+        try {
+            DocumentExportUtil.exportFlashCardsToDocument(list, path);
+            Optional<List<FlashCard>> optionalList = DocumentImportUtil.importFlashCardsFromDocument(path);
+
+            assertTrue(optionalList.isPresent());
+            assertEquals(expected, optionalList.get());
+        } catch (IOException e) {
+            fail("IOException when importing from document");
+        } catch (DataConversionException e) {
+            fail("DataConversionException when importing from document");
+        }
+
+        deleteFileIfExists(path);
+    }
+}
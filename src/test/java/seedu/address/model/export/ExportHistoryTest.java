@@ -0,0 +1,148 @@
+//@@author LeowWB
+
+package seedu.address.model.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalFlashCards.DELAY;
+import static seedu.address.testutil.TypicalFlashCards.PROP_DELAY;
+import static seedu.address.testutil.TypicalFlashCards.STORE_AND_FORWARD;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.category.Category;
+import seedu.address.model.flashcard.FlashCard;
+import seedu.address.testutil.FlashCardBuilder;
+
+public class ExportHistoryTest {
+
+    private static final Category CS2105 = new Category("CS2105");
+    private static final Category DELAY_CATEGORY = new Category("Delay");
+    private static final Path PATCH_PATH = Paths.get("cs2105.patch");
+
+    private final ExportHistory exportHistory = new ExportHistory();
+    private final List<FlashCard> flashCards = new ArrayList<>();
+
+    @Test
+    public void getPatch_neverExported_allFlashCardsInCategory() {
+        add(STORE_AND_FORWARD);
+        add(DELAY);
+        add(PROP_DELAY);
+
+        FlashCardPatch patch = exportHistory.getPatch(flashCards, CS2105, PATCH_PATH);
+
+        assertEquals(Arrays.asList(STORE_AND_FORWARD, DELAY), patch.getUpserts());
+        assertTrue(patch.getRemovals().isEmpty());
+        assertEquals(0, patch.getFromVersion());
+    }
+
+    @Test
+    public void getPatch_afterExport_onlyChanges() {
+        add(STORE_AND_FORWARD);
+        add(DELAY);
+        export(CS2105);
+
+        assertTrue(exportHistory.getPatch(flashCards, CS2105, PATCH_PATH).isEmpty());
+
+        FlashCard editedDelay = new FlashCardBuilder(DELAY).withAnswer("2L/R").build();
+        edit(DELAY, editedDelay);
+        remove(STORE_AND_FORWARD);
+        add(PROP_DELAY);
+
+        FlashCardPatch patch = exportHistory.getPatch(flashCards, CS2105, PATCH_PATH);
+        assertEquals(Collections.singletonList(editedDelay), patch.getUpserts());
+        assertEquals(2, patch.getRemovals().size());
+        assertTrue(patch.getRemovals().contains(STORE_AND_FORWARD));
+        assertTrue(patch.getRemovals().contains(DELAY));
+    }
+
+    @Test
+    public void getPatch_ratingOnlyEdit_notIncluded() {
+        add(STORE_AND_FORWARD);
+        export(CS2105);
+
+        edit(STORE_AND_FORWARD, new FlashCardBuilder(STORE_AND_FORWARD).withRating("good").build());
+
+        assertTrue(exportHistory.getPatch(flashCards, CS2105, PATCH_PATH).isEmpty());
+    }
+
+    @Test
+    public void getPatch_categoryRemovedThenOtherEdit_removalIncluded() {
+        add(DELAY);
+        export(CS2105);
+
+        FlashCard delayOnly = new FlashCardBuilder(DELAY).withCatgeories("Delay").build();
+        edit(DELAY, delayOnly);
+        FlashCard delayOnlyRenamed = new FlashCardBuilder(delayOnly).withCatgeories("Delay", "Latency").build();
+        edit(delayOnly, delayOnlyRenamed);
+
+        FlashCardPatch patch = exportHistory.getPatch(flashCards, CS2105, PATCH_PATH);
+        assertTrue(patch.getUpserts().isEmpty());
+        assertEquals(1, patch.getRemovals().size());
+        assertTrue(patch.getRemovals().get(0).isSameFlashCard(DELAY));
+    }
+
+    @Test
+    public void getPatch_differentCategoryAtSamePath_allFlashCardsInCategory() {
+        add(DELAY);
+        add(PROP_DELAY);
+        export(CS2105);
+        remove(DELAY);
+
+        FlashCardPatch patch = exportHistory.getPatch(flashCards, DELAY_CATEGORY, PATCH_PATH);
+
+        assertEquals(Collections.singletonList(PROP_DELAY), patch.getUpserts());
+        assertTrue(patch.getRemovals().isEmpty());
+    }
+
+    @Test
+    public void setWatermark_everyPathPastRemoval_removalForgotten() {
+        add(STORE_AND_FORWARD);
+        export(CS2105);
+        remove(STORE_AND_FORWARD);
+        assertEquals(1, exportHistory.getRemovedFlashCards().size());
+
+        export(CS2105);
+
+        assertTrue(exportHistory.getRemovedFlashCards().isEmpty());
+    }
+
+    @Test
+    public void copyConstructor_sameState() {
+        add(STORE_AND_FORWARD);
+        export(CS2105);
+        add(DELAY);
+
+        ExportHistory copy = new ExportHistory(exportHistory);
+
+        assertEquals(exportHistory.getCurrentVersion(), copy.getCurrentVersion());
+        assertEquals(exportHistory.getPatch(flashCards, CS2105, PATCH_PATH),
+                copy.getPatch(flashCards, CS2105, PATCH_PATH));
+    }
+
+    private void add(FlashCard flashCard) {
+        flashCards.add(flashCard);
+        exportHistory.recordAdded(flashCard);
+    }
+
+    private void remove(FlashCard flashCard) {
+        flashCards.remove(flashCard);
+        exportHistory.recordRemoved(flashCard);
+    }
+
+    private void edit(FlashCard target, FlashCard editedFlashCard) {
+        flashCards.set(flashCards.indexOf(target), editedFlashCard);
+        exportHistory.recordEdited(target, editedFlashCard);
+    }
+
+    private void export(Category category) {
+        exportHistory.setWatermark(PATCH_PATH, category, exportHistory.getPatch(flashCards, category, PATCH_PATH));
+    }
+}
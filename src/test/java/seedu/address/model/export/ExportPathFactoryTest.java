@@ -2,6 +2,7 @@
 
 package seedu.address.model.export;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -24,7 +25,10 @@ public class ExportPathFactoryTest {
         ".json",
         ".docx",
         ".JsOn",
-        ".DocX"
+        ".DocX",
+        ".csv",
+        ".TsV",
+        ".patch"
     };
 
     private String[] invalidExtensions = {
@@ -32,9 +36,24 @@ public class ExportPathFactoryTest {
         ".png",
         ".txt",
         ".jsonn",
+        ".csvv",
+        ".patches",
         "."
     };
 
+    @Test
+    public void isValid() {
+        for (String filePathNoExtension : filePathsNoExtensions) {
+            assertFalse(ExportPathFactory.isValid(filePathNoExtension));
+            for (String validExtension : validExtensions) {
+                assertTrue(ExportPathFactory.isValid(filePathNoExtension + validExtension));
+            }
+            for (String invalidExtension : invalidExtensions) {
+                assertFalse(ExportPathFactory.isValid(filePathNoExtension + invalidExtension));
+            }
+        }
+    }
+
     @Test
     public void getExportPath_valid_success() {
         for (String filePathNoExtension : filePathsNoExtensions) {
@@ -53,6 +72,17 @@ public class ExportPathFactoryTest {
                             exportPath instanceof JsonExportPath
                     );
                     break;
+                case ".csv":
+                case ".tsv":
+                    assertTrue(
+                            exportPath instanceof CsvExportPath
+                    );
+                    break;
+                case ".patch":
+                    assertTrue(
+                            exportPath instanceof PatchExportPath
+                    );
+                    break;
                 default:
                     fail("Valid export path not recognized as valid: " + filePath);
                 }
@@ -93,6 +123,17 @@ public class ExportPathFactoryTest {
                             exportPath instanceof JsonExportPath
                     );
                     break;
+                case ".csv":
+                case ".tsv":
+                    assertTrue(
+                            exportPath instanceof CsvExportPath
+                    );
+                    break;
+                case ".patch":
+                    assertTrue(
+                            exportPath instanceof PatchExportPath
+                    );
+                    break;
                 default:
                     fail("Valid export path not recognized as valid: " + filePath);
                 }
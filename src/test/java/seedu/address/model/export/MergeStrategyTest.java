@@ -0,0 +1,92 @@
+//@@author LeowWB
+
+package seedu.address.model.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalFlashCards.STORE_AND_FORWARD;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.flashcard.FlashCard;
+import seedu.address.model.flashcard.Rating;
+import seedu.address.testutil.FlashCardBuilder;
+
+public class MergeStrategyTest {
+
+    private static final FlashCard LOCAL = new FlashCardBuilder(STORE_AND_FORWARD)
+            .withRating(Rating.GOOD)
+            .withCatgeories("CS2105")
+            .build();
+    private static final FlashCard REMOTE = new FlashCardBuilder(STORE_AND_FORWARD)
+            .withRating(Rating.HARD)
+            .withCatgeories("networking")
+            .build();
+
+    @Test
+    public void isValid() {
+        // null
+        assertThrows(NullPointerException.class, () -> MergeStrategy.isValid(null));
+
+        // invalid
+        assertFalse(MergeStrategy.isValid(""));
+        assertFalse(MergeStrategy.isValid("KEEP_LOCAL"));
+        assertFalse(MergeStrategy.isValid("keep local"));
+
+        // valid
+        assertTrue(MergeStrategy.isValid("keep-local"));
+        assertTrue(MergeStrategy.isValid("take-remote"));
+        assertTrue(MergeStrategy.isValid("union-categories"));
+        assertTrue(MergeStrategy.isValid("max-rating"));
+    }
+
+    @Test
+    public void fromString_invalidName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> MergeStrategy.fromString("newest"));
+    }
+
+    @Test
+    public void fromString_validName_returnsStrategy() {
+        for (MergeStrategy strategy : MergeStrategy.values()) {
+            assertEquals(strategy, MergeStrategy.fromString(strategy.toString()));
+        }
+    }
+
+    @Test
+    public void merge_keepLocal_returnsLocal() {
+        assertSame(LOCAL, MergeStrategy.KEEP_LOCAL.merge(LOCAL, REMOTE));
+    }
+
+    @Test
+    public void merge_takeRemote_takesRatingAndCategories() {
+        assertEquals(REMOTE, MergeStrategy.TAKE_REMOTE.merge(LOCAL, REMOTE));
+    }
+
+    @Test
+    public void merge_unionCategories_keepsRatingAndAddsCategories() {
+        FlashCard expected = new FlashCardBuilder(LOCAL).withCatgeories("CS2105", "networking").build();
+        assertEquals(expected, MergeStrategy.UNION_CATEGORIES.merge(LOCAL, REMOTE));
+
+        // categories already present -> unchanged
+        assertSame(expected, MergeStrategy.UNION_CATEGORIES.merge(expected, REMOTE));
+    }
+
+    @Test
+    public void merge_maxRating_takesBetterRating() {
+        // local is better -> unchanged
+        assertSame(LOCAL, MergeStrategy.MAX_RATING.merge(LOCAL, REMOTE));
+
+        // remote is better
+        FlashCard easyRemote = new FlashCardBuilder(REMOTE).withRating(Rating.EASY).build();
+        FlashCard expected = new FlashCardBuilder(LOCAL).withRating(Rating.EASY).build();
+        assertEquals(expected, MergeStrategy.MAX_RATING.merge(LOCAL, easyRemote));
+
+        // any rating is better than none
+        FlashCard unrated = new FlashCardBuilder(LOCAL).withRating(Rating.NULL).build();
+        assertEquals(new FlashCardBuilder(unrated).withRating(Rating.HARD).build(),
+                MergeStrategy.MAX_RATING.merge(unrated, REMOTE));
+    }
+}
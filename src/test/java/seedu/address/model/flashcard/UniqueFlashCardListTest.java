@@ -2,6 +2,7 @@ package seedu.address.model.flashcard;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_CATEGORY_HISTORY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_RATING_2;
@@ -12,6 +13,7 @@ import static seedu.address.testutil.TypicalFlashCards.STORE_AND_FORWARD;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -61,6 +63,28 @@ public class UniqueFlashCardListTest {
         assertThrows(DuplicateFlashCardException.class, () -> uniqueFlashCardList.add(STORE_AND_FORWARD));
     }
 
+    @Test
+    public void addAllAbsent_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueFlashCardList.addAllAbsent(null));
+    }
+
+    @Test
+    public void addAllAbsent_listWithDuplicates_addsOnlyNewFlashCards() {
+        uniqueFlashCardList.add(STORE_AND_FORWARD);
+        FlashCard editedStoreAndForward = new FlashCardBuilder(STORE_AND_FORWARD)
+                .withRating(VALID_RATING_2)
+                .build();
+
+        List<FlashCard> added = uniqueFlashCardList.addAllAbsent(
+                Arrays.asList(editedStoreAndForward, NUS, NUS));
+
+        assertEquals(Collections.singletonList(NUS), added);
+        UniqueFlashCardList expectedUniqueFlashCardList = new UniqueFlashCardList();
+        expectedUniqueFlashCardList.add(STORE_AND_FORWARD);
+        expectedUniqueFlashCardList.add(NUS);
+        assertEquals(expectedUniqueFlashCardList, uniqueFlashCardList);
+    }
+
     @Test
     public void setFlashCard_nullTargetFlashCard_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueFlashCardList.setFlashcard(null, STORE_AND_FORWARD));
@@ -117,6 +141,111 @@ public class UniqueFlashCardListTest {
                 uniqueFlashCardList.setFlashcard(STORE_AND_FORWARD, NUS));
     }
 
+    //@@author LeowWB
+    @Test
+    public void mergeAll_nullMerger_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                uniqueFlashCardList.mergeAll(Collections.singletonList(NUS), null));
+    }
+
+    @Test
+    public void mergeAll_newAndExistingFlashCards_addsAndMerges() {
+        uniqueFlashCardList.add(STORE_AND_FORWARD);
+        uniqueFlashCardList.add(NUS);
+        FlashCard editedStoreAndForward = new FlashCardBuilder(STORE_AND_FORWARD).withRating(VALID_RATING_2).build();
+        FlashCard newFlashCard = new FlashCardBuilder().build();
+
+        MergeResult result = uniqueFlashCardList.mergeAll(
+                Arrays.asList(newFlashCard, editedStoreAndForward, NUS), (local, remote) -> remote);
+
+        assertEquals(Collections.singletonList(newFlashCard), result.getAdded());
+        assertEquals(Collections.singletonList(STORE_AND_FORWARD), result.getReplacedTargets());
+        assertEquals(Collections.singletonList(editedStoreAndForward), result.getReplacements());
+        assertEquals(1, result.getUnchangedCount());
+
+        UniqueFlashCardList expectedUniqueFlashCardList = new UniqueFlashCardList();
+        expectedUniqueFlashCardList.setFlashCards(Arrays.asList(editedStoreAndForward, NUS, newFlashCard));
+        assertEquals(expectedUniqueFlashCardList, uniqueFlashCardList);
+    }
+
+    @Test
+    public void mergeAll_duplicatesWithinBatch_mergedIntoOne() {
+        FlashCard editedNus = new FlashCardBuilder(NUS).withRating(VALID_RATING_2).build();
+
+        MergeResult result = uniqueFlashCardList.mergeAll(Arrays.asList(NUS, editedNus), (local, remote) -> local);
+
+        assertEquals(Collections.singletonList(NUS), result.getAdded());
+        assertEquals(0, result.getUpdatedCount());
+        assertEquals(0, result.getUnchangedCount());
+        assertEquals(Collections.singletonList(NUS), uniqueFlashCardList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void mergeAll_mergedFlashCard_keepsIdOfExisting() {
+        uniqueFlashCardList.add(STORE_AND_FORWARD);
+        FlashCard editedStoreAndForward = new FlashCardBuilder(STORE_AND_FORWARD).withRating(VALID_RATING_2).build();
+
+        MergeResult result = uniqueFlashCardList.mergeAll(
+                Collections.singletonList(editedStoreAndForward), (local, remote) -> remote);
+
+        assertEquals(STORE_AND_FORWARD.getId(), result.getReplacements().get(0).getId());
+        assertEquals(Optional.of(editedStoreAndForward), uniqueFlashCardList.get(STORE_AND_FORWARD.getId()));
+        assertFalse(uniqueFlashCardList.containsId(editedStoreAndForward.getId()));
+    }
+
+    @Test
+    public void get_afterChanges_findsFlashCardsById() {
+        uniqueFlashCardList.add(STORE_AND_FORWARD);
+        uniqueFlashCardList.add(NUS);
+        FlashCard newFlashCard = new FlashCardBuilder().build();
+        uniqueFlashCardList.addAllAbsent(Collections.singletonList(newFlashCard));
+        assertEquals(Optional.of(newFlashCard), uniqueFlashCardList.get(newFlashCard.getId()));
+
+        uniqueFlashCardList.remove(STORE_AND_FORWARD);
+        assertEquals(Optional.empty(), uniqueFlashCardList.get(STORE_AND_FORWARD.getId()));
+        assertEquals(Optional.of(NUS), uniqueFlashCardList.get(NUS.getId()));
+        assertEquals(Optional.of(newFlashCard), uniqueFlashCardList.get(newFlashCard.getId()));
+
+        FlashCard editedNus = new FlashCardBuilder(NUS).withQuestion("Edited").withId(NUS.getId()).build();
+        uniqueFlashCardList.setFlashcard(NUS, editedNus);
+        assertEquals(Optional.of(editedNus), uniqueFlashCardList.get(NUS.getId()));
+    }
+
+    @Test
+    public void add_takenId_throwsDuplicateFlashCardException() {
+        uniqueFlashCardList.add(STORE_AND_FORWARD);
+        FlashCard sameId = new FlashCardBuilder().withId(STORE_AND_FORWARD.getId()).build();
+        assertThrows(DuplicateFlashCardException.class, () -> uniqueFlashCardList.add(sameId));
+    }
+
+    @Test
+    public void addAllAbsent_takenId_addedWithNewId() {
+        uniqueFlashCardList.add(STORE_AND_FORWARD);
+        FlashCard sameId = new FlashCardBuilder().withId(STORE_AND_FORWARD.getId()).build();
+
+        List<FlashCard> added = uniqueFlashCardList.addAllAbsent(Collections.singletonList(sameId));
+
+        assertEquals(Collections.singletonList(sameId), added);
+        assertNotEquals(STORE_AND_FORWARD.getId(), added.get(0).getId());
+        assertEquals(Optional.of(STORE_AND_FORWARD), uniqueFlashCardList.get(STORE_AND_FORWARD.getId()));
+        assertEquals(Optional.of(sameId), uniqueFlashCardList.get(added.get(0).getId()));
+    }
+
+    @Test
+    public void ordinalOf_afterRemove_findsNewPosition() {
+        uniqueFlashCardList.add(STORE_AND_FORWARD);
+        uniqueFlashCardList.add(NUS);
+        assertEquals(1, uniqueFlashCardList.ordinalOf(NUS));
+
+        uniqueFlashCardList.remove(STORE_AND_FORWARD);
+        assertEquals(0, uniqueFlashCardList.ordinalOf(NUS));
+        assertEquals(-1, uniqueFlashCardList.ordinalOf(STORE_AND_FORWARD));
+
+        FlashCard sameIdAsNus = new FlashCardBuilder().withId(NUS.getId()).build();
+        assertEquals(-1, uniqueFlashCardList.ordinalOf(sameIdAsNus));
+    }
+    //@@author
+
     @Test
     public void remove_nullFlashCard_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueFlashCardList.remove(null));
@@ -0,0 +1,69 @@
+//@@author LeowWB
+
+package seedu.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class AliasSamplerTest {
+
+    private static final int DRAW_COUNT = 60000;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AliasSampler(null));
+    }
+
+    @Test
+    public void constructor_invalidWeights_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AliasSampler(new double[0]));
+        assertThrows(IllegalArgumentException.class, () -> new AliasSampler(new double[] {0, 0}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasSampler(new double[] {1, -1}));
+    }
+
+    @Test
+    public void isValidWeights() {
+        assertFalse(AliasSampler.isValidWeights(new double[0]));
+        assertFalse(AliasSampler.isValidWeights(new double[] {0}));
+        assertFalse(AliasSampler.isValidWeights(new double[] {1, -0.5}));
+        assertFalse(AliasSampler.isValidWeights(new double[] {1, Double.NaN}));
+        assertFalse(AliasSampler.isValidWeights(new double[] {1, Double.POSITIVE_INFINITY}));
+
+        assertTrue(AliasSampler.isValidWeights(new double[] {0, 1}));
+        assertTrue(AliasSampler.isValidWeights(new double[] {3, 2, 1}));
+    }
+
+    @Test
+    public void sample_zeroWeight_neverDrawn() {
+        AliasSampler sampler = new AliasSampler(new double[] {0, 1, 0, 2});
+        Random random = new Random(1);
+        for (int i = 0; i < DRAW_COUNT; i++) {
+            int index = sampler.sample(random);
+            assertTrue(index == 1 || index == 3);
+        }
+    }
+
+    @Test
+    public void sample_weights_drawnInProportion() {
+        double[] weights = {3, 2, 1, 2};
+        AliasSampler sampler = new AliasSampler(weights);
+        assertEquals(weights.length, sampler.size());
+
+        Random random = new Random(2);
+        int[] counts = new int[weights.length];
+        for (int i = 0; i < DRAW_COUNT; i++) {
+            counts[sampler.sample(random)]++;
+        }
+
+        for (int i = 0; i < weights.length; i++) {
+            double expectedCount = DRAW_COUNT * weights[i] / 8;
+            assertEquals(expectedCount, counts[i], expectedCount * 0.05);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+//@@author LeowWB
+
+package seedu.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class PerformanceSeriesTest {
+
+    private final PerformanceSeries performanceSeries = new PerformanceSeries();
+
+    @Test
+    public void add_invalidPerformance_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> performanceSeries.add(-1));
+        assertThrows(IllegalArgumentException.class, () -> performanceSeries.add(100.5f));
+        assertThrows(IllegalArgumentException.class, () -> performanceSeries.add(Float.NaN));
+    }
+
+    @Test
+    public void add_pastInitialCapacity_allKept() {
+        for (int i = 0; i < 100; i++) {
+            performanceSeries.add(i);
+        }
+        assertEquals(100, performanceSeries.size());
+        assertEquals(0f, performanceSeries.get(0));
+        assertEquals(99f, performanceSeries.get(99));
+        assertThrows(IndexOutOfBoundsException.class, () -> performanceSeries.get(100));
+    }
+
+    @Test
+    public void copyConstructor_laterChanges_notShared() {
+        performanceSeries.add(10);
+        PerformanceSeries copy = new PerformanceSeries(performanceSeries);
+        assertEquals(performanceSeries, copy);
+
+        copy.add(20);
+        assertNotEquals(performanceSeries, copy);
+        assertArrayEquals(new float[] {10}, performanceSeries.toArray());
+    }
+
+    @Test
+    public void downsample_longHistory_atMostMaxPoints() {
+        for (int i = 0; i < 2000; i++) {
+            performanceSeries.add(i % 100);
+        }
+        assertEquals(500, performanceSeries.downsample(0, 2000, 500).length);
+        assertEquals(100, performanceSeries.downsample(1900, 2000, 500).length);
+        assertThrows(IllegalArgumentException.class, () -> performanceSeries.downsample(0, 2001, 500));
+    }
+}
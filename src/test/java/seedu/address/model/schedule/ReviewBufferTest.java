@@ -0,0 +1,56 @@
+//@@author LeowWB
+
+package seedu.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.flashcard.Rating;
+
+public class ReviewBufferTest {
+
+    private static final Rating HARD = new Rating(Rating.HARD);
+    private static final Rating EASY = new Rating(Rating.EASY);
+
+    @Test
+    public void add_invalidReview_throwsException() {
+        ReviewBuffer reviewBuffer = new ReviewBuffer();
+        assertThrows(NullPointerException.class, () -> reviewBuffer.add(0, null));
+        assertThrows(IllegalArgumentException.class, () -> reviewBuffer.add(-1, HARD));
+    }
+
+    @Test
+    public void add_manyReviews_keptInOrder() {
+        ReviewBuffer reviewBuffer = new ReviewBuffer();
+        assertTrue(reviewBuffer.isEmpty());
+
+        // more reviews than the initial capacity, including repeated reviews of the same FlashCard
+        for (int i = 0; i < 100; i++) {
+            reviewBuffer.add(i % 7, i % 2 == 0 ? HARD : EASY);
+        }
+
+        assertFalse(reviewBuffer.isEmpty());
+        assertEquals(100, reviewBuffer.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 7, reviewBuffer.getOrdinal(i));
+            assertEquals(i % 2 == 0 ? HARD : EASY, reviewBuffer.getRating(i));
+        }
+    }
+
+    @Test
+    public void clear() {
+        ReviewBuffer reviewBuffer = new ReviewBuffer();
+        reviewBuffer.add(3, HARD);
+        reviewBuffer.clear();
+        assertTrue(reviewBuffer.isEmpty());
+
+        reviewBuffer.add(5, EASY);
+        assertEquals(1, reviewBuffer.size());
+        assertEquals(5, reviewBuffer.getOrdinal(0));
+        assertEquals(EASY, reviewBuffer.getRating(0));
+    }
+}
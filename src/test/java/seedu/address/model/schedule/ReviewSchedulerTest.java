@@ -0,0 +1,130 @@
+//@@author LeowWB
+
+package seedu.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalFlashCards.DELAY;
+import static seedu.address.testutil.TypicalFlashCards.PROP_DELAY;
+import static seedu.address.testutil.TypicalFlashCards.STORE_AND_FORWARD;
+import static seedu.address.testutil.TypicalFlashCards.getTypicalFlashCards;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.flashcard.FlashCard;
+import seedu.address.model.flashcard.Rating;
+import seedu.address.testutil.FlashCardBuilder;
+
+public class ReviewSchedulerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2019, 11, 1);
+    private static final Rating GOOD = new Rating(Rating.GOOD);
+    private static final Rating HARD = new Rating(Rating.HARD);
+
+    private final ReviewScheduler scheduler = new ReviewScheduler();
+
+    @Test
+    public void getDueFlashCards_newFlashCards_allDue() {
+        scheduler.setFlashCards(getTypicalFlashCards());
+        List<FlashCard> due = scheduler.getDueFlashCards(TODAY);
+
+        assertEquals(getTypicalFlashCards().size(), due.size());
+        assertTrue(due.containsAll(getTypicalFlashCards()));
+    }
+
+    @Test
+    public void review_reviewedFlashCard_notDueUntilItsDueDate() {
+        scheduler.add(STORE_AND_FORWARD);
+        scheduler.add(DELAY);
+
+        scheduler.review(STORE_AND_FORWARD, GOOD, TODAY);
+
+        assertEquals(Collections.singletonList(DELAY), scheduler.getDueFlashCards(TODAY));
+        assertEquals(Arrays.asList(DELAY, STORE_AND_FORWARD), scheduler.getDueFlashCards(TODAY.plusDays(1)));
+    }
+
+    @Test
+    public void getDueFlashCards_mixedDueDates_mostOverdueFirst() {
+        List<FlashCard> flashCards = getTypicalFlashCards();
+        for (int i = 0; i < flashCards.size(); i++) {
+            scheduler.add(flashCards.get(i), new ReviewState(2.5, 1, 1, TODAY.plusDays(3 - i)));
+        }
+
+        List<FlashCard> expected = new ArrayList<>(flashCards.subList(3, flashCards.size()));
+        Collections.reverse(expected);
+        assertEquals(expected, scheduler.getDueFlashCards(TODAY));
+    }
+
+    @Test
+    public void review_manyReviews_heapStaysOrdered() {
+        List<FlashCard> flashCards = getTypicalFlashCards();
+        scheduler.setFlashCards(flashCards);
+
+        // review every other flashcard repeatedly, so that they move around the heap
+        for (int day = 0; day < 10; day++) {
+            for (int i = day % 2; i < flashCards.size(); i += 2) {
+                scheduler.review(flashCards.get(i), i % 3 == 0 ? HARD : GOOD, TODAY.plusDays(day));
+            }
+        }
+
+        LocalDate previousDueDate = LocalDate.MIN;
+        for (FlashCard flashCard : scheduler.getDueFlashCards(LocalDate.MAX)) {
+            LocalDate dueDate = scheduler.getReviewState(flashCard).getDueDate();
+            assertFalse(dueDate.isBefore(previousDueDate));
+            previousDueDate = dueDate;
+        }
+        assertEquals(flashCards.size(), scheduler.getDueFlashCards(LocalDate.MAX).size());
+    }
+
+    @Test
+    public void remove_scheduledFlashCard_noLongerDue() {
+        scheduler.setFlashCards(getTypicalFlashCards());
+        scheduler.remove(PROP_DELAY);
+
+        assertFalse(scheduler.contains(PROP_DELAY));
+        assertFalse(scheduler.getDueFlashCards(TODAY).contains(PROP_DELAY));
+        assertEquals(getTypicalFlashCards().size() - 1, scheduler.getDueFlashCards(TODAY).size());
+    }
+
+    @Test
+    public void replace_editedFlashCard_keepsReviewState() {
+        scheduler.add(STORE_AND_FORWARD);
+        ReviewState reviewed = scheduler.review(STORE_AND_FORWARD, GOOD, TODAY);
+
+        FlashCard edited = new FlashCardBuilder(STORE_AND_FORWARD).withQuestion("Store and forward").build();
+        scheduler.replace(STORE_AND_FORWARD, edited);
+
+        assertFalse(scheduler.contains(STORE_AND_FORWARD));
+        assertEquals(reviewed, scheduler.getReviewState(edited));
+        assertEquals(Collections.singletonList(edited), scheduler.getDueFlashCards(TODAY.plusDays(1)));
+    }
+
+    @Test
+    public void setFlashCards_existingFlashCards_keepReviewStates() {
+        scheduler.add(STORE_AND_FORWARD);
+        ReviewState reviewed = scheduler.review(STORE_AND_FORWARD, GOOD, TODAY);
+
+        scheduler.setFlashCards(Arrays.asList(DELAY, STORE_AND_FORWARD));
+
+        assertEquals(reviewed, scheduler.getReviewState(STORE_AND_FORWARD));
+        assertTrue(scheduler.getReviewState(DELAY).isNew());
+    }
+
+    @Test
+    public void copyConstructor_copyModified_originalUnchanged() {
+        scheduler.add(STORE_AND_FORWARD);
+        ReviewScheduler copy = new ReviewScheduler(scheduler);
+        assertEquals(scheduler, copy);
+
+        copy.review(STORE_AND_FORWARD, GOOD, TODAY);
+        assertTrue(scheduler.getReviewState(STORE_AND_FORWARD).isNew());
+        assertFalse(scheduler.equals(copy));
+    }
+}
@@ -0,0 +1,77 @@
+//@@author LeowWB
+
+package seedu.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.flashcard.Rating;
+
+public class ReviewStateTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2019, 11, 1);
+    private static final Rating EASY = new Rating(Rating.EASY);
+    private static final Rating GOOD = new Rating(Rating.GOOD);
+    private static final Rating HARD = new Rating(Rating.HARD);
+
+    @Test
+    public void constructor_invalidValues_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ReviewState(1.0, 1, 1, TODAY));
+        assertThrows(IllegalArgumentException.class, () -> new ReviewState(2.5, -1, 1, TODAY));
+        assertThrows(IllegalArgumentException.class, () -> new ReviewState(2.5, 1, -1, TODAY));
+        assertThrows(NullPointerException.class, () -> new ReviewState(2.5, 1, 1, null));
+    }
+
+    @Test
+    public void newCard_isNewAndAlwaysDue() {
+        ReviewState newCard = ReviewState.newCard();
+        assertTrue(newCard.isNew());
+        assertTrue(newCard.isDue(TODAY));
+        assertTrue(newCard.isDue(LocalDate.of(1970, 1, 1)));
+    }
+
+    @Test
+    public void review_recalled_intervalsFollowSm2() {
+        ReviewState first = ReviewState.newCard().review(GOOD, TODAY);
+        assertEquals(new ReviewState(2.5, 1, 1, TODAY.plusDays(1)), first);
+        assertFalse(first.isNew());
+        assertFalse(first.isDue(TODAY));
+        assertTrue(first.isDue(TODAY.plusDays(1)));
+
+        ReviewState second = first.review(GOOD, TODAY.plusDays(1));
+        assertEquals(new ReviewState(2.5, 6, 2, TODAY.plusDays(7)), second);
+
+        ReviewState third = second.review(GOOD, TODAY.plusDays(7));
+        assertEquals(new ReviewState(2.5, 15, 3, TODAY.plusDays(22)), third);
+    }
+
+    @Test
+    public void review_easy_increasesEaseFactor() {
+        ReviewState reviewed = ReviewState.newCard().review(EASY, TODAY);
+        assertEquals(2.6, reviewed.getEaseFactor(), 1e-9);
+    }
+
+    @Test
+    public void review_hard_startsRepetitionsOver() {
+        ReviewState known = new ReviewState(2.2, 30, 5, TODAY);
+        assertEquals(new ReviewState(2.2, 1, 0, TODAY.plusDays(1)), known.review(HARD, TODAY));
+    }
+
+    @Test
+    public void review_easeFactorNeverBelowMinimum() {
+        ReviewState state = new ReviewState(ReviewState.MIN_EASE_FACTOR, 6, 2, TODAY);
+        assertEquals(ReviewState.MIN_EASE_FACTOR, state.review(GOOD, TODAY).getEaseFactor(), 1e-9);
+    }
+
+    @Test
+    public void review_nullRating_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                ReviewState.newCard().review(new Rating(Rating.NULL), TODAY));
+    }
+}
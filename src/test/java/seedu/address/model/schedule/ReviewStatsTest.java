@@ -0,0 +1,129 @@
+//@@author LeowWB
+
+package seedu.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.category.Category;
+import seedu.address.model.flashcard.Rating;
+import seedu.address.testutil.DeadlineBuilder;
+
+public class ReviewStatsTest {
+
+    private static final Category CS2103 = new Category("cs2103");
+    private static final Category CS2101 = new Category("cs2101");
+    private static final Rating GOOD = new Rating(Rating.GOOD);
+    private static final Rating HARD = new Rating(Rating.HARD);
+    private static final Rating EASY = new Rating(Rating.EASY);
+
+    private final ReviewStats reviewStats = new ReviewStats(ZoneOffset.UTC);
+
+    @Test
+    public void record_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> reviewStats.record(null, Collections.emptySet()));
+        assertThrows(NullPointerException.class, () -> reviewStats.record(review("2019-11-04", GOOD), null));
+    }
+
+    @Test
+    public void countReviews_noReviews_zero() {
+        assertEquals(0, reviewStats.countReviews(GOOD));
+        assertEquals(0, reviewStats.countReviews(CS2103, GOOD));
+        assertEquals(0, reviewStats.countReviews(GOOD, LocalDate.MIN, LocalDate.MAX));
+        assertEquals(0, reviewStats.getAccuracy(), 0);
+    }
+
+    @Test
+    public void countReviews_byCategory_countsEachCategoryOfFlashCard() {
+        reviewStats.record(review("2019-11-04", GOOD), Set.of(CS2103, CS2101));
+        reviewStats.record(review("2019-11-04", HARD), Set.of(CS2103));
+        reviewStats.record(review("2019-11-05", EASY), Collections.emptySet());
+
+        assertEquals(1, reviewStats.countReviews(GOOD));
+        assertEquals(1, reviewStats.countReviews(HARD));
+        assertEquals(1, reviewStats.countReviews(EASY));
+        assertEquals(0, reviewStats.countReviews(new Rating(Rating.NULL)));
+        assertEquals(1, reviewStats.countReviews(CS2103, HARD));
+        assertEquals(0, reviewStats.countReviews(CS2101, HARD));
+        assertEquals(Set.of(CS2103, CS2101), reviewStats.getCategories());
+        assertEquals(50, reviewStats.getAccuracy(CS2103), 0.001);
+        assertEquals(100, reviewStats.getAccuracy(CS2101), 0.001);
+    }
+
+    @Test
+    public void countReviews_byDate_countsOnlyDaysInRange() {
+        reviewStats.record(review("2019-11-04", GOOD), Collections.emptySet());
+        reviewStats.record(review("2019-11-10", HARD), Collections.emptySet());
+        reviewStats.record(review("2019-11-11", HARD), Collections.emptySet());
+        // earlier than every day recorded so far, and then far later
+        reviewStats.record(review("2019-01-01", EASY), Collections.emptySet());
+        reviewStats.record(review("2021-06-30", GOOD), Collections.emptySet());
+
+        assertEquals(1, reviewStats.countReviews(HARD, date("2019-11-04"), date("2019-11-10")));
+        assertEquals(2, reviewStats.countReviews(HARD, date("2019-11-10"), date("2019-11-11")));
+        assertEquals(1, reviewStats.countReviews(EASY, LocalDate.MIN, date("2019-01-01")));
+        assertEquals(1, reviewStats.countReviews(GOOD, date("2021-01-01"), LocalDate.MAX));
+        assertEquals(0, reviewStats.countReviews(GOOD, date("2019-11-05"), date("2021-06-29")));
+        assertEquals(2, reviewStats.countReviews(GOOD, LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    public void countDailyReviews_reviewsAcrossDays_countedOnTheirDays() {
+        assertArrayEquals(new int[3], reviewStats.countDailyReviews(date("2019-11-03"), date("2019-11-05")));
+
+        reviewStats.record(review("2019-11-04", GOOD), Collections.emptySet());
+        reviewStats.record(review("2019-11-04", HARD), Collections.emptySet());
+        reviewStats.record(review("2019-11-05", EASY), Collections.emptySet());
+        reviewStats.record(review("2019-11-20", EASY), Collections.emptySet());
+
+        assertArrayEquals(new int[] {0, 2, 1}, reviewStats.countDailyReviews(date("2019-11-03"), date("2019-11-05")));
+        assertArrayEquals(new int[] {1}, reviewStats.countDailyReviews(date("2019-11-20"), date("2019-11-20")));
+        assertArrayEquals(new int[] {0, 0}, reviewStats.countDailyReviews(date("2020-11-20"), date("2020-11-21")));
+        assertThrows(IllegalArgumentException.class, () ->
+                reviewStats.countDailyReviews(date("2019-11-05"), date("2019-11-04")));
+    }
+
+    @Test
+    public void getWeeklyAccuracy_reviewsAcrossWeeks_onlyThatWeek() {
+        // Monday 4 to Sunday 10 November 2019
+        reviewStats.record(review("2019-11-03", HARD), Collections.emptySet());
+        reviewStats.record(review("2019-11-04", GOOD), Collections.emptySet());
+        reviewStats.record(review("2019-11-07", HARD), Collections.emptySet());
+        reviewStats.record(review("2019-11-10", EASY), Collections.emptySet());
+        reviewStats.record(review("2019-11-11", HARD), Collections.emptySet());
+
+        assertEquals(200f / 3, reviewStats.getWeeklyAccuracy(date("2019-11-07")), 0.001);
+        assertEquals(0, reviewStats.getWeeklyAccuracy(date("2019-11-11")), 0.001);
+        assertEquals(0, reviewStats.getWeeklyAccuracy(date("2019-12-01")), 0.001);
+    }
+
+    @Test
+    public void getAccuracyBefore_deadline_onlyDaysUpToDueDate() {
+        reviewStats.record(review("2019-11-01", HARD), Collections.emptySet());
+        reviewStats.record(review("2019-11-02", GOOD), Collections.emptySet());
+        reviewStats.record(review("2019-11-03", EASY), Collections.emptySet());
+        reviewStats.record(review("2019-11-04", HARD), Collections.emptySet());
+
+        assertEquals(100, reviewStats.getAccuracyBefore(
+                new DeadlineBuilder().withDueDate("03/11/2019").build(), 2), 0.001);
+        assertEquals(200f / 3, reviewStats.getAccuracyBefore(
+                new DeadlineBuilder().withDueDate("03/11/2019").build(), 7), 0.001);
+    }
+
+    private static LocalDate date(String date) {
+        return LocalDate.parse(date);
+    }
+
+    private static ReviewEvent review(String date, Rating rating) {
+        return new ReviewEvent(1L, date(date).atTime(12, 0).toInstant(ZoneOffset.UTC), rating, Duration.ZERO);
+    }
+}
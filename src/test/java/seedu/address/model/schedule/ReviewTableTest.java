@@ -0,0 +1,142 @@
+//@@author LeowWB
+
+package seedu.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalFlashCards.DELAY;
+import static seedu.address.testutil.TypicalFlashCards.PROP_DELAY;
+import static seedu.address.testutil.TypicalFlashCards.STORE_AND_FORWARD;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.flashcard.FlashCard;
+import seedu.address.model.flashcard.Rating;
+import seedu.address.testutil.FlashCardBuilder;
+
+public class ReviewTableTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2019, 11, 1);
+    private static final Rating NULL = new Rating(Rating.NULL);
+    private static final Rating GOOD = new Rating(Rating.GOOD);
+    private static final Rating HARD = new Rating(Rating.HARD);
+
+    private final ReviewTable reviewTable = new ReviewTable();
+
+    @Test
+    public void add_newFlashCard_hasItsOwnRating() {
+        FlashCard goodFlashCard = new FlashCardBuilder(DELAY).withRating(Rating.GOOD).build();
+        reviewTable.add(goodFlashCard);
+        reviewTable.add(STORE_AND_FORWARD);
+
+        assertEquals(GOOD, reviewTable.getRating(goodFlashCard));
+        assertEquals(STORE_AND_FORWARD.getRating(), reviewTable.getRating(STORE_AND_FORWARD));
+        assertEquals(1, reviewTable.countRated(GOOD));
+        assertEquals(0, reviewTable.getReviewCount(goodFlashCard));
+        assertEquals(Optional.empty(), reviewTable.getLastReviewed(goodFlashCard));
+    }
+
+    @Test
+    public void record_reviewedFlashCard_ratingAndHistoryUpdated() {
+        reviewTable.add(DELAY);
+        reviewTable.record(DELAY, HARD, TODAY);
+        reviewTable.record(DELAY, GOOD, TODAY.plusDays(1));
+
+        assertEquals(GOOD, reviewTable.getRating(DELAY));
+        assertEquals(2, reviewTable.getReviewCount(DELAY));
+        assertEquals(Optional.of(TODAY.plusDays(1)), reviewTable.getLastReviewed(DELAY));
+        assertEquals(1, reviewTable.countRated(GOOD));
+        assertEquals(0, reviewTable.countRated(HARD));
+    }
+
+    @Test
+    public void withCurrentRating_reviewedFlashCard_hasCurrentRating() {
+        reviewTable.add(DELAY);
+        assertTrue(reviewTable.withCurrentRating(DELAY) == DELAY);
+
+        reviewTable.record(DELAY, HARD, TODAY);
+        FlashCard rated = reviewTable.withCurrentRating(DELAY);
+        assertTrue(rated.isSameFlashCard(DELAY));
+        assertEquals(HARD, rated.getRating());
+    }
+
+    @Test
+    public void remove_firstOfMany_othersKeepTheirData() {
+        reviewTable.add(DELAY);
+        reviewTable.add(STORE_AND_FORWARD);
+        reviewTable.add(PROP_DELAY);
+        reviewTable.record(PROP_DELAY, HARD, TODAY);
+
+        reviewTable.remove(DELAY);
+
+        assertFalse(reviewTable.contains(DELAY));
+        assertEquals(2, reviewTable.size());
+        assertEquals(HARD, reviewTable.getRating(PROP_DELAY));
+        assertEquals(1, reviewTable.getReviewCount(PROP_DELAY));
+        assertEquals(1, reviewTable.countRated(HARD));
+
+        reviewTable.remove(PROP_DELAY);
+        assertEquals(0, reviewTable.countRated(HARD));
+    }
+
+    @Test
+    public void replace_editedFlashCard_keepsHistoryAndTakesItsRating() {
+        reviewTable.add(DELAY);
+        reviewTable.record(DELAY, HARD, TODAY);
+        FlashCard edited = new FlashCardBuilder(DELAY).withQuestion("Total delay").withRating(Rating.GOOD).build();
+
+        reviewTable.replace(DELAY, edited);
+
+        assertFalse(reviewTable.contains(DELAY));
+        assertEquals(GOOD, reviewTable.getRating(edited));
+        assertEquals(1, reviewTable.getReviewCount(edited));
+    }
+
+    @Test
+    public void setFlashCards_someUnchanged_unchangedKeepCurrentRatings() {
+        reviewTable.add(DELAY);
+        reviewTable.add(STORE_AND_FORWARD);
+        reviewTable.record(DELAY, HARD, TODAY);
+        reviewTable.record(STORE_AND_FORWARD, HARD, TODAY);
+        FlashCard editedStoreAndForward = new FlashCardBuilder(STORE_AND_FORWARD).withCatgeories("other")
+                .withId(STORE_AND_FORWARD.getId()).build();
+
+        reviewTable.setFlashCards(Arrays.asList(DELAY, editedStoreAndForward, PROP_DELAY));
+
+        assertEquals(HARD, reviewTable.getRating(DELAY));
+        assertEquals(editedStoreAndForward.getRating(), reviewTable.getRating(editedStoreAndForward));
+        assertEquals(1, reviewTable.getReviewCount(editedStoreAndForward));
+        assertEquals(PROP_DELAY.getRating(), reviewTable.getRating(PROP_DELAY));
+        assertEquals(1, reviewTable.countRated(HARD));
+        assertEquals(3, reviewTable.size());
+    }
+
+    @Test
+    public void restore_invalidHistory_throwsIllegalArgumentException() {
+        reviewTable.add(DELAY);
+        assertThrows(IllegalArgumentException.class, () ->
+                reviewTable.restore(DELAY, 2, Optional.empty()));
+        assertThrows(IllegalArgumentException.class, () ->
+                reviewTable.restore(DELAY, -1, Optional.of(TODAY)));
+    }
+
+    @Test
+    public void copyConstructor_changesToCopy_originalUnchanged() {
+        reviewTable.add(DELAY);
+        ReviewTable copy = new ReviewTable(reviewTable);
+        assertEquals(reviewTable, copy);
+
+        copy.record(DELAY, GOOD, TODAY);
+
+        assertEquals(NULL, reviewTable.getRating(DELAY));
+        assertEquals(0, reviewTable.countRated(GOOD));
+        assertNotEquals(reviewTable, copy);
+    }
+}
@@ -0,0 +1,45 @@
+//@@author LeowWB
+
+package seedu.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import seedu.address.model.flashcard.Rating;
+
+public class StatsCountersTest {
+
+    private static final Rating GOOD = new Rating(Rating.GOOD);
+    private static final Rating EASY = new Rating(Rating.EASY);
+
+    private final StatsCounters statsCounters = new StatsCounters();
+
+    @Test
+    public void ratedCountProperty_uncountedRating_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> statsCounters.ratedCountProperty(null));
+        assertThrows(IllegalArgumentException.class, () -> statsCounters.ratedCountProperty(new Rating(Rating.NULL)));
+        assertThrows(IllegalArgumentException.class, () -> statsCounters.setTestedCount(new Rating(Rating.NULL), 1));
+    }
+
+    @Test
+    public void setRatedCount_newCount_notifiesListenersOfThatCountOnly() {
+        ReadOnlyIntegerProperty ratedGood = statsCounters.ratedCountProperty(GOOD);
+        int[] changes = new int[1];
+        ratedGood.addListener((observable, oldCount, newCount) -> changes[0]++);
+
+        statsCounters.setRatedCount(GOOD, 3);
+        statsCounters.setRatedCount(EASY, 2);
+        statsCounters.setTestedCount(GOOD, 4);
+        assertEquals(3, ratedGood.get());
+        assertEquals(2, statsCounters.ratedCountProperty(EASY).get());
+        assertEquals(4, statsCounters.testedCountProperty(GOOD).get());
+        assertEquals(1, changes[0]);
+
+        // setting the same count again is not a change
+        statsCounters.setRatedCount(GOOD, 3);
+        assertEquals(1, changes[0]);
+    }
+}
@@ -0,0 +1,115 @@
+//@@author LeowWB
+
+package seedu.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalFlashCards.getTypicalFlashCards;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.flashcard.FlashCard;
+import seedu.address.model.flashcard.Rating;
+import seedu.address.testutil.FlashCardBuilder;
+
+public class TestOrderTest {
+
+    private static final long SEED = 3;
+
+    private final List<FlashCard> flashCards = getTypicalFlashCards();
+    private final int[] everyOther = {0, 2, 4, 6};
+    private final ReviewTable reviewTable = new ReviewTable();
+
+    @Test
+    public void fromFlag() {
+        assertEquals(Optional.of(TestOrder.SHUFFLE), TestOrder.fromFlag("--shuffle"));
+        assertEquals(Optional.of(TestOrder.WEIGHTED), TestOrder.fromFlag("--WEIGHTED"));
+        assertEquals(Optional.empty(), TestOrder.fromFlag(""));
+        assertEquals(Optional.empty(), TestOrder.fromFlag("shuffle"));
+    }
+
+    @Test
+    public void arrange_deck_flashCardsInOrderOfOrdinals() {
+        assertEquals(List.of(flashCards.get(0), flashCards.get(2), flashCards.get(4), flashCards.get(6)),
+                toList(TestOrder.DECK.arrange(flashCards, everyOther, SEED, reviewTable)));
+    }
+
+    @Test
+    public void arrange_shuffle_eachFlashCardOnce() {
+        List<FlashCard> shuffled = toList(TestOrder.SHUFFLE.arrange(flashCards, everyOther, SEED, reviewTable));
+
+        assertEquals(everyOther.length, shuffled.size());
+        assertEquals(new HashSet<>(toList(TestOrder.DECK.arrange(flashCards, everyOther, SEED, reviewTable))),
+                new HashSet<>(shuffled));
+    }
+
+    @Test
+    public void arrange_sameSeed_sameOrder() {
+        for (TestOrder testOrder : TestOrder.values()) {
+            assertEquals(toList(testOrder.arrange(flashCards, everyOther, SEED, reviewTable)),
+                    toList(testOrder.arrange(flashCards, everyOther, SEED, reviewTable)));
+        }
+    }
+
+    @Test
+    public void arrange_weighted_onlyArrangedFlashCards() {
+        List<FlashCard> drawn = toList(TestOrder.WEIGHTED.arrange(flashCards, everyOther, SEED, reviewTable));
+        List<FlashCard> arranged = toList(TestOrder.DECK.arrange(flashCards, everyOther, SEED, reviewTable));
+
+        assertEquals(everyOther.length, drawn.size());
+        assertTrue(arranged.containsAll(drawn));
+    }
+
+    @Test
+    public void arrange_noOrdinals_empty() {
+        for (TestOrder testOrder : TestOrder.values()) {
+            assertTrue(toList(testOrder.arrange(flashCards, new int[0], SEED, reviewTable)).isEmpty());
+        }
+    }
+
+    @Test
+    public void weightOf_harderRatings_weightedMore() {
+        double hard = TestOrder.weightOf(new Rating(Rating.HARD));
+        double good = TestOrder.weightOf(new Rating(Rating.GOOD));
+        double easy = TestOrder.weightOf(new Rating(Rating.EASY));
+        double unrated = TestOrder.weightOf(new Rating(Rating.NULL));
+
+        assertTrue(hard > good);
+        assertTrue(good > easy);
+        assertEquals(good, unrated);
+    }
+
+    @Test
+    public void arrange_weighted_weightedByCurrentRatings() {
+        // every flashcard is created hard, but all except the first are rated easy since, so the first is drawn most
+        List<FlashCard> ratedFlashCards = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            FlashCard flashCard = new FlashCardBuilder().withQuestion("Rated " + i).withRating(Rating.HARD).build();
+            ratedFlashCards.add(flashCard);
+            if (i > 0) {
+                reviewTable.record(flashCard, new Rating(Rating.EASY), LocalDate.of(2019, 11, 1));
+            }
+        }
+
+        int[] counts = new int[ratedFlashCards.size()];
+        for (long seed = 0; seed < 200; seed++) {
+            TestOrder.WEIGHTED.arrange(ratedFlashCards, new int[] {0, 1, 2, 3}, seed, reviewTable).ordinalIterator()
+                    .forEachRemaining((int ordinal) -> counts[ordinal]++);
+        }
+        for (int i = 1; i < counts.length; i++) {
+            assertTrue(counts[0] > counts[i]);
+        }
+    }
+
+    private static List<FlashCard> toList(Iterable<FlashCard> iterable) {
+        List<FlashCard> list = new ArrayList<>();
+        iterable.forEach(list::add);
+        return list;
+    }
+}
@@ -0,0 +1,90 @@
+//@@author LeowWB
+
+package seedu.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.schedule.TestSession.NO_CURRENT_ORDINAL;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalFlashCards.getTypicalFlashCards;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.flashcard.FlashCard;
+
+public class TestSessionTest {
+
+    private static final long SEED = 5;
+
+    private final List<FlashCard> flashCards = getTypicalFlashCards();
+
+    @Test
+    public void constructor_invalidTestSession_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new TestSession(TestOrder.DECK, new int[] {0, 1}, SEED, 3, 1));
+        assertThrows(IllegalArgumentException.class, () ->
+                new TestSession(TestOrder.DECK, new int[] {0, 1}, SEED, 0, 1));
+        assertThrows(IllegalArgumentException.class, () ->
+                new TestSession(TestOrder.DECK, new int[] {-1}, SEED));
+    }
+
+    @Test
+    public void selectOrdinals() {
+        FlashCard third = flashCards.get(2);
+        assertArrayEquals(new int[] {2}, TestSession.selectOrdinals(flashCards, third::equals));
+        assertArrayEquals(new int[0], TestSession.selectOrdinals(flashCards, flashCard -> false));
+    }
+
+    @Test
+    public void isValidFor() {
+        TestSession testSession = new TestSession(TestOrder.DECK, new int[] {0, 4}, SEED);
+        assertTrue(testSession.isValidFor(5));
+        assertFalse(testSession.isValidFor(4));
+    }
+
+    @Test
+    public void getPendingOrdinals_partlyTaken_resumesAtCurrent() {
+        for (TestOrder testOrder : new TestOrder[] {TestOrder.DECK, TestOrder.SHUFFLE}) {
+            TestSession testSession = new TestSession(testOrder, new int[] {0, 1, 2, 3, 4, 5}, SEED);
+            List<Integer> allOrdinals = toList(testSession.getPendingOrdinals(flashCards, new ReviewTable()));
+
+            TestSession partlyTaken = testSession.advance(allOrdinals.get(0)).advance(allOrdinals.get(1));
+            assertEquals(allOrdinals.subList(1, allOrdinals.size()),
+                    toList(partlyTaken.getPendingOrdinals(flashCards, new ReviewTable())));
+        }
+    }
+
+    @Test
+    public void beforeCurrent() {
+        TestSession testSession = new TestSession(TestOrder.DECK, new int[] {0, 1}, SEED);
+        assertEquals(testSession, testSession.beforeCurrent());
+        TestSession partlyTaken = testSession.advance(0).advance(1);
+        assertEquals(1, partlyTaken.beforeCurrent().getCursor());
+        assertEquals(NO_CURRENT_ORDINAL, partlyTaken.beforeCurrent().getCurrentOrdinal());
+        assertEquals(partlyTaken, partlyTaken.beforeCurrent().advance(1));
+    }
+
+    @Test
+    public void equals() {
+        TestSession testSession = new TestSession(TestOrder.SHUFFLE, new int[] {0, 1}, SEED);
+
+        assertTrue(testSession.equals(new TestSession(TestOrder.SHUFFLE, new int[] {0, 1}, SEED)));
+        assertFalse(testSession.equals(null));
+        assertFalse(testSession.equals(new TestSession(TestOrder.DECK, new int[] {0, 1}, SEED)));
+        assertFalse(testSession.equals(new TestSession(TestOrder.SHUFFLE, new int[] {1, 0}, SEED)));
+        assertFalse(testSession.equals(new TestSession(TestOrder.SHUFFLE, new int[] {0, 1}, SEED + 1)));
+        assertFalse(testSession.equals(testSession.advance(0)));
+    }
+
+    private static List<Integer> toList(PrimitiveIterator.OfInt iterator) {
+        List<Integer> list = new ArrayList<>();
+        iterator.forEachRemaining((int ordinal) -> list.add(ordinal));
+        return list;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.storage.JsonAdaptedFlashcard.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalFlashCards.DELAY;
@@ -34,6 +35,19 @@ public class JsonAdaptedFlashCardTest {
         assertEquals(DELAY, flashCard.toModelType());
     }
 
+    //@@author LeowWB
+    @Test
+    public void toModelType_withAndWithoutId_idKeptOrCreated() throws Exception {
+        assertEquals(DELAY.getId(), new JsonAdaptedFlashcard(DELAY).toModelType().getId());
+
+        // written before flashCards had ids
+        JsonAdaptedFlashcard flashCard = new JsonAdaptedFlashcard(VALID_QUESTION, VALID_ANSWER, VALID_ADDRESS,
+                VALID_TAGS);
+        assertNotEquals(flashCard.toModelType().getId(), flashCard.toModelType().getId());
+    }
+
+    //@@author
+
     @Test
     public void toModelType_invalidQuestion_throwsIllegalValueException() {
         JsonAdaptedFlashcard flashCard =
@@ -11,6 +11,8 @@ import static seedu.address.testutil.TypicalFlashCards.getTypicalAddressBook;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -18,6 +20,9 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.KeyboardFlashCards;
 import seedu.address.model.ReadOnlyKeyboardFlashCards;
+import seedu.address.model.flashcard.Rating;
+import seedu.address.model.schedule.TestOrder;
+import seedu.address.model.schedule.TestSession;
 
 public class JsonKeyboardFlashCardsStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonKeyboardFlashCardsStorageTest");
@@ -91,6 +96,55 @@ public class JsonKeyboardFlashCardsStorageTest {
 
     }
 
+    //@@author LeowWB
+    @Test
+    public void readAndSaveAddressBook_reviewedFlashCards_scheduleRestored() throws Exception {
+        Path filePath = testFolder.resolve("TempKeyboardFlashCards.json");
+        KeyboardFlashCards original = getTypicalAddressBook();
+        original.reviewFlashcard(STORE_AND_FORWARD, new Rating(Rating.GOOD), LocalDate.of(2019, 11, 1));
+        original.reviewFlashcard(STORE_AND_FORWARD, new Rating(Rating.EASY), LocalDate.of(2019, 11, 2));
+        JsonKeyboardFlashCardsStorage jsonAddressBookStorage = new JsonKeyboardFlashCardsStorage(filePath);
+
+        jsonAddressBookStorage.saveAddressBook(original, filePath);
+        ReadOnlyKeyboardFlashCards readBack = jsonAddressBookStorage.readKeyboardFlashCards(filePath).get();
+
+        assertEquals(original.getReviewScheduler(), readBack.getReviewScheduler());
+        assertEquals(original.getReviewTable(), readBack.getReviewTable());
+        assertEquals(2, readBack.getReviewTable().getReviewCount(STORE_AND_FORWARD));
+        assertEquals(original.getDueFlashCards(LocalDate.of(2019, 11, 2)),
+                new KeyboardFlashCards(readBack).getDueFlashCards(LocalDate.of(2019, 11, 2)));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_performanceHistory_restored() throws Exception {
+        Path filePath = testFolder.resolve("TempKeyboardFlashCards.json");
+        KeyboardFlashCards original = getTypicalAddressBook();
+        original.addPerformance(50);
+        original.addPerformance(62.5f);
+        JsonKeyboardFlashCardsStorage jsonAddressBookStorage = new JsonKeyboardFlashCardsStorage(filePath);
+
+        jsonAddressBookStorage.saveAddressBook(original, filePath);
+        ReadOnlyKeyboardFlashCards readBack = jsonAddressBookStorage.readKeyboardFlashCards(filePath).get();
+        assertEquals(original.getPerformanceSeries(), readBack.getPerformanceSeries());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_unfinishedTest_testSessionRestored() throws Exception {
+        Path filePath = testFolder.resolve("TempKeyboardFlashCards.json");
+        KeyboardFlashCards original = getTypicalAddressBook();
+        JsonKeyboardFlashCardsStorage jsonAddressBookStorage = new JsonKeyboardFlashCardsStorage(filePath);
+
+        jsonAddressBookStorage.saveAddressBook(original, filePath);
+        assertEquals(Optional.empty(), jsonAddressBookStorage.readKeyboardFlashCards(filePath).get().getTestSession());
+
+        TestSession testSession = new TestSession(TestOrder.WEIGHTED, new int[] {3, 1, 4}, -42).advance(1);
+        original.setTestSession(testSession);
+        jsonAddressBookStorage.saveAddressBook(original, filePath);
+        assertEquals(Optional.of(testSession),
+                jsonAddressBookStorage.readKeyboardFlashCards(filePath).get().getTestSession());
+    }
+
+    //@@author
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
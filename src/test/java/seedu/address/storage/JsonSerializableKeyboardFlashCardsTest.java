@@ -23,6 +23,8 @@ public class JsonSerializableKeyboardFlashCardsTest {
             TEST_DATA_FOLDER.resolve("invalidFlashCardKeyboardFlashCards.json");
     private static final Path DUPLICATE_FLASHCARD_FILE =
             TEST_DATA_FOLDER.resolve("duplicateFlashCardKeyboardFlashCards.json");
+    private static final Path DUPLICATE_FLASHCARD_ID_FILE =
+            TEST_DATA_FOLDER.resolve("duplicateFlashCardIdKeyboardFlashCards.json");
     private static final Path INVALID_DEADLINE_FILE =
             TEST_DATA_FOLDER.resolve("invalidDeadlineKeyboardFlashCards.json");
     private static final Path DUPLICATE_DEADLINE_FILE =
@@ -52,6 +54,16 @@ public class JsonSerializableKeyboardFlashCardsTest {
                 dataFromFile::toModelType);
     }
 
+    //@@author LeowWB
+    @Test
+    public void toModelType_duplicateFlashCardIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableKeyboardFlashCards dataFromFile = JsonUtil.readJsonFile(DUPLICATE_FLASHCARD_ID_FILE,
+                JsonSerializableKeyboardFlashCards.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableKeyboardFlashCards.MESSAGE_DUPLICATE_FLASHCARD_ID,
+                dataFromFile::toModelType);
+    }
+
+    //@@author
     @Test
     public void toModelType_invalidDeadlineFile_throwsIllegalValueException() throws Exception {
         JsonSerializableKeyboardFlashCards dataFromFile = JsonUtil.readJsonFile(INVALID_DEADLINE_FILE,
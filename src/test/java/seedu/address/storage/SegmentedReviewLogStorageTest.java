@@ -0,0 +1,196 @@
+//@@author LeowWB
+
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.flashcard.Rating;
+import seedu.address.model.schedule.ReviewEvent;
+
+public class SegmentedReviewLogStorageTest {
+
+    private static final Instant START = Instant.parse("2019-11-01T08:00:00Z");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingDirectory_emptyResult() throws Exception {
+        SegmentedReviewLogStorage storage = new SegmentedReviewLogStorage(testFolder.resolve("missing"));
+        assertEquals(Collections.emptyList(), storage.readReviews(1L));
+        assertEquals(Collections.emptyList(), storage.readReviews(Instant.MIN, Instant.MAX));
+    }
+
+    @Test
+    public void appendReviews_null_throwsNullPointerException() {
+        SegmentedReviewLogStorage storage = new SegmentedReviewLogStorage(testFolder);
+        assertThrows(NullPointerException.class, () -> storage.appendReviews(null));
+    }
+
+    @Test
+    public void readReviews_afterAppend_returnsMatchingReviewsInOrder() throws Exception {
+        SegmentedReviewLogStorage storage = new SegmentedReviewLogStorage(testFolder);
+        ReviewEvent first = review(1L, 0, Rating.GOOD, 1500);
+        ReviewEvent second = review(-2L, 2000, Rating.HARD, 0);
+        ReviewEvent third = review(1L, 4000, Rating.EASY, 3200);
+        storage.appendReviews(Arrays.asList(first, second, third));
+
+        assertEquals(Arrays.asList(first, third), storage.readReviews(1L));
+        assertEquals(Arrays.asList(second), storage.readReviews(-2L));
+        assertEquals(Collections.emptyList(), storage.readReviews(3L));
+        assertEquals(Arrays.asList(second, third), storage.readReviews(at(2000), at(4000)));
+        assertEquals(Arrays.asList(first), storage.readReviews(at(-1000), at(1999)));
+    }
+
+    @Test
+    public void appendReviews_earlierThanLastReview_recordedAtLastReview() throws Exception {
+        SegmentedReviewLogStorage storage = new SegmentedReviewLogStorage(testFolder);
+        storage.appendReviews(Arrays.asList(review(1L, 5000, Rating.GOOD, 10)));
+        storage.appendReviews(Arrays.asList(review(2L, 1000, Rating.GOOD, 10)));
+
+        assertEquals(Arrays.asList(review(2L, 5000, Rating.GOOD, 10)), storage.readReviews(2L));
+    }
+
+    @Test
+    public void appendReviews_pastMaxSegmentSize_rollsOverToNewSegments() throws Exception {
+        SegmentedReviewLogStorage storage = new SegmentedReviewLogStorage(testFolder, 64);
+        List<ReviewEvent> reviews = reviews(100, 10);
+        storage.appendReviews(reviews);
+
+        List<Path> segments = listFiles(".log");
+        assertTrue(segments.size() > 1);
+        assertEquals(segments.size() - 1, listFiles(".idx").size());
+        assertEquals(reviews, storage.readReviews(Instant.MIN, Instant.MAX));
+        assertEquals(reviewsOf(reviews, 7L), storage.readReviews(7L));
+    }
+
+    @Test
+    public void readReviews_segmentsOutsideQuery_notRead() throws Exception {
+        SegmentedReviewLogStorage storage = new SegmentedReviewLogStorage(testFolder, 64);
+        List<ReviewEvent> early = reviews(20, 2);
+        List<ReviewEvent> late = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            late.add(review(100L + i % 2, 1_000_000 + i * 1000, Rating.EASY, 100));
+        }
+        storage.appendReviews(early);
+        storage.appendReviews(late);
+
+        // the segments holding only early reviews, of FlashCards 0 and 1, are made unreadable
+        List<Path> segments = listFiles(".log");
+        segments.sort(Comparator.comparingLong(segment -> namePartOf(segment, 1)));
+        Instant lastEarly = early.get(early.size() - 1).getReviewedAt();
+        for (int i = 0; i + 1 < segments.size(); i++) {
+            if (!Instant.ofEpochMilli(namePartOf(segments.get(i + 1), 2)).isAfter(lastEarly)) {
+                Files.write(segments.get(i), new byte[] {'b', 'a', 'd'});
+            }
+        }
+
+        SegmentedReviewLogStorage reopened = new SegmentedReviewLogStorage(testFolder, 64);
+        assertEquals(reviewsOf(late, 101L), reopened.readReviews(101L));
+        assertEquals(late.subList(5, 20), reopened.readReviews(at(1_005_000), Instant.MAX));
+        assertThrows(DataConversionException.class, () -> reopened.readReviews(0L));
+    }
+
+    @Test
+    public void appendReviews_reopened_continuesLog() throws Exception {
+        List<ReviewEvent> reviews = reviews(50, 5);
+        new SegmentedReviewLogStorage(testFolder, 128).appendReviews(reviews.subList(0, 30));
+        SegmentedReviewLogStorage reopened = new SegmentedReviewLogStorage(testFolder, 128);
+        reopened.appendReviews(reviews.subList(30, 50));
+
+        assertEquals(reviews, new SegmentedReviewLogStorage(testFolder, 128).readReviews(Instant.MIN, Instant.MAX));
+        assertEquals(reviewsOf(reviews, 3L), reopened.readReviews(3L));
+    }
+
+    @Test
+    public void appendReviews_partlyWrittenReviewAtEnd_discarded() throws Exception {
+        List<ReviewEvent> reviews = reviews(10, 3);
+        new SegmentedReviewLogStorage(testFolder).appendReviews(reviews.subList(0, 5));
+        Path segment = listFiles(".log").get(0);
+        // the time and reference of a review, without its response time
+        Files.write(segment, new byte[] {0x10, 0x05}, StandardOpenOption.APPEND);
+
+        SegmentedReviewLogStorage reopened = new SegmentedReviewLogStorage(testFolder);
+        reopened.appendReviews(reviews.subList(5, 10));
+        assertEquals(reviews, reopened.readReviews(Instant.MIN, Instant.MAX));
+    }
+
+    @Test
+    public void readReviews_notReviewLog_throwsDataConversionException() throws Exception {
+        Files.write(testFolder.resolve("reviews-0-0.log"), new byte[] {'{', '}', '\n', '\n', '\n', '\n'});
+        SegmentedReviewLogStorage storage = new SegmentedReviewLogStorage(testFolder);
+        assertThrows(DataConversionException.class, () -> storage.readReviews(Instant.MIN, Instant.MAX));
+    }
+
+    @Test
+    public void appendReviews_manyReviews_fewBytesEach() throws Exception {
+        SegmentedReviewLogStorage storage = new SegmentedReviewLogStorage(testFolder);
+        int count = 1000;
+        storage.appendReviews(reviews(count, 50));
+
+        long size = 0;
+        for (Path file : listFiles("")) {
+            size += Files.size(file);
+        }
+        assertTrue(size < count * 8, "review log takes " + size + " bytes");
+    }
+
+    private static Instant at(long millisAfterStart) {
+        return START.plusMillis(millisAfterStart);
+    }
+
+    private static ReviewEvent review(long flashCardId, long millisAfterStart, String rating, long responseMillis) {
+        return new ReviewEvent(flashCardId, at(millisAfterStart), new Rating(rating),
+                Duration.ofMillis(responseMillis));
+    }
+
+    /**
+     * Returns {@code count} reviews a few seconds apart, going round {@code flashCardCount} FlashCards.
+     */
+    private static List<ReviewEvent> reviews(int count, int flashCardCount) {
+        String[] ratings = {Rating.GOOD, Rating.HARD, Rating.EASY};
+        List<ReviewEvent> reviews = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            reviews.add(review(i % flashCardCount, i * 3_217L, ratings[i % ratings.length], 400 + i * 37 % 5000));
+        }
+        return reviews;
+    }
+
+    private static List<ReviewEvent> reviewsOf(List<ReviewEvent> reviews, long flashCardId) {
+        return reviews.stream().filter(review -> review.getFlashCardId() == flashCardId).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the sequence number (part 1) or the time of the first review (part 2) in the name of a segment.
+     */
+    private static long namePartOf(Path segment, int part) {
+        String[] parts = segment.getFileName().toString().replace(".log", "").split("-");
+        return Long.parseLong(parts[part]);
+    }
+
+    private List<Path> listFiles(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            return files.filter(file -> file.toString().endsWith(suffix)).sorted().collect(Collectors.toList());
+        }
+    }
+}
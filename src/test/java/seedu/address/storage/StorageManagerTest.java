@@ -26,7 +26,8 @@ public class StorageManagerTest {
     public void setUp() {
         JsonKeyboardFlashCardsStorage addressBookStorage = new JsonKeyboardFlashCardsStorage(getTempFilePath("ab"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
-        storageManager = new StorageManager(addressBookStorage, userPrefsStorage);
+        SegmentedReviewLogStorage reviewLogStorage = new SegmentedReviewLogStorage(getTempFilePath("reviews"));
+        storageManager = new StorageManager(addressBookStorage, userPrefsStorage, reviewLogStorage);
     }
 
     private Path getTempFilePath(String fileName) {
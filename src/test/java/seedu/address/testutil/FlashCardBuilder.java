@@ -25,6 +25,7 @@ public class FlashCardBuilder {
     private Answer answer;
     private Rating rating;
     private Set<Category> categories;
+    private Long id;
 
     public FlashCardBuilder() {
         question = new Question(DEFAULT_QUESTION);
@@ -35,6 +36,7 @@ public class FlashCardBuilder {
 
     /**
      * Initializes the FlashCardBuilder with the data of {@code flashCardToCopy}.
+     * The FlashCard that is built gets a new id, unless one is given with {@link #withId(long)}.
      */
     public FlashCardBuilder(FlashCard flashCardToCopy) {
         question = flashCardToCopy.getQuestion();
@@ -77,7 +79,20 @@ public class FlashCardBuilder {
     }
 
 
+    //@@author LeowWB
+    /**
+     * Sets the id of the {@code FlashCard} that we are building.
+     */
+    public FlashCardBuilder withId(long id) {
+        this.id = id;
+        return this;
+    }
+
+    //@@author
     public FlashCard build() {
+        if (id != null) {
+            return new FlashCard(id, question, answer, rating, categories);
+        }
         return new FlashCard(question, answer, rating, categories);
     }
 
@@ -2,8 +2,10 @@
 
 package seedu.address.testutil;
 
+import seedu.address.model.export.CsvExportPath;
 import seedu.address.model.export.DocumentPath;
 import seedu.address.model.export.JsonExportPath;
+import seedu.address.model.export.PatchExportPath;
 
 /**
  * A utility class containing a list of {@code ExportPath} objects to be used in tests.
@@ -11,4 +13,7 @@ import seedu.address.model.export.JsonExportPath;
 public class TypicalExportPaths {
     public static final DocumentPath CHEATSHEET_DOCX = new DocumentPath("cheatsheet.docx");
     public static final JsonExportPath CS2105_JSON = new JsonExportPath("cs2105.json");
+    public static final CsvExportPath CS2105_CSV = new CsvExportPath("cs2105.csv");
+    public static final CsvExportPath CS2105_TSV = new CsvExportPath("cs2105.tsv");
+    public static final PatchExportPath CS2105_PATCH = new PatchExportPath("cs2105.patch");
 }